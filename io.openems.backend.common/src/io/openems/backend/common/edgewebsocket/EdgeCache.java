@@ -1,5 +1,6 @@
 package io.openems.backend.common.edgewebsocket;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -7,14 +8,31 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 
+/**
+ * Caches the latest Channel values of one Edge.
+ *
+ * <p>
+ * Writes (from the Edge connection) are serialized and publish a new immutable
+ * {@link Snapshot}; reads (from the UI connections) never lock and always see
+ * a consistent {@link Snapshot} including its timestamp. Numeric and boolean
+ * values are stored as primitives; Channel-Addresses are interned, as the same
+ * addresses are cached for many Edges.
+ */
 public class EdgeCache {
 
+	private static final long MAX_AGE_MILLIS = 15 * 60 * 1000;
+
+	private static final Interner<String> ADDRESSES = Interners.newWeakInterner();
+
 	private final ChannelDataCache current = new ChannelDataCache();
 	private final ChannelDataCache aggregated = new ChannelDataCache();
 
@@ -22,20 +40,162 @@ public class EdgeCache {
 
 	}
 
-	private static class ChannelDataCache {
-		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
+	/**
+	 * An immutable state of a {@link ChannelDataCache}.
+	 */
+	private static final class Snapshot {
+
+		private static final byte TYPE_NULL = 0;
+		private static final byte TYPE_BOOLEAN = 1;
+		private static final byte TYPE_LONG = 2;
+		private static final byte TYPE_FLOAT = 3;
+		private static final byte TYPE_DOUBLE = 4;
+		private static final byte TYPE_OTHER = 5;
+
+		private static final Snapshot EMPTY = new Snapshot(0L, Map.of(), new byte[0], new long[0],
+				new JsonElement[0]);
+
+		private final long timestamp;
+		/** Channel-Address to index in the arrays; never modified. */
+		private final Map<String, Integer> indexes;
+		private final byte[] types;
+		private final long[] values;
+		/** Values of {@link #TYPE_OTHER}, e.g. Strings. */
+		private final JsonElement[] others;
+
+		private Snapshot(long timestamp, Map<String, Integer> indexes, byte[] types, long[] values,
+				JsonElement[] others) {
+			this.timestamp = timestamp;
+			this.indexes = indexes;
+			this.types = types;
+			this.values = values;
+			this.others = others;
+		}
+
+		private JsonElement get(String address) {
+			final var index = this.indexes.get(address);
+			if (index == null) {
+				return null;
+			}
+			final var value = this.values[index];
+			return switch (this.types[index]) {
+			case TYPE_BOOLEAN -> new JsonPrimitive(value != 0);
+			case TYPE_LONG -> new JsonPrimitive(value);
+			case TYPE_FLOAT -> new JsonPrimitive(Float.intBitsToFloat((int) value));
+			case TYPE_DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(value));
+			case TYPE_OTHER -> this.others[index];
+			default -> JsonNull.INSTANCE;
+			};
+		}
 
 		/**
-		 * Gets the channel value from cache.
+		 * Creates a new {@link Snapshot} with the given data applied.
 		 *
-		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
+		 * @param timestamp the timestamp of the data
+		 * @param data      the data
+		 * @return the new {@link Snapshot}
+		 */
+		private Snapshot with(long timestamp, Map<String, JsonElement> data) {
+			var indexes = this.indexes;
+			for (var address : data.keySet()) {
+				if (!indexes.containsKey(address)) {
+					if (indexes == this.indexes) {
+						indexes = new HashMap<>(this.indexes);
+					}
+					indexes.put(ADDRESSES.intern(address), indexes.size());
+				}
+			}
+			final var size = indexes.size();
+			final var types = Arrays.copyOf(this.types, size);
+			final var values = Arrays.copyOf(this.values, size);
+			final var others = Arrays.copyOf(this.others, size);
+			for (var entry : data.entrySet()) {
+				final int index = indexes.get(entry.getKey());
+				others[index] = null;
+				set(types, values, others, index, entry.getValue());
+			}
+			return new Snapshot(timestamp, indexes, types, values, others);
+		}
+
+		private static void set(byte[] types, long[] values, JsonElement[] others, int index, JsonElement value) {
+			if (value == null || value.isJsonNull()) {
+				types[index] = TYPE_NULL;
+				return;
+			}
+			if (value.isJsonPrimitive()) {
+				final var primitive = value.getAsJsonPrimitive();
+				if (primitive.isBoolean()) {
+					types[index] = TYPE_BOOLEAN;
+					values[index] = primitive.getAsBoolean() ? 1 : 0;
+					return;
+				}
+				if (primitive.isNumber()) {
+					final var number = primitive.getAsNumber();
+					if (number instanceof Integer || number instanceof Long || number instanceof Short
+							|| number instanceof Byte) {
+						types[index] = TYPE_LONG;
+						values[index] = number.longValue();
+						return;
+					}
+					if (number instanceof Float) {
+						types[index] = TYPE_FLOAT;
+						values[index] = Float.floatToIntBits(number.floatValue());
+						return;
+					}
+					if (number instanceof Double) {
+						types[index] = TYPE_DOUBLE;
+						values[index] = Double.doubleToLongBits(number.doubleValue());
+						return;
+					}
+					if (setParsedNumber(types, values, index, number.toString())) {
+						return;
+					}
+				}
+			}
+			types[index] = TYPE_OTHER;
+			others[index] = value;
+		}
+
+		/**
+		 * Stores a number that was parsed from JSON text, e.g. a
+		 * {@link com.google.gson.internal.LazilyParsedNumber}.
 		 */
-		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
+		private static boolean setParsedNumber(byte[] types, long[] values, int index, String text) {
+			var isIntegral = true;
+			for (var i = 0; i < text.length(); i++) {
+				var c = text.charAt(i);
+				if (c == '.' || c == 'e' || c == 'E') {
+					isIntegral = false;
+					break;
+				}
 			}
+			try {
+				if (isIntegral) {
+					values[index] = Long.parseLong(text);
+					types[index] = TYPE_LONG;
+				} else {
+					values[index] = Double.doubleToLongBits(Double.parseDouble(text));
+					types[index] = TYPE_DOUBLE;
+				}
+				return true;
+			} catch (NumberFormatException e) {
+				// e.g. out of range for long
+				return false;
+			}
+		}
+	}
+
+	private static class ChannelDataCache {
+
+		private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+		/**
+		 * Gets the current {@link Snapshot}; lock-free.
+		 *
+		 * @return the {@link Snapshot}
+		 */
+		public final Snapshot getSnapshot() {
+			return this.snapshot;
 		}
 
 		/**
@@ -43,32 +203,28 @@ public class EdgeCache {
 		 *
 		 * @param incomingDatas the incoming data
 		 */
-		public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
+		public synchronized void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
+			var snapshot = this.snapshot;
 			for (var entry : incomingDatas.entrySet()) {
 				var incomingTimestamp = entry.getKey();
 				var incomingData = entry.getValue();
 
 				// Check if cache should be applied
-				if (incomingTimestamp < this.timestamp) {
+				if (incomingTimestamp < snapshot.timestamp) {
 					// Incoming data is older than cache -> do not apply cache
+					continue;
+				}
 
-				} else {
-					// Incoming data is more recent than cache
-
-					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
-						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
-						}
-					}
-
-					// update cache
-					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
-					}
+				// Incoming data is more recent than cache
+				if (incomingTimestamp > snapshot.timestamp + MAX_AGE_MILLIS) {
+					// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
+					snapshot = Snapshot.EMPTY;
 				}
+
+				// update cache
+				snapshot = snapshot.with(incomingTimestamp, incomingData);
 			}
+			this.snapshot = snapshot;
 		}
 	}
 
@@ -79,11 +235,11 @@ public class EdgeCache {
 	 * @return the value; {@link JsonNull} if it is not in cache
 	 */
 	public final JsonElement getChannelValue(String address) {
-		final var result = this.current.getChannelValue(address);
+		final var result = this.current.getSnapshot().get(address);
 		if (result != null) {
 			return result;
 		}
-		final var aggregatedResult = this.aggregated.getChannelValue(address);
+		final var aggregatedResult = this.aggregated.getSnapshot().get(address);
 		if (aggregatedResult != null) {
 			return aggregatedResult;
 		}
@@ -93,21 +249,26 @@ public class EdgeCache {
 	/**
 	 * Gets the channel values from cache.
 	 *
+	 * <p>
+	 * All values are read from the same consistent state of the cache.
+	 *
 	 * @param addresses the Channel-Addresses of the channels
 	 * @return a) Map of Channel-Address to values ({@link JsonNull} if not in
 	 *         cache); b) Set of Channel-Addresses that are only available as
 	 *         aggregated data
 	 */
 	public final Pair<Map<String, JsonElement>, Set<String>> getChannelValues(Set<String> addresses) {
+		final var current = this.current.getSnapshot();
+		final var aggregated = this.aggregated.getSnapshot();
 		final var result = new TreeMap<String, JsonElement>();
 		final var aggregatedChannelValues = new TreeSet<String>();
 		for (var address : addresses) {
-			final var value = this.current.getChannelValue(address);
+			final var value = current.get(address);
 			if (value != null) {
 				result.put(address, value);
 				continue;
 			}
-			final var aggregatedValue = this.aggregated.getChannelValue(address);
+			final var aggregatedValue = aggregated.get(address);
 			if (aggregatedValue != null) {
 				result.put(address, aggregatedValue);
 				aggregatedChannelValues.add(address);
@@ -1,9 +1,11 @@
 package io.openems.backend.common.edgewebsocket;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.junit.Test;
@@ -16,6 +18,7 @@ import com.google.gson.JsonPrimitive;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.JsonUtils;
 
 public class EdgeCacheTest {
 
@@ -51,6 +54,41 @@ public class EdgeCacheTest {
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
 	}
 
+	@Test
+	public void testTypes() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(1L, CHANNEL1, new JsonPrimitive(1500));
+		table.put(1L, CHANNEL2, new JsonPrimitive(49.98F));
+		table.put(1L, CHANNEL3, new JsonPrimitive(true));
+		table.put(1L, "foo/Double", new JsonPrimitive(230.1));
+		table.put(1L, "foo/Null", JsonNull.INSTANCE);
+		table.put(1L, "foo/Parsed", JsonUtils.parse("{\"a\":-12,\"b\":0.5}"));
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+
+		assertEquals(1500L, cache.getChannelValue(CHANNEL1).getAsLong());
+		assertEquals("49.98", cache.getChannelValue(CHANNEL2).toString());
+		assertEquals(true, cache.getChannelValue(CHANNEL3).getAsBoolean());
+		assertEquals("230.1", cache.getChannelValue("foo/Double").toString());
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue("foo/Null"));
+		assertEquals("{\"a\":-12,\"b\":0.5}", cache.getChannelValue("foo/Parsed").toString());
+
+		// Numbers parsed from JSON text
+		var parsed = JsonUtils.parseToJsonObject("{\"foo/bar1\":-12,\"foo/bar2\":0.5}");
+		table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(2L, CHANNEL1, parsed.get(CHANNEL1));
+		table.put(2L, CHANNEL2, parsed.get(CHANNEL2));
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+		assertEquals("-12", cache.getChannelValue(CHANNEL1).toString());
+		assertEquals("0.5", cache.getChannelValue(CHANNEL2).toString());
+		assertEquals(true, cache.getChannelValue(CHANNEL3).getAsBoolean());
+
+		var result = cache.getChannelValues(Set.of(CHANNEL1, "foo/Missing"));
+		assertEquals(-12L, result.a().get(CHANNEL1).getAsLong());
+		assertEquals(JsonNull.INSTANCE, result.a().get("foo/Missing"));
+		assertTrue(result.b().isEmpty());
+	}
+
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
 			throws OpenemsNamedException {
 		var data = new TreeMap<Long, Map<String, JsonElement>>();
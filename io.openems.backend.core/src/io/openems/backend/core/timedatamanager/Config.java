@@ -13,4 +13,22 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Timedata-IDs", description = "IDs of Timedata Services. Execution is going to be sorted in the order of the IDs.")
 	String[] timedata_ids() default {};
 
+	@AttributeDefinition(name = "Write-Queue size", description = "Maximum number of pending writes per Timedata Service.")
+	int writeQueueSize() default 10_000;
+
+	@AttributeDefinition(name = "Write-Queue policy", description = "What to do if the Write-Queue of a Timedata Service is full.")
+	WriteQueuePolicy writeQueuePolicy() default WriteQueuePolicy.DROP_OLDEST;
+
+	@AttributeDefinition(name = "Write-Queue backpressure timeout [ms]", description = "With policy BACKPRESSURE: maximum time to wait for free space before the write is dropped.")
+	int writeQueueBackpressureTimeout() default 100;
+
+	@AttributeDefinition(name = "Query hedge delay [ms]", description = "Ask the next Timedata Service if the previous one did not answer within this delay. '0' asks all in parallel; negative values ask one after the other.")
+	int queryHedgeDelay() default 1_000;
+
+	@AttributeDefinition(name = "Query cache size", description = "Maximum number of cached results of historic energy queries; '0' disables the cache.")
+	int queryCacheSize() default 1_000;
+
+	@AttributeDefinition(name = "Query cache TTL for open periods [s]", description = "Results for ranges that are not yet closed are cached for this time.")
+	int queryCacheOpenPeriodTtl() default 60;
+
 }
\ No newline at end of file
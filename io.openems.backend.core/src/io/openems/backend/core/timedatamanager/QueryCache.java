@@ -0,0 +1,198 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * A bounded cache for results of historic energy queries.
+ *
+ * <p>
+ * Results for a range that ended more than {@link #CLOSED_PERIOD_GRACE} ago
+ * are considered final and kept until they are evicted as least recently
+ * used; results for a range that is still open expire after a short TTL.
+ * Data that is resent by an Edge may change closed ranges, so all entries of
+ * that Edge are dropped via {@link #invalidate(String)}. Cached results are
+ * copied on every access, so callers are free to modify them.
+ */
+public class QueryCache {
+
+	/** Late data for a range is accepted up to this time after its end. */
+	protected static final Duration CLOSED_PERIOD_GRACE = Duration.ofHours(1);
+
+	private static record Key(String method, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, String resolution) {
+	}
+
+	private static record Entry(Object value, Instant expiresAt) {
+	}
+
+	private final Clock clock;
+	private final int maxSize;
+	private final Duration openPeriodTtl;
+	private final LinkedHashMap<Key, Entry> entries;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Incremented on every {@link #invalidate(String)}; results of queries that
+	 * were started before are not cached.
+	 */
+	private long generation = 0;
+
+	public QueryCache(Clock clock, int maxSize, Duration openPeriodTtl) {
+		this.clock = clock;
+		this.maxSize = maxSize;
+		this.openPeriodTtl = openPeriodTtl;
+		this.entries = new LinkedHashMap<>(16, 0.75F, true /* access-order */) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return this.size() > QueryCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Gets the result of a 'queryHistoricEnergy' from the cache or from the
+	 * given query.
+	 * 
+	 * @param edgeId   the Edge-ID
+	 * @param fromDate the From-Date
+	 * @param toDate   the To-Date
+	 * @param channels the Channels
+	 * @param query    the query; may return null, which is not cached
+	 * @return the result
+	 * @throws OpenemsNamedException on error of the query
+	 */
+	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels,
+			ThrowingSupplier<SortedMap<ChannelAddress, JsonElement>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		return this.get(new Key("queryHistoricEnergy", edgeId, fromDate, toDate, new TreeSet<>(channels), null),
+				query, TreeMap::new);
+	}
+
+	/**
+	 * Gets the result of a 'queryHistoricEnergyPerPeriod' from the cache or from
+	 * the given query.
+	 * 
+	 * @param edgeId     the Edge-ID
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @param query      the query; may return null, which is not cached
+	 * @return the result
+	 * @throws OpenemsNamedException on error of the query
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(
+			String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+			Resolution resolution,
+			ThrowingSupplier<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		return this.get(new Key("queryHistoricEnergyPerPeriod", edgeId, fromDate, toDate, new TreeSet<>(channels),
+				resolution.toString()), query, QueryCache::copyPerPeriod);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T get(Key key, ThrowingSupplier<T, OpenemsNamedException> query, UnaryOperator<T> copy)
+			throws OpenemsNamedException {
+		final var now = Instant.now(this.clock);
+		final long generation;
+		synchronized (this.entries) {
+			generation = this.generation;
+			var entry = this.entries.get(key);
+			if (entry != null) {
+				if (now.isBefore(entry.expiresAt)) {
+					this.hits.increment();
+					return copy.apply((T) entry.value);
+				}
+				this.entries.remove(key);
+			}
+		}
+		this.misses.increment();
+
+		var value = query.get();
+		if (value == null) {
+			return null;
+		}
+		final Instant expiresAt;
+		if (key.toDate.toInstant().plus(CLOSED_PERIOD_GRACE).isBefore(now)) {
+			// Closed period: result is final
+			expiresAt = Instant.MAX;
+		} else {
+			expiresAt = now.plus(this.openPeriodTtl);
+		}
+		var cached = copy.apply(value);
+		synchronized (this.entries) {
+			if (generation == this.generation) {
+				this.entries.put(key, new Entry(cached, expiresAt));
+			}
+		}
+		return value;
+	}
+
+	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> copyPerPeriod(
+			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> value) {
+		var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		value.forEach((time, values) -> result.put(time, new TreeMap<>(values)));
+		return result;
+	}
+
+	/**
+	 * Removes all entries of the given Edge.
+	 * 
+	 * @param edgeId the Edge-ID
+	 */
+	public void invalidate(String edgeId) {
+		synchronized (this.entries) {
+			this.generation++;
+			this.entries.keySet().removeIf(key -> key.edgeId.equals(edgeId));
+		}
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * Returns a DebugMetrics map.
+	 * 
+	 * @return metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		final int size;
+		synchronized (this.entries) {
+			size = this.entries.size();
+		}
+		return Map.<String, Number>of(//
+				"QueryCacheSize", size, //
+				"QueryCacheHits", this.hits.sum(), //
+				"QueryCacheMisses", this.misses.sum() //
+		);
+	}
+
+}
@@ -1,17 +1,33 @@
 package io.openems.backend.core.timedatamanager;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -22,15 +38,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.timedata.InternalTimedataException;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.common.timedata.TimedataManager;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingFunction;
+import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.function.ThrowingTriConsumer;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
@@ -38,13 +58,17 @@ import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
 		name = "Core.TimedataManager", //
 		immediate = true //
 )
-public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager {
+public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager, DebugLoggable {
+
+	private static final int QUERY_EXECUTOR_MAX_THREADS = 20;
+	private static final int WRITER_STOP_TIMEOUT = 10_000; // [ms]
 
 	private final Logger log = LoggerFactory.getLogger(TimedataManagerImpl.class);
 
@@ -53,6 +77,27 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	private final AtomicReference<ImmutableSortedSet<Timedata>> timedatas = new AtomicReference<>(
 			ImmutableSortedSet.of());
 
+	/**
+	 * One {@link TimedataWriter} per {@link Timedata}; writes never block the
+	 * caller.
+	 */
+	private final Map<Timedata, TimedataWriter> writers = new ConcurrentHashMap<>();
+	private int writeQueueSize = 10_000;
+	private WriteQueuePolicy writeQueuePolicy = WriteQueuePolicy.DROP_OLDEST;
+	private int writeQueueBackpressureTimeout = 100;
+
+	/**
+	 * Executes hedged queries. If all threads are busy, the query runs in the
+	 * calling thread, i.e. hedging degrades to sequential queries.
+	 */
+	private final ExecutorService queryExecutor = new ThreadPoolExecutor(0, QUERY_EXECUTOR_MAX_THREADS, 60L,
+			TimeUnit.SECONDS, new SynchronousQueue<>(),
+			new ThreadFactoryBuilder().setNameFormat("TimedataManager-Query-%d").build(), //
+			(runnable, executor) -> runnable.run());
+	private final LongAdder hedgedQueries = new LongAdder();
+	private volatile int queryHedgeDelay = 1_000;
+	private volatile QueryCache queryCache = null;
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
@@ -60,6 +105,10 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	protected synchronized void addTimedata(Timedata timedata) {
 		synchronized (this._rawTimedatas) {
 			this._rawTimedatas.add(timedata);
+			var writer = new TimedataWriter(timedata, this.writeQueueSize, this.writeQueuePolicy,
+					this.writeQueueBackpressureTimeout);
+			this.writers.put(timedata, writer);
+			writer.activate();
 			this.updateSortedTimedatas();
 		}
 	}
@@ -67,6 +116,10 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	protected synchronized void removeTimedata(Timedata timedata) {
 		synchronized (this._rawTimedatas) {
 			this._rawTimedatas.remove(timedata);
+			var writer = this.writers.remove(timedata);
+			if (writer != null) {
+				this.drainWriter(writer, WRITER_STOP_TIMEOUT);
+			}
 			this.updateSortedTimedatas();
 		}
 	}
@@ -116,6 +169,82 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public void activate(Config config) {
 		this._configTimedataIds = Arrays.asList(config.timedata_ids());
 		this.updateSortedTimedatas();
+		this.updateWriters(config);
+		this.queryHedgeDelay = config.queryHedgeDelay();
+		this.queryCache = config.queryCacheSize() > 0 //
+				? new QueryCache(Clock.systemDefaultZone(), config.queryCacheSize(),
+						Duration.ofSeconds(config.queryCacheOpenPeriodTtl())) //
+				: null;
+	}
+
+	/**
+	 * Deactivates the component.
+	 */
+	@Deactivate
+	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.queryExecutor, 0);
+		synchronized (this._rawTimedatas) {
+			// All writers share the timeout; the others keep writing meanwhile
+			var deadline = System.currentTimeMillis() + WRITER_STOP_TIMEOUT;
+			for (var writer : this.writers.values()) {
+				this.drainWriter(writer, deadline - System.currentTimeMillis());
+			}
+			this.writers.clear();
+		}
+	}
+
+	private void updateWriters(Config config) {
+		synchronized (this._rawTimedatas) {
+			this.writeQueueSize = config.writeQueueSize();
+			this.writeQueuePolicy = config.writeQueuePolicy();
+			this.writeQueueBackpressureTimeout = config.writeQueueBackpressureTimeout();
+			for (var entry : this.writers.entrySet()) {
+				var writer = entry.getValue();
+				if (writer.getQueueCapacity() == Math.max(1, this.writeQueueSize)) {
+					writer.setPolicy(this.writeQueuePolicy, this.writeQueueBackpressureTimeout);
+					continue;
+				}
+				// Queue size changed -> replace writer
+				var newWriter = new TimedataWriter(entry.getKey(), this.writeQueueSize, this.writeQueuePolicy,
+						this.writeQueueBackpressureTimeout);
+				this.stopWriter(writer);
+				writer.transferTo(newWriter);
+				entry.setValue(newWriter);
+				newWriter.activate();
+			}
+		}
+	}
+
+	/**
+	 * Stops a {@link TimedataWriter} and waits for its running write, so that
+	 * its replacement does not write to the same {@link Timedata} concurrently.
+	 * 
+	 * @param writer the {@link TimedataWriter}
+	 */
+	private void stopWriter(TimedataWriter writer) {
+		try {
+			if (!writer.deactivateAndAwait(WRITER_STOP_TIMEOUT)) {
+				this.logWarn(this.log, "TimedataWriter for " + writer.getTimedata().id() + " did not stop within "
+						+ WRITER_STOP_TIMEOUT + "ms");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Stops a {@link TimedataWriter} and writes its pending writes to its
+	 * {@link Timedata}, e.g. on shutdown.
+	 * 
+	 * @param writer  the {@link TimedataWriter}
+	 * @param timeout the maximum time in [ms]
+	 */
+	private void drainWriter(TimedataWriter writer, long timeout) {
+		var dropped = writer.drain(Math.max(0, timeout));
+		if (dropped > 0) {
+			this.logWarn(this.log, "TimedataWriter for " + writer.getTimedata().id() + " dropped " + dropped
+					+ " pending writes on stop");
+		}
 	}
 
 	/**
@@ -149,7 +278,12 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var cache = this.queryCache;
+		final ThrowingSupplier<SortedMap<ChannelAddress, JsonElement>, OpenemsNamedException> query = () -> this
+				.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var value = cache != null //
+				? cache.queryHistoricEnergy(edgeId, fromDate, toDate, channels, query) //
+				: query.get();
 		if (value != null) {
 			return value;
 		}
@@ -170,8 +304,12 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this
+		final var cache = this.queryCache;
+		final ThrowingSupplier<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, OpenemsNamedException> query = () -> this
 				.firstOf(t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution));
+		final var value = cache != null //
+				? cache.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution, query) //
+				: query.get();
 		if (value != null) {
 			return value;
 		}
@@ -194,24 +332,101 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		throw new OpenemsException("Unable to query first value before. Result is null");
 	}
 
+	/**
+	 * Gets the first non-null result of the Timedata Services in configured
+	 * order.
+	 * 
+	 * <p>
+	 * If a Timedata Service does not answer within the 'queryHedgeDelay', the
+	 * next one is asked in parallel; the first non-null result wins.
+	 * 
+	 * @param <T>      the type of the result
+	 * @param function the query
+	 * @return the result; null if no Timedata Service returned a result
+	 * @throws OpenemsNamedException if no result is available and a Timedata
+	 *                               Service failed
+	 */
 	private <T> T firstOf(ThrowingFunction<Timedata, T, OpenemsNamedException> function) throws OpenemsNamedException {
 		var timedatas = this.timedatas.get();
 		final var errors = new ArrayList<Exception>();
-		for (var timedata : timedatas) {
-			try {
-				var data = function.apply(timedata);
-				if (data != null) {
-					return data;
+		final var hedgeDelay = this.queryHedgeDelay;
+		if (hedgeDelay < 0 || timedatas.size() < 2) {
+			// Ask one after the other in the current thread
+			for (var timedata : timedatas) {
+				try {
+					var data = function.apply(timedata);
+					if (data != null) {
+						return data;
+					}
+				} catch (Exception e) {
+					this.handleQueryException(timedata, e, errors);
 				}
-			} catch (InternalTimedataException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage());
-			} catch (OpenemsNamedException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage());
-				errors.add(e);
-			} catch (RuntimeException e) {
-				this.log.info(timedata.id() + ": " + e.getMessage(), e);
 			}
+			return this.noResult(errors);
+		}
+
+		final var completionService = new ExecutorCompletionService<T>(this.queryExecutor);
+		final var futures = new IdentityHashMap<Future<T>, Timedata>();
+		final var pending = timedatas.iterator();
+		try {
+			while (pending.hasNext() || !futures.isEmpty()) {
+				if (pending.hasNext() && (futures.isEmpty() || hedgeDelay == 0)) {
+					// Ask next Timedata Service
+					var timedata = pending.next();
+					futures.put(completionService.submit(() -> function.apply(timedata)), timedata);
+					if (futures.size() > 1) {
+						this.hedgedQueries.increment();
+					}
+					if (hedgeDelay == 0) {
+						continue;
+					}
+				}
+
+				// Wait for a result; ask the next one after 'hedgeDelay'
+				var future = pending.hasNext() //
+						? completionService.poll(hedgeDelay, TimeUnit.MILLISECONDS) //
+						: completionService.take();
+				if (future == null) {
+					var timedata = pending.next();
+					futures.put(completionService.submit(() -> function.apply(timedata)), timedata);
+					this.hedgedQueries.increment();
+					continue;
+				}
+
+				var timedata = futures.remove(future);
+				try {
+					var data = future.get();
+					if (data != null) {
+						return data;
+					}
+				} catch (ExecutionException e) {
+					this.handleQueryException(timedata, e.getCause(), errors);
+				}
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Interrupted while querying Timedata");
+
+		} finally {
+			// Cancel outstanding queries
+			futures.keySet().forEach(f -> f.cancel(true));
 		}
+		return this.noResult(errors);
+	}
+
+	private void handleQueryException(Timedata timedata, Throwable e, List<Exception> errors) {
+		if (e instanceof InternalTimedataException) {
+			this.log.info(timedata.id() + ": " + e.getMessage());
+		} else if (e instanceof OpenemsNamedException ex) {
+			this.log.info(timedata.id() + ": " + e.getMessage());
+			errors.add(ex);
+		} else {
+			this.log.info(timedata.id() + ": " + e.getMessage(), e);
+		}
+	}
+
+	private <T> T noResult(List<Exception> errors) throws OpenemsException {
 		if (!errors.isEmpty()) {
 			throw new OpenemsException(errors.stream().map(t -> t.getMessage()).collect(Collectors.joining("; ")));
 		}
@@ -230,7 +445,14 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
-		this.write(edgeId, data, Timedata::write);
+		this.write(edgeId, data, (timedata, id, d) -> {
+			timedata.write(id, d);
+			// Resent data may change periods that are already cached as closed
+			var cache = this.queryCache;
+			if (cache != null) {
+				cache.invalidate(id);
+			}
+		});
 	}
 
 	private <T extends AbstractDataNotification> void write(//
@@ -239,12 +461,41 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 			final ThrowingTriConsumer<Timedata, String, T, OpenemsException> method //
 	) {
 		for (var timedata : this.timedatas.get()) {
-			try {
-				method.accept(timedata, edgeId, data);
-			} catch (OpenemsException e) {
-				this.logWarn(this.log, "Timedata write failed for Edge=" + edgeId);
+			var writer = this.writers.get(timedata);
+			if (writer == null) {
+				continue;
 			}
+			writer.offer(edgeId, t -> method.accept(t, edgeId, data));
+		}
+	}
+
+	@Override
+	public String debugLog() {
+		var writers = this.timedatas.get().stream() //
+				.map(this.writers::get) //
+				.filter(Objects::nonNull) //
+				.map(TimedataWriter::debugLog) //
+				.collect(Collectors.joining(" "));
+		if (writers.isEmpty()) {
+			return null;
+		}
+		return "[" + this.getName() + "] " + writers;
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		var result = new HashMap<String, JsonElement>();
+		for (var writer : this.writers.values()) {
+			writer.debugMetrics().forEach((key, value) -> //
+			result.put(writer.getTimedata().id() + "/" + key, new JsonPrimitive(value)));
+		}
+		var cache = this.queryCache;
+		if (cache != null) {
+			cache.debugMetrics().forEach((key, value) -> //
+			result.put(this.getName() + "/" + key, new JsonPrimitive(value)));
 		}
+		result.put(this.getName() + "/QueryHedged", new JsonPrimitive(this.hedgedQueries.sum()));
+		return result;
 	}
 
 }
@@ -0,0 +1,235 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.backend.common.timedata.Timedata;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingConsumer;
+import io.openems.common.worker.AbstractImmediateWorker;
+
+/**
+ * Writes data to one {@link Timedata} Service from a bounded queue, so that a
+ * slow Timedata Service neither blocks the caller nor other Timedata Services.
+ */
+public class TimedataWriter extends AbstractImmediateWorker {
+
+	private static record Task(String edgeId, ThrowingConsumer<Timedata, OpenemsException> write,
+			long enqueuedNanos) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(TimedataWriter.class);
+
+	private final Timedata timedata;
+	private final BlockingQueue<Task> queue;
+	private final LongAdder written = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	private volatile WriteQueuePolicy policy;
+	private volatile int backpressureTimeout;
+	private volatile long lastLagMillis = 0;
+
+	public TimedataWriter(Timedata timedata, int queueSize, WriteQueuePolicy policy, int backpressureTimeout) {
+		this.timedata = timedata;
+		this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+		this.policy = policy;
+		this.backpressureTimeout = backpressureTimeout;
+	}
+
+	/**
+	 * Starts the worker thread.
+	 */
+	public void activate() {
+		this.activate("TimedataWriter-" + this.timedata.id());
+	}
+
+	/**
+	 * Stops the worker thread and waits until it has finished, so that no write
+	 * of this {@link TimedataWriter} is still running afterwards.
+	 * 
+	 * @param timeout the maximum time to wait in [ms]
+	 * @return true if the worker thread has finished
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean deactivateAndAwait(long timeout) throws InterruptedException {
+		this.deactivate();
+		this.thread.join(timeout);
+		return !this.thread.isAlive();
+	}
+
+	/**
+	 * Stops the worker thread and writes all pending writes in the calling thread,
+	 * e.g. on shutdown. Writes that are still pending after the timeout are
+	 * dropped.
+	 * 
+	 * @param timeout the maximum time in [ms]
+	 * @return the number of dropped writes
+	 */
+	public int drain(long timeout) {
+		final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		try {
+			// Never write to the Timedata concurrently with a running write
+			if (this.deactivateAndAwait(Math.max(1, timeout))) {
+				Task task;
+				while (System.nanoTime() < deadline && (task = this.queue.poll()) != null) {
+					this.write(task);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		var result = 0;
+		while (this.queue.poll() != null) {
+			result++;
+		}
+		this.dropped.add(result);
+		return result;
+	}
+
+	public Timedata getTimedata() {
+		return this.timedata;
+	}
+
+	public int getQueueCapacity() {
+		return this.queue.size() + this.queue.remainingCapacity();
+	}
+
+	/**
+	 * Updates the {@link WriteQueuePolicy}.
+	 * 
+	 * @param policy              the {@link WriteQueuePolicy}
+	 * @param backpressureTimeout the timeout for
+	 *                            {@link WriteQueuePolicy#BACKPRESSURE} in [ms]
+	 */
+	public void setPolicy(WriteQueuePolicy policy, int backpressureTimeout) {
+		this.policy = policy;
+		this.backpressureTimeout = backpressureTimeout;
+	}
+
+	/**
+	 * Adds a write to the queue according to the {@link WriteQueuePolicy}.
+	 * 
+	 * @param edgeId the Edge-ID
+	 * @param write  the write to the {@link Timedata}
+	 */
+	public void offer(String edgeId, ThrowingConsumer<Timedata, OpenemsException> write) {
+		this.offer(new Task(edgeId, write, System.nanoTime()));
+	}
+
+	private void offer(Task task) {
+		if (this.queue.offer(task)) {
+			return;
+		}
+		switch (this.policy) {
+		case DROP_OLDEST -> {
+			while (!this.queue.offer(task)) {
+				if (this.queue.poll() != null) {
+					this.dropped.increment();
+				}
+			}
+			return;
+		}
+		case DROP_NEWEST -> {
+			// handled below
+		}
+		case BACKPRESSURE -> {
+			try {
+				if (this.queue.offer(task, this.backpressureTimeout, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		}
+		this.dropped.increment();
+	}
+
+	/**
+	 * Moves all pending writes to another {@link TimedataWriter}, e.g. after
+	 * changing the queue size.
+	 * 
+	 * @param target the target {@link TimedataWriter}
+	 */
+	public void transferTo(TimedataWriter target) {
+		Task task;
+		while ((task = this.queue.poll()) != null) {
+			target.offer(task);
+		}
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		this.write(this.queue.take());
+	}
+
+	private void write(Task task) {
+		this.lastLagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - task.enqueuedNanos);
+		try {
+			task.write.accept(this.timedata);
+			this.written.increment();
+
+		} catch (OpenemsException e) {
+			this.failed.increment();
+			this.log.warn("Timedata write failed for Edge=" + task.edgeId + " on " + this.timedata.id() + ": "
+					+ e.getMessage());
+
+		} catch (RuntimeException e) {
+			this.failed.increment();
+			this.log.warn("Timedata write failed for Edge=" + task.edgeId + " on " + this.timedata.id() + ": "
+					+ e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Gets the age of the oldest pending write.
+	 * 
+	 * @return the lag in [ms]; 0 if the queue is empty
+	 */
+	public long getLagMillis() {
+		var oldest = this.queue.peek();
+		if (oldest == null) {
+			return 0;
+		}
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedNanos);
+	}
+
+	/**
+	 * Returns a DebugLog String.
+	 * 
+	 * @return debug log
+	 */
+	public String debugLog() {
+		return new StringBuilder() //
+				.append(this.timedata.id()).append(":") //
+				.append(this.queue.size()).append("/").append(this.getQueueCapacity()) //
+				.append("|Lag:").append(this.getLagMillis()).append("ms") //
+				.append("|Dropped:").append(this.dropped.sum()) //
+				.append("|Failed:").append(this.failed.sum()) //
+				.toString();
+	}
+
+	/**
+	 * Returns a DebugMetrics map.
+	 * 
+	 * @return metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		return Map.<String, Number>of(//
+				"WriteQueueSize", this.queue.size(), //
+				"WriteLag", this.getLagMillis(), //
+				"WriteLastLag", this.lastLagMillis, //
+				"WriteWritten", this.written.sum(), //
+				"WriteFailed", this.failed.sum(), //
+				"WriteDropped", this.dropped.sum() //
+		);
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.openems.backend.core.timedatamanager;
+
+/**
+ * Defines what happens if the Write-Queue of a Timedata Service is full.
+ */
+public enum WriteQueuePolicy {
+	/**
+	 * Drop the oldest pending write to make room for the new one.
+	 */
+	DROP_OLDEST,
+	/**
+	 * Drop the new write.
+	 */
+	DROP_NEWEST,
+	/**
+	 * Wait for free space for a limited time, then drop the new write.
+	 */
+	BACKPRESSURE;
+}
@@ -0,0 +1,181 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.gson.JsonElement;
+
+import io.openems.backend.common.timedata.Timedata;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Simulates a {@link Timedata} that answers 'queryHistoricEnergy' with a fixed
+ * result after a fixed delay and records the Edge-IDs of all writes. Writes can
+ * be blocked via {@link #blockWrites()}; like a real backend, a blocked write
+ * does not react on interrupts.
+ */
+public class DummyTimedata implements Timedata {
+
+	private final String id;
+	private final long queryDelay;
+	private final SortedMap<ChannelAddress, JsonElement> energy;
+	private final AtomicInteger queries = new AtomicInteger();
+	private final List<String> writes = new ArrayList<>();
+	private final Semaphore startedWrites = new Semaphore(0);
+	private final AtomicInteger activeWrites = new AtomicInteger();
+	private volatile boolean concurrentWrites = false;
+	private volatile CountDownLatch writeBlocker = new CountDownLatch(0);
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param id         the ID
+	 * @param queryDelay the delay of every query in [ms]
+	 * @param energy     the result of 'queryHistoricEnergy'; may be null
+	 */
+	public DummyTimedata(String id, long queryDelay, SortedMap<ChannelAddress, JsonElement> energy) {
+		this.id = id;
+		this.queryDelay = queryDelay;
+		this.energy = energy;
+	}
+
+	public DummyTimedata(String id) {
+		this(id, 0, null);
+	}
+
+	@Override
+	public String id() {
+		return this.id;
+	}
+
+	/**
+	 * Gets the number of started queries.
+	 * 
+	 * @return the number of queries
+	 */
+	public int getQueries() {
+		return this.queries.get();
+	}
+
+	@Override
+	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
+		this.queries.incrementAndGet();
+		try {
+			Thread.sleep(this.queryDelay);
+		} catch (InterruptedException e) {
+			throw new OpenemsException("Interrupted");
+		}
+		return this.energy == null ? null : new TreeMap<>(this.energy);
+	}
+
+	@Override
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
+			throws OpenemsNamedException {
+		return null;
+	}
+
+	@Override
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
+			throws OpenemsNamedException {
+		return null;
+	}
+
+	/**
+	 * Blocks all following writes until {@link #unblockWrites()}.
+	 */
+	public void blockWrites() {
+		this.writeBlocker = new CountDownLatch(1);
+	}
+
+	/**
+	 * Releases all blocked writes.
+	 */
+	public void unblockWrites() {
+		this.writeBlocker.countDown();
+	}
+
+	/**
+	 * Waits until a write was started.
+	 * 
+	 * @throws InterruptedException on interrupt
+	 */
+	public void awaitStartedWrite() throws InterruptedException {
+		this.startedWrites.acquire();
+	}
+
+	/**
+	 * Gets the Edge-IDs of all finished writes in order.
+	 * 
+	 * @return a copy of the list of Edge-IDs
+	 */
+	public synchronized List<String> getWrites() {
+		return new ArrayList<>(this.writes);
+	}
+
+	/**
+	 * Waits until the given number of writes has finished.
+	 * 
+	 * @param count the number of writes
+	 * @throws InterruptedException on interrupt
+	 */
+	public synchronized void awaitWrites(int count) throws InterruptedException {
+		while (this.writes.size() < count) {
+			this.wait();
+		}
+	}
+
+	/**
+	 * Returns true if two writes have ever been executed at the same time.
+	 * 
+	 * @return true for concurrent writes
+	 */
+	public boolean hadConcurrentWrites() {
+		return this.concurrentWrites;
+	}
+
+	private void write(String edgeId) {
+		if (this.activeWrites.incrementAndGet() > 1) {
+			this.concurrentWrites = true;
+		}
+		this.startedWrites.release();
+		Uninterruptibles.awaitUninterruptibly(this.writeBlocker);
+		synchronized (this) {
+			this.writes.add(edgeId);
+			this.notifyAll();
+		}
+		this.activeWrites.decrementAndGet();
+	}
+
+	@Override
+	public void write(String edgeId, TimestampedDataNotification data) {
+		this.write(edgeId);
+	}
+
+	@Override
+	public void write(String edgeId, AggregatedDataNotification data) {
+		this.write(edgeId);
+	}
+
+	@Override
+	public void write(String edgeId, ResendDataNotification data) {
+		this.write(edgeId);
+	}
+
+}
@@ -0,0 +1,111 @@
+package io.openems.backend.core.timedatamanager;
+
+import io.openems.common.test.AbstractComponentConfig;
+
+@SuppressWarnings("all")
+public class MyConfig extends AbstractComponentConfig implements Config {
+
+	protected static class Builder {
+		private String[] timedataIds = {};
+		private int writeQueueSize = 10_000;
+		private WriteQueuePolicy writeQueuePolicy = WriteQueuePolicy.DROP_OLDEST;
+		private int writeQueueBackpressureTimeout = 100;
+		private int queryHedgeDelay = 1_000;
+		private int queryCacheSize = 0;
+		private int queryCacheOpenPeriodTtl = 60;
+
+		private Builder() {
+		}
+
+		public Builder setTimedataIds(String... timedataIds) {
+			this.timedataIds = timedataIds;
+			return this;
+		}
+
+		public Builder setWriteQueueSize(int writeQueueSize) {
+			this.writeQueueSize = writeQueueSize;
+			return this;
+		}
+
+		public Builder setWriteQueuePolicy(WriteQueuePolicy writeQueuePolicy) {
+			this.writeQueuePolicy = writeQueuePolicy;
+			return this;
+		}
+
+		public Builder setWriteQueueBackpressureTimeout(int writeQueueBackpressureTimeout) {
+			this.writeQueueBackpressureTimeout = writeQueueBackpressureTimeout;
+			return this;
+		}
+
+		public Builder setQueryHedgeDelay(int queryHedgeDelay) {
+			this.queryHedgeDelay = queryHedgeDelay;
+			return this;
+		}
+
+		public Builder setQueryCacheSize(int queryCacheSize) {
+			this.queryCacheSize = queryCacheSize;
+			return this;
+		}
+
+		public Builder setQueryCacheOpenPeriodTtl(int queryCacheOpenPeriodTtl) {
+			this.queryCacheOpenPeriodTtl = queryCacheOpenPeriodTtl;
+			return this;
+		}
+
+		public MyConfig build() {
+			return new MyConfig(this);
+		}
+	}
+
+	/**
+	 * Create a Config builder.
+	 *
+	 * @return a {@link Builder}
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	private final Builder builder;
+
+	private MyConfig(Builder builder) {
+		super(Config.class, "timedataManager0");
+		this.builder = builder;
+	}
+
+	@Override
+	public String[] timedata_ids() {
+		return this.builder.timedataIds;
+	}
+
+	@Override
+	public int writeQueueSize() {
+		return this.builder.writeQueueSize;
+	}
+
+	@Override
+	public WriteQueuePolicy writeQueuePolicy() {
+		return this.builder.writeQueuePolicy;
+	}
+
+	@Override
+	public int writeQueueBackpressureTimeout() {
+		return this.builder.writeQueueBackpressureTimeout;
+	}
+
+	@Override
+	public int queryHedgeDelay() {
+		return this.builder.queryHedgeDelay;
+	}
+
+	@Override
+	public int queryCacheSize() {
+		return this.builder.queryCacheSize;
+	}
+
+	@Override
+	public int queryCacheOpenPeriodTtl() {
+		return this.builder.queryCacheOpenPeriodTtl;
+	}
+
+}
@@ -0,0 +1,135 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.common.types.ChannelAddress;
+
+public class QueryCacheTest {
+
+	private static final Instant NOW = Instant.parse("2020-01-01T12:00:00Z");
+	private static final ChannelAddress CHANNEL = new ChannelAddress("_sum", "GridBuyActiveEnergy");
+	private static final Set<ChannelAddress> CHANNELS = Set.of(CHANNEL);
+
+	private static ZonedDateTime at(long hoursFromNow) {
+		return ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC).plusHours(hoursFromNow);
+	}
+
+	private static class CountingQuery
+			implements ThrowingSupplier<SortedMap<ChannelAddress, JsonElement>, OpenemsNamedException> {
+
+		private final AtomicInteger count = new AtomicInteger();
+		private final Runnable onQuery;
+
+		private CountingQuery(Runnable onQuery) {
+			this.onQuery = onQuery;
+		}
+
+		private CountingQuery() {
+			this(() -> {
+			});
+		}
+
+		@Override
+		public SortedMap<ChannelAddress, JsonElement> get() {
+			this.onQuery.run();
+			var result = new TreeMap<ChannelAddress, JsonElement>();
+			result.put(CHANNEL, new JsonPrimitive(this.count.incrementAndGet()));
+			return result;
+		}
+	}
+
+	private static int query(QueryCache sut, String edgeId, long fromHours, long toHours, CountingQuery query)
+			throws OpenemsNamedException {
+		return sut.queryHistoricEnergy(edgeId, at(fromHours), at(toHours), CHANNELS, query) //
+				.get(CHANNEL).getAsInt();
+	}
+
+	@Test
+	public void testOpenPeriodExpires() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(NOW);
+		var sut = new QueryCache(clock, 10, Duration.ofSeconds(60));
+		var query = new CountingQuery();
+
+		assertEquals(1, query(sut, "edge0", -24, 0, query));
+		clock.leap(59, ChronoUnit.SECONDS);
+		assertEquals(1, query(sut, "edge0", -24, 0, query));
+
+		// TTL expired -> query again
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(2, query(sut, "edge0", -24, 0, query));
+		assertEquals(1L, sut.debugMetrics().get("QueryCacheHits"));
+		assertEquals(2L, sut.debugMetrics().get("QueryCacheMisses"));
+	}
+
+	@Test
+	public void testClosedPeriodRetentionAndLruEviction() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(NOW);
+		var sut = new QueryCache(clock, 2, Duration.ofSeconds(60));
+		var a = new CountingQuery();
+		var b = new CountingQuery();
+		var c = new CountingQuery();
+
+		// Ended more than CLOSED_PERIOD_GRACE ago -> never expires
+		assertEquals(1, query(sut, "edge0", -48, -24, a));
+		assertEquals(1, query(sut, "edge0", -72, -48, b));
+		clock.leap(365, ChronoUnit.DAYS);
+		assertEquals(1, query(sut, "edge0", -48, -24, a));
+
+		// 'b' is least recently used -> evicted by 'c'
+		assertEquals(1, query(sut, "edge0", -96, -72, c));
+		assertEquals(1, query(sut, "edge0", -48, -24, a));
+		assertEquals(2, query(sut, "edge0", -72, -48, b));
+		assertEquals(2, sut.debugMetrics().get("QueryCacheSize"));
+	}
+
+	@Test
+	public void testCopiesAndNullResults() throws OpenemsNamedException {
+		var sut = new QueryCache(new TimeLeapClock(NOW), 10, Duration.ofSeconds(60));
+		var query = new CountingQuery();
+
+		sut.queryHistoricEnergy("edge0", at(-48), at(-24), CHANNELS, query).clear();
+		assertEquals(1, query(sut, "edge0", -48, -24, query));
+
+		// null is not cached
+		assertNull(sut.queryHistoricEnergy("edge0", at(-72), at(-48), CHANNELS, () -> null));
+		assertEquals(2, query(sut, "edge0", -72, -48, query));
+	}
+
+	@Test
+	public void testInvalidate() throws OpenemsNamedException {
+		var sut = new QueryCache(new TimeLeapClock(NOW), 10, Duration.ofSeconds(60));
+		var edge0 = new CountingQuery();
+		var edge1 = new CountingQuery();
+
+		assertEquals(1, query(sut, "edge0", -48, -24, edge0));
+		assertEquals(1, query(sut, "edge1", -48, -24, edge1));
+		sut.invalidate("edge0");
+		assertEquals(2, query(sut, "edge0", -48, -24, edge0));
+		assertEquals(1, query(sut, "edge1", -48, -24, edge1));
+
+		// Result of a query that was running during invalidate() is not cached
+		var running = new CountingQuery(() -> sut.invalidate("edge0"));
+		assertEquals(1, query(sut, "edge0", -72, -48, running));
+		assertEquals(2, query(sut, "edge0", -72, -48, running));
+	}
+
+}
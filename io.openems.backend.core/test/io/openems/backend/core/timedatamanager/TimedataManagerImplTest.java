@@ -0,0 +1,186 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+public class TimedataManagerImplTest {
+
+	private static final ChannelAddress CHANNEL = new ChannelAddress("_sum", "GridBuyActiveEnergy");
+	private static final ZonedDateTime FROM = ZonedDateTime.parse("2020-01-01T00:00:00Z");
+	private static final ZonedDateTime TO = ZonedDateTime.parse("2020-01-02T00:00:00Z");
+
+	private static SortedMap<ChannelAddress, JsonElement> result(int value) {
+		var result = new TreeMap<ChannelAddress, JsonElement>();
+		result.put(CHANNEL, new JsonPrimitive(value));
+		return result;
+	}
+
+	private TimedataManagerImpl sut;
+
+	private TimedataManagerImpl create(int queryHedgeDelay, DummyTimedata... timedatas) {
+		this.sut = new TimedataManagerImpl();
+		var ids = new String[timedatas.length];
+		for (var i = 0; i < timedatas.length; i++) {
+			ids[i] = timedatas[i].id();
+		}
+		this.sut.activate(MyConfig.create() //
+				.setTimedataIds(ids) //
+				.setQueryHedgeDelay(queryHedgeDelay) //
+				.build());
+		for (var timedata : timedatas) {
+			this.sut.addTimedata(timedata);
+		}
+		return this.sut;
+	}
+
+	private int query() throws OpenemsNamedException {
+		return this.sut.queryHistoricEnergy("edge0", FROM, TO, Set.of(CHANNEL)).get(CHANNEL).getAsInt();
+	}
+
+	@After
+	public void after() {
+		if (this.sut != null) {
+			this.sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testFastPrimaryIsNotHedged() throws OpenemsNamedException {
+		var primary = new DummyTimedata("timedata0", 0, result(1));
+		var secondary = new DummyTimedata("timedata1", 0, result(2));
+		this.create(1_000, primary, secondary);
+
+		assertEquals(1, this.query());
+		assertEquals(0, secondary.getQueries());
+	}
+
+	@Test
+	public void testSlowPrimaryIsHedged() throws OpenemsNamedException {
+		var primary = new DummyTimedata("timedata0", 10_000, result(1));
+		var secondary = new DummyTimedata("timedata1", 0, result(2));
+		this.create(50, primary, secondary);
+
+		var start = System.currentTimeMillis();
+		assertEquals(2, this.query());
+		assertTrue(System.currentTimeMillis() - start < 5_000);
+		assertEquals(1, primary.getQueries());
+		assertEquals(1, secondary.getQueries());
+		assertEquals(1L, this.sut.debugMetrics().get("Core.TimedataManager/QueryHedged").getAsLong());
+	}
+
+	@Test
+	public void testFirstNonNullWins() throws OpenemsNamedException {
+		var primary = new DummyTimedata("timedata0", 0, null);
+		var secondary = new DummyTimedata("timedata1", 200, result(2));
+		var tertiary = new DummyTimedata("timedata2", 0, result(3));
+		this.create(1_000, primary, secondary, tertiary);
+
+		// 'timedata0' returns null -> 'timedata1' is asked without hedging
+		assertEquals(2, this.query());
+		assertEquals(0, tertiary.getQueries());
+		assertEquals(0L, this.sut.debugMetrics().get("Core.TimedataManager/QueryHedged").getAsLong());
+	}
+
+	@Test
+	public void testSequential() throws OpenemsNamedException {
+		var primary = new DummyTimedata("timedata0", 200, null);
+		var secondary = new DummyTimedata("timedata1", 200, result(2));
+		this.create(-1, primary, secondary);
+
+		assertEquals(2, this.query());
+		assertEquals(1, primary.getQueries());
+		assertEquals(1, secondary.getQueries());
+		assertEquals(0L, this.sut.debugMetrics().get("Core.TimedataManager/QueryHedged").getAsLong());
+	}
+
+	@Test
+	public void testParallel() throws OpenemsNamedException {
+		var primary = new DummyTimedata("timedata0", 10_000, result(1));
+		var secondary = new DummyTimedata("timedata1", 0, result(2));
+		this.create(0, primary, secondary);
+
+		var start = System.currentTimeMillis();
+		assertEquals(2, this.query());
+		assertTrue(System.currentTimeMillis() - start < 5_000);
+		assertEquals(1, primary.getQueries());
+		assertEquals(1L, this.sut.debugMetrics().get("Core.TimedataManager/QueryHedged").getAsLong());
+	}
+
+	@Test
+	public void testNoResult() {
+		this.create(0, new DummyTimedata("timedata0"), new DummyTimedata("timedata1"));
+		try {
+			this.query();
+			fail();
+		} catch (OpenemsNamedException e) {
+			assertTrue(e instanceof OpenemsException);
+		}
+	}
+
+	@Test
+	public void testReplaceWriterAwaitsRunningWrite() throws InterruptedException {
+		var timedata = new DummyTimedata("timedata0");
+		this.create(1_000, timedata);
+		timedata.blockWrites();
+		this.sut.write("edge0", (TimestampedDataNotification) null);
+		timedata.awaitStartedWrite();
+		this.sut.write("edge1", (TimestampedDataNotification) null);
+
+		// Changing the queue size replaces the writer after the running write
+		var modify = new Thread(() -> this.sut.activate(MyConfig.create() //
+				.setTimedataIds("timedata0") //
+				.setWriteQueueSize(100) //
+				.build()));
+		modify.start();
+
+		// Waits for the old writer in Thread#join(long)
+		while (modify.getState() != Thread.State.TIMED_WAITING) {
+			assertTrue(modify.isAlive());
+			Thread.yield();
+		}
+		assertEquals(List.of(), timedata.getWrites());
+		timedata.unblockWrites();
+		modify.join();
+
+		timedata.awaitWrites(2);
+		assertEquals(List.of("edge0", "edge1"), timedata.getWrites());
+		assertFalse(timedata.hadConcurrentWrites());
+	}
+
+	@Test
+	public void testDeactivateDrainsWriters() throws InterruptedException {
+		var timedata = new DummyTimedata("timedata0");
+		this.create(1_000, timedata);
+		timedata.blockWrites();
+		this.sut.write("edge0", (TimestampedDataNotification) null);
+		timedata.awaitStartedWrite();
+		this.sut.write("edge1", (TimestampedDataNotification) null);
+		this.sut.write("edge2", (TimestampedDataNotification) null);
+
+		// Pending writes are not lost on shutdown
+		timedata.unblockWrites();
+		this.sut.deactivate();
+		assertEquals(List.of("edge0", "edge1", "edge2"), timedata.getWrites());
+		assertFalse(timedata.hadConcurrentWrites());
+	}
+
+}
@@ -0,0 +1,209 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class TimedataWriterTest {
+
+	private final DummyTimedata timedata = new DummyTimedata("timedata0");
+	private TimedataWriter sut;
+
+	private static void offer(TimedataWriter writer, String edgeId) {
+		writer.offer(edgeId, t -> t.write(edgeId, (TimestampedDataNotification) null));
+	}
+
+	/**
+	 * Waits until the {@link DummyTimedata} has finished the given number of
+	 * writes and the worker thread has stopped, so that all counters are final.
+	 * 
+	 * @param writer the {@link TimedataWriter}
+	 * @param count  the number of writes
+	 * @throws InterruptedException on interrupt
+	 */
+	private void awaitWritten(TimedataWriter writer, int count) throws InterruptedException {
+		this.timedata.awaitWrites(count);
+		assertTrue(writer.deactivateAndAwait(5_000));
+	}
+
+	/**
+	 * Waits until the thread is blocked in a timed wait, e.g. in
+	 * {@link java.util.concurrent.BlockingQueue#offer(Object, long,
+	 * java.util.concurrent.TimeUnit)}.
+	 * 
+	 * @param thread the {@link Thread}
+	 */
+	private static void awaitTimedWaiting(Thread thread) {
+		while (thread.getState() != Thread.State.TIMED_WAITING) {
+			assertTrue(thread.isAlive());
+			Thread.yield();
+		}
+	}
+
+	private static long metric(TimedataWriter writer, String key) {
+		return writer.debugMetrics().get(key).longValue();
+	}
+
+	/**
+	 * Starts a {@link TimedataWriter} with a blocked write of 'edge0' and the
+	 * given Edge-IDs in the queue.
+	 *
+	 * @param queueSize the queue size
+	 * @param policy    the {@link WriteQueuePolicy}
+	 * @param edgeIds   the Edge-IDs
+	 * @return the {@link TimedataWriter}
+	 * @throws InterruptedException on interrupt
+	 */
+	private TimedataWriter startBlocked(int queueSize, WriteQueuePolicy policy, String... edgeIds)
+			throws InterruptedException {
+		this.timedata.blockWrites();
+		this.sut = new TimedataWriter(this.timedata, queueSize, policy, 50);
+		this.sut.activate();
+		offer(this.sut, "edge0");
+		this.timedata.awaitStartedWrite();
+		for (var edgeId : edgeIds) {
+			offer(this.sut, edgeId);
+		}
+		return this.sut;
+	}
+
+	@After
+	public void after() {
+		this.timedata.unblockWrites();
+		if (this.sut != null) {
+			this.sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testDropOldest() throws InterruptedException {
+		var sut = this.startBlocked(2, WriteQueuePolicy.DROP_OLDEST, "edge1", "edge2", "edge3");
+		assertEquals(2, metric(sut, "WriteQueueSize"));
+		assertEquals(1, metric(sut, "WriteDropped"));
+
+		this.timedata.unblockWrites();
+		this.awaitWritten(sut, 3);
+		assertEquals(List.of("edge0", "edge2", "edge3"), this.timedata.getWrites());
+		assertEquals(0, metric(sut, "WriteQueueSize"));
+		assertEquals(0, sut.getLagMillis());
+	}
+
+	@Test
+	public void testDropNewest() throws InterruptedException {
+		var sut = this.startBlocked(2, WriteQueuePolicy.DROP_NEWEST, "edge1", "edge2", "edge3");
+		assertEquals(1, metric(sut, "WriteDropped"));
+
+		this.timedata.unblockWrites();
+		this.awaitWritten(sut, 3);
+		assertEquals(List.of("edge0", "edge1", "edge2"), this.timedata.getWrites());
+	}
+
+	@Test
+	public void testBackpressure() throws InterruptedException {
+		var sut = this.startBlocked(2, WriteQueuePolicy.BACKPRESSURE, "edge1", "edge2");
+
+		// Queue is full -> wait for the timeout, then drop
+		var start = System.nanoTime();
+		offer(sut, "edge3");
+		assertTrue(System.nanoTime() - start >= 40_000_000L);
+		assertEquals(1, metric(sut, "WriteDropped"));
+
+		// Free space within the timeout -> not dropped
+		sut.setPolicy(WriteQueuePolicy.BACKPRESSURE, 5_000);
+		var producer = new Thread(() -> offer(sut, "edge4"));
+		producer.start();
+		awaitTimedWaiting(producer);
+		this.timedata.unblockWrites();
+		producer.join();
+
+		this.awaitWritten(sut, 4);
+		assertEquals(List.of("edge0", "edge1", "edge2", "edge4"), this.timedata.getWrites());
+		assertEquals(1, metric(sut, "WriteDropped"));
+	}
+
+	@Test
+	public void testTransferTo() throws InterruptedException {
+		var source = new TimedataWriter(this.timedata, 10, WriteQueuePolicy.DROP_OLDEST, 50);
+		offer(source, "edge0");
+		offer(source, "edge1");
+		offer(source, "edge2");
+
+		// Target is smaller -> applies its own policy
+		this.sut = new TimedataWriter(this.timedata, 2, WriteQueuePolicy.DROP_OLDEST, 50);
+		source.transferTo(this.sut);
+		assertEquals(0, metric(source, "WriteQueueSize"));
+		assertEquals(2, metric(this.sut, "WriteQueueSize"));
+		assertEquals(1, metric(this.sut, "WriteDropped"));
+		assertEquals(2, this.sut.getQueueCapacity());
+
+		this.sut.activate();
+		this.awaitWritten(this.sut, 2);
+		assertEquals(List.of("edge1", "edge2"), this.timedata.getWrites());
+	}
+
+	@Test
+	public void testCounters() throws InterruptedException {
+		this.sut = new TimedataWriter(this.timedata, 10, WriteQueuePolicy.DROP_OLDEST, 50);
+		offer(this.sut, "edge0");
+		this.sut.offer("edge1", t -> {
+			throw new OpenemsException("failed");
+		});
+		this.sut.offer("edge2", t -> {
+			throw new IllegalStateException("failed");
+		});
+		offer(this.sut, "edge3");
+		this.sut.activate();
+
+		this.awaitWritten(this.sut, 2);
+		assertEquals(2, metric(this.sut, "WriteWritten"));
+		assertEquals(2, metric(this.sut, "WriteFailed"));
+		assertEquals(List.of("edge0", "edge3"), this.timedata.getWrites());
+		assertEquals(0, metric(this.sut, "WriteDropped"));
+		assertEquals("timedata0:0/10|Lag:0ms|Dropped:0|Failed:2", this.sut.debugLog());
+	}
+
+	@Test
+	public void testDeactivateAndAwait() throws InterruptedException {
+		var sut = this.startBlocked(10, WriteQueuePolicy.DROP_OLDEST, "edge1");
+
+		// Running write does not react on interrupt
+		assertFalse(sut.deactivateAndAwait(50));
+		this.timedata.unblockWrites();
+		assertTrue(sut.deactivateAndAwait(5_000));
+		assertEquals(List.of("edge0"), this.timedata.getWrites());
+		assertEquals(1, metric(sut, "WriteQueueSize"));
+	}
+
+	@Test
+	public void testDrain() throws InterruptedException {
+		var sut = this.startBlocked(10, WriteQueuePolicy.DROP_OLDEST, "edge1", "edge2");
+		this.timedata.unblockWrites();
+
+		// Pending writes are written in the calling thread
+		assertEquals(0, sut.drain(5_000));
+		assertEquals(List.of("edge0", "edge1", "edge2"), this.timedata.getWrites());
+		assertEquals(0, metric(sut, "WriteQueueSize"));
+	}
+
+	@Test
+	public void testDrainTimeout() throws InterruptedException {
+		var sut = this.startBlocked(10, WriteQueuePolicy.DROP_OLDEST, "edge1", "edge2");
+
+		// Running write does not finish -> pending writes are dropped
+		assertEquals(2, sut.drain(50));
+		assertEquals(2, metric(sut, "WriteDropped"));
+		assertEquals(0, metric(sut, "WriteQueueSize"));
+		this.timedata.unblockWrites();
+		this.timedata.awaitWrites(1);
+		assertEquals(List.of("edge0"), this.timedata.getWrites());
+	}
+
+}
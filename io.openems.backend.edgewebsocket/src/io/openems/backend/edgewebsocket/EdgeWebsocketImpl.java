@@ -51,6 +51,7 @@ import io.openems.common.jsonrpc.request.AuthenticatedRpcRequest;
 import io.openems.common.jsonrpc.request.SubscribeSystemLogRequest;
 import io.openems.common.jsonrpc.response.AuthenticatedRpcResponse;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.websocket.WebsocketCompression;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -112,7 +113,8 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	private synchronized void startServer() {
 		if (this.server == null) {
 			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
-					this.config.debugMode());
+					this.config.debugMode(), new WebsocketCompression(this.config.compression(),
+							this.config.compressionThreshold(), this.config.compressionContextTakeover()));
 			this.server.start();
 		}
 	}
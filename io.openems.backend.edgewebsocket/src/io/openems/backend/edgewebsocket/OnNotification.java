@@ -1,14 +1,11 @@
 package io.openems.backend.edgewebsocket;
 
-import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonElement;
-
 import io.openems.backend.common.metadata.Edge.Events;
 import io.openems.common.channel.Level;
 import io.openems.common.event.EventBuilder;
@@ -24,7 +21,6 @@ import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.SemanticVersion;
-import io.openems.common.utils.JsonUtils;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
@@ -139,20 +135,21 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 
 		// Read some specific channels
 		var edge = this.parent.metadata.getEdgeOrError(edgeId);
-		for (Entry<String, JsonElement> entry : message.getParams().entrySet()) {
-			var d = JsonUtils.getAsJsonObject(entry.getValue());
+		for (var d : message.getData().rowMap().values()) {
 
 			// set specific Edge values
-			if (d.has("_sum/State") && d.get("_sum/State").isJsonPrimitive()) {
-				var sumState = Level.fromJson(d, "_sum/State").orElse(Level.FAULT);
+			var sumStateElement = d.get("_sum/State");
+			if (sumStateElement != null && sumStateElement.isJsonPrimitive()) {
+				var sumState = Level.fromJson(sumStateElement).orElse(Level.FAULT);
 				EventBuilder.from(this.parent.eventAdmin, Events.ON_SET_SUM_STATE)
 						.addArg(Events.OnSetSumState.EDGE, edge) //
 						.addArg(Events.OnSetSumState.SUM_STATE, sumState) //
 						.send();
 			}
 
-			if (d.has("_meta/Version") && d.get("_meta/Version").isJsonPrimitive()) {
-				var version = JsonUtils.getAsPrimitive(d, "_meta/Version").getAsString();
+			var versionElement = d.get("_meta/Version");
+			if (versionElement != null && versionElement.isJsonPrimitive()) {
+				var version = versionElement.getAsString();
 				edge.setVersion(SemanticVersion.fromString(version));
 			}
 
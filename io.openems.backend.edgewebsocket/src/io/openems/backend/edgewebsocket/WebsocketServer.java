@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -14,6 +15,9 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.slf4j.Logger;
 
 import com.google.gson.JsonElement;
@@ -27,6 +31,8 @@ import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.SystemLog;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.BinaryDataCodec;
+import io.openems.common.websocket.WebsocketCompression;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
@@ -37,8 +43,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode) {
-		super(name, port, poolSize, debugMode);
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode,
+			WebsocketCompression compression) {
+		super(name, port, poolSize, debugMode, compression);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -130,6 +137,27 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		throw new OpenemsException("EdgeWs. handleNonJsonrpcMessage", lastException);
 	}
 
+	@Override
+	protected void handleHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+		// Confirm binary data notifications if offered by the Edge
+		if (BinaryDataCodec.PROTOCOL_VERSION.equals(request.getFieldValue(BinaryDataCodec.HANDSHAKE_HEADER))) {
+			response.put(BinaryDataCodec.HANDSHAKE_HEADER, BinaryDataCodec.PROTOCOL_VERSION);
+		}
+	}
+
+	@Override
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer binaryMessage) throws OpenemsNamedException {
+		WsData wsData = ws.getAttachment();
+		try {
+			return wsData.binaryDataDecoder.decode(binaryMessage);
+
+		} catch (OpenemsNamedException e) {
+			// Decoder state is out of sync; Edge resends everything after reconnect
+			ws.close(CloseFrame.PROTOCOL_ERROR, "Invalid binary data");
+			throw e;
+		}
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		this.parent.logInfo(log, message);
@@ -11,6 +11,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.utils.StringUtils;
+import io.openems.common.websocket.BinaryDataCodec;
 
 public class WsData extends io.openems.common.websocket.WsData {
 
@@ -22,6 +23,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
+	public final BinaryDataCodec.Decoder binaryDataDecoder = new BinaryDataCodec.Decoder();
 
 	/**
 	 * Asserts that the Edge-ID is available (i.e. properly authenticated).
@@ -8,9 +8,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
-import com.influxdb.client.write.Point;
 import com.influxdb.exceptions.InfluxException;
 
+import io.openems.shared.influxdb.LineProtocolEncoder;
+
 /**
  * Handles Influx FieldTypeConflictExceptions. This helper provides conversion
  * functions to provide the correct field types for InfluxDB.
@@ -22,7 +23,7 @@ public class FieldTypeConflictHandler {
 
 	private final Logger log = LoggerFactory.getLogger(FieldTypeConflictHandler.class);
 	private final TimedataInfluxDb parent;
-	private final ConcurrentHashMap<String, BiConsumer<Point, JsonElement>> specialCaseFieldHandlers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, BiConsumer<LineProtocolEncoder, JsonElement>> specialCaseFieldHandlers = new ConcurrentHashMap<>();
 
 	public FieldTypeConflictHandler(TimedataInfluxDb parent) {
 		this.parent = parent;
@@ -74,7 +75,7 @@ public class FieldTypeConflictHandler {
 		STRING, INTEGER, FLOAT;
 	}
 
-	private BiConsumer<Point, JsonElement> createAndAddHandler(String field, RequiredType requiredType)
+	private BiConsumer<LineProtocolEncoder, JsonElement> createAndAddHandler(String field, RequiredType requiredType)
 			throws IllegalStateException {
 		var handler = this.createHandler(field, requiredType);
 		if (this.specialCaseFieldHandlers.put(field, handler) != null) {
@@ -84,14 +85,14 @@ public class FieldTypeConflictHandler {
 	}
 
 	/**
-	 * Creates a Handler for the given field, to convert a Point to a
+	 * Creates a Handler for the given field, to encode a value as
 	 * 'requiredType'.
 	 * 
 	 * @param field        the field name, i.e. the Channel-Address
 	 * @param requiredType the {@link RequiredType}
 	 * @return the Handler
 	 */
-	private BiConsumer<Point, JsonElement> createHandler(String field, RequiredType requiredType) {
+	private BiConsumer<LineProtocolEncoder, JsonElement> createHandler(String field, RequiredType requiredType) {
 		switch (requiredType) {
 		case STRING:
 			return (builder, jValue) -> {
@@ -203,7 +204,7 @@ public class FieldTypeConflictHandler {
 	 * @param field the Field
 	 * @return the handler or null
 	 */
-	public BiConsumer<Point, JsonElement> getHandler(String field) {
+	public BiConsumer<LineProtocolEncoder, JsonElement> getHandler(String field) {
 		return this.specialCaseFieldHandlers.get(field);
 	}
 }
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -26,8 +27,6 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
-import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
 import io.openems.backend.common.debugcycle.DebugLoggable;
@@ -46,6 +45,7 @@ import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.StringUtils;
 import io.openems.shared.influxdb.InfluxConnector;
+import io.openems.shared.influxdb.LineProtocolEncoder;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -74,6 +74,10 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	// edgeId, channelIds which are timestamped channels
 	private final Multimap<Integer, String> timestampedChannelsForEdge = HashMultimap.create();
 
+	// edgeId, escaped 'measurement,tag=edgeId ' line prefix
+	private final Map<Integer, String> linePrefixForEdge = new ConcurrentHashMap<>();
+	private final ThreadLocal<LineProtocolEncoder> encoder = ThreadLocal.withInitial(LineProtocolEncoder::new);
+
 	public TimedataInfluxDb() {
 		super("Timedata.InfluxDB");
 		this.fieldTypeConflictHandler = new FieldTypeConflictHandler(this);
@@ -119,6 +123,7 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				try {
 					var influxEdgeId = InfluxConnector.parseNumberFromName(edgeId);
 					this.timestampedChannelsForEdge.removeAll(influxEdgeId);
+					this.linePrefixForEdge.remove(influxEdgeId);
 				} catch (OpenemsException e) {
 					e.printStackTrace();
 				}
@@ -200,6 +205,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 			return;
 		}
 
+		final var linePrefix = this.linePrefixForEdge.computeIfAbsent(influxEdgeId, id -> LineProtocolEncoder
+				.linePrefix(this.config.measurement(), this.oem.getInfluxdbTag(), String.valueOf(id)));
+		final var encoder = this.encoder.get();
+		encoder.reset();
+
 		for (var dataEntry : dataEntries) {
 			var channelEntries = dataEntry.getValue().entrySet();
 			if (channelEntries.isEmpty()) {
@@ -214,23 +224,21 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				continue;
 			}
 
-			// this builds an InfluxDB record ("point") for a given timestamp
-			var point = Point //
-					.measurement(this.config.measurement()) //
-					.addTag(this.oem.getInfluxdbTag(), String.valueOf(influxEdgeId)) //
-					.time(timestamp, WritePrecision.MS);
+			// this encodes an InfluxDB record ("line") for a given timestamp
+			encoder.beginLine(linePrefix);
 			for (var channelEntry : channelEntries) {
 				if (!shouldWriteValue.apply(influxEdgeId, channelEntry.getKey())) {
 					continue;
 				}
 				this.addValue(//
-						point, //
+						encoder, //
 						channelEntry.getKey(), //
 						channelEntry.getValue());
 			}
-
-			this.influxConnector.write(point);
+			encoder.endLine(timestamp);
 		}
+
+		this.influxConnector.write(encoder);
 	}
 
 	@Override
@@ -278,11 +286,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	/**
 	 * Adds the value in the correct data format for InfluxDB.
 	 *
-	 * @param builder the Influx PointBuilder
+	 * @param builder the {@link LineProtocolEncoder}
 	 * @param field   the field name
 	 * @param element the value
 	 */
-	private void addValue(Point builder, String field, JsonElement element) {
+	private void addValue(LineProtocolEncoder builder, String field, JsonElement element) {
 		if (element == null || element.isJsonNull() //
 				|| !isAllowed(field) // Channel-Address is not allowed/blacklisted
 				// already handled by special case handling
@@ -356,12 +364,12 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	 * E.g. to avoid errors like "field type conflict: input field XYZ on
 	 * measurement "data" is type integer, already exists as type string"
 	 *
-	 * @param builder the InfluxDB Builder
+	 * @param builder the {@link LineProtocolEncoder}
 	 * @param field   the fieldName, i.e. the ChannelAddress
 	 * @param value   the value, guaranteed to be not-null and not JsonNull.
 	 * @return true if field was handled; false otherwise
 	 */
-	private boolean specialCaseFieldHandling(Point builder, String field, JsonElement value) {
+	private boolean specialCaseFieldHandling(LineProtocolEncoder builder, String field, JsonElement value) {
 		var handler = this.fieldTypeConflictHandler.getHandler(field);
 		if (handler == null) {
 			// no special handling exists for this field
@@ -1,7 +1,10 @@
 package io.openems.backend.timedata.timescaledb;
 
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.Executors;
@@ -18,8 +21,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.timedata.timescaledb.internal.read.TimescaledbReadHandler;
@@ -38,7 +43,7 @@ import io.openems.common.utils.ThreadPoolUtils;
 		configurationPolicy = ConfigurationPolicy.REQUIRE, //
 		immediate = true //
 )
-public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent implements Timedata {
+public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent implements Timedata, DebugLoggable {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataTimescaleDb.class);
 
@@ -119,6 +124,20 @@ public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent impleme
 		return this.timescaledbReadHandler.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution);
 	}
 
+	@Override
+	public String debugLog() {
+		// Logged by 'debugLogExecutor'
+		return null;
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		return this.timescaledbWriteHandler.debugMetrics().entrySet().stream() //
+				.collect(toUnmodifiableMap(//
+						e -> this.id() + "/" + e.getKey(), //
+						e -> new JsonPrimitive(e.getValue())));
+	}
+
 	@Override
 	public String id() {
 		return this.config.id();
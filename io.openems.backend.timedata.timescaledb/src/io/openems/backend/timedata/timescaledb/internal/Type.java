@@ -4,15 +4,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.function.Consumer;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
-import de.bytefish.pgbulkinsert.row.SimpleRow;
-import de.bytefish.pgbulkinsert.row.SimpleRowWriter;
-import io.openems.backend.timedata.timescaledb.internal.write.Point;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.function.ThrowingBiFunction;
 import io.openems.common.types.OpenemsType;
@@ -76,22 +72,6 @@ public enum Type {
 		return this.prefix + "_" + priority.getTableSuffix();
 	}
 
-	/**
-	 * Fills a PgBulkInsert Row-Writer with data (timestamp, channel_id and value).
-	 * 
-	 * @param point the {@link Point} holding data
-	 * @return a {@link Consumer} as required by
-	 *         {@link SimpleRowWriter#startRow(Consumer)}
-	 * @throws Exception on error
-	 */
-	public Consumer<SimpleRow> fillRow(Point point) {
-		return row -> {
-			row.setTimeStampTz(0 /* index of 'time' column */, point.timestamp);
-			row.setInteger(1 /* index of 'channel_id' column */, point.channelId);
-			point.addToSimpleRow(row, 2 /* index of 'value' column */);
-		};
-	}
-
 	/**
 	 * Parses a value from a {@link ResultSet} to {@link JsonElement}.
 	 * 
@@ -1,6 +1,5 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -20,16 +19,19 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	private final ExecutorService executor;
 	private final Type type;
 	private final Priority priority;
+	private final WriteStatistics statistics;
 	// TODO queue: delete old entries if full; like an EvictingQueue;
 	// https://github.com/google/guava/issues/3882
 	private final BlockingQueue<POINT> queue = new ArrayBlockingQueue<>(TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
 	private long countPoints = 0;
 
-	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
+	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+			WriteStatistics statistics) {
 		this.dataSource = dataSource;
 		this.executor = executor;
 		this.type = type;
 		this.priority = priority;
+		this.statistics = statistics;
 	}
 
 	public BlockingQueue<POINT> getQueue() {
@@ -41,7 +43,7 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		/**
 		 * This task merges single Points to Lists of Points, which are then sent to
 		 * TimescaleDB. This approach improves speed as not every single Point gets sent
-		 * via HTTP individually.
+		 * individually.
 		 */
 		// Poll and merge Points. Wait max 10 seconds in total.
 		var points = pollAndMergePoints(this.queue);
@@ -52,13 +54,23 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 
 		this.countPoints += points.size();
 
-		// Write points async.
-		this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority, points));
+		// Write points async; in parallel COPY streams of max MAX_POINTS_PER_WRITE
+		var streams = (points.size() + TimescaledbWriteHandler.MAX_POINTS_PER_WRITE - 1)
+				/ TimescaledbWriteHandler.MAX_POINTS_PER_WRITE;
+		for (var i = 0; i < streams; i++) {
+			var from = i * points.size() / streams;
+			var to = (i + 1) * points.size() / streams;
+			this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority,
+					PointColumns.from(this.type, points, from, to), this.statistics));
+		}
 	}
 
 	/**
 	 * Poll and merge Points. Wait max 10 seconds in total.
 	 * 
+	 * <p>
+	 * Waits for the first Point, then drains all available Points in bulk.
+	 * 
 	 * @param <POINT> the type of the Point
 	 * @param queue   the Queue of Points
 	 * @return a list of Points
@@ -66,17 +78,19 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	 */
 	private static <POINT extends Point> List<Point> pollAndMergePoints(BlockingQueue<POINT> queue)
 			throws InterruptedException {
-		final Instant maxWait = Instant.now().plusSeconds(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT);
+		final var maxPoints = TimescaledbWriteHandler.MAX_POINTS_PER_WRITE
+				* TimescaledbWriteHandler.MAX_COPY_STREAMS_PER_TABLE;
+		final var maxWait = System.nanoTime() + TimeUnit.SECONDS.toNanos(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT);
 		List<Point> points = new ArrayList<>(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < TimescaledbWriteHandler.MAX_POINTS_PER_WRITE; i++) {
-			var point = queue.poll(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
-			if (point == null) {
-				break;
-			}
+		var point = queue.poll(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
+		while (point != null) {
 			points.add(point);
-			if (Instant.now().isAfter(maxWait)) {
+			queue.drainTo(points, maxPoints - points.size());
+			var remaining = maxWait - System.nanoTime();
+			if (points.size() >= maxPoints || remaining <= 0) {
 				break;
 			}
+			point = queue.poll(remaining, TimeUnit.NANOSECONDS);
 		}
 		return points;
 	}
@@ -2,8 +2,6 @@ package io.openems.backend.timedata.timescaledb.internal.write;
 
 import java.time.ZonedDateTime;
 
-import de.bytefish.pgbulkinsert.row.SimpleRow;
-
 public abstract class Point {
 
 	public final int channelId;
@@ -24,8 +22,8 @@ public abstract class Point {
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setLong(column, this.value);
+		protected void addToColumns(PointColumns columns, int row) {
+			columns.longValues[row] = this.value;
 		}
 
 		@Override
@@ -44,8 +42,8 @@ public abstract class Point {
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setDouble(column, this.value);
+		protected void addToColumns(PointColumns columns, int row) {
+			columns.doubleValues[row] = this.value;
 		}
 
 		@Override
@@ -64,8 +62,8 @@ public abstract class Point {
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setText(column, this.value);
+		protected void addToColumns(PointColumns columns, int row) {
+			columns.stringValues[row] = this.value;
 		}
 
 		@Override
@@ -75,11 +73,11 @@ public abstract class Point {
 	}
 
 	/**
-	 * Adds the Point to a {@link SimpleRow} for pgBulkInsert.
+	 * Adds the value of the Point to the value column of {@link PointColumns}.
 	 * 
-	 * @param row    the {@link SimpleRow}
-	 * @param column the index of the column in the SimpleRow
+	 * @param columns the {@link PointColumns}
+	 * @param row     the index of the row
 	 */
-	public abstract void addToSimpleRow(SimpleRow row, int column);
+	protected abstract void addToColumns(PointColumns columns, int row);
 
 }
\ No newline at end of file
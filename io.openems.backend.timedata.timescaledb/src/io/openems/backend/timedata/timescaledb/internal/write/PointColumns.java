@@ -0,0 +1,69 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import io.openems.backend.timedata.timescaledb.internal.Type;
+
+/**
+ * Holds a batch of {@link Point}s of one {@link Type} in primitive column
+ * buffers, ready to be streamed via binary COPY.
+ */
+public class PointColumns {
+
+	/** 2000-01-01T00:00:00Z - the PostgreSQL epoch - in Unix microseconds. */
+	private static final long POSTGRES_EPOCH_MICROS = 946_684_800_000_000L;
+
+	protected final Type type;
+	protected final int size;
+
+	/** Timestamps in microseconds since the PostgreSQL epoch. */
+	protected final long[] times;
+	protected final int[] channelIds;
+	protected final long[] longValues;
+	protected final double[] doubleValues;
+	protected final String[] stringValues;
+
+	private PointColumns(Type type, int size) {
+		this.type = type;
+		this.size = size;
+		this.times = new long[size];
+		this.channelIds = new int[size];
+		this.longValues = type == Type.INTEGER ? new long[size] : null;
+		this.doubleValues = type == Type.FLOAT ? new double[size] : null;
+		this.stringValues = type == Type.STRING ? new String[size] : null;
+	}
+
+	/**
+	 * Copies a range of {@link Point}s to a new {@link PointColumns}.
+	 * 
+	 * @param type   the {@link Type} of all Points
+	 * @param points the list of {@link Point}s
+	 * @param from   the index of the first Point, inclusive
+	 * @param to     the index of the last Point, exclusive
+	 * @return the {@link PointColumns}
+	 */
+	public static PointColumns from(Type type, List<? extends Point> points, int from, int to) {
+		var result = new PointColumns(type, to - from);
+		for (var i = from; i < to; i++) {
+			var point = points.get(i);
+			var row = i - from;
+			result.times[row] = toPostgresMicros(point.timestamp);
+			result.channelIds[row] = point.channelId;
+			point.addToColumns(result, row);
+		}
+		return result;
+	}
+
+	/**
+	 * Converts a timestamp to microseconds since the PostgreSQL epoch, as
+	 * required by the binary format of 'timestamptz'.
+	 * 
+	 * @param timestamp the timestamp
+	 * @return the microseconds
+	 */
+	protected static long toPostgresMicros(ZonedDateTime timestamp) {
+		return timestamp.toEpochSecond() * 1_000_000L + timestamp.getNano() / 1_000 - POSTGRES_EPOCH_MICROS;
+	}
+
+}
@@ -80,25 +80,27 @@ public abstract class QueueHandler<T extends Point> {
 	 * @param priority   the priority of the handler
 	 * @param dataSource the dataSource to get database connections
 	 * @param executor   the executor to execute writes
+	 * @param statistics the {@link WriteStatistics}
 	 * @return the handler
 	 */
 	public static QueueHandler<?> of(Type type, Priority priority, HikariDataSource dataSource,
-			ExecutorService executor) {
+			ExecutorService executor, WriteStatistics statistics) {
 		switch (type) {
 		case INTEGER:
-			return new IntQueueHandler(dataSource, executor, type, priority);
+			return new IntQueueHandler(dataSource, executor, type, priority, statistics);
 		case FLOAT:
-			return new FloatQueueHandler(dataSource, executor, type, priority);
+			return new FloatQueueHandler(dataSource, executor, type, priority, statistics);
 		case STRING:
-			return new StringQueueHandler(dataSource, executor, type, priority);
+			return new StringQueueHandler(dataSource, executor, type, priority, statistics);
 		}
 		return null;
 	}
 
 	public static class IntQueueHandler extends QueueHandler<IntPoint> {
 
-		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority), IntPoint.class);
+		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				WriteStatistics statistics) {
+			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority, statistics), IntPoint.class);
 		}
 
 		@Override
@@ -115,8 +117,9 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class FloatQueueHandler extends QueueHandler<FloatPoint> {
 
-		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority), FloatPoint.class);
+		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				WriteStatistics statistics) {
+			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority, statistics), FloatPoint.class);
 		}
 
 		@Override
@@ -133,8 +136,9 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class StringQueueHandler extends QueueHandler<StringPoint> {
 
-		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority), StringPoint.class);
+		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+				WriteStatistics statistics) {
+			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority, statistics), StringPoint.class);
 		}
 
 		@Override
@@ -2,6 +2,7 @@ package io.openems.backend.timedata.timescaledb.internal.write;
 
 import java.sql.SQLException;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -34,7 +35,8 @@ import io.openems.common.worker.AbstractWorker;
 public class TimescaledbWriteHandler {
 
 	public static final int POINTS_QUEUE_SIZE = 1_000_000;
-	public static final int MAX_POINTS_PER_WRITE = 10_000;
+	public static final int MAX_POINTS_PER_WRITE = 10_000; // per COPY stream
+	public static final int MAX_COPY_STREAMS_PER_TABLE = 4;
 	public static final int MAX_AGGREGATE_WAIT = 10; // [s]
 
 	private final Logger log = LoggerFactory.getLogger(TimescaledbWriteHandler.class);
@@ -51,6 +53,8 @@ public class TimescaledbWriteHandler {
 
 	private final boolean isReadOnly;
 
+	private final WriteStatistics statistics = new WriteStatistics();
+
 	private final HashSet<String> enableWriteEdgeIds = new HashSet<>();
 
 	// #1 step: split data to points
@@ -75,7 +79,7 @@ public class TimescaledbWriteHandler {
 		for (var type : Type.values()) {
 			for (var priority : Priority.values()) {
 				this.queueHandler.put(type, priority, //
-						QueueHandler.of(type, priority, this.dataSource, this.executor));
+						QueueHandler.of(type, priority, this.dataSource, this.executor, this.statistics));
 			}
 		}
 
@@ -154,7 +158,11 @@ public class TimescaledbWriteHandler {
 	 * @return metrics
 	 */
 	public Map<String, Number> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor);
+		var result = new HashMap<String, Number>(ThreadPoolUtils.debugMetrics(this.executor));
+		result.put("PointsPerSecond", this.statistics.getPointsPerSecondSinceLastCall());
+		result.put("PointsWritten", this.statistics.getWrittenPoints());
+		result.put("PointsFailed", this.statistics.getFailedPoints());
+		return result;
 	}
 
 	private boolean enableWriteToTimescaledb(String edgeId) {
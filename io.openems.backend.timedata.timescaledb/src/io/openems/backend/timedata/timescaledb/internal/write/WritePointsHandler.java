@@ -1,61 +1,133 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
-import java.util.List;
 
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zaxxer.hikari.HikariDataSource;
 
-import de.bytefish.pgbulkinsert.row.SimpleRowWriter;
-import de.bytefish.pgbulkinsert.row.SimpleRowWriter.Table;
-import de.bytefish.pgbulkinsert.util.PostgreSqlUtils;
 import io.openems.backend.timedata.timescaledb.internal.Priority;
 import io.openems.backend.timedata.timescaledb.internal.Type;
 
+/**
+ * Writes {@link PointColumns} to a raw table with one binary COPY stream.
+ * 
+ * <p>
+ * Rows are encoded in the PostgreSQL binary COPY format directly from the
+ * primitive column buffers into a reusable byte buffer, which is sent to the
+ * server whenever it is full.
+ */
 public class WritePointsHandler implements Runnable {
 
+	protected static final int BUFFER_SIZE = 64 * 1024;
+
+	/** Signature, flags field and header extension length. */
+	private static final byte[] HEADER = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0, //
+			0, 0, 0, 0, //
+			0, 0, 0, 0 };
+
+	/** Field count, 'time', 'edge_channel_id' and a fixed-size 'value'. */
+	private static final int MAX_FIXED_ROW_SIZE = 2 + (4 + 8) + (4 + 4) + (4 + 8);
+
 	private final Logger log = LoggerFactory.getLogger(WritePointsHandler.class);
 
 	private final HikariDataSource dataSource;
-	private final Type type;
-	private final List<Point> points;
-	private final Table table;
+	private final String sql;
+	private final PointColumns columns;
+	private final WriteStatistics statistics;
 
-	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority, List<Point> points) {
+	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority, PointColumns columns,
+			WriteStatistics statistics) {
 		this.dataSource = dataSource;
-		this.type = type;
-		this.points = points;
-
-		this.table = new SimpleRowWriter.Table(null, type.getRawTableName(priority), new String[] { //
-				"time", //
-				"edge_channel_id", //
-				"value" //
-		});
+		this.columns = columns;
+		this.statistics = statistics;
+		this.sql = "COPY " + type.getRawTableName(priority) //
+				+ " (time, edge_channel_id, value) FROM STDIN (FORMAT BINARY)";
 	}
 
 	@Override
 	public void run() {
-		try (//
-				var con = this.dataSource.getConnection();
-				SimpleRowWriter writer = new SimpleRowWriter(this.table, PostgreSqlUtils.getPGConnection(con)) //
-		) {
-			for (var point : this.points) {
-				writer.startRow(this.type.fillRow(point));
+		try (var con = this.dataSource.getConnection()) {
+			var copyIn = con.unwrap(PGConnection.class).getCopyAPI().copyIn(this.sql);
+			try {
+				this.writeRows(copyIn);
+				copyIn.endCopy();
+			} finally {
+				if (copyIn.isActive()) {
+					copyIn.cancelCopy();
+				}
 			}
+			this.statistics.onWritten(this.columns.size);
 
 		} catch (SQLException e) {
 			// 'Expected errors', e.g. PostgreSQL server stopped
 			// -> short error log
+			this.statistics.onFailed(this.columns.size);
 			this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
 
 		} catch (Exception e) {
 			// 'Unexpected errors' -> long stacktrace
+			this.statistics.onFailed(this.columns.size);
 			this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
 			e.printStackTrace();
 
 		}
 	}
 
+	/**
+	 * Encodes all rows incl. file header and trailer and sends them to the
+	 * {@link CopyIn}.
+	 * 
+	 * @param copyIn the {@link CopyIn}
+	 * @throws SQLException on error
+	 */
+	protected void writeRows(CopyIn copyIn) throws SQLException {
+		final var c = this.columns;
+		final var buffer = ByteBuffer.allocate(BUFFER_SIZE); // big-endian
+		buffer.put(HEADER);
+		for (var i = 0; i < c.size; i++) {
+			if (buffer.remaining() < MAX_FIXED_ROW_SIZE) {
+				flush(copyIn, buffer);
+			}
+			buffer.putShort((short) 3); // number of fields
+			buffer.putInt(8).putLong(c.times[i]);
+			buffer.putInt(4).putInt(c.channelIds[i]);
+			switch (c.type) {
+			case INTEGER -> buffer.putInt(8).putLong(c.longValues[i]);
+			case FLOAT -> buffer.putInt(8).putDouble(c.doubleValues[i]);
+			case STRING -> {
+				var bytes = c.stringValues[i].getBytes(StandardCharsets.UTF_8);
+				if (buffer.remaining() < 4 + bytes.length) {
+					flush(copyIn, buffer);
+				}
+				buffer.putInt(bytes.length);
+				if (bytes.length > buffer.remaining()) {
+					// Larger than the buffer -> send directly
+					flush(copyIn, buffer);
+					copyIn.writeToCopy(bytes, 0, bytes.length);
+				} else {
+					buffer.put(bytes);
+				}
+			}
+			}
+		}
+		if (buffer.remaining() < 2) {
+			flush(copyIn, buffer);
+		}
+		buffer.putShort((short) -1); // file trailer
+		flush(copyIn, buffer);
+	}
+
+	private static void flush(CopyIn copyIn, ByteBuffer buffer) throws SQLException {
+		if (buffer.position() > 0) {
+			copyIn.writeToCopy(buffer.array(), 0, buffer.position());
+			buffer.clear();
+		}
+	}
+
 }
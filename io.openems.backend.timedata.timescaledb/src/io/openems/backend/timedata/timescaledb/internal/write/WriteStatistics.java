@@ -0,0 +1,62 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts written and failed Points of all {@link WritePointsHandler}s and
+ * calculates the achieved throughput.
+ */
+public class WriteStatistics {
+
+	private final LongAdder writtenPoints = new LongAdder();
+	private final LongAdder failedPoints = new LongAdder();
+
+	private long lastWrittenPoints = 0;
+	private long lastNanos = System.nanoTime();
+
+	/**
+	 * Records Points that were written successfully.
+	 * 
+	 * @param points the number of Points
+	 */
+	public void onWritten(int points) {
+		this.writtenPoints.add(points);
+	}
+
+	/**
+	 * Records Points that could not be written.
+	 * 
+	 * @param points the number of Points
+	 */
+	public void onFailed(int points) {
+		this.failedPoints.add(points);
+	}
+
+	public long getWrittenPoints() {
+		return this.writtenPoints.sum();
+	}
+
+	public long getFailedPoints() {
+		return this.failedPoints.sum();
+	}
+
+	/**
+	 * Gets the number of Points per second that were written since the last call
+	 * of this method.
+	 * 
+	 * @return the Points per second
+	 */
+	public synchronized long getPointsPerSecondSinceLastCall() {
+		var now = System.nanoTime();
+		var written = this.writtenPoints.sum();
+		var nanos = now - this.lastNanos;
+		var result = nanos > 0 //
+				? (written - this.lastWrittenPoints) * TimeUnit.SECONDS.toNanos(1) / nanos //
+				: 0;
+		this.lastNanos = now;
+		this.lastWrittenPoints = written;
+		return result;
+	}
+
+}
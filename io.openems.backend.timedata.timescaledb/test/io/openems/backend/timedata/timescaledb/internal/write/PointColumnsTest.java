@@ -0,0 +1,50 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.FloatPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
+
+public class PointColumnsTest {
+
+	private static final ZonedDateTime POSTGRES_EPOCH = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	@Test
+	public void testToPostgresMicros() {
+		assertEquals(0L, PointColumns.toPostgresMicros(POSTGRES_EPOCH));
+		assertEquals(1_500_000L, PointColumns.toPostgresMicros(POSTGRES_EPOCH.plusNanos(1_500_000_999)));
+		assertEquals(-1_000_000L, PointColumns.toPostgresMicros(POSTGRES_EPOCH.minusSeconds(1)));
+		assertEquals(0L, PointColumns.toPostgresMicros(//
+				ZonedDateTime.of(2000, 1, 1, 1, 0, 0, 0, ZoneId.of("Europe/Berlin"))));
+	}
+
+	@Test
+	public void testFrom() {
+		var points = List.of(//
+				new FloatPoint(1, POSTGRES_EPOCH, 1.5), //
+				new FloatPoint(2, POSTGRES_EPOCH.plusSeconds(1), 2.5), //
+				new FloatPoint(3, POSTGRES_EPOCH.plusSeconds(2), 3.5));
+		var sut = PointColumns.from(Type.FLOAT, points, 1, 3);
+
+		assertEquals(2, sut.size);
+		assertArrayEquals(new long[] { 1_000_000L, 2_000_000L }, sut.times);
+		assertArrayEquals(new int[] { 2, 3 }, sut.channelIds);
+		assertArrayEquals(new double[] { 2.5, 3.5 }, sut.doubleValues, 0.);
+		assertNull(sut.longValues);
+		assertNull(sut.stringValues);
+
+		var strings = PointColumns.from(Type.STRING, List.of(new StringPoint(4, POSTGRES_EPOCH, "foo")), 0, 1);
+		assertArrayEquals(new String[] { "foo" }, strings.stringValues);
+	}
+
+}
@@ -0,0 +1,152 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.postgresql.copy.CopyIn;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.FloatPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
+
+public class WritePointsHandlerTest {
+
+	private static final ZonedDateTime POSTGRES_EPOCH = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	/**
+	 * Collects the chunks written to a {@link CopyIn}.
+	 */
+	private static class FakeCopyIn {
+
+		private final List<byte[]> chunks = new ArrayList<>();
+		private final CopyIn copyIn = (CopyIn) Proxy.newProxyInstance(CopyIn.class.getClassLoader(),
+				new Class<?>[] { CopyIn.class }, (proxy, method, args) -> {
+					if (!method.getName().equals("writeToCopy") || !(args[0] instanceof byte[])) {
+						throw new UnsupportedOperationException(method.getName());
+					}
+					var buf = (byte[]) args[0];
+					var off = (int) args[1];
+					var siz = (int) args[2];
+					var chunk = new byte[siz];
+					System.arraycopy(buf, off, chunk, 0, siz);
+					this.chunks.add(chunk);
+					return null;
+				});
+
+		private byte[] getBytes() {
+			var result = new ByteArrayOutputStream();
+			for (var chunk : this.chunks) {
+				result.writeBytes(chunk);
+			}
+			return result.toByteArray();
+		}
+	}
+
+	private static byte[] writeRows(Type type, List<? extends Point> points) throws SQLException {
+		var columns = PointColumns.from(type, points, 0, points.size());
+		var sut = new WritePointsHandler(null, type, Priority.HIGH, columns, new WriteStatistics());
+		var fake = new FakeCopyIn();
+		sut.writeRows(fake.copyIn);
+		for (var chunk : fake.chunks) {
+			assertTrue(chunk.length > 0);
+		}
+		return fake.getBytes();
+	}
+
+	/**
+	 * Encodes the {@link Point}s in the PostgreSQL binary COPY format, field by
+	 * field, independently of the buffer handling of {@link WritePointsHandler}.
+	 *
+	 * @param points the {@link Point}s
+	 * @return the expected bytes
+	 * @throws IOException on error
+	 */
+	private static byte[] expected(List<? extends Point> points) throws IOException {
+		var bytes = new ByteArrayOutputStream();
+		var out = new DataOutputStream(bytes);
+		out.writeBytes("PGCOPY\n");
+		out.write(new byte[] { (byte) 0xFF, '\r', '\n', 0 });
+		out.writeInt(0); // flags
+		out.writeInt(0); // header extension length
+		for (var point : points) {
+			out.writeShort(3);
+			out.writeInt(8);
+			out.writeLong(PointColumns.toPostgresMicros(point.timestamp));
+			out.writeInt(4);
+			out.writeInt(point.channelId);
+			if (point instanceof IntPoint p) {
+				out.writeInt(8);
+				out.writeLong(p.value);
+			} else if (point instanceof FloatPoint p) {
+				out.writeInt(8);
+				out.writeDouble(p.value);
+			} else if (point instanceof StringPoint p) {
+				var value = p.value.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(value.length);
+				out.write(value);
+			}
+		}
+		out.writeShort(-1); // trailer
+		return bytes.toByteArray();
+	}
+
+	@Test
+	public void testHeaderAndTrailer() throws Exception {
+		var empty = List.<Point>of();
+		assertArrayEquals(expected(empty), writeRows(Type.FLOAT, empty));
+		assertArrayEquals(new byte[] { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0, //
+				0, 0, 0, 0, //
+				0, 0, 0, 0, //
+				(byte) 0xFF, (byte) 0xFF }, writeRows(Type.INTEGER, empty));
+	}
+
+	@Test
+	public void testFixedSize() throws Exception {
+		var ints = new ArrayList<Point>();
+		var floats = new ArrayList<Point>();
+		// More than one buffer
+		for (var i = 0; i < 5_000; i++) {
+			ints.add(new IntPoint(i, POSTGRES_EPOCH.plusSeconds(i), Long.MIN_VALUE + i));
+			floats.add(new FloatPoint(i, POSTGRES_EPOCH.minusSeconds(i), i / 3.));
+		}
+		assertArrayEquals(expected(ints), writeRows(Type.INTEGER, ints));
+		assertArrayEquals(expected(floats), writeRows(Type.FLOAT, floats));
+	}
+
+	@Test
+	public void testStrings() throws Exception {
+		var points = new ArrayList<Point>();
+		var value = new StringBuilder();
+		for (var i = 0; i < 3_000; i++) {
+			// Values of varying length incl. multi-byte characters -> split across
+			// every position of the flush boundary
+			points.add(new StringPoint(i, POSTGRES_EPOCH.plusSeconds(i), value.toString()));
+			value.append(i % 7 == 0 ? "ä" : "x");
+			if (value.length() > 61) {
+				value.setLength(0);
+			}
+		}
+		// Larger than the buffer, also right after a full buffer
+		var large = "y".repeat(WritePointsHandler.BUFFER_SIZE * 2 + 1);
+		points.add(1_500, new StringPoint(-1, POSTGRES_EPOCH, large));
+		points.add(1_501, new StringPoint(-2, POSTGRES_EPOCH, large));
+		points.add(new StringPoint(-3, POSTGRES_EPOCH, large));
+
+		assertArrayEquals(expected(points), writeRows(Type.STRING, points));
+	}
+
+}
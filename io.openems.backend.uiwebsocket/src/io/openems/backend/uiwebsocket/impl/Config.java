@@ -4,6 +4,7 @@ import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.WebsocketCompression;
 
 @ObjectClassDefinition(//
 		name = "Ui.Websocket", //
@@ -16,6 +17,15 @@ import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Compression", description = "Accept permessage-deflate compression if offered by the client. Every compressed connection holds its own Deflater and Inflater with about 300 KiB of native memory.")
+	boolean compression() default false;
+
+	@AttributeDefinition(name = "Compression Threshold", description = "Messages smaller than this number of bytes are sent uncompressed.")
+	int compressionThreshold() default WebsocketCompression.DEFAULT_THRESHOLD;
+
+	@AttributeDefinition(name = "Compression Context Takeover", description = "Keep the 32 KiB compression window across messages. Compresses better, but keeps the window and deflate state of every connection filled between messages.")
+	boolean compressionContextTakeover() default false;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
@@ -0,0 +1,94 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps an index of Edge-ID to the UI sessions that subscribed to this Edge via
+ * SubscribeEdgesRequest.
+ *
+ * <p>
+ * The index is maintained by {@link WsData} on subscribe, unsubscribe and
+ * close, so that notifications for an Edge only need to touch the sessions
+ * that actually watch this Edge.
+ */
+public class SubscribedEdgesIndex {
+
+	private final ConcurrentHashMap<String, Set<WsData>> index = new ConcurrentHashMap<>();
+
+	/**
+	 * Updates the subscriptions of a UI session.
+	 *
+	 * @param wsData   the {@link WsData} of the UI session
+	 * @param oldEdges the previously subscribed Edge-IDs
+	 * @param newEdges the currently subscribed Edge-IDs
+	 */
+	public void update(WsData wsData, Set<String> oldEdges, Set<String> newEdges) {
+		for (var edgeId : oldEdges) {
+			if (!newEdges.contains(edgeId)) {
+				this.remove(wsData, edgeId);
+			}
+		}
+		for (var edgeId : newEdges) {
+			if (!oldEdges.contains(edgeId)) {
+				this.add(wsData, edgeId);
+			}
+		}
+	}
+
+	/**
+	 * Removes all subscriptions of a UI session.
+	 *
+	 * @param wsData the {@link WsData} of the UI session
+	 * @param edges  the subscribed Edge-IDs
+	 */
+	public void removeAll(WsData wsData, Set<String> edges) {
+		for (var edgeId : edges) {
+			this.remove(wsData, edgeId);
+		}
+	}
+
+	private void add(WsData wsData, String edgeId) {
+		// 'compute' is atomic per key; avoids adding to a Set that is concurrently
+		// removed from the index
+		this.index.compute(edgeId, (e, wsDatas) -> {
+			if (wsDatas == null) {
+				wsDatas = ConcurrentHashMap.newKeySet();
+			}
+			wsDatas.add(wsData);
+			return wsDatas;
+		});
+	}
+
+	private void remove(WsData wsData, String edgeId) {
+		this.index.computeIfPresent(edgeId, (e, wsDatas) -> {
+			wsDatas.remove(wsData);
+			return wsDatas.isEmpty() ? null : wsDatas;
+		});
+	}
+
+	/**
+	 * Gets the UI sessions that subscribed to an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty if there are none
+	 */
+	public Set<WsData> get(String edgeId) {
+		var result = this.index.get(edgeId);
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of Edges that are subscribed by at least one UI session.
+	 *
+	 * @return the number of Edges
+	 */
+	public int getNumberOfSubscribedEdges() {
+		return this.index.size();
+	}
+
+}
@@ -38,6 +38,7 @@ import io.openems.common.jsonrpc.base.AbstractJsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.websocket.WebsocketCompression;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -93,7 +94,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	private synchronized void startServer() {
 		if (this.server == null) {
 			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
-					this.config.debugMode());
+					this.config.debugMode(), new WebsocketCompression(this.config.compression(),
+							this.config.compressionThreshold(), this.config.compressionContextTakeover()));
 			this.server.start();
 		}
 	}
@@ -138,15 +140,13 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	@Override
 	public void sendBroadcast(String edgeId, JsonrpcNotification notification) throws OpenemsNamedException {
-		if (this.server == null) {
+		var server = this.server;
+		if (server == null) {
 			return;
 		}
-		var wsDatas = this.getWsDatasForEdgeId(edgeId);
+		var wsDatas = this.getWsDatasForEdgeId(server, edgeId);
 		OpenemsNamedException exception = null;
 		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
-				continue;
-			}
 			try {
 				wsData.send(notification);
 			} catch (OpenemsNamedException e) {
@@ -180,20 +180,16 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Gets the WebSocket connection attachments of all connections that subscribed
+	 * to an Edge-ID and whose User has access to this Edge-ID.
 	 *
+	 * @param server the {@link WebsocketServer}
 	 * @param edgeId the Edge-ID
 	 * @return the WsDatas; empty list if there are none
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
+	private List<WsData> getWsDatasForEdgeId(WebsocketServer server, String edgeId) {
 		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
+		for (var wsData : server.subscribedEdgesIndex.get(edgeId)) {
 			// get attachment User-ID
 			var userIdOpt = wsData.getUserId();
 			if (userIdOpt.isPresent()) {
@@ -224,15 +220,12 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	@Override
 	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache) {
-		if (this.server == null) {
+		var server = this.server;
+		if (server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
-			}
+		for (var wsData : server.subscribedEdgesIndex.get(edgeId)) {
+			wsData.sendSubscribedChannels(edgeId, edgeCache);
 		}
 	}
 
@@ -1,5 +1,7 @@
 package io.openems.backend.uiwebsocket.impl;
 
+import java.util.Map;
+
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,20 +10,23 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.WebsocketCompression;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
 	private final Logger log = LoggerFactory.getLogger(WebsocketServer.class);
 
 	protected final UiWebsocketImpl parent;
+	protected final SubscribedEdgesIndex subscribedEdgesIndex = new SubscribedEdgesIndex();
 	private final OnOpen onOpen;
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(UiWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode) {
-		super(name, port, poolSize, debugMode);
+	public WebsocketServer(UiWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode,
+			WebsocketCompression compression) {
+		super(name, port, poolSize, debugMode, compression);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -67,6 +72,13 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		throw new OpenemsException("UiWs. handleNonJsonrpcMessage", lastException);
 	}
 
+	@Override
+	public Map<String, Number> debugMetrics() {
+		var metrics = super.debugMetrics();
+		metrics.put("SubscribedEdges", this.subscribedEdgesIndex.getNumberOfSubscribedEdges());
+		return metrics;
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		this.parent.logInfo(log, message);
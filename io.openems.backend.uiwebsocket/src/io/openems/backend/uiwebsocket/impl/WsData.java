@@ -2,7 +2,6 @@ package io.openems.backend.uiwebsocket.impl;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -85,7 +84,9 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private Optional<String> userId = Optional.empty();
 	private Optional<String> token = Optional.empty();
 
-	private Set<String> subscribedEdges = new HashSet<>();
+	private volatile Set<String> subscribedEdges = Collections.emptySet();
+	/** Set on close of the UI session; guarded by 'this'. */
+	private boolean disposed = false;
 
 	public WsData(WebsocketServer parent) {
 		this.parent = parent;
@@ -98,6 +99,20 @@ public class WsData extends io.openems.common.websocket.WsData {
 		this.unsetToken();
 		this.unsetUserId();
 		this.subscribedChannels.dispose();
+		this.handleSubscribeEdgesRequest(Collections.emptySet());
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+
+		// Remove under the same lock as in handleSubscribeEdgesRequest(); a late
+		// SubscribeEdgesRequest must not add the closed session to the index again
+		synchronized (this) {
+			this.disposed = true;
+			this.parent.subscribedEdgesIndex.removeAll(this, this.subscribedEdges);
+			this.subscribedEdges = Collections.emptySet();
+		}
 	}
 
 	public synchronized void setUserId(String userId) {
@@ -195,9 +210,14 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+		if (this.disposed) {
+			return;
+		}
 		// TODO maybe only add and remove on explicit request
-		this.subscribedEdges = edgeIds;
+		var newEdges = Set.copyOf(edgeIds);
+		this.parent.subscribedEdgesIndex.update(this, this.subscribedEdges, newEdges);
+		this.subscribedEdges = newEdges;
 	}
 
 	/**
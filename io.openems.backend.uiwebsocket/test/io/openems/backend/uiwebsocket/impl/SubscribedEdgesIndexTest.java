@@ -0,0 +1,54 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.WebsocketCompression;
+
+public class SubscribedEdgesIndexTest {
+
+	@Test
+	public void test() {
+		final var sut = new SubscribedEdgesIndex();
+		final var ws0 = new WsData(null);
+		final var ws1 = new WsData(null);
+
+		sut.update(ws0, Set.of(), Set.of("edge0", "edge1"));
+		sut.update(ws1, Set.of(), Set.of("edge1"));
+		assertEquals(Set.of(ws0), sut.get("edge0"));
+		assertEquals(Set.of(ws0, ws1), sut.get("edge1"));
+		assertEquals(Set.of(), sut.get("edge2"));
+
+		sut.update(ws0, Set.of("edge0", "edge1"), Set.of("edge2"));
+		assertEquals(Set.of(), sut.get("edge0"));
+		assertEquals(Set.of(ws1), sut.get("edge1"));
+		assertEquals(Set.of(ws0), sut.get("edge2"));
+		assertEquals(2, sut.getNumberOfSubscribedEdges());
+
+		sut.removeAll(ws0, Set.of("edge2"));
+		sut.removeAll(ws1, Set.of("edge1"));
+		assertEquals(0, sut.getNumberOfSubscribedEdges());
+	}
+
+	@Test
+	public void testSubscribeAfterDispose() {
+		final var server = new WebsocketServer(null, "test", 0, 1, DebugMode.OFF, WebsocketCompression.DISABLED);
+		final var sut = server.subscribedEdgesIndex;
+		final var ws0 = new WsData(server);
+
+		ws0.handleSubscribeEdgesRequest(Set.of("edge0", "edge1"));
+		assertEquals(Set.of(ws0), sut.get("edge0"));
+
+		ws0.dispose();
+		assertEquals(0, sut.getNumberOfSubscribedEdges());
+
+		// Late request of the closed UI session
+		ws0.handleSubscribeEdgesRequest(Set.of("edge0"));
+		assertEquals(0, sut.getNumberOfSubscribedEdges());
+	}
+
+}
@@ -41,6 +41,7 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 	private final Logger log = LoggerFactory.getLogger(AbstractWebsocketClient.class);
 	private final URI serverUri;
 	private final ClientReconnectorWorker reconnectorWorker;
+	private final WebsocketCompression compression;
 
 	protected AbstractWebsocketClient(String name, URI serverUri) {
 		this(name, serverUri, AbstractWebsocketClient.DEFAULT_DRAFT, AbstractWebsocketClient.NO_HTTP_HEADERS,
@@ -55,10 +56,21 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		this(name, serverUri, AbstractWebsocketClient.DEFAULT_DRAFT, httpHeaders, proxy);
 	}
 
+	protected AbstractWebsocketClient(String name, URI serverUri, Map<String, String> httpHeaders, Proxy proxy,
+			WebsocketCompression compression) {
+		this(name, serverUri, compression.createDraft(), httpHeaders, proxy, compression);
+	}
+
 	protected AbstractWebsocketClient(String name, URI serverUri, Draft draft, Map<String, String> httpHeaders,
 			Proxy proxy) {
+		this(name, serverUri, draft, httpHeaders, proxy, WebsocketCompression.DISABLED);
+	}
+
+	private AbstractWebsocketClient(String name, URI serverUri, Draft draft, Map<String, String> httpHeaders,
+			Proxy proxy, WebsocketCompression compression) {
 		super(name);
 		this.serverUri = serverUri;
+		this.compression = compression;
 		this.ws = new WebSocketClient(serverUri, draft, httpHeaders) {
 
 			private void logInfo(String message) {
@@ -197,6 +209,15 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		};
 	}
 
+	/**
+	 * Returns debug metrics of the current websocket state.
+	 *
+	 * @return the debug metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		return this.compression.debugMetrics();
+	}
+
 	/**
 	 * Sends a {@link JsonrpcMessage}.
 	 *
@@ -233,6 +254,28 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		}
 	}
 
+	/**
+	 * Sends a binary message. Returns true if sending was successful, otherwise
+	 * false. Also logs a warning in that case.
+	 *
+	 * @param data the binary message
+	 * @return true if sending was successful
+	 */
+	public boolean sendBinary(byte[] data) {
+		try {
+			this.ws.send(data);
+			return true;
+
+		} catch (Exception e) {
+			if (e instanceof WebsocketNotConnectedException) {
+				this.reconnectorWorker.triggerNextRun();
+			}
+			this.logWarn(this.log, "Unable to send binary message. " + e.getClass().getSimpleName() + ": "
+					+ e.getMessage());
+			return false;
+		}
+	}
+
 	/**
 	 * Sends a JSON-RPC Request and returns a future Response.
 	 *
@@ -2,8 +2,8 @@ package io.openems.common.websocket;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -14,8 +14,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
 import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +65,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	private final int port;
 	private final WebSocketServer ws;
 	private final DebugMode debugMode;
+	private final WebsocketCompression compression;
 	private final Collection<WebSocket> connections = ConcurrentHashMap.newKeySet();
 
 	/**
@@ -74,14 +78,30 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 *                      tasks
 	 */
 	protected AbstractWebsocketServer(String name, int port, int poolSize, DebugMode debugMode) {
+		this(name, port, poolSize, debugMode, WebsocketCompression.DISABLED);
+	}
+
+	/**
+	 * Construct an {@link AbstractWebsocketServer}.
+	 *
+	 * @param name          to identify this server
+	 * @param port          to listen on
+	 * @param poolSize      number of threads dedicated to handle the tasks
+	 * @param debugMode     activate a regular debug log about the state of the
+	 *                      tasks
+	 * @param compression   the {@link WebsocketCompression} configuration
+	 */
+	protected AbstractWebsocketServer(String name, int port, int poolSize, DebugMode debugMode,
+			WebsocketCompression compression) {
 		super(name);
+		this.compression = compression;
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
 				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
 
 		this.port = port;
 		this.ws = new WebSocketServer(new InetSocketAddress(port),
 				/* AVAILABLE_PROCESSORS */ Runtime.getRuntime().availableProcessors(), //
-				/* drafts, no filter */ Collections.emptyList(), //
+				/* drafts; empty for no filter */ compression.createServerDrafts(), //
 				this.connections) {
 
 			@Override
@@ -124,26 +144,43 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 						return;
 					}
 
-					if (message instanceof JsonrpcRequest) {
-						AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, response -> {
-									AbstractWebsocketServer.this.sendMessage(ws, response);
-								}));
+					AbstractWebsocketServer.this.dispatch(ws, message);
 
-					} else if (message instanceof JsonrpcResponse) {
-						AbstractWebsocketServer.this.execute(
-								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
+				}
+			}
 
-					} else if (message instanceof JsonrpcNotification) {
-						AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer binaryMessage) {
+				try {
+					JsonrpcMessage message;
+					try {
+						message = AbstractWebsocketServer.this.handleBinaryMessage(ws, binaryMessage);
+						if (message == null) {
+							// silently ignore 'null'
+							return;
+						}
+					} catch (OpenemsNamedException e) {
+						AbstractWebsocketServer.this.handleInternalErrorAsync(e, WebsocketUtils.getWsDataString(ws));
+						return;
 					}
 
+					AbstractWebsocketServer.this.dispatch(ws, message);
+
 				} catch (Throwable t) {
 					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
 				}
 			}
 
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket conn, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(conn, draft, request);
+				AbstractWebsocketServer.this.handleHandshake(request, response);
+				return response;
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				try {
@@ -210,6 +247,20 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.debugMode = debugMode == null ? DebugMode.OFF : debugMode;
 	}
 
+	private void dispatch(WebSocket ws, JsonrpcMessage message) {
+		if (message instanceof JsonrpcRequest) {
+			this.execute(new OnRequestHandler(this, ws, (JsonrpcRequest) message, response -> {
+				this.sendMessage(ws, response);
+			}));
+
+		} else if (message instanceof JsonrpcResponse) {
+			this.execute(new OnResponseHandler(this, ws, (JsonrpcResponse) message));
+
+		} else if (message instanceof JsonrpcNotification) {
+			this.execute(new OnNotificationHandler(this, ws, (JsonrpcNotification) message));
+		}
+	}
+
 	/**
 	 * Returns a debug log of the current websocket state.
 	 * 
@@ -241,6 +292,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		final var metrics = new HashMap<String, Number>();
 		metrics.putAll(ThreadPoolUtils.debugMetrics(this.executor));
 		metrics.put("Connections", this.connections.size());
+		metrics.putAll(this.compression.debugMetrics());
 		return metrics;
 	}
 
@@ -386,4 +438,29 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		throw new OpenemsException("Unhandled Non-JSON-RPC message", e);
 	}
 
+	/**
+	 * Handle binary messages.
+	 * 
+	 * <p>
+	 * This method is called synchronously on the websocket thread, so decoding is
+	 * applied in the order the messages were received.
+	 * 
+	 * @param ws            the {@link WebSocket}
+	 * @param binaryMessage the message
+	 * @return message converted to {@link JsonrpcMessage}; or null
+	 * @throws OpenemsNamedException if conversion is not possible
+	 */
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer binaryMessage) throws OpenemsNamedException {
+		throw new OpenemsException("Unhandled binary message");
+	}
+
+	/**
+	 * Handle the opening handshake; e.g. to add headers to the response.
+	 * 
+	 * @param request  the {@link ClientHandshake}
+	 * @param response the {@link ServerHandshakeBuilder}
+	 */
+	protected void handleHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+	}
+
 }
@@ -0,0 +1,377 @@
+package io.openems.common.websocket;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Compact binary encoding for {@link TimestampedDataNotification}s sent from
+ * Edge to Backend.
+ *
+ * <p>
+ * The encoding is stateful per connection: a Channel-Address is transmitted
+ * only once and afterwards referenced by its index in a dictionary; integer
+ * values are transmitted as delta to the last transmitted value of the same
+ * Channel. The transmitted Channels are selected either by a bitmap over the
+ * dictionary or - if only few Channels changed - by a list of index gaps.
+ *
+ * <p>
+ * The encoding is negotiated via the {@link #HANDSHAKE_HEADER} HTTP header: the
+ * Edge offers it in its handshake request and the Backend confirms it in its
+ * handshake response. Both sides start with an empty dictionary on every new
+ * connection.
+ *
+ * <pre>
+ * message   := VERSION timestamp:varlong
+ *              count:varint (address:string){count}
+ *              selection (type:byte value){selected Channels, by index}
+ * selection := SELECTION_BITMAP bitmap:byte[(dictionary size + 7) / 8]
+ *            | SELECTION_INDEXES count:varint (gap:varint){count}
+ * string    := length:varint utf8:byte[length]
+ * </pre>
+ */
+public final class BinaryDataCodec {
+
+	public static final String HANDSHAKE_HEADER = "openems-binary-data";
+	public static final String PROTOCOL_VERSION = "1";
+
+	private static final byte VERSION = 1;
+
+	private static final byte SELECTION_BITMAP = 0;
+	private static final byte SELECTION_INDEXES = 1;
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_FALSE = 1;
+	private static final byte TYPE_TRUE = 2;
+	private static final byte TYPE_LONG = 3;
+	private static final byte TYPE_LONG_DELTA = 4;
+	private static final byte TYPE_FLOAT = 5;
+	private static final byte TYPE_DOUBLE = 6;
+	private static final byte TYPE_STRING = 7;
+	private static final byte TYPE_JSON = 8;
+
+	private BinaryDataCodec() {
+	}
+
+	/**
+	 * The dictionary and the last transmitted integer values; kept in sync on both
+	 * sides of the connection.
+	 */
+	private static final class State {
+
+		private final List<String> addresses = new ArrayList<>();
+		private long[] lastLongs = new long[64];
+		private boolean[] hasLastLong = new boolean[64];
+
+		private int size() {
+			return this.addresses.size();
+		}
+
+		private void add(String address) {
+			if (this.addresses.size() == this.lastLongs.length) {
+				this.lastLongs = Arrays.copyOf(this.lastLongs, this.lastLongs.length * 2);
+				this.hasLastLong = Arrays.copyOf(this.hasLastLong, this.hasLastLong.length * 2);
+			}
+			this.addresses.add(address);
+		}
+
+		private void setLastLong(int index, long value) {
+			this.lastLongs[index] = value;
+			this.hasLastLong[index] = true;
+		}
+
+		private void clearLastLong(int index) {
+			this.hasLastLong[index] = false;
+		}
+	}
+
+	/**
+	 * Encodes Channel values on the Edge.
+	 */
+	public static final class Encoder {
+
+		private final Map<String, Integer> indexes = new HashMap<>();
+		private final State state = new State();
+
+		/**
+		 * Encodes the values of one timestamp.
+		 *
+		 * @param timestamp the timestamp epoch in milliseconds
+		 * @param values    a map of Channel-Address to {@link JsonElement} value
+		 * @return the encoded message
+		 */
+		public synchronized byte[] encode(long timestamp, Map<String, JsonElement> values) {
+			// Add new Channel-Addresses to the dictionary
+			final var newAddresses = new ArrayList<String>();
+			for (var address : values.keySet()) {
+				if (!this.indexes.containsKey(address)) {
+					newAddresses.add(address);
+				}
+			}
+			Collections.sort(newAddresses);
+			for (var address : newAddresses) {
+				this.indexes.put(address, this.state.size());
+				this.state.add(address);
+			}
+
+			final var selected = new int[values.size()];
+			var i = 0;
+			for (var address : values.keySet()) {
+				selected[i++] = this.indexes.get(address);
+			}
+			Arrays.sort(selected);
+
+			final var out = new ByteArrayOutputStream(16 + newAddresses.size() * 24 + selected.length * 4);
+			out.write(VERSION);
+			writeVarLong(out, timestamp);
+			writeVarLong(out, newAddresses.size());
+			for (var address : newAddresses) {
+				writeString(out, address);
+			}
+
+			final var bitmapLength = (this.state.size() + 7) / 8;
+			if (selected.length < bitmapLength) {
+				// Few changes: transmit the gaps between the indexes
+				out.write(SELECTION_INDEXES);
+				writeVarLong(out, selected.length);
+				var previous = -1;
+				for (var index : selected) {
+					writeVarLong(out, index - previous - 1);
+					previous = index;
+				}
+			} else {
+				out.write(SELECTION_BITMAP);
+				final var bitmap = new byte[bitmapLength];
+				for (var index : selected) {
+					bitmap[index >> 3] |= 1 << (index & 7);
+				}
+				out.write(bitmap, 0, bitmap.length);
+			}
+
+			for (var index : selected) {
+				this.writeValue(out, index, values.get(this.state.addresses.get(index)));
+			}
+			return out.toByteArray();
+		}
+
+		private void writeValue(ByteArrayOutputStream out, int index, JsonElement value) {
+			if (value == null || value.isJsonNull()) {
+				out.write(TYPE_NULL);
+				this.state.clearLastLong(index);
+				return;
+			}
+			if (!value.isJsonPrimitive()) {
+				out.write(TYPE_JSON);
+				writeString(out, value.toString());
+				this.state.clearLastLong(index);
+				return;
+			}
+			final var primitive = value.getAsJsonPrimitive();
+			if (primitive.isBoolean()) {
+				out.write(primitive.getAsBoolean() ? TYPE_TRUE : TYPE_FALSE);
+				this.state.clearLastLong(index);
+
+			} else if (primitive.isString()) {
+				out.write(TYPE_STRING);
+				writeString(out, primitive.getAsString());
+				this.state.clearLastLong(index);
+
+			} else {
+				final var number = primitive.getAsNumber();
+				if (number instanceof Integer || number instanceof Long || number instanceof Short
+						|| number instanceof Byte) {
+					final var longValue = number.longValue();
+					if (this.state.hasLastLong[index]) {
+						out.write(TYPE_LONG_DELTA);
+						writeVarLong(out, zigZag(longValue - this.state.lastLongs[index]));
+					} else {
+						out.write(TYPE_LONG);
+						writeVarLong(out, zigZag(longValue));
+					}
+					this.state.setLastLong(index, longValue);
+
+				} else if (number instanceof Float) {
+					out.write(TYPE_FLOAT);
+					writeFixed(out, Float.floatToIntBits(number.floatValue()), 4);
+					this.state.clearLastLong(index);
+
+				} else {
+					out.write(TYPE_DOUBLE);
+					writeFixed(out, Double.doubleToLongBits(number.doubleValue()), 8);
+					this.state.clearLastLong(index);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Decodes Channel values on the Backend.
+	 */
+	public static final class Decoder {
+
+		private final State state = new State();
+
+		/**
+		 * Decodes a message to a {@link TimestampedDataNotification}.
+		 *
+		 * <p>
+		 * After an error the state of this {@link Decoder} is undefined; the
+		 * connection should be closed.
+		 *
+		 * @param buffer the message
+		 * @return the {@link TimestampedDataNotification}
+		 * @throws OpenemsNamedException on error
+		 */
+		public synchronized TimestampedDataNotification decode(ByteBuffer buffer) throws OpenemsNamedException {
+			try {
+				final var version = buffer.get();
+				if (version != VERSION) {
+					throw new OpenemsException("Unsupported binary data version [" + version + "]");
+				}
+				final var timestamp = readVarLong(buffer);
+				final var newAddresses = readVarInt(buffer);
+				for (var i = 0; i < newAddresses; i++) {
+					this.state.add(readString(buffer));
+				}
+
+				final int[] selected;
+				final var selection = buffer.get();
+				switch (selection) {
+				case SELECTION_INDEXES -> {
+					selected = new int[readVarInt(buffer)];
+					var previous = -1;
+					for (var i = 0; i < selected.length; i++) {
+						previous = previous + 1 + readVarInt(buffer);
+						selected[i] = previous;
+					}
+				}
+				case SELECTION_BITMAP -> {
+					final var bitmap = new byte[(this.state.size() + 7) / 8];
+					buffer.get(bitmap);
+					var count = 0;
+					for (var b : bitmap) {
+						count += Integer.bitCount(b & 0xFF);
+					}
+					selected = new int[count];
+					var i = 0;
+					for (var index = 0; index < bitmap.length * 8; index++) {
+						if ((bitmap[index >> 3] & 1 << (index & 7)) != 0) {
+							selected[i++] = index;
+						}
+					}
+				}
+				default -> throw new OpenemsException("Unknown selection [" + selection + "]");
+				}
+
+				final var result = new TimestampedDataNotification();
+				for (var index : selected) {
+					result.add(timestamp, this.state.addresses.get(index), this.readValue(buffer, index));
+				}
+				if (buffer.hasRemaining()) {
+					throw new OpenemsException("Unexpected [" + buffer.remaining() + "] bytes of binary data");
+				}
+				return result;
+
+			} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+				throw new OpenemsException("Unable to decode binary data. " //
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			}
+		}
+
+		private JsonElement readValue(ByteBuffer buffer, int index) throws OpenemsNamedException {
+			final var type = buffer.get();
+			if (type == TYPE_LONG || type == TYPE_LONG_DELTA) {
+				var value = unZigZag(readVarLong(buffer));
+				if (type == TYPE_LONG_DELTA) {
+					if (!this.state.hasLastLong[index]) {
+						throw new OpenemsException("Missing base value for delta of ["
+								+ this.state.addresses.get(index) + "]");
+					}
+					value += this.state.lastLongs[index];
+				}
+				this.state.setLastLong(index, value);
+				return new JsonPrimitive(value);
+			}
+
+			this.state.clearLastLong(index);
+			return switch (type) {
+			case TYPE_NULL -> JsonNull.INSTANCE;
+			case TYPE_FALSE -> new JsonPrimitive(false);
+			case TYPE_TRUE -> new JsonPrimitive(true);
+			case TYPE_FLOAT -> new JsonPrimitive(Float.intBitsToFloat(buffer.getInt()));
+			case TYPE_DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(buffer.getLong()));
+			case TYPE_STRING -> new JsonPrimitive(readString(buffer));
+			case TYPE_JSON -> JsonUtils.parse(readString(buffer));
+			default -> throw new OpenemsException("Unknown value type [" + type + "]");
+			};
+		}
+	}
+
+	private static long zigZag(long value) {
+		return value << 1 ^ value >> 63;
+	}
+
+	private static long unZigZag(long value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) (value & 0x7F | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(ByteBuffer buffer) {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			final var b = buffer.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException("Varint is too long");
+	}
+
+	private static int readVarInt(ByteBuffer buffer) {
+		return Math.toIntExact(readVarLong(buffer));
+	}
+
+	private static void writeFixed(ByteArrayOutputStream out, long bits, int bytes) {
+		for (var shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+			out.write((int) (bits >>> shift));
+		}
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		final var bytes = value.getBytes(UTF_8);
+		writeVarLong(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		final var bytes = new byte[readVarInt(buffer)];
+		buffer.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+}
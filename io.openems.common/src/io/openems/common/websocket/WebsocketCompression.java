@@ -0,0 +1,160 @@
+package io.openems.common.websocket;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.extensions.IExtension;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+import org.java_websocket.framing.Framedata;
+
+/**
+ * Configures permessage-deflate compression (RFC 7692) of a websocket and
+ * collects its metrics.
+ *
+ * <p>
+ * Compression is negotiated during the handshake: it is only applied if both
+ * sides support it; otherwise messages are sent uncompressed.
+ *
+ * <p>
+ * The JDK {@link java.util.zip.Deflater} always uses a 32 KiB window. With
+ * context takeover the window is kept across messages, which compresses the
+ * repetitive Channel-Addresses of consecutive messages very well, but keeps
+ * the window in memory for each connection. Without context takeover the
+ * window is reset for every message.
+ */
+public class WebsocketCompression {
+
+	public static final int DEFAULT_THRESHOLD = 1024;
+
+	/**
+	 * No compression; use the default {@link Draft}.
+	 */
+	public static final WebsocketCompression DISABLED = new WebsocketCompression(false, DEFAULT_THRESHOLD, true);
+
+	private final boolean enabled;
+	private final int threshold;
+	private final boolean contextTakeover;
+
+	private final LongAdder compressedMessages = new LongAdder();
+	private final LongAdder compressedBytesIn = new LongAdder();
+	private final LongAdder compressedBytesOut = new LongAdder();
+	private final LongAdder decompressedBytesIn = new LongAdder();
+	private final LongAdder decompressedBytesOut = new LongAdder();
+	private final LongAdder nanos = new LongAdder();
+
+	/**
+	 * Builds a {@link WebsocketCompression}.
+	 *
+	 * @param enabled         is compression enabled?
+	 * @param threshold       messages smaller than this number of bytes are sent
+	 *                        uncompressed
+	 * @param contextTakeover keep the compression window across messages
+	 */
+	public WebsocketCompression(boolean enabled, int threshold, boolean contextTakeover) {
+		this.enabled = enabled;
+		this.threshold = threshold;
+		this.contextTakeover = contextTakeover;
+	}
+
+	/**
+	 * Creates a {@link Draft} that offers/accepts permessage-deflate if
+	 * compression is enabled.
+	 *
+	 * @return the {@link Draft}
+	 */
+	public Draft createDraft() {
+		if (!this.enabled) {
+			return new Draft_6455();
+		}
+		return new Draft_6455(List.<IExtension>of(new MeasuredDeflateExtension(this)));
+	}
+
+	/**
+	 * Gets the {@link Draft}s for a websocket server; an empty list means the
+	 * default {@link Draft}s.
+	 *
+	 * @return the list of {@link Draft}s
+	 */
+	public List<Draft> createServerDrafts() {
+		if (!this.enabled) {
+			return List.of();
+		}
+		return List.of(this.createDraft());
+	}
+
+	/**
+	 * Returns debug metrics of the compression.
+	 *
+	 * @return the debug metrics; empty if compression is disabled
+	 */
+	public Map<String, Number> debugMetrics() {
+		final var metrics = new HashMap<String, Number>();
+		if (!this.enabled) {
+			return metrics;
+		}
+		final var compressedIn = this.compressedBytesIn.sum();
+		final var compressedOut = this.compressedBytesOut.sum();
+		metrics.put("CompressedMessages", this.compressedMessages.sum());
+		metrics.put("CompressionRatio", compressedOut == 0 ? 0. : (double) compressedIn / compressedOut);
+		metrics.put("DecompressedBytesIn", this.decompressedBytesIn.sum());
+		metrics.put("DecompressedBytesOut", this.decompressedBytesOut.sum());
+		metrics.put("CompressionCpuTimeMs", TimeUnit.NANOSECONDS.toMillis(this.nanos.sum()));
+		return metrics;
+	}
+
+	/**
+	 * A {@link PerMessageDeflateExtension} that measures the bytes and time of
+	 * compression and decompression. Every connection gets its own copy via
+	 * {@link #copyInstance()}; all copies share the metrics.
+	 */
+	private static class MeasuredDeflateExtension extends PerMessageDeflateExtension {
+
+		private final WebsocketCompression parent;
+
+		private MeasuredDeflateExtension(WebsocketCompression parent) {
+			this.parent = parent;
+			this.setThreshold(parent.threshold);
+			this.setServerNoContextTakeover(!parent.contextTakeover);
+			this.setClientNoContextTakeover(!parent.contextTakeover);
+		}
+
+		@Override
+		public void encodeFrame(Framedata inputFrame) {
+			final var bytesIn = inputFrame.getPayloadData().remaining();
+			final var start = System.nanoTime();
+			super.encodeFrame(inputFrame);
+			if (inputFrame.isRSV1()) {
+				this.parent.nanos.add(System.nanoTime() - start);
+				this.parent.compressedMessages.increment();
+				this.parent.compressedBytesIn.add(bytesIn);
+				this.parent.compressedBytesOut.add(inputFrame.getPayloadData().remaining());
+			}
+		}
+
+		@Override
+		public void decodeFrame(Framedata inputFrame) throws InvalidDataException {
+			if (!inputFrame.isRSV1()) {
+				super.decodeFrame(inputFrame);
+				return;
+			}
+			final var bytesIn = inputFrame.getPayloadData().remaining();
+			final var start = System.nanoTime();
+			super.decodeFrame(inputFrame);
+			this.parent.nanos.add(System.nanoTime() - start);
+			this.parent.decompressedBytesIn.add(bytesIn);
+			this.parent.decompressedBytesOut.add(inputFrame.getPayloadData().remaining());
+		}
+
+		@Override
+		public IExtension copyInstance() {
+			return new MeasuredDeflateExtension(this.parent);
+		}
+	}
+
+}
@@ -0,0 +1,87 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.utils.JsonUtils;
+
+public class BinaryDataCodecTest {
+
+	private static Map<String, JsonElement> roundTrip(BinaryDataCodec.Encoder encoder,
+			BinaryDataCodec.Decoder decoder, long timestamp, Map<String, JsonElement> values)
+			throws OpenemsNamedException {
+		var message = decoder.decode(ByteBuffer.wrap(encoder.encode(timestamp, values)));
+		assertEquals(values.isEmpty() ? 0 : 1, message.getData().rowKeySet().size());
+		return message.getData().row(timestamp);
+	}
+
+	@Test
+	public void testRoundTrip() throws OpenemsNamedException {
+		final var encoder = new BinaryDataCodec.Encoder();
+		final var decoder = new BinaryDataCodec.Decoder();
+
+		final var values = new HashMap<String, JsonElement>();
+		values.put("_sum/State", new JsonPrimitive(0));
+		values.put("_sum/EssActivePower", new JsonPrimitive(-1_500));
+		values.put("_sum/GridActiveEnergy", new JsonPrimitive(123_456_789_012L));
+		values.put("meter0/Frequency", new JsonPrimitive(49.98F));
+		values.put("meter0/Voltage", new JsonPrimitive(230.123));
+		values.put("ess0/Running", new JsonPrimitive(true));
+		values.put("ess0/Missing", JsonNull.INSTANCE);
+		values.put("_meta/Version", new JsonPrimitive("2024.1.0"));
+		values.put("ctrl0/Json", JsonUtils.buildJsonObject().addProperty("a", 1).build());
+		assertEquals(values, roundTrip(encoder, decoder, 1000L, values));
+
+		// Deltas and only few changes
+		final var changes = new HashMap<String, JsonElement>();
+		changes.put("_sum/EssActivePower", new JsonPrimitive(1_500));
+		changes.put("_sum/GridActiveEnergy", new JsonPrimitive(123_456_789_013L));
+		assertEquals(changes, roundTrip(encoder, decoder, 2000L, changes));
+
+		// New Channel in the middle of the dictionary
+		changes.clear();
+		changes.put("ess0/Soc", new JsonPrimitive(50));
+		changes.put("_sum/EssActivePower", new JsonPrimitive(1_499));
+		assertEquals(changes, roundTrip(encoder, decoder, 3000L, changes));
+
+		// Type change from integer to null and back
+		changes.clear();
+		changes.put("ess0/Soc", JsonNull.INSTANCE);
+		assertEquals(changes, roundTrip(encoder, decoder, 4000L, changes));
+		changes.put("ess0/Soc", new JsonPrimitive(51));
+		assertEquals(changes, roundTrip(encoder, decoder, 5000L, changes));
+
+		assertEquals(Map.of(), roundTrip(encoder, decoder, 6000L, Map.of()));
+	}
+
+	@Test
+	public void testCompactDeltas() {
+		final var encoder = new BinaryDataCodec.Encoder();
+		final var first = encoder.encode(1000L, Map.of("_sum/GridActiveEnergy", new JsonPrimitive(123_456_789_012L)));
+		final var second = encoder.encode(2000L, Map.of("_sum/GridActiveEnergy", new JsonPrimitive(123_456_789_013L)));
+		assertTrue(second.length < first.length - "_sum/GridActiveEnergy".length());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testOutOfSync() throws OpenemsNamedException {
+		final var encoder = new BinaryDataCodec.Encoder();
+		encoder.encode(1000L, Map.of("_sum/State", new JsonPrimitive(0)));
+		final var message = encoder.encode(2000L, Map.of("_sum/State", new JsonPrimitive(1)));
+
+		// Decoder did not receive the dictionary
+		new BinaryDataCodec.Decoder().decode(ByteBuffer.wrap(message));
+	}
+
+}
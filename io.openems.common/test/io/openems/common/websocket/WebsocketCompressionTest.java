@@ -0,0 +1,48 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+import org.java_websocket.framing.TextFrame;
+import org.java_websocket.util.Charsetfunctions;
+import org.junit.Test;
+
+public class WebsocketCompressionTest {
+
+	@Test
+	public void testDisabled() {
+		final var sut = WebsocketCompression.DISABLED;
+		assertTrue(sut.createServerDrafts().isEmpty());
+		assertTrue(sut.debugMetrics().isEmpty());
+	}
+
+	@Test
+	public void testMetrics() throws InvalidDataException {
+		final var sut = new WebsocketCompression(true, 100, true);
+		final var draft = (Draft_6455) sut.createDraft();
+		final var extension = (PerMessageDeflateExtension) draft.getKnownExtensions().stream() //
+				.filter(PerMessageDeflateExtension.class::isInstance) //
+				.findFirst().get() //
+				.copyInstance();
+
+		final var payload = "{\"_sum/EssActivePower\":1500,\"_sum/GridActivePower\":-300}".repeat(20);
+		final var frame = new TextFrame();
+		frame.setPayload(ByteBuffer.wrap(Charsetfunctions.utf8Bytes(payload)));
+		extension.encodeFrame(frame);
+		assertTrue(frame.isRSV1());
+
+		extension.decodeFrame(frame);
+		assertEquals(payload, Charsetfunctions.stringUtf8(frame.getPayloadData()));
+
+		final var metrics = sut.debugMetrics();
+		assertEquals(1L, metrics.get("CompressedMessages"));
+		assertTrue(metrics.get("CompressionRatio").doubleValue() > 5);
+		assertEquals((long) payload.length(), metrics.get("DecompressedBytesOut"));
+	}
+
+}
@@ -28,6 +28,7 @@ import io.openems.edge.bridge.modbus.api.Parity;
 import io.openems.edge.bridge.modbus.api.Stopbit;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.JsonApi;
 
 /**
  * Provides a service for connecting to, querying and writing to a Modbus/RTU
@@ -44,7 +45,7 @@ import io.openems.edge.common.event.EdgeEventConstants;
 		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
 })
 public class BridgeModbusSerialImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusSerial, OpenemsComponent, EventHandler {
+		implements BridgeModbus, BridgeModbusSerial, OpenemsComponent, EventHandler, JsonApi {
 
 	/** The configured Port-Name (e.g. '/dev/ttyUSB0' or 'COM3'). */
 	private String portName = "";
@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -24,6 +26,7 @@ import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.JsonApi;
 
 /**
  * Provides a service for connecting to, querying and writing to a Modbus/TCP
@@ -40,7 +43,7 @@ import io.openems.edge.common.event.EdgeEventConstants;
 		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
 })
 public class BridgeModbusTcpImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler {
+		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler, JsonApi {
 
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
@@ -72,19 +75,33 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.worker.setConcurrency(config.id(), config.maxConcurrentRequests(),
+				config.maxConcurrentRequestsPerUnitId());
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.closeModbusConnection();
 	}
 
+	/**
+	 * Closes the Modbus connection of the current thread; or all connections if
+	 * the current thread has none, e.g. on configuration change.
+	 */
 	@Override
 	public void closeModbusConnection() {
-		if (this._connection != null) {
-			this._connection.close();
-			this._connection = null;
+		var connection = this.connections.remove(Thread.currentThread());
+		if (connection != null) {
+			connection.close();
+			return;
+		}
+		for (var thread : this.connections.keySet()) {
+			connection = this.connections.remove(thread);
+			if (connection != null) {
+				connection.close();
+			}
 		}
 	}
 
@@ -96,27 +113,32 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return transaction;
 	}
 
-	private TCPMasterConnection _connection = null;
+	/**
+	 * One connection per executing thread. The j2mod transport waits for the
+	 * response of each request, so concurrent requests (see
+	 * {@link ConfigTcp#maxConcurrentRequests()}) use separate sockets.
+	 */
+	private final Map<Thread, TCPMasterConnection> connections = new ConcurrentHashMap<>();
 
-	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
-		if (this._connection == null) {
+	private TCPMasterConnection getModbusConnection() throws OpenemsException {
+		var connection = this.connections.computeIfAbsent(Thread.currentThread(), thread -> {
 			/*
 			 * create new connection
 			 */
-			var connection = new TCPMasterConnection(this.getIpAddress());
-			connection.setPort(this.port);
-			this._connection = connection;
-		}
-		if (!this._connection.isConnected()) {
+			var c = new TCPMasterConnection(this.getIpAddress());
+			c.setPort(this.port);
+			return c;
+		});
+		if (!connection.isConnected()) {
 			try {
-				this._connection.connect();
+				connection.connect();
 			} catch (Exception e) {
 				throw new OpenemsException(
 						"Connection to [" + this.getIpAddress().getHostAddress() + "] failed: " + e.getMessage());
 			}
-			this._connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
+			connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
 		}
-		return this._connection;
+		return connection;
 	}
 
 	@Override
@@ -33,5 +33,11 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Max concurrent requests", description = "Max number of concurrent requests; each uses its own TCP connection. 1 executes all requests sequentially.")
+	int maxConcurrentRequests() default 1;
+
+	@AttributeDefinition(name = "Max concurrent requests per Unit-ID", description = "Max number of concurrent requests to the same Modbus Unit-ID. Write requests are always executed exclusively per Unit-ID.")
+	int maxConcurrentRequestsPerUnitId() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
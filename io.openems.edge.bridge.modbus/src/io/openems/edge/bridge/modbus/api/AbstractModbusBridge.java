@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -9,15 +10,25 @@ import org.osgi.service.event.EventHandler;
 
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
+import io.openems.edge.bridge.modbus.api.worker.ModbusMetrics;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+import io.openems.edge.bridge.modbus.jsonrpc.GetModbusMetricsRequest;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.JsonApi;
+import io.openems.edge.common.user.User;
 
 /**
  * Abstract service for connecting to, querying and writing to a Modbus device.
  */
-public abstract class AbstractModbusBridge extends AbstractOpenemsComponent implements BridgeModbus, EventHandler {
+public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
+		implements BridgeModbus, EventHandler, JsonApi {
 
 	/**
 	 * Default Modbus timeout in [ms].
@@ -35,8 +46,16 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	protected static final int DEFAULT_RETRIES = 1;
 
+	/**
+	 * Update the latency and counter Channels only every n-th Cycle, as sorting
+	 * the latency samples is too expensive for every Cycle.
+	 */
+	private static final int METRICS_CYCLES = 10;
+
 	private final AtomicReference<LogVerbosity> logVerbosity = new AtomicReference<>(LogVerbosity.NONE);
 	private int invalidateElementsAfterReadErrors = 1;
+	private long lastWaitDelayTime = 0;
+	private int metricsCycle = 0;
 
 	protected final ModbusWorker worker = new ModbusWorker(
 			// Execute Task
@@ -130,6 +149,7 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
 			this.worker.onBeforeProcessImage();
+			this.updateMetricsChannels();
 			break;
 		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
 			this.worker.onExecuteWrite();
@@ -137,6 +157,35 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		}
 	}
 
+	private void updateMetricsChannels() {
+		var metrics = this.getMetrics();
+		if (this.metricsCycle-- <= 0) {
+			this.metricsCycle = METRICS_CYCLES - 1;
+			var summary = metrics.getSummary();
+			this._setRequestLatencyP50(summary.latencyP50());
+			this._setRequestLatencyP95(summary.latencyP95());
+			this._setRequestLatencyMax(summary.latencyMax());
+			this._setRequestTimeouts(summary.timeouts());
+			this._setRequestRetries(summary.retries());
+			this._setBytesTransferred(summary.bytes());
+		}
+		var waitDelayTime = metrics.getWaitDelayTime();
+		this._setWaitDelayTime(waitDelayTime - this.lastWaitDelayTime);
+		this.lastWaitDelayTime = waitDelayTime;
+	}
+
+	@Override
+	public CompletableFuture<JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest message)
+			throws OpenemsNamedException {
+		switch (message.getMethod()) {
+		case GetModbusMetricsRequest.METHOD:
+			user.assertRoleIsAtLeast("getModbusMetrics", Role.ADMIN);
+			return CompletableFuture
+					.completedFuture(new GenericJsonrpcResponseSuccess(message.getId(), this.getMetrics().toJson()));
+		}
+		return null;
+	}
+
 	@Override
 	public String debugLog() {
 		return switch (this.logVerbosity.get()) {
@@ -180,6 +229,15 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		return this.invalidateElementsAfterReadErrors;
 	}
 
+	/**
+	 * Gets the latency and error metrics of the Modbus requests.
+	 *
+	 * @return the {@link ModbusMetrics}
+	 */
+	public ModbusMetrics getMetrics() {
+		return this.worker.getMetrics();
+	}
+
 	@Override
 	public void retryModbusCommunication(String sourceId) {
 		this.worker.retryModbusCommunication(sourceId);
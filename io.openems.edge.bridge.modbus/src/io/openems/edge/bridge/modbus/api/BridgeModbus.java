@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.DoubleReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -23,6 +24,38 @@ public interface BridgeModbus extends OpenemsComponent {
 		 * can be reduced by this amount, without causing CYCLE_TIME_IS_TOO_SHORT.
 		 */
 		CYCLE_DELAY(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Median round-trip time of the recent Modbus requests.
+		 */
+		REQUEST_LATENCY_P50(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile of the round-trip time of the recent Modbus requests.
+		 */
+		REQUEST_LATENCY_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Max round-trip time of the recent Modbus requests.
+		 */
+		REQUEST_LATENCY_MAX(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Total number of timed out Modbus requests.
+		 */
+		REQUEST_TIMEOUTS(Doc.of(OpenemsType.LONG)), //
+		/**
+		 * Total number of Modbus requests that were retried on a new connection.
+		 */
+		REQUEST_RETRIES(Doc.of(OpenemsType.LONG)), //
+		/**
+		 * Total number of bytes of Modbus requests and responses.
+		 */
+		BYTES_TRANSFERRED(Doc.of(OpenemsType.LONG)), //
+		/**
+		 * Time spent waiting for the CYCLE_DELAY in the previous Cycle.
+		 */
+		WAIT_DELAY_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)); //
 
 		private final Doc doc;
@@ -94,6 +127,202 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getCycleDelayChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_LATENCY_P50}.
+	 *
+	 * @return the Channel
+	 */
+	public default DoubleReadChannel getRequestLatencyP50Channel() {
+		return this.channel(ChannelId.REQUEST_LATENCY_P50);
+	}
+
+	/**
+	 * Gets the median request latency in [ms], see {@link ChannelId#REQUEST_LATENCY_P50}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Double> getRequestLatencyP50() {
+		return this.getRequestLatencyP50Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#REQUEST_LATENCY_P50}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestLatencyP50(Double value) {
+		this.getRequestLatencyP50Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_LATENCY_P95}.
+	 *
+	 * @return the Channel
+	 */
+	public default DoubleReadChannel getRequestLatencyP95Channel() {
+		return this.channel(ChannelId.REQUEST_LATENCY_P95);
+	}
+
+	/**
+	 * Gets the 95th percentile request latency in [ms], see {@link ChannelId#REQUEST_LATENCY_P95}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Double> getRequestLatencyP95() {
+		return this.getRequestLatencyP95Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#REQUEST_LATENCY_P95}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestLatencyP95(Double value) {
+		this.getRequestLatencyP95Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_LATENCY_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default DoubleReadChannel getRequestLatencyMaxChannel() {
+		return this.channel(ChannelId.REQUEST_LATENCY_MAX);
+	}
+
+	/**
+	 * Gets the max request latency in [ms], see {@link ChannelId#REQUEST_LATENCY_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Double> getRequestLatencyMax() {
+		return this.getRequestLatencyMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#REQUEST_LATENCY_MAX}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestLatencyMax(Double value) {
+		this.getRequestLatencyMaxChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_TIMEOUTS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestTimeoutsChannel() {
+		return this.channel(ChannelId.REQUEST_TIMEOUTS);
+	}
+
+	/**
+	 * Gets the total number of timed out requests, see {@link ChannelId#REQUEST_TIMEOUTS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestTimeouts() {
+		return this.getRequestTimeoutsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#REQUEST_TIMEOUTS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestTimeouts(Long value) {
+		this.getRequestTimeoutsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_RETRIES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestRetriesChannel() {
+		return this.channel(ChannelId.REQUEST_RETRIES);
+	}
+
+	/**
+	 * Gets the total number of retried requests, see {@link ChannelId#REQUEST_RETRIES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestRetries() {
+		return this.getRequestRetriesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#REQUEST_RETRIES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestRetries(Long value) {
+		this.getRequestRetriesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#BYTES_TRANSFERRED}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getBytesTransferredChannel() {
+		return this.channel(ChannelId.BYTES_TRANSFERRED);
+	}
+
+	/**
+	 * Gets the total number of transferred bytes, see {@link ChannelId#BYTES_TRANSFERRED}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getBytesTransferred() {
+		return this.getBytesTransferredChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#BYTES_TRANSFERRED}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setBytesTransferred(Long value) {
+		this.getBytesTransferredChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WAIT_DELAY_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getWaitDelayTimeChannel() {
+		return this.channel(ChannelId.WAIT_DELAY_TIME);
+	}
+
+	/**
+	 * Gets the time waited in the previous Cycle in [ms], see {@link ChannelId#WAIT_DELAY_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getWaitDelayTime() {
+		return this.getWaitDelayTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#WAIT_DELAY_TIME}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWaitDelayTime(Long value) {
+		this.getWaitDelayTimeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
@@ -1,5 +1,10 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.common.taskmanager.TasksManager;
@@ -16,6 +21,26 @@ public class ModbusProtocol {
 	 */
 	private final TasksManager<Task> taskManager = new TasksManager<>();
 
+	/**
+	 * Coalesces Read-Tasks.
+	 */
+	private final ModbusProtocolOptimizer optimizer;
+
+	/**
+	 * Original Read-Tasks and the resulting merged Tasks, grouped by class and
+	 * Priority. Only used if Tasks are coalesced by the
+	 * {@link ModbusProtocolOptimizer}.
+	 */
+	private final Map<String, CoalescedTasks> coalescedTasks = new HashMap<>();
+
+	/**
+	 * Incremented on every change of the Tasks.
+	 */
+	private volatile int version = 0;
+
+	private static record CoalescedTasks(List<Task> originals, List<Task> merged) {
+	}
+
 	/**
 	 * Creates a new {@link ModbusProtocol}.
 	 *
@@ -24,7 +49,21 @@ public class ModbusProtocol {
 	 * @throws OpenemsException on error
 	 */
 	public ModbusProtocol(AbstractOpenemsModbusComponent parent, Task... tasks) throws OpenemsException {
+		this(parent, ModbusProtocolOptimizer.DISABLED, tasks);
+	}
+
+	/**
+	 * Creates a new {@link ModbusProtocol} that coalesces its Read-Tasks.
+	 *
+	 * @param parent    the {@link AbstractOpenemsModbusComponent} parent
+	 * @param optimizer the {@link ModbusProtocolOptimizer}
+	 * @param tasks     the {@link Task}s
+	 * @throws OpenemsException on error
+	 */
+	public ModbusProtocol(AbstractOpenemsModbusComponent parent, ModbusProtocolOptimizer optimizer, Task... tasks)
+			throws OpenemsException {
 		this.parent = parent;
+		this.optimizer = optimizer;
 		this.addTasks(tasks);
 	}
 
@@ -49,6 +88,14 @@ public class ModbusProtocol {
 	public synchronized void addTask(Task task) throws OpenemsException {
 		// add the the parent to the Task
 		task.setParent(this.parent);
+		this.version++;
+		if (this.optimizer.canCoalesce(task)) {
+			var coalescedTasks = this.coalescedTasks.computeIfAbsent(getCoalesceKey(task),
+					key -> new CoalescedTasks(new ArrayList<>(), new ArrayList<>()));
+			coalescedTasks.originals.add(task);
+			this.coalesce(coalescedTasks);
+			return;
+		}
 		// fill taskManager
 		this.taskManager.addTask(task);
 	}
@@ -59,9 +106,37 @@ public class ModbusProtocol {
 	 * @param task the task
 	 */
 	public synchronized void removeTask(Task task) {
+		this.version++;
+		var coalescedTasks = this.coalescedTasks.get(getCoalesceKey(task));
+		if (coalescedTasks != null && coalescedTasks.originals.remove(task)) {
+			this.coalesce(coalescedTasks);
+			return;
+		}
 		this.taskManager.removeTask(task);
 	}
 
+	/**
+	 * Replaces the merged Tasks of a group with a new merge of its original
+	 * Tasks.
+	 *
+	 * @param coalescedTasks the {@link CoalescedTasks}
+	 */
+	private void coalesce(CoalescedTasks coalescedTasks) {
+		for (var task : coalescedTasks.merged) {
+			this.taskManager.removeTask(task);
+		}
+		coalescedTasks.merged.clear();
+		for (var task : this.optimizer.coalesce(coalescedTasks.originals)) {
+			task.setParent(this.parent);
+			coalescedTasks.merged.add(task);
+			this.taskManager.addTask(task);
+		}
+	}
+
+	private static String getCoalesceKey(Task task) {
+		return task.getClass().getName() + ":" + task.getPriority();
+	}
+
 	/**
 	 * Gets the Read-Tasks Manager.
 	 *
@@ -71,6 +146,16 @@ public class ModbusProtocol {
 		return this.taskManager;
 	}
 
+	/**
+	 * Gets the version of the Tasks; it changes whenever a Task is added or
+	 * removed.
+	 *
+	 * @return the version
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
 	/**
 	 * Deactivate the {@link ModbusProtocol}.
 	 */
@@ -0,0 +1,154 @@
+package io.openems.edge.bridge.modbus.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Coalesces Read-Register-Tasks of a {@link ModbusProtocol} into the fewest
+ * possible requests.
+ *
+ * <p>
+ * {@link FC3ReadRegistersTask}s and {@link FC4ReadInputRegistersTask}s with
+ * the same function code and {@link Priority} are merged if
+ * <ul>
+ * <li>they do not overlap,
+ * <li>the gap between them is at most {@code maxGap} registers and does not
+ * contain a forbidden address,
+ * <li>the merged request reads at most {@link #MAX_LENGTH} registers.
+ * </ul>
+ * Gaps are filled with {@link DummyRegisterElement}s, so the response is split
+ * back into the original {@link ModbusElement}s. All Tasks of one
+ * {@link ModbusProtocol} share the Unit-ID of its parent.
+ *
+ * <p>
+ * Note that a merged request fails as a whole, e.g. if the device rejects one
+ * of the addresses in a gap. Configure such addresses as forbidden.
+ */
+public class ModbusProtocolOptimizer {
+
+	/** Max number of registers of one read request. */
+	public static final int MAX_LENGTH = 125;
+
+	/** Tasks are never merged. */
+	public static final ModbusProtocolOptimizer DISABLED = new ModbusProtocolOptimizer(-1);
+
+	private final int maxGap;
+	private final int[] forbiddenAddresses;
+
+	/**
+	 * Constructor for {@link ModbusProtocolOptimizer}.
+	 *
+	 * @param maxGap             the max number of unused registers between two
+	 *                           merged Tasks; 0 merges only adjacent Tasks; a
+	 *                           negative value disables merging
+	 * @param forbiddenAddresses addresses that must never be read as part of a
+	 *                           gap
+	 */
+	public ModbusProtocolOptimizer(int maxGap, int... forbiddenAddresses) {
+		this.maxGap = maxGap;
+		this.forbiddenAddresses = forbiddenAddresses.clone();
+		Arrays.sort(this.forbiddenAddresses);
+	}
+
+	/**
+	 * Is the given {@link Task} handled by this optimizer?
+	 *
+	 * @param task the {@link Task}
+	 * @return true if the Task might get merged
+	 */
+	public boolean canCoalesce(Task task) {
+		return this.maxGap >= 0 //
+				&& (task.getClass() == FC3ReadRegistersTask.class
+						|| task.getClass() == FC4ReadInputRegistersTask.class);
+	}
+
+	/**
+	 * Merges {@link Task}s. All Tasks must have the same class and
+	 * {@link Priority}; see {@link #canCoalesce(Task)}.
+	 *
+	 * @param tasks the original {@link Task}s
+	 * @return the merged {@link Task}s; Tasks that could not be merged are
+	 *         returned unchanged
+	 */
+	public List<Task> coalesce(List<Task> tasks) {
+		var sorted = new ArrayList<>(tasks);
+		sorted.sort(Comparator.comparingInt(Task::getStartAddress));
+
+		var result = new ArrayList<Task>();
+		var group = new ArrayList<Task>();
+		for (var task : sorted) {
+			if (!group.isEmpty() && !this.canAppend(group, task)) {
+				result.add(merge(group));
+				group.clear();
+			}
+			group.add(task);
+		}
+		if (!group.isEmpty()) {
+			result.add(merge(group));
+		}
+		return result;
+	}
+
+	private boolean canAppend(List<Task> group, Task task) {
+		var first = group.get(0);
+		var last = group.get(group.size() - 1);
+		var gapStart = last.getStartAddress() + last.getLength();
+		var gap = task.getStartAddress() - gapStart;
+		if (gap < 0 || gap > this.maxGap) {
+			return false;
+		}
+		if (task.getStartAddress() + task.getLength() - first.getStartAddress() > MAX_LENGTH) {
+			return false;
+		}
+		return !this.isForbidden(gapStart, task.getStartAddress());
+	}
+
+	/**
+	 * Is any address in [from, to) forbidden?
+	 */
+	private boolean isForbidden(int from, int to) {
+		var index = Arrays.binarySearch(this.forbiddenAddresses, from);
+		if (index >= 0) {
+			return true;
+		}
+		var insertionPoint = -index - 1;
+		return insertionPoint < this.forbiddenAddresses.length && this.forbiddenAddresses[insertionPoint] < to;
+	}
+
+	private static Task merge(List<Task> group) {
+		var first = group.get(0);
+		if (group.size() == 1) {
+			// Restore the reference to the original Task
+			for (var element : first.getElements()) {
+				element.setModbusTask(first);
+			}
+			return first;
+		}
+
+		var elements = new ArrayList<ModbusElement>();
+		var nextAddress = first.getStartAddress();
+		for (var task : group) {
+			if (task.getStartAddress() > nextAddress) {
+				elements.add(new DummyRegisterElement(nextAddress, task.getStartAddress() - 1));
+			}
+			elements.addAll(Arrays.asList(task.getElements()));
+			nextAddress = task.getStartAddress() + task.getLength();
+		}
+		var priority = first.getPriority();
+		var array = elements.toArray(ModbusElement[]::new);
+		if (first instanceof FC4ReadInputRegistersTask) {
+			return new FC4ReadInputRegistersTask(first.getStartAddress(), priority, array);
+		}
+		return new FC3ReadRegistersTask(first.getStartAddress(), priority, array);
+	}
+
+}
@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.element;
 
+import java.nio.ByteBuffer;
+
 import com.ghgande.j2mod.modbus.procimg.Register;
 
 import io.openems.common.types.OpenemsType;
@@ -23,6 +25,12 @@ public abstract class AbstractSingleWordElement<SELF extends ModbusRegisterEleme
 		return this.commonRegistersToValue(registers, WordOrder.MSWLSW /* makes no difference for SingleWord */);
 	}
 
+	@Override
+	protected T responseToValue(ByteBuffer response, int position) {
+		return this.commonResponseToValue(response, position,
+				WordOrder.MSWLSW /* makes no difference for SingleWord */);
+	}
+
 	@Override
 	protected Register[] valueToRaw(T value) {
 		return this.valueToRaw(value, WordOrder.MSWLSW /* makes no difference for SingleWord */);
@@ -205,8 +205,16 @@ public class BitsWordElement extends AbstractSingleWordElement<BitsWordElement,
 		// convert Register to int
 		var buff = ByteBuffer.allocate(2);
 		buff.put(registers[0].toBytes());
-		var value = Short.toUnsignedInt(buff.getShort(0));
+		return this.wordToValue(Short.toUnsignedInt(buff.getShort(0)));
+	}
+
+	@Override
+	protected Boolean[] responseToValue(ByteBuffer response, int position) {
+		var index = position * 2;
+		return this.wordToValue((response.get(index) & 0xff) << 8 | response.get(index + 1) & 0xff);
+	}
 
+	private Boolean[] wordToValue(int value) {
 		var result = new Boolean[16];
 		for (var bitIndex = 0; bitIndex < 16; bitIndex++) {
 			// Get Wrapper
@@ -95,6 +95,59 @@ public abstract class ModbusRegisterElement<SELF extends AbstractModbusElement<S
 	 */
 	protected abstract T registersToValue(Register[] registers);
 
+	/**
+	 * Set the input/read value from the response of a Read-Registers-Task.
+	 * 
+	 * <p>
+	 * The value is decoded directly from the response, i.e. without copying the
+	 * registers of this element.
+	 * 
+	 * @param response the response; two bytes per register in big-endian order
+	 * @param position the index of the first register of this element within
+	 *                 the response
+	 */
+	public final void setInputValue(ByteBuffer response, int position) {
+		if ((position + this.length) * 2 > response.limit()) {
+			throw new IllegalArgumentException("Response is too short. " //
+					+ "Expected [" + (position + this.length) + "] " //
+					+ "Got [" + response.limit() / 2 + "] " //
+					+ "for " + this.toString());
+		}
+		this.setTypedInputValue(this.responseToValue(response, position));
+	}
+
+	/**
+	 * Converts the registers of a response to the expected type.
+	 * 
+	 * <p>
+	 * The response is guaranteed to contain `this.length` registers starting at
+	 * `position`.
+	 * 
+	 * @param response the response; two bytes per register in big-endian order
+	 * @param position the index of the first register of this element
+	 * @return the typed/converted value
+	 */
+	protected abstract T responseToValue(ByteBuffer response, int position);
+
+	protected final T commonResponseToValue(ByteBuffer response, int position, WordOrder wordOrder) {
+		final ByteBuffer buff;
+		if (this.length == 1 || wordOrder == WordOrder.MSWLSW) {
+			// Decode in place
+			buff = response.slice(position * 2, this.length * 2);
+
+		} else {
+			// LSWMSW: reverse the order of the words
+			buff = ByteBuffer.allocate(this.length * 2);
+			for (int i = this.length - 1; i >= 0; i--) {
+				var index = (position + i) * 2;
+				buff.put(response.get(index));
+				buff.put(response.get(index + 1));
+			}
+			buff.rewind();
+		}
+		return this.byteBufferToValue(buff.order(this.getByteOrder()));
+	}
+
 	protected final T commonRegistersToValue(Register[] registers, WordOrder wordOrder) {
 		// fill buffer
 		var buff = this.buildByteBuffer();
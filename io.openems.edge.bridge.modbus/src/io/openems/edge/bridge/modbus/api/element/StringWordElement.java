@@ -19,16 +19,16 @@ public class StringWordElement extends AbstractMultipleWordsElement<StringWordEl
 
 	@Override
 	protected String byteBufferToValue(ByteBuffer buff) {
-		var src = buff.array();
-		var out = new byte[src.length];
-		for (int i = 0; i < src.length; i += 2) {
+		// Use absolute gets: 'buff' might be a read-only view on a larger response
+		var out = new byte[this.length * 2];
+		for (int i = 0; i < out.length; i += 2) {
 			if (this.getByteOrder() == BIG_ENDIAN) {
-				out[i] = src[i];
-				out[i + 1] = src[i + 1];
+				out[i] = buff.get(i);
+				out[i + 1] = buff.get(i + 1);
 
 			} else { // LITTLE_ENDIAN
-				out[i] = src[i + 1];
-				out[i + 1] = src[i];
+				out[i] = buff.get(i + 1);
+				out[i + 1] = buff.get(i);
 			}
 		}
 		return new String(tidyUp(out)).trim();
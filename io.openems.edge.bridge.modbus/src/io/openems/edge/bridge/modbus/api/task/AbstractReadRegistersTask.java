@@ -1,36 +1,68 @@
 package io.openems.edge.bridge.modbus.api.task;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 
 import com.ghgande.j2mod.modbus.msg.ModbusRequest;
 import com.ghgande.j2mod.modbus.msg.ModbusResponse;
-import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.InputRegister;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusRegisterElement;
 import io.openems.edge.common.taskmanager.Priority;
 
+/**
+ * An abstract Task for reading Modbus registers.
+ *
+ * <p>
+ * The registers of a response are copied once into a read-only
+ * {@link ByteBuffer}; every {@link ModbusRegisterElement} then decodes its
+ * value directly at its offset.
+ */
 @SuppressWarnings("rawtypes")
 public abstract class AbstractReadRegistersTask<//
 		REQUEST extends ModbusRequest, //
 		RESPONSE extends ModbusResponse> //
-		extends AbstractReadTask<REQUEST, RESPONSE, ModbusRegisterElement, Register> {
+		extends AbstractReadTask<REQUEST, RESPONSE, ModbusRegisterElement, InputRegister> {
+
+	/** The response that {@link #responseBuffer} was created for. */
+	private InputRegister[] response = null;
+	private ByteBuffer responseBuffer = null;
 
 	public AbstractReadRegistersTask(String name, Class<RESPONSE> responseClazz, int startAddress, Priority priority,
 			ModbusElement... elements) {
 		super(name, responseClazz, ModbusRegisterElement.class, startAddress, priority, elements);
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
-	protected final void handleResponse(ModbusRegisterElement element, int position, Register[] response)
+	protected final void handleResponse(ModbusRegisterElement element, int position, InputRegister[] response)
 			throws OpenemsException {
-		element.setInputValue(Arrays.copyOfRange(response, position, position + element.length));
+		if (response != this.response) {
+			this.responseBuffer = toByteBuffer(response);
+			this.response = response;
+		}
+		element.setInputValue(this.responseBuffer, position);
+	}
+
+	/**
+	 * Converts {@link InputRegister}s to a read-only {@link ByteBuffer} with two
+	 * big-endian bytes per register.
+	 *
+	 * @param registers the {@link InputRegister}s
+	 * @return the {@link ByteBuffer}
+	 */
+	protected static ByteBuffer toByteBuffer(InputRegister[] registers) {
+		var bytes = new byte[registers.length * 2];
+		for (var i = 0; i < registers.length; i++) {
+			var value = registers[i].getValue();
+			bytes[i * 2] = (byte) (value >> 8);
+			bytes[i * 2 + 1] = (byte) value;
+		}
+		return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
 	}
 
 	@Override
 	protected final int calculateNextPosition(ModbusElement modbusElement, int position) {
 		return position + modbusElement.length;
 	}
-}
\ No newline at end of file
+}
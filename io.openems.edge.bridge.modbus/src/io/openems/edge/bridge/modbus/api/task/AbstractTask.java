@@ -20,6 +20,7 @@ import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.worker.ModbusMetrics;
 
 /**
  * An abstract Modbus 'AbstractTask' is holding references to one or more Modbus
@@ -38,6 +39,7 @@ public abstract non-sealed class AbstractTask<//
 	private final Logger log = LoggerFactory.getLogger(AbstractTask.class);
 
 	private AbstractOpenemsModbusComponent parent = null; // this is always set by ModbusProtocol.addTask()
+	private ModbusMetrics.TaskMetrics metrics = null; // acquired on first request via getMetrics()
 
 	public AbstractTask(String name, Class<RESPONSE> responseClazz, int startAddress, ModbusElement... elements) {
 		this.name = name;
@@ -76,6 +78,7 @@ public abstract non-sealed class AbstractTask<//
 
 	public void setParent(AbstractOpenemsModbusComponent parent) {
 		this.parent = parent;
+		this.metrics = null;
 	}
 
 	public AbstractOpenemsModbusComponent getParent() {
@@ -111,17 +114,42 @@ public abstract non-sealed class AbstractTask<//
 	protected RESPONSE executeRequest(AbstractModbusBridge bridge, REQUEST request) throws Exception {
 		var unitId = this.getParent().getUnitId();
 		var logVerbosity = this.getLogVerbosity(bridge);
+		var metrics = this.getMetrics(bridge);
 		try {
 			// First try
 			return this.logRequest(TryExecute.FIRST_TRY, bridge, logVerbosity, request,
-					() -> sendRequest(bridge, unitId, this.responseClazz, request));
+					() -> this.sendRequest(bridge, unitId, request));
 
 		} catch (Exception e) {
+			metrics.onError(e);
+
 			// Second try; with new connection
+			metrics.onRetry();
 			bridge.closeModbusConnection();
-			return this.logRequest(TryExecute.SECOND_TRY, bridge, logVerbosity, request,
-					() -> sendRequest(bridge, unitId, this.responseClazz, request));
+			try {
+				return this.logRequest(TryExecute.SECOND_TRY, bridge, logVerbosity, request,
+						() -> this.sendRequest(bridge, unitId, request));
+			} catch (Exception e2) {
+				metrics.onError(e2);
+				throw e2;
+			}
+		}
+	}
+
+	/**
+	 * Gets the {@link ModbusMetrics.TaskMetrics} of this {@link Task} at the
+	 * given Bridge.
+	 *
+	 * @param bridge the {@link AbstractModbusBridge}
+	 * @return the {@link ModbusMetrics.TaskMetrics}
+	 */
+	private ModbusMetrics.TaskMetrics getMetrics(AbstractModbusBridge bridge) {
+		var metrics = this.metrics;
+		if (metrics == null || !metrics.belongsTo(bridge.getMetrics())) {
+			metrics = bridge.getMetrics().getTaskMetrics(this);
+			this.metrics = metrics;
 		}
+		return metrics;
 	}
 
 	private static enum TryExecute {
@@ -349,29 +377,32 @@ public abstract non-sealed class AbstractTask<//
 
 	/**
 	 * Sends a {@link ModbusRequest} and returns the {@link ModbusResponse}.
+	 * Successful requests are recorded in the {@link ModbusMetrics} of the
+	 * bridge.
 	 * 
-	 * @param <RESPONSE> the type of the response
-	 * @param bridge     the {@link AbstractModbusBridge}
-	 * @param unitId     the Modbus Unit-ID
-	 * @param clazz      the class of the response
-	 * @param request    the {@link ModbusRequest}
+	 * @param bridge  the {@link AbstractModbusBridge}
+	 * @param unitId  the Modbus Unit-ID
+	 * @param request the {@link ModbusRequest}
 	 * @return the {@link ModbusResponse}
 	 * @throws Exception on error
 	 */
-	private static <RESPONSE extends ModbusResponse> RESPONSE sendRequest(AbstractModbusBridge bridge, int unitId,
-			Class<RESPONSE> clazz, ModbusRequest request) throws Exception {
+	private RESPONSE sendRequest(AbstractModbusBridge bridge, int unitId, ModbusRequest request) throws Exception {
 		request.setUnitID(unitId);
 		var transaction = bridge.getNewModbusTransaction();
 		transaction.setRequest(request);
+		var start = System.nanoTime();
 		transaction.execute();
 
 		var response = transaction.getResponse();
-		if (clazz.isInstance(response)) {
-			return (RESPONSE) clazz.cast(response);
+		if (this.responseClazz.isInstance(response)) {
+			this.getMetrics(bridge).onRequest(System.nanoTime() - start, //
+					/* Unit-ID + Function-Code + data */ 2 + request.getDataLength() //
+							+ 2 + response.getDataLength());
+			return this.responseClazz.cast(response);
 		}
 
 		throw new OpenemsException("Unexpected Modbus response. " //
-				+ "Expected [" + clazz.getSimpleName() + "] " //
+				+ "Expected [" + this.responseClazz.getSimpleName() + "] " //
 				+ "Got [" + response.getClass().getSimpleName() + "]");
 	}
 }
@@ -2,7 +2,7 @@ package io.openems.edge.bridge.modbus.api.task;
 
 import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
 import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
-import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.InputRegister;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.ModbusUtils;
@@ -26,7 +26,7 @@ public class FC3ReadRegistersTask
 	}
 
 	@Override
-	protected Register[] parseResponse(ReadMultipleRegistersResponse response) throws OpenemsException {
+	protected InputRegister[] parseResponse(ReadMultipleRegistersResponse response) throws OpenemsException {
 		return response.getRegisters();
 	}
 
@@ -1,11 +1,8 @@
 package io.openems.edge.bridge.modbus.api.task;
 
-import java.util.stream.Stream;
-
 import com.ghgande.j2mod.modbus.msg.ReadInputRegistersRequest;
 import com.ghgande.j2mod.modbus.msg.ReadInputRegistersResponse;
-import com.ghgande.j2mod.modbus.procimg.Register;
-import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+import com.ghgande.j2mod.modbus.procimg.InputRegister;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.ModbusUtils;
@@ -29,13 +26,8 @@ public class FC4ReadInputRegistersTask
 	}
 
 	@Override
-	protected Register[] parseResponse(ReadInputRegistersResponse response) throws OpenemsException {
-		return Stream.of(response.getRegisters()) //
-				.map(r -> {
-					var bs = r.toBytes();
-					return new SimpleRegister(bs[0], bs[1]);
-				}) //
-				.toArray(Register[]::new);
+	protected InputRegister[] parseResponse(ReadInputRegistersResponse response) throws OpenemsException {
+		return response.getRegisters();
 	}
 
 	@Override
@@ -0,0 +1,294 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.math.Quantiles;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.WaitTask;
+
+/**
+ * Collects latency and error metrics of the Modbus requests of one
+ * Modbus-Bridge, per {@link Task} and per Component.
+ *
+ * <p>
+ * Latencies are kept for the last {@value #SAMPLES} requests of each
+ * {@link Task} (and {@value #BRIDGE_SAMPLES} requests of the Bridge);
+ * counters are totals since activation.
+ */
+public class ModbusMetrics {
+
+	private static final int SAMPLES = 100;
+	private static final int BRIDGE_SAMPLES = 1000;
+	private static final String UNDEFINED_COMPONENT = "undefined";
+
+	/**
+	 * Summary of latencies in [ms] and counters.
+	 */
+	public static record Summary(long requests, long errors, long timeouts, long retries, long bytes, //
+			double latencyP50, double latencyP95, double latencyMax) {
+
+		private JsonObject toJson() {
+			return JsonUtils.buildJsonObject() //
+					.addProperty("requests", this.requests) //
+					.addProperty("errors", this.errors) //
+					.addProperty("timeouts", this.timeouts) //
+					.addProperty("retries", this.retries) //
+					.addProperty("bytes", this.bytes) //
+					.addProperty("latencyP50", this.latencyP50) //
+					.addProperty("latencyP95", this.latencyP95) //
+					.addProperty("latencyMax", this.latencyMax) //
+					.build();
+		}
+	}
+
+	private static class Counters {
+		protected final LongAdder requests = new LongAdder();
+		protected final LongAdder errors = new LongAdder();
+		protected final LongAdder timeouts = new LongAdder();
+		protected final LongAdder retries = new LongAdder();
+		protected final LongAdder bytes = new LongAdder();
+
+		/** Ring buffer of the latest latencies in [ns]. */
+		private final long[] latencies;
+		private int latenciesCount = 0;
+		private int latenciesNext = 0;
+
+		private Counters(int samples) {
+			this.latencies = new long[samples];
+		}
+
+		private void onRequest(long nanos, int bytes) {
+			this.requests.increment();
+			this.bytes.add(bytes);
+			synchronized (this) {
+				this.latencies[this.latenciesNext] = nanos;
+				this.latenciesNext = (this.latenciesNext + 1) % this.latencies.length;
+				if (this.latenciesCount < this.latencies.length) {
+					this.latenciesCount++;
+				}
+			}
+		}
+
+		private void onError(boolean isTimeout) {
+			this.requests.increment();
+			this.errors.increment();
+			if (isTimeout) {
+				this.timeouts.increment();
+			}
+		}
+
+		private synchronized long[] copyLatencies() {
+			return Arrays.copyOf(this.latencies, this.latenciesCount);
+		}
+
+		private static Summary toSummary(Collection<? extends Counters> counters) {
+			var latencies = new long[0];
+			long requests = 0;
+			long errors = 0;
+			long timeouts = 0;
+			long retries = 0;
+			long bytes = 0;
+			for (var c : counters) {
+				var l = c.copyLatencies();
+				var offset = latencies.length;
+				latencies = Arrays.copyOf(latencies, offset + l.length);
+				System.arraycopy(l, 0, latencies, offset, l.length);
+				requests += c.requests.sum();
+				errors += c.errors.sum();
+				timeouts += c.timeouts.sum();
+				retries += c.retries.sum();
+				bytes += c.bytes.sum();
+			}
+			return summarize(latencies, requests, errors, timeouts, retries, bytes);
+		}
+	}
+
+	/**
+	 * The metrics of one {@link Task}.
+	 *
+	 * <p>
+	 * Acquire once via {@link ModbusMetrics#getTaskMetrics(Task)} and keep it, so
+	 * that recording a request neither looks up nor allocates anything.
+	 */
+	public final class TaskMetrics extends Counters {
+		private final String componentId;
+		private final String task;
+
+		private TaskMetrics(String componentId, String task) {
+			super(SAMPLES);
+			this.componentId = componentId;
+			this.task = task;
+		}
+
+		/**
+		 * Is this {@link TaskMetrics} part of the given {@link ModbusMetrics}?.
+		 *
+		 * @param metrics the {@link ModbusMetrics}
+		 * @return true if it is
+		 */
+		public boolean belongsTo(ModbusMetrics metrics) {
+			return ModbusMetrics.this == metrics;
+		}
+
+		/**
+		 * Records a successful Modbus request.
+		 *
+		 * @param nanos the round-trip time in [ns]
+		 * @param bytes the number of bytes of request and response
+		 */
+		public void onRequest(long nanos, int bytes) {
+			super.onRequest(nanos, bytes);
+			ModbusMetrics.this.bridge.onRequest(nanos, bytes);
+		}
+
+		/**
+		 * Records a failed Modbus request.
+		 *
+		 * @param e the Exception
+		 */
+		public void onError(Exception e) {
+			var isTimeout = isTimeout(e);
+			super.onError(isTimeout);
+			ModbusMetrics.this.bridge.onError(isTimeout);
+		}
+
+		/**
+		 * Records a retry of a Modbus request on a new connection.
+		 */
+		public void onRetry() {
+			this.retries.increment();
+			ModbusMetrics.this.bridge.retries.increment();
+		}
+	}
+
+	private final Map<String, TaskMetrics> tasks = new ConcurrentHashMap<>();
+	private final Counters bridge = new Counters(BRIDGE_SAMPLES);
+	private final LongAdder waitDelayNanos = new LongAdder();
+
+	/**
+	 * Gets the {@link TaskMetrics} of a {@link Task}; creates them on first call.
+	 *
+	 * @param task the {@link Task}
+	 * @return the {@link TaskMetrics}
+	 */
+	public TaskMetrics getTaskMetrics(Task task) {
+		var parent = task.getParent();
+		var componentId = parent != null ? parent.id() : UNDEFINED_COMPONENT;
+		var name = task.getClass().getSimpleName() + ";ref=" + task.getStartAddress() + ";length="
+				+ task.getLength();
+		return this.tasks.computeIfAbsent(componentId + "/" + name, key -> new TaskMetrics(componentId, name));
+	}
+
+	/**
+	 * Records time spent in a {@link WaitTask.Delay}.
+	 *
+	 * @param nanos the duration in [ns]
+	 */
+	public void onWaitDelay(long nanos) {
+		this.waitDelayNanos.add(nanos);
+	}
+
+	/**
+	 * Gets the total time spent in {@link WaitTask.Delay}s.
+	 *
+	 * @return the time in [ms]
+	 */
+	public long getWaitDelayTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.waitDelayNanos.sum());
+	}
+
+	/**
+	 * Gets the {@link Summary} of all requests of the Bridge.
+	 *
+	 * @return the {@link Summary}
+	 */
+	public Summary getSummary() {
+		return Counters.toSummary(List.of(this.bridge));
+	}
+
+	/**
+	 * Serializes all metrics, grouped by Component and Task.
+	 *
+	 * <pre>
+	 * {
+	 *   "waitDelayTime": number, // [ms]
+	 *   "bridge": Summary,
+	 *   "components": {
+	 *     [componentId]: Summary & {
+	 *       "tasks": [Summary & { "task": string }]
+	 *     }
+	 *   }
+	 * }
+	 * </pre>
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		var byComponent = new TreeMap<String, List<TaskMetrics>>();
+		for (var c : this.tasks.values()) {
+			byComponent.computeIfAbsent(c.componentId, id -> new ArrayList<>()).add(c);
+		}
+		var components = new JsonObject();
+		byComponent.forEach((id, counters) -> {
+			counters.sort((a, b) -> a.task.compareTo(b.task));
+			var tasks = new JsonArray();
+			for (var c : counters) {
+				var task = Counters.toSummary(List.of(c)).toJson();
+				task.addProperty("task", c.task);
+				tasks.add(task);
+			}
+			var component = Counters.toSummary(counters).toJson();
+			component.add("tasks", tasks);
+			components.add(id, component);
+		});
+		return JsonUtils.buildJsonObject() //
+				.addProperty("waitDelayTime", this.getWaitDelayTime()) //
+				.add("bridge", this.getSummary().toJson()) //
+				.add("components", components) //
+				.build();
+	}
+
+	private static Summary summarize(long[] latencies, long requests, long errors, long timeouts, long retries,
+			long bytes) {
+		if (latencies.length == 0) {
+			return new Summary(requests, errors, timeouts, retries, bytes, 0, 0, 0);
+		}
+		var quantiles = Quantiles.percentiles().indexes(50, 95).compute(latencies);
+		var max = Arrays.stream(latencies).max().getAsLong();
+		return new Summary(requests, errors, timeouts, retries, bytes, //
+				toMillis(quantiles.get(50)), toMillis(quantiles.get(95)), toMillis(max));
+	}
+
+	private static double toMillis(double nanos) {
+		return Math.round(nanos / 10_000.) / 100.;
+	}
+
+	private static boolean isTimeout(Throwable e) {
+		while (e != null) {
+			if (e instanceof SocketTimeoutException || e instanceof TimeoutException) {
+				return true;
+			}
+			var message = e.getMessage();
+			if (message != null && message.toLowerCase().contains("timeout")) {
+				return true;
+			}
+			e = e.getCause();
+		}
+		return false;
+	}
+
+}
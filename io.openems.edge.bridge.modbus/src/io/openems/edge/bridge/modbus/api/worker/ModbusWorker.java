@@ -10,11 +10,15 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.task.WaitTask;
+import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager;
 import io.openems.edge.bridge.modbus.api.worker.internal.DefectiveComponents;
+import io.openems.edge.bridge.modbus.api.worker.internal.ParallelTasksExecutor;
 import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
 
 /**
@@ -39,6 +43,10 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
+	private final ModbusMetrics metrics = new ModbusMetrics();
+
+	private volatile ParallelTasksExecutor parallelTasksExecutor = null;
+
 	/**
 	 * Constructor for {@link ModbusWorker}.
 	 * 
@@ -63,16 +71,101 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.defectiveComponents = new DefectiveComponents(logVerbosity);
 		this.tasksSupplier = new TasksSupplierImpl();
 		this.cycleTasksManager = new CycleTasksManager(this.tasksSupplier, this.defectiveComponents,
-				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity);
+				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity, this::awaitPendingTasks);
+	}
+
+	/**
+	 * Gets the {@link ModbusMetrics} of this worker.
+	 *
+	 * @return the {@link ModbusMetrics}
+	 */
+	public ModbusMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Configures concurrent execution of Read- and Write-Tasks. See
+	 * {@link ParallelTasksExecutor}.
+	 * 
+	 * @param name                           the name of the Modbus-Bridge
+	 * @param maxConcurrentRequests          the max number of concurrent requests;
+	 *                                       1 executes all Tasks sequentially
+	 * @param maxConcurrentRequestsPerUnitId the max number of concurrent requests
+	 *                                       per Unit-ID
+	 */
+	public synchronized void setConcurrency(String name, int maxConcurrentRequests,
+			int maxConcurrentRequestsPerUnitId) {
+		var previous = this.parallelTasksExecutor;
+		if (maxConcurrentRequests > 1) {
+			this.parallelTasksExecutor = new ParallelTasksExecutor("Modbus:" + name, maxConcurrentRequests,
+					maxConcurrentRequestsPerUnitId, this::executeTask, this::handleResult);
+		} else {
+			this.parallelTasksExecutor = null;
+		}
+		if (previous != null) {
+			previous.deactivate();
+		}
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		this.setConcurrency(null, 1, 1);
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
+		var parallelTasksExecutor = this.parallelTasksExecutor;
+		if (parallelTasksExecutor != null) {
+			if (task instanceof ReadTask || task instanceof WriteTask) {
+				// execute the task concurrently
+				parallelTasksExecutor.execute(task);
+				return;
+			}
+			// finish all pending tasks before waiting
+			parallelTasksExecutor.awaitIdle();
+		}
+
 		// execute the task
+		var start = System.nanoTime();
+		var result = this.executeTask(task);
+		if (task instanceof WaitTask.Delay) {
+			this.metrics.onWaitDelay(System.nanoTime() - start);
+		}
+		this.handleResult(task, result);
+	}
+
+	/**
+	 * Executes a {@link Task} and reports the execution time of successful
+	 * {@link ReadTask}s to the {@link TasksSupplierImpl}.
+	 * 
+	 * @param task the {@link Task}
+	 * @return the {@link ExecuteState}
+	 */
+	private ExecuteState executeTask(Task task) {
+		var start = System.nanoTime();
 		var result = this.execute.apply(task);
+		if (result == ExecuteState.OK && task instanceof ReadTask) {
+			this.tasksSupplier.onExecuted(task, System.nanoTime() - start);
+		}
+		return result;
+	}
+
+	private void awaitPendingTasks() {
+		var parallelTasksExecutor = this.parallelTasksExecutor;
+		if (parallelTasksExecutor == null) {
+			return;
+		}
+		try {
+			parallelTasksExecutor.awaitIdle();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
 
+	private void handleResult(Task task, ExecuteState result) {
 		switch (result) {
 		case OK -> {
 			// no exception & at least one sub-task executed
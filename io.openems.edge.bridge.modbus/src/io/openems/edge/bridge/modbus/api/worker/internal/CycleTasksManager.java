@@ -27,19 +27,34 @@ public class CycleTasksManager {
 	private final DefectiveComponents defectiveComponents;
 	private final Consumer<Boolean> cycleTimeIsTooShortChannel;
 	private final AtomicReference<LogVerbosity> logVerbosity;
+	private final Runnable awaitPendingTasks;
 
 	private final WaitDelayHandler waitDelayHandler;
 	private final WaitTask.Mutex waitMutexTask = new WaitTask.Mutex();
 
 	private CycleTasks cycleTasks;
 
+	/**
+	 * Constructor for {@link CycleTasksManager}.
+	 * 
+	 * @param tasksSupplier              the {@link TasksSupplier}
+	 * @param defectiveComponents        the {@link DefectiveComponents}
+	 * @param cycleTimeIsTooShortChannel sets the CYCLE_TIME_IS_TOO_SHORT channel
+	 * @param cycleDelayChannel          sets the CYCLE_DELAY channel
+	 * @param logVerbosity               the configured {@link LogVerbosity}
+	 * @param awaitPendingTasks          blocks until all Tasks returned by
+	 *                                   {@link #getNextTask()} are finished; called
+	 *                                   before leaving a Read- or Write-State, if
+	 *                                   Tasks are executed concurrently
+	 */
 	public CycleTasksManager(TasksSupplier tasksSupplier, DefectiveComponents defectiveComponents,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
-			AtomicReference<LogVerbosity> logVerbosity) {
+			AtomicReference<LogVerbosity> logVerbosity, Runnable awaitPendingTasks) {
 		this.tasksSupplier = tasksSupplier;
 		this.defectiveComponents = defectiveComponents;
 		this.cycleTimeIsTooShortChannel = cycleTimeIsTooShortChannel;
 		this.logVerbosity = logVerbosity;
+		this.awaitPendingTasks = awaitPendingTasks;
 
 		this.waitDelayHandler = new WaitDelayHandler(() -> this.onWaitDelayTaskFinished(), cycleDelayChannel);
 	}
@@ -47,7 +62,8 @@ public class CycleTasksManager {
 	protected CycleTasksManager(TasksSupplier tasksSupplier, DefectiveComponents defectiveComponents,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel) {
 		this(tasksSupplier, defectiveComponents, cycleTimeIsTooShortChannel, cycleDelayChannel,
-				new AtomicReference<>(LogVerbosity.NONE));
+				new AtomicReference<>(LogVerbosity.NONE), () -> {
+				});
 	}
 
 	private static enum StateMachine {
@@ -72,6 +88,7 @@ public class CycleTasksManager {
 		// Evaluate Cycle-Time-Is-Too-Short, invalidate time measurement and stop early
 		var cycleTimeIsTooShort = this.state != StateMachine.FINISHED;
 		this.cycleTimeIsTooShortChannel.accept(cycleTimeIsTooShort);
+		this.tasksSupplier.onBeforeProcessImage(cycleTimeIsTooShort, this.waitDelayHandler.getSpareTime());
 		if (cycleTimeIsTooShort) {
 			this.waitDelayHandler.timeIsInvalid();
 			if (this.isTraceLog()) {
@@ -145,7 +162,8 @@ public class CycleTasksManager {
 			if (task != null) {
 				yield task;
 			}
-			// Otherwise -> next state + recursive call
+			// Otherwise -> finish pending Tasks, next state + recursive call
+			this.awaitPendingTasks.run();
 			this.state = StateMachine.WAIT_FOR_WRITE;
 			yield this.getNextTask();
 		}
@@ -160,7 +178,8 @@ public class CycleTasksManager {
 			if (task != null) {
 				yield task;
 			}
-			// Otherwise -> next state + recursive call
+			// Otherwise -> finish pending Tasks, next state + recursive call
+			this.awaitPendingTasks.run();
 			this.state = StateMachine.WAIT_BEFORE_READ;
 			yield this.getNextTask();
 		}
@@ -175,7 +194,8 @@ public class CycleTasksManager {
 			if (task != null) {
 				yield task;
 			}
-			// Otherwise -> next state + recursive call
+			// Otherwise -> finish pending Tasks, next state + recursive call
+			this.awaitPendingTasks.run();
 			this.state = StateMachine.FINISHED;
 			yield this.getNextTask();
 		}
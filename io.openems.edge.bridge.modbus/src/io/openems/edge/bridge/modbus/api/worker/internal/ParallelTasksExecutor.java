@@ -0,0 +1,150 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.task.WriteTask;
+import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+
+/**
+ * Executes Read- and Write-Tasks of one Modbus-Bridge concurrently, i.e. keeps
+ * multiple Modbus transactions in flight.
+ *
+ * <p>
+ * Tasks are submitted in order by the {@link ModbusWorker} thread:
+ * <ul>
+ * <li>at most {@code maxConcurrentRequests} Tasks are executed at the same time
+ * <li>at most {@code maxConcurrentRequestsPerUnitId} Tasks are executed at the
+ * same time for one Modbus Unit-ID
+ * <li>Write-Tasks are executed exclusively per Unit-ID and in the order they
+ * were submitted
+ * <li>Read-Tasks and Write-Tasks are never executed at the same time: before a
+ * Task of the other kind is started, all in-flight Tasks are finished. This
+ * keeps the read-before-write/write/read-after-write semantics of the
+ * {@link CycleTasksManager}.
+ * </ul>
+ * Permits are acquired on the submitting thread, so a Task that has to wait
+ * for a permit also delays all Tasks that are submitted after it.
+ */
+public class ParallelTasksExecutor {
+
+	private final Function<Task, ExecuteState> execute;
+	private final BiConsumer<Task, ExecuteState> onResult;
+	private final int maxConcurrentRequests;
+	private final int maxConcurrentRequestsPerUnitId;
+	private final ExecutorService executor;
+	private final Map<Integer, Semaphore> unitIdPermits = new ConcurrentHashMap<>();
+
+	private int inFlight = 0;
+	private boolean inFlightAreWrites = false;
+
+	/**
+	 * Constructor for {@link ParallelTasksExecutor}.
+	 *
+	 * @param name                           the name of the Modbus-Bridge; used
+	 *                                       for the thread names
+	 * @param maxConcurrentRequests          the max number of concurrently
+	 *                                       executed Tasks
+	 * @param maxConcurrentRequestsPerUnitId the max number of concurrently
+	 *                                       executed Tasks per Unit-ID
+	 * @param execute                        executes a {@link Task}
+	 * @param onResult                       handles the {@link ExecuteState} of
+	 *                                       an executed {@link Task}
+	 */
+	public ParallelTasksExecutor(String name, int maxConcurrentRequests, int maxConcurrentRequestsPerUnitId,
+			Function<Task, ExecuteState> execute, BiConsumer<Task, ExecuteState> onResult) {
+		this.execute = execute;
+		this.onResult = onResult;
+		this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+		this.maxConcurrentRequestsPerUnitId = Math.max(1, maxConcurrentRequestsPerUnitId);
+		this.executor = Executors.newFixedThreadPool(this.maxConcurrentRequests,
+				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+	}
+
+	/**
+	 * Submits a Read- or Write-Task for execution. Blocks until the Task could be
+	 * started.
+	 *
+	 * @param task the {@link ReadTask} or {@link WriteTask}
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void execute(Task task) throws InterruptedException {
+		final var isWrite = task instanceof WriteTask;
+		final var unitIdPermits = this.unitIdPermits.computeIfAbsent(getUnitId(task),
+				unitId -> new Semaphore(this.maxConcurrentRequestsPerUnitId, true));
+		final var permits = isWrite ? this.maxConcurrentRequestsPerUnitId : 1;
+
+		synchronized (this) {
+			// Finish Tasks of the other kind; wait for a free slot
+			while (this.inFlight > 0 && this.inFlightAreWrites != isWrite
+					|| this.inFlight >= this.maxConcurrentRequests) {
+				this.wait();
+			}
+		}
+		unitIdPermits.acquire(permits);
+		synchronized (this) {
+			this.inFlight++;
+			this.inFlightAreWrites = isWrite;
+		}
+
+		try {
+			this.executor.execute(() -> {
+				try {
+					this.onResult.accept(task, this.execute.apply(task));
+				} finally {
+					this.finish(unitIdPermits, permits);
+				}
+			});
+		} catch (RuntimeException e) {
+			// e.g. RejectedExecutionException on shutdown
+			this.finish(unitIdPermits, permits);
+			throw e;
+		}
+	}
+
+	private void finish(Semaphore unitIdPermits, int permits) {
+		unitIdPermits.release(permits);
+		synchronized (this) {
+			this.inFlight--;
+			this.notifyAll();
+		}
+	}
+
+	/**
+	 * Blocks until all in-flight Tasks are finished.
+	 *
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public synchronized void awaitIdle() throws InterruptedException {
+		while (this.inFlight > 0) {
+			this.wait();
+		}
+	}
+
+	/**
+	 * Stops the {@link ParallelTasksExecutor}.
+	 */
+	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+	}
+
+	private static Integer getUnitId(Task task) {
+		if (task.getParent() instanceof AbstractOpenemsModbusComponent component && component.getUnitId() != null) {
+			return component.getUnitId();
+		}
+		return -1;
+	}
+
+}
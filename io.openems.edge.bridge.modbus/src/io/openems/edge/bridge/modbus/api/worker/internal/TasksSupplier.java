@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import io.openems.edge.bridge.modbus.api.task.Task;
+
 public interface TasksSupplier {
 
 	/**
@@ -10,6 +12,29 @@ public interface TasksSupplier {
 	 */
 	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents);
 
+	/**
+	 * Called on BEFORE_PROCESS_IMAGE event, before
+	 * {@link #getCycleTasks(DefectiveComponents)}. Allows adapting the number of
+	 * LOW priority Tasks to the available time.
+	 * 
+	 * @param cycleTimeIsTooShort the previous Cycle did not finish in time
+	 * @param spareTime           the measured spare time of the previous Cycle in
+	 *                            [ms], i.e. the time between FINISHED and
+	 *                            BEFORE_PROCESS_IMAGE
+	 */
+	public default void onBeforeProcessImage(boolean cycleTimeIsTooShort, long spareTime) {
+	}
+
+	/**
+	 * Called after a {@link Task} was executed successfully. Allows estimating
+	 * the execution time of LOW priority Tasks.
+	 * 
+	 * @param task     the {@link Task}
+	 * @param duration the measured execution time in [ns]
+	 */
+	public default void onExecuted(Task task, long duration) {
+	}
+
 	/**
 	 * Gets the total number of tasks.
 	 * 
@@ -1,34 +1,76 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.taskmanager.Priority;
-import io.openems.edge.common.taskmanager.TasksManager;
-import io.openems.edge.common.type.Tuple;
 
 /**
  * Supplies Tasks.
+ *
+ * <p>
+ * Every Cycle contains all HIGH priority {@link ReadTask}s, all
+ * {@link WriteTask}s and at least one LOW priority {@link ReadTask}. LOW
+ * priority Tasks are taken round-robin across Components.
+ *
+ * <p>
+ * The execution time of every LOW priority Task is estimated from its measured
+ * execution times. An additional LOW priority Task is only added to a Cycle if
+ * the sum of the estimates of all added Tasks fits into the measured spare time
+ * of the previous Cycle minus {@link #SAFETY_BUFFER_MS}. Tasks without an
+ * estimate are never added on top; they get measured while being executed
+ * round-robin. If a Cycle did not finish in time, the number of LOW priority
+ * Tasks is halved.
+ *
+ * <p>
+ * The Tasks are sorted once per change of a {@link ModbusProtocol}, not on
+ * every Cycle.
  */
 public class TasksSupplierImpl implements TasksSupplier {
 
 	/**
-	 * Source-ID -> TasksManager for {@link Task}s.
+	 * Spare time in [ms] that is never filled with additional LOW priority Tasks.
 	 */
-	private final Map<String, TasksManager<Task>> taskManagers = new HashMap<>();
+	protected static final long SAFETY_BUFFER_MS = 20;
 
 	/**
-	 * Queue of LOW priority {@link ReadTask}s.
+	 * Source-ID -> {@link ModbusProtocol}.
 	 */
-	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
+	private final Map<String, ModbusProtocol> protocols = new LinkedHashMap<>();
+
+	/**
+	 * The precomputed Tasks of one Component.
+	 */
+	private static record ComponentTasks(String id, ModbusProtocol protocol, int version,
+			ReadTask[] highPriorityReads, WriteTask[] writes, Task[] all) {
+	}
+
+	private ComponentTasks[] components = new ComponentTasks[0];
+
+	/**
+	 * LOW priority {@link ReadTask}s, interleaved across Components.
+	 */
+	private ReadTask[] lowPriorityReads = new ReadTask[0];
+	private String[] lowPriorityReadComponentIds = new String[0];
+
+	/**
+	 * Estimated execution time in [ns] of each LOW priority {@link ReadTask}; zero
+	 * if unknown. Same indexes as {@link #lowPriorityReads}.
+	 */
+	private long[] lowPriorityReadDurations = new long[0];
+	private Map<Task, Integer> lowPriorityReadIndexes = new IdentityHashMap<>();
+
+	private boolean isRebuildRequired = true;
+	private int nextLowPriorityRead = 0;
+	private int lowPriorityReadsPerCycle = 1;
 
 	/**
 	 * Adds the protocol.
@@ -37,7 +79,8 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 * @param protocol the ModbusProtocol
 	 */
 	public synchronized void addProtocol(String sourceId, ModbusProtocol protocol) {
-		this.taskManagers.put(sourceId, protocol.getTaskManager());
+		this.protocols.put(sourceId, protocol);
+		this.isRebuildRequired = true;
 	}
 
 	/**
@@ -46,85 +89,171 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 * @param sourceId Component-ID of the source
 	 */
 	public synchronized void removeProtocol(String sourceId) {
-		this.taskManagers.remove(sourceId);
+		this.protocols.remove(sourceId);
+		this.isRebuildRequired = true;
+	}
+
+	@Override
+	public synchronized void onBeforeProcessImage(boolean cycleTimeIsTooShort, long spareTime) {
+		if (cycleTimeIsTooShort) {
+			this.lowPriorityReadsPerCycle = Math.max(1, this.lowPriorityReadsPerCycle / 2);
+			return;
+		}
+
+		// Add LOW priority Tasks while their estimates fit into the spare time
+		var budget = (spareTime - SAFETY_BUFFER_MS) * 1_000_000L;
+		while (this.lowPriorityReadsPerCycle < this.lowPriorityReads.length) {
+			// The Task that would be added at the end of the next Cycle
+			var index = (this.nextLowPriorityRead + this.lowPriorityReadsPerCycle) % this.lowPriorityReads.length;
+			var duration = this.lowPriorityReadDurations[index];
+			if (duration == 0 || duration > budget) {
+				return;
+			}
+			budget -= duration;
+			this.lowPriorityReadsPerCycle++;
+		}
+	}
+
+	@Override
+	public synchronized void onExecuted(Task task, long duration) {
+		var index = this.lowPriorityReadIndexes.get(task);
+		if (index == null) {
+			return;
+		}
+		var previous = this.lowPriorityReadDurations[index];
+		this.lowPriorityReadDurations[index] = previous == 0 //
+				? Math.max(1, duration) //
+				: Math.max(1, (previous * 3 + duration) / 4); // exponential moving average
 	}
 
 	@Override
 	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
-		Map<String, LinkedList<Task>> tasks = new HashMap<>();
-		// One Low Priority ReadTask
-		{
-			var t = this.getOneLowPriorityReadTask();
-			if (t != null) {
-				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
-						.add(t.b());
+		this.rebuildIfRequired();
+
+		var reads = new LinkedList<ReadTask>();
+		var writes = new LinkedList<WriteTask>();
+
+		// LOW priority ReadTasks first
+		var lowPriorityReadsPerCycle = Math.min(this.lowPriorityReadsPerCycle, this.lowPriorityReads.length);
+		for (var i = 0; i < lowPriorityReadsPerCycle; i++) {
+			if (this.nextLowPriorityRead >= this.lowPriorityReads.length) {
+				this.nextLowPriorityRead = 0;
+			}
+			var index = this.nextLowPriorityRead++;
+			if (!defectiveComponents.isKnown(this.lowPriorityReadComponentIds[index])) {
+				reads.add(this.lowPriorityReads[index]);
 			}
 		}
-		// All High Priority ReadTasks + all WriteTasks
-		this.taskManagers.forEach((id, taskManager) -> {
-			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
-					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
-					.forEach(list::add);
-		});
-		// Filter out defective components
-		tasks.forEach((id, componentTasks) -> {
-			var isDue = defectiveComponents.isDueForNextTry(id);
+
+		// All HIGH priority ReadTasks + all WriteTasks
+		for (var component : this.components) {
+			var isDue = defectiveComponents.isDueForNextTry(component.id);
 			if (isDue == null) {
 				// Component is not defective -> keep all tasks
-			} else if (isDue) {
+				for (var task : component.highPriorityReads) {
+					reads.add(task);
+				}
+				for (var task : component.writes) {
+					writes.add(task);
+				}
+
+			} else if (isDue && component.all.length > 0) {
 				// Component is due for next try -> keep only one random Task
-				Collections.shuffle(componentTasks);
-				while (componentTasks.size() > 1) {
-					componentTasks.pop();
+				var task = component.all[ThreadLocalRandom.current().nextInt(component.all.length)];
+				if (task instanceof ReadTask readTask) {
+					reads.add(readTask);
+				} else if (task instanceof WriteTask writeTask) {
+					writes.add(writeTask);
 				}
-			} else {
-				// Component is defective and not due -> drop all tasks
-				componentTasks.clear();
 			}
-		});
-		return new CycleTasks(//
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
-						// Sort HIGH priority to the end
-						.sorted((a, b) -> b.getPriority().compareTo(a.getPriority())) //
-						.collect(Collectors.toCollection(LinkedList::new)),
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(WriteTask.class::isInstance).map(WriteTask.class::cast) //
-						.collect(Collectors.toCollection(LinkedList::new)));
+			// else: Component is defective and not due -> drop all tasks
+		}
+
+		return new CycleTasks(reads, writes);
 	}
 
 	/**
-	 * Get one LOW priority task.
-	 *
-	 * @return the next task; null if there is no available task
+	 * Rebuilds the precomputed Tasks if a {@link ModbusProtocol} was added,
+	 * removed or changed.
 	 */
-	private synchronized Tuple<String, ReadTask> getOneLowPriorityReadTask() {
-		var refilledBefore = false;
-		while (true) {
-			var task = this.nextLowPriorityTasks.poll();
-			if (task != null) {
-				return task;
+	private void rebuildIfRequired() {
+		if (!this.isRebuildRequired) {
+			for (var component : this.components) {
+				if (component.version != component.protocol.getVersion()) {
+					this.isRebuildRequired = true;
+					break;
+				}
 			}
-			if (refilledBefore) {
-				// queue had been refilled before, but still cannot find a matching task -> quit
-				return null;
+			if (!this.isRebuildRequired) {
+				return;
 			}
-			// refill the queue
-			this.taskManagers.forEach((id, taskManager) -> {
-				taskManager.getTasks(Priority.LOW).stream() //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
-						.map(t -> new Tuple<String, ReadTask>(id, t)) //
-						.forEach(this.nextLowPriorityTasks::add);
-			});
-			refilledBefore = true;
 		}
+
+		var components = new ArrayList<ComponentTasks>();
+		var lowPriorityReads = new ArrayList<ArrayList<ReadTask>>();
+		for (var entry : this.protocols.entrySet()) {
+			var protocol = entry.getValue();
+			var version = protocol.getVersion();
+			var highPriorityReads = new ArrayList<ReadTask>();
+			var writes = new ArrayList<WriteTask>();
+			var lows = new ArrayList<ReadTask>();
+			var tasks = protocol.getTaskManager().getTasks();
+			for (var task : tasks) {
+				if (task instanceof WriteTask writeTask) {
+					writes.add(writeTask);
+				} else if (task instanceof ReadTask readTask) {
+					if (readTask.getPriority() == Priority.HIGH) {
+						highPriorityReads.add(readTask);
+					} else {
+						lows.add(readTask);
+					}
+				}
+			}
+			components.add(new ComponentTasks(entry.getKey(), protocol, version, //
+					highPriorityReads.toArray(ReadTask[]::new), writes.toArray(WriteTask[]::new),
+					tasks.toArray(Task[]::new)));
+			lowPriorityReads.add(lows);
+		}
+
+		// Interleave LOW priority ReadTasks: Component A #1, Component B #1, A #2,...
+		var reads = new ArrayList<ReadTask>();
+		var ids = new ArrayList<String>();
+		var maxSize = lowPriorityReads.stream().mapToInt(ArrayList::size).max().orElse(0);
+		for (var i = 0; i < maxSize; i++) {
+			for (var c = 0; c < components.size(); c++) {
+				var lows = lowPriorityReads.get(c);
+				if (i < lows.size()) {
+					reads.add(lows.get(i));
+					ids.add(components.get(c).id);
+				}
+			}
+		}
+
+		// Keep the estimates of unchanged Tasks
+		var durations = new long[reads.size()];
+		var indexes = new IdentityHashMap<Task, Integer>();
+		for (var i = 0; i < reads.size(); i++) {
+			var task = reads.get(i);
+			var previous = this.lowPriorityReadIndexes.get(task);
+			if (previous != null) {
+				durations[i] = this.lowPriorityReadDurations[previous];
+			}
+			indexes.put(task, i);
+		}
+
+		this.components = components.toArray(ComponentTasks[]::new);
+		this.lowPriorityReads = reads.toArray(ReadTask[]::new);
+		this.lowPriorityReadComponentIds = ids.toArray(String[]::new);
+		this.lowPriorityReadDurations = durations;
+		this.lowPriorityReadIndexes = indexes;
+		this.nextLowPriorityRead = 0;
+		this.isRebuildRequired = false;
 	}
 
 	@Override
 	public synchronized int getTotalNumberOfTasks() {
-		return this.taskManagers.values().stream() //
-				.mapToInt(m -> m.countTasks()) //
+		return this.protocols.values().stream() //
+				.mapToInt(p -> p.getTaskManager().countTasks()) //
 				.sum();
 	}
 }
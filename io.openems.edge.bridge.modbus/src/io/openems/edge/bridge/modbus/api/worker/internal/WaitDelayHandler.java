@@ -36,6 +36,13 @@ public class WaitDelayHandler {
 	 */
 	private boolean timeIsInvalid = false;
 
+	/**
+	 * The time in [ms] between FINISHED and BEFORE_PROCESS_IMAGE of the previous
+	 * Cycle, i.e. time that was not used by the {@link WaitTask.Delay} nor by any
+	 * other Task.
+	 */
+	private long spareTime = 0;
+
 	protected WaitDelayHandler(Ticker ticker, Runnable onWaitDelayTaskFinished, Consumer<Long> cycleDelayChannel) {
 		this.stopwatch = Stopwatch.createUnstarted(ticker);
 		this.onWaitDelayTaskFinished = onWaitDelayTaskFinished;
@@ -83,6 +90,7 @@ public class WaitDelayHandler {
 	 */
 	public synchronized String onBeforeProcessImage(boolean traceLog) {
 		String log = "";
+		this.spareTime = 0;
 
 		if (this.timeIsInvalid) {
 			// Do not add possibleDelay if previous Cycle contained a defective component
@@ -95,6 +103,7 @@ public class WaitDelayHandler {
 			if (this.stopwatch.isRunning()) {
 				// Coming from FINISHED state -> it's possible to increase delay
 				this.stopwatch.stop();
+				this.spareTime = this.stopwatch.elapsed().toMillis();
 				possibleDelay = this.waitDelayTask.initialDelay + this.stopwatch.elapsed().toMillis();
 				if (traceLog) {
 					log = "PreviousDelay [" + this.waitDelayTask.initialDelay + "ms] " //
@@ -171,6 +180,17 @@ public class WaitDelayHandler {
 		return this.waitDelayTask;
 	}
 
+	/**
+	 * Gets the spare time of the previous Cycle, i.e. the time in [ms] between
+	 * FINISHED and BEFORE_PROCESS_IMAGE event. Zero if the previous Cycle did not
+	 * finish or its time measurement was invalid.
+	 * 
+	 * @return the spare time in [ms]
+	 */
+	public synchronized long getSpareTime() {
+		return this.spareTime;
+	}
+
 	/**
 	 * Generates a {@link WaitDelayTask} with the 1st 4th-quantile of all possible
 	 * waiting times in the queue, i.e. one of the shortest possible delays - minus
@@ -0,0 +1,37 @@
+package io.openems.edge.bridge.modbus.jsonrpc;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Wraps a JSON-RPC Request to query the latency and error metrics of a
+ * Modbus-Bridge, per Component and Task.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getModbusMetrics",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class GetModbusMetricsRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getModbusMetrics";
+
+	public GetModbusMetricsRequest() {
+		super(METHOD);
+	}
+
+	private GetModbusMetricsRequest(JsonrpcRequest request) {
+		super(request, METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
@@ -22,6 +22,7 @@ import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
 import io.openems.edge.bridge.modbus.api.ElementToChannelConverter;
 import io.openems.edge.bridge.modbus.api.ElementToChannelScaleFactorConverter;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.ModbusProtocolOptimizer;
 import io.openems.edge.bridge.modbus.api.ModbusUtils;
 import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
@@ -45,6 +46,13 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 	 */
 	private static final int MAXIMUM_TASK_LENGTH = 126;
 
+	/**
+	 * Length of the header (ID and length) of a SunSpec Model. Read-Tasks of
+	 * consecutive Models are merged across it; it is part of the SunSpec register
+	 * map, so it can always be read.
+	 */
+	private static final int MODEL_HEADER_LENGTH = 2;
+
 	private final Logger log = LoggerFactory.getLogger(AbstractOpenemsSunSpecComponent.class);
 
 	// The active SunSpec-Models and their reading-priority
@@ -73,7 +81,7 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 			io.openems.edge.common.channel.ChannelId[]... furtherInitialChannelIds) throws OpenemsException {
 		super(firstInitialChannelIds, furtherInitialChannelIds);
 		this.activeModels = activeModels;
-		this.modbusProtocol = new ModbusProtocol(this);
+		this.modbusProtocol = new ModbusProtocol(this, new ModbusProtocolOptimizer(MODEL_HEADER_LENGTH));
 	}
 
 	@Override
@@ -293,7 +301,7 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 				+ startAddress + "]");
 		var readElements = new ArrayList<ModbusElement>();
 		var writeElements = new ArrayList<ModbusElement>();
-		startAddress += 2;
+		startAddress += MODEL_HEADER_LENGTH;
 		for (var i = 0; i < model.points().length; i++) {
 			var point = model.points()[i];
 			final var element = point.get().generateModbusElement(startAddress);
@@ -12,6 +12,8 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int maxConcurrentRequests = 1;
+		private int maxConcurrentRequestsPerUnitId = 1;
 
 		private Builder() {
 		}
@@ -41,6 +43,16 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setMaxConcurrentRequests(int maxConcurrentRequests) {
+			this.maxConcurrentRequests = maxConcurrentRequests;
+			return this;
+		}
+
+		public Builder setMaxConcurrentRequestsPerUnitId(int maxConcurrentRequestsPerUnitId) {
+			this.maxConcurrentRequestsPerUnitId = maxConcurrentRequestsPerUnitId;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +94,14 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int maxConcurrentRequests() {
+		return this.builder.maxConcurrentRequests;
+	}
+
+	@Override
+	public int maxConcurrentRequestsPerUnitId() {
+		return this.builder.maxConcurrentRequestsPerUnitId;
+	}
+
 }
\ No newline at end of file
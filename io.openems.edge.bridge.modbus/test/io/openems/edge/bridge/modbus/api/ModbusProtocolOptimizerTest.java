@@ -0,0 +1,84 @@
+package io.openems.edge.bridge.modbus.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ModbusProtocolOptimizerTest {
+
+	@Test
+	public void testMergeWithGap() {
+		var sut = new ModbusProtocolOptimizer(2);
+		var t1 = new FC3ReadRegistersTask(100, Priority.HIGH, //
+				new UnsignedWordElement(100), //
+				new UnsignedDoublewordElement(101));
+		var t2 = new FC3ReadRegistersTask(105, Priority.HIGH, //
+				new UnsignedWordElement(105));
+		var t3 = new FC3ReadRegistersTask(109, Priority.HIGH, //
+				new UnsignedWordElement(109));
+
+		var result = sut.coalesce(List.of(t3, t1, t2));
+		assertEquals(2, result.size());
+
+		var merged = result.get(0);
+		assertTrue(merged instanceof FC3ReadRegistersTask);
+		assertEquals(100, merged.getStartAddress());
+		assertEquals(6, merged.getLength());
+		assertEquals(4, merged.getElements().length);
+		assertTrue(merged.getElements()[2] instanceof DummyRegisterElement);
+		assertSame(merged, t1.getElements()[0].getModbusTask());
+		assertEquals(Priority.HIGH, merged.getPriority());
+
+		// Gap of 3 registers is too large
+		assertSame(t3, result.get(1));
+	}
+
+	@Test
+	public void testForbiddenAddress() {
+		var sut = new ModbusProtocolOptimizer(10, 103);
+		var t1 = new FC4ReadInputRegistersTask(100, Priority.LOW, new UnsignedWordElement(100));
+		var t2 = new FC4ReadInputRegistersTask(105, Priority.LOW, new UnsignedWordElement(105));
+		var t3 = new FC4ReadInputRegistersTask(110, Priority.LOW, new UnsignedWordElement(110));
+
+		var result = sut.coalesce(List.of(t1, t2, t3));
+		assertEquals(2, result.size());
+		assertSame(t1, result.get(0));
+		assertTrue(result.get(1) instanceof FC4ReadInputRegistersTask);
+		assertEquals(105, result.get(1).getStartAddress());
+		assertEquals(6, result.get(1).getLength());
+	}
+
+	@Test
+	public void testMaxLength() {
+		var sut = new ModbusProtocolOptimizer(0);
+		var t1 = new FC3ReadRegistersTask(0, Priority.HIGH, new DummyRegisterElement(0, 99));
+		var t2 = new FC3ReadRegistersTask(100, Priority.HIGH, new DummyRegisterElement(100, 124));
+		var t3 = new FC3ReadRegistersTask(125, Priority.HIGH, new UnsignedWordElement(125));
+
+		var result = sut.coalesce(List.of(t1, t2, t3));
+		assertEquals(2, result.size());
+		assertEquals(ModbusProtocolOptimizer.MAX_LENGTH, result.get(0).getLength());
+		assertSame(t3, result.get(1));
+	}
+
+	@Test
+	public void testDisabled() {
+		Task task = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedWordElement(0));
+		assertFalse(ModbusProtocolOptimizer.DISABLED.canCoalesce(task));
+		assertTrue(new ModbusProtocolOptimizer(0).canCoalesce(task));
+	}
+
+}
@@ -159,4 +159,50 @@ public class BitsWordElementTest {
 		}
 		return channel;
 	}
+
+	@Test
+	public void testReadFromBuffer() throws Exception {
+		var sut = generateSut();
+
+		final var channel0 = addBit(sut, 0);
+		final var channel1 = addBit(sut, 1);
+		final var channel2 = addBit(sut, 2, BitConverter.INVERT);
+
+		sut.setInputValue(new SimpleRegister((byte) 0x00, (byte) 0x01));
+
+		assertTrue(channel0.getNextValue().get());
+		assertFalse(channel1.getNextValue().get());
+		assertTrue(channel2.getNextValue().get());
+	}
+
+	@Test
+	public void testReadHighByte() throws Exception {
+		var sut = generateSut();
+
+		final var channel0 = addBit(sut, 0);
+		final var channel8 = addBit(sut, 8);
+		final var channel15 = addBit(sut, 15);
+
+		sut.setInputValue(new SimpleRegister((byte) 0x81, (byte) 0x00));
+
+		assertFalse(channel0.getNextValue().get());
+		assertTrue(channel8.getNextValue().get());
+		assertTrue(channel15.getNextValue().get());
+	}
+
+	@Test
+	public void testInvalidateFromBuffer() throws Exception {
+		var sut = generateSut();
+		final var bridge = (AbstractModbusBridge) sut.getBridgeModbus();
+
+		final var channel0 = addBit(sut, 0);
+
+		sut.setInputValue(new SimpleRegister((byte) 0x00, (byte) 0x01));
+
+		assertTrue(channel0.getNextValue().get());
+		sut.element.invalidate(bridge); // invalidValueCounter = 1
+		assertTrue(channel0.getNextValue().get());
+		sut.element.invalidate(bridge); // invalidValueCounter = 2
+		assertNull(channel0.getNextValue().get());
+	}
 }
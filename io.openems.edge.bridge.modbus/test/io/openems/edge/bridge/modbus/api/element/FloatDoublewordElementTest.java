@@ -75,4 +75,51 @@ public class FloatDoublewordElementTest {
 		assertArrayEquals(new byte[] { (byte) 0x51, (byte) 0xEC }, registers[1].toBytes());
 	}
 
+	@Test
+	public void testReadBigEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new FloatDoublewordElement(0), //
+				FLOAT);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x44, (byte) 0x9A), //
+				new SimpleRegister((byte) 0x51, (byte) 0xEC) //
+		);
+		assertEquals(1234.56F, (float) sut.channel.getNextValue().get(), 0.001F);
+	}
+
+	@Test
+	public void testReadBigEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new FloatDoublewordElement(0).wordOrder(LSWMSW), //
+				FLOAT);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x51, (byte) 0xEC), //
+				new SimpleRegister((byte) 0x44, (byte) 0x9A) //
+		);
+		assertEquals(1234.56F, (float) sut.channel.getNextValue().get(), 0.001F);
+	}
+
+	@Test
+	public void testReadLittleEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new FloatDoublewordElement(0).byteOrder(LITTLE_ENDIAN), //
+				FLOAT);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xEC, (byte) 0x51), //
+				new SimpleRegister((byte) 0x9A, (byte) 0x44) //
+		);
+		assertEquals(1234.56F, (float) sut.channel.getNextValue().get(), 0.001F);
+	}
+
+	@Test
+	public void testReadLittleEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new FloatDoublewordElement(0).wordOrder(LSWMSW).byteOrder(LITTLE_ENDIAN), //
+				FLOAT);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x9A, (byte) 0x44), //
+				new SimpleRegister((byte) 0xEC, (byte) 0x51) //
+		);
+		assertEquals(1234.56F, (float) sut.channel.getNextValue().get(), 0.001F);
+	}
 }
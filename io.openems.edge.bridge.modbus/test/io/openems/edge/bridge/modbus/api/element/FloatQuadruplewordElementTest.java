@@ -85,4 +85,60 @@ public class FloatQuadruplewordElementTest {
 		assertArrayEquals(new byte[] { (byte) 0x00, (byte) 0x00 }, registers[2].toBytes());
 		assertArrayEquals(new byte[] { (byte) 0x00, (byte) 0x00 }, registers[3].toBytes());
 	}
+
+	@Test
+	public void testReadBigEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new FloatQuadruplewordElement(0), //
+				DOUBLE);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x40, (byte) 0x93), //
+				new SimpleRegister((byte) 0x4A, (byte) 0x3D), //
+				new SimpleRegister((byte) 0x70, (byte) 0xA3), //
+				new SimpleRegister((byte) 0xD7, (byte) 0x0A) //
+		);
+		assertEquals(1234.56, (double) sut.channel.getNextValue().get(), 0.001);
+	}
+
+	@Test
+	public void testReadBigEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new FloatQuadruplewordElement(0).wordOrder(WordOrder.LSWMSW), //
+				DOUBLE);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xD7, (byte) 0x0A), //
+				new SimpleRegister((byte) 0x70, (byte) 0xA3), //
+				new SimpleRegister((byte) 0x4A, (byte) 0x3D), //
+				new SimpleRegister((byte) 0x40, (byte) 0x93) //
+		);
+		assertEquals(1234.56, (double) sut.channel.getNextValue().get(), 0.001);
+	}
+
+	@Test
+	public void testReadLittleEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new FloatQuadruplewordElement(0).byteOrder(LITTLE_ENDIAN), //
+				DOUBLE);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x0A, (byte) 0xD7), //
+				new SimpleRegister((byte) 0xA3, (byte) 0x70), //
+				new SimpleRegister((byte) 0x3D, (byte) 0x4A), //
+				new SimpleRegister((byte) 0x93, (byte) 0x40) //
+		);
+		assertEquals(1234.56F, (double) sut.channel.getNextValue().get(), 0.001);
+	}
+
+	@Test
+	public void testReadLittleEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new FloatQuadruplewordElement(0).wordOrder(WordOrder.LSWMSW).byteOrder(LITTLE_ENDIAN), //
+				DOUBLE);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x93, (byte) 0x40), //
+				new SimpleRegister((byte) 0x3D, (byte) 0x4A), //
+				new SimpleRegister((byte) 0xA3, (byte) 0x70), //
+				new SimpleRegister((byte) 0x0A, (byte) 0xD7) //
+		);
+		assertEquals(1234.56F, (double) sut.channel.getNextValue().get(), 0.001);
+	}
 }
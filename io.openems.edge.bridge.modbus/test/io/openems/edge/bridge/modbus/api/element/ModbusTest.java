@@ -1,7 +1,10 @@
 package io.openems.edge.bridge.modbus.api.element;
 
+import java.nio.ByteBuffer;
 import java.util.function.BiFunction;
 
+import com.ghgande.j2mod.modbus.procimg.Register;
+
 import io.openems.common.channel.AccessMode;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.OpenemsType;
@@ -64,6 +67,25 @@ public class ModbusTest<TASK extends Task, ELEMENT extends ModbusElement, CHANNE
 					(startAddress, priority) -> new FC3ReadRegistersTask(startAddress, priority, element), //
 					AccessMode.READ_ONLY, openemsType);
 		}
+
+		/**
+		 * Sets the input value of the element like a Read-Registers-Task does, i.e.
+		 * via {@link ModbusRegisterElement#setInputValue(ByteBuffer, int)}. The
+		 * registers are placed between two foreign registers of a read-only
+		 * response.
+		 *
+		 * @param registers the registers of the element
+		 */
+		public void setInputValue(Register... registers) {
+			var response = ByteBuffer.allocate((registers.length + 2) * 2);
+			response.putShort((short) 0xDEAD); // not part of the element
+			for (var register : registers) {
+				response.put(register.toBytes());
+			}
+			response.putShort((short) 0xBEEF); // not part of the element
+			response.flip();
+			((ModbusRegisterElement<?, ?>) this.element).setInputValue(response.asReadOnlyBuffer(), 1);
+		}
 	}
 
 	public static class FC6WriteRegister<ELEMENT extends AbstractSingleWordElement<?, ?>, CHANNEL extends WriteChannel<?>>
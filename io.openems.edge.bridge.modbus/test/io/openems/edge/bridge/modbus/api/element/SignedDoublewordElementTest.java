@@ -75,4 +75,51 @@ public class SignedDoublewordElementTest {
 		assertArrayEquals(new byte[] { (byte) 0xAB, (byte) 0xCD }, registers[1].toBytes());
 	}
 
+	@Test
+	public void testReadBigEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new SignedDoublewordElement(0), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xAB, (byte) 0xCD), //
+				new SimpleRegister((byte) 0x12, (byte) 0x34) //
+		);
+		assertEquals(0xFFFF_FFFF_ABCD_1234L, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadBigEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new SignedDoublewordElement(0).wordOrder(LSWMSW), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xAB, (byte) 0xCD), //
+				new SimpleRegister((byte) 0x12, (byte) 0x34) //
+		);
+		assertEquals(0x1234_ABCDL, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new SignedDoublewordElement(0).byteOrder(LITTLE_ENDIAN), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xAB, (byte) 0xCD), //
+				new SimpleRegister((byte) 0x12, (byte) 0x34) //
+		);
+		assertEquals(0x3412_CDABL, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianlswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new SignedDoublewordElement(0).byteOrder(LITTLE_ENDIAN).wordOrder(LSWMSW), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xAB, (byte) 0xCD), //
+				new SimpleRegister((byte) 0x12, (byte) 0x34) //
+		);
+		assertEquals(0xFFFF_FFFF_CDAB_3412L, sut.channel.getNextValue().get());
+	}
 }
@@ -97,4 +97,60 @@ public class SignedQuadruplewordElementTest {
 		assertArrayEquals(new byte[] { (byte) 0x89, (byte) 0xAB }, registers[2].toBytes());
 		assertArrayEquals(new byte[] { (byte) 0xCD, (byte) 0xEF }, registers[3].toBytes());
 	}
+
+	@Test
+	public void testReadBigEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new SignedQuadruplewordElement(0), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x01, (byte) 0x23), //
+				new SimpleRegister((byte) 0x45, (byte) 0x67), //
+				new SimpleRegister((byte) 0x89, (byte) 0xAB), //
+				new SimpleRegister((byte) 0xCD, (byte) 0xEF) //
+		);
+		assertEquals(0x0123_4567_89AB_CDEFL, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadBigEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new SignedQuadruplewordElement(0).wordOrder(LSWMSW), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x01, (byte) 0x23), //
+				new SimpleRegister((byte) 0x45, (byte) 0x67), //
+				new SimpleRegister((byte) 0x89, (byte) 0xAB), //
+				new SimpleRegister((byte) 0xCD, (byte) 0xEF) //
+		);
+		assertEquals(0xCDEF_89AB_4567_0123L, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new SignedQuadruplewordElement(0).byteOrder(LITTLE_ENDIAN), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x01, (byte) 0x23), //
+				new SimpleRegister((byte) 0x45, (byte) 0x67), //
+				new SimpleRegister((byte) 0x89, (byte) 0xAB), //
+				new SimpleRegister((byte) 0xCD, (byte) 0xEF) //
+		);
+		assertEquals(0xEFCD_AB89_6745_2301L, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new SignedQuadruplewordElement(0).wordOrder(LSWMSW).byteOrder(LITTLE_ENDIAN), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x01, (byte) 0x23), //
+				new SimpleRegister((byte) 0x45, (byte) 0x67), //
+				new SimpleRegister((byte) 0x89, (byte) 0xAB), //
+				new SimpleRegister((byte) 0xCD, (byte) 0xEF) //
+		);
+		assertEquals(0x2301_6745_AB89_EFCDL, sut.channel.getNextValue().get());
+	}
 }
@@ -44,4 +44,18 @@ public class SignedWordElementTest {
 		var registers = sut.element.getNextWriteValueAndReset();
 		assertArrayEquals(new byte[] { (byte) 0x34, (byte) 0x12 }, registers[0].toBytes());
 	}
+
+	@Test
+	public void testReadBigEndianFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(new SignedWordElement(0), SHORT);
+		sut.setInputValue(new SimpleRegister((byte) 0xAB, (byte) 0xCD));
+		assertEquals((short) 0xABCD, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(new SignedWordElement(0).byteOrder(LITTLE_ENDIAN), SHORT);
+		sut.setInputValue(new SimpleRegister((byte) 0xAB, (byte) 0xCD));
+		assertEquals((short) 0xCDAB, sut.channel.getNextValue().get());
+	}
 }
@@ -6,6 +6,8 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 
 import com.ghgande.j2mod.modbus.procimg.Register;
@@ -29,6 +31,19 @@ public class StringWordElementTest {
 		assertEquals("OpenEMS", sut.channel.getNextValue().get());
 	}
 
+	@Test
+	public void testReadResponseBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new StringWordElement(0, 4).wordOrder(LSWMSW), STRING);
+		var response = ByteBuffer.wrap(new byte[] { //
+				0x00, 0x01, // not part of the element
+				0x4F, 0x70, 0x65, 0x6E, 0x45, 0x4D, 0x53, 0x00, //
+				0x00, 0x02 // not part of the element
+		}).asReadOnlyBuffer();
+		sut.element.setInputValue(response, 1);
+		assertEquals("S EMenOp", sut.channel.getNextValue().get());
+	}
+
 	@Test
 	public void testReadBigEndianLswMsw() throws OpenemsException {
 		var sut = new ModbusTest.FC3ReadRegisters<>(//
@@ -80,4 +95,56 @@ public class StringWordElementTest {
 		assertArrayEquals(new byte[] { (byte) 0x53, (byte) 0x00 }, registers[3].toBytes());
 		assertArrayEquals(new byte[] { (byte) 0x00, (byte) 0x00 }, registers[4].toBytes());
 	}
+
+	@Test
+	public void testReadBigEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new StringWordElement(0, 4), STRING);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x4F, (byte) 0x70), //
+				new SimpleRegister((byte) 0x65, (byte) 0x6E), //
+				new SimpleRegister((byte) 0x45, (byte) 0x4D), //
+				new SimpleRegister((byte) 0x53, (byte) 0x00) //
+		);
+		assertEquals("OpenEMS", sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadBigEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new StringWordElement(0, 4).wordOrder(LSWMSW), STRING);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x4F, (byte) 0x70), //
+				new SimpleRegister((byte) 0x65, (byte) 0x6E), //
+				new SimpleRegister((byte) 0x45, (byte) 0x4D), //
+				new SimpleRegister((byte) 0x53, (byte) 0x00) //
+		);
+		assertEquals("S EMenOp", sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new StringWordElement(0, 4).byteOrder(LITTLE_ENDIAN), STRING);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x4F, (byte) 0x70), //
+				new SimpleRegister((byte) 0x65, (byte) 0x6E), //
+				new SimpleRegister((byte) 0x45, (byte) 0x4D), //
+				new SimpleRegister((byte) 0x53, (byte) 0x00) //
+		);
+		assertEquals("pOneME S", sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new StringWordElement(0, 4).wordOrder(LSWMSW).byteOrder(LITTLE_ENDIAN), STRING);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0x4F, (byte) 0x70), //
+				new SimpleRegister((byte) 0x65, (byte) 0x6E), //
+				new SimpleRegister((byte) 0x45, (byte) 0x4D), //
+				new SimpleRegister((byte) 0x53, (byte) 0x00) //
+		);
+		assertEquals("SMEnepO", sut.channel.getNextValue().get());
+	}
 }
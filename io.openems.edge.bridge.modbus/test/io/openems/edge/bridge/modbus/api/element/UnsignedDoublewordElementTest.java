@@ -6,6 +6,8 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 
 import com.ghgande.j2mod.modbus.procimg.Register;
@@ -107,4 +109,58 @@ public class UnsignedDoublewordElementTest {
 		assertArrayEquals(new byte[] { (byte) 0xCD, (byte) 0xAB }, registers[0].toBytes());
 		assertArrayEquals(new byte[] { (byte) 0x34, (byte) 0x12 }, registers[1].toBytes());
 	}
+
+	@Test
+	public void testReadBigEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new UnsignedDoublewordElement(0), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xAB, (byte) 0xCD), //
+				new SimpleRegister((byte) 0x12, (byte) 0x34) //
+		);
+		assertEquals(0xABCD_1234L, sut.channel.getNextValue().get());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadResponseTooShort() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(new UnsignedDoublewordElement(0), LONG);
+		sut.element.setInputValue(ByteBuffer.allocate(6).asReadOnlyBuffer(), 2);
+	}
+
+	@Test
+	public void testReadBigEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new UnsignedDoublewordElement(0).wordOrder(LSWMSW), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xAB, (byte) 0xCD), //
+				new SimpleRegister((byte) 0x12, (byte) 0x34) //
+		);
+		assertEquals(0x1234_ABCDL, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianMswLswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new UnsignedDoublewordElement(0).byteOrder(LITTLE_ENDIAN), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xAB, (byte) 0xCD), //
+				new SimpleRegister((byte) 0x12, (byte) 0x34) //
+		);
+		assertEquals(0x3412_CDABL, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianLswMswFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(//
+				new UnsignedDoublewordElement(0).wordOrder(LSWMSW).byteOrder(LITTLE_ENDIAN), //
+				LONG);
+		sut.setInputValue(//
+				new SimpleRegister((byte) 0xAB, (byte) 0xCD), //
+				new SimpleRegister((byte) 0x12, (byte) 0x34) //
+		);
+		assertEquals(0xCDAB_3412L, sut.channel.getNextValue().get());
+	}
 }
@@ -77,4 +77,30 @@ public class UnsignedWordElementTest {
 		var sut = new ModbusTest.FC6WriteRegister<>(new UnsignedWordElement(0), INTEGER);
 		assertNull(sut.element.getNextWriteValueAndReset());
 	}
+
+	@Test
+	public void testReadBigEndianFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(new UnsignedWordElement(0), INTEGER);
+		sut.setInputValue(new SimpleRegister((byte) 0xAB, (byte) 0xCD));
+		assertEquals(0xABCD, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testReadLittleEndianFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(new UnsignedWordElement(0).byteOrder(LITTLE_ENDIAN), INTEGER);
+		sut.setInputValue(new SimpleRegister((byte) 0xAB, (byte) 0xCD));
+		assertEquals(0xCDAB, sut.channel.getNextValue().get());
+	}
+
+	@Test
+	public void testInvalidateFromBuffer() throws OpenemsException {
+		var sut = new ModbusTest.FC3ReadRegisters<>(new UnsignedWordElement(0), INTEGER);
+		var bridge = (AbstractModbusBridge) sut.getBridgeModbus();
+		sut.setInputValue(new SimpleRegister((byte) 0xAB, (byte) 0xCD));
+		assertEquals(0xABCD, sut.channel.getNextValue().get());
+		sut.element.invalidate(bridge); // invalidValueCounter = 1
+		assertEquals(0xABCD, sut.channel.getNextValue().get());
+		sut.element.invalidate(bridge); // invalidValueCounter = 2
+		assertNull(sut.channel.getNextValue().get());
+	}
 }
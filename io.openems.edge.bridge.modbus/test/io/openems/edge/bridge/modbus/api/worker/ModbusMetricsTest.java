@@ -0,0 +1,74 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.SocketTimeoutException;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ModbusMetricsTest {
+
+	@Test
+	public void testSummary() {
+		var sut = new ModbusMetrics();
+		var task = sut.getTaskMetrics(new DummyReadTask("RT1", 0, Priority.HIGH));
+		for (var i = 1; i <= 100; i++) {
+			task.onRequest(i * 1_000_000L, 10);
+		}
+		task.onError(new OpenemsException("Failed", new SocketTimeoutException()));
+		task.onRetry();
+		task.onError(new OpenemsException("Illegal Data Address"));
+
+		var summary = sut.getSummary();
+		assertEquals(102, summary.requests());
+		assertEquals(2, summary.errors());
+		assertEquals(1, summary.timeouts());
+		assertEquals(1, summary.retries());
+		assertEquals(1000, summary.bytes());
+		assertEquals(50.5, summary.latencyP50(), 0.001);
+		assertEquals(95.05, summary.latencyP95(), 0.001);
+		assertEquals(100., summary.latencyMax(), 0.001);
+
+		var json = sut.toJson();
+		assertEquals(102, json.getAsJsonObject("components").getAsJsonObject("undefined").get("requests").getAsLong());
+	}
+
+	@Test
+	public void testLatencySamples() {
+		var sut = new ModbusMetrics();
+		var task = sut.getTaskMetrics(new DummyReadTask("RT1", 0, Priority.HIGH));
+		assertSame(task, sut.getTaskMetrics(new DummyReadTask("RT1", 0, Priority.LOW)));
+		assertTrue(task.belongsTo(sut));
+		assertFalse(task.belongsTo(new ModbusMetrics()));
+
+		// Only the latest 100 samples of the Task are kept
+		for (var i = 1; i <= 250; i++) {
+			task.onRequest(i * 1_000_000L, 10);
+		}
+		var json = sut.toJson();
+		var component = json.getAsJsonObject("components").getAsJsonObject("undefined");
+		assertEquals(250, component.get("requests").getAsLong());
+		assertEquals(200.5, component.get("latencyP50").getAsDouble(), 0.001);
+		assertEquals(250., component.get("latencyMax").getAsDouble(), 0.001);
+
+		// The Bridge keeps the latest 1000
+		var summary = sut.getSummary();
+		assertEquals(125.5, summary.latencyP50(), 0.001);
+		assertEquals(250., summary.latencyMax(), 0.001);
+	}
+
+	@Test
+	public void testWaitDelayTime() {
+		var sut = new ModbusMetrics();
+		sut.onWaitDelay(1_500_000L);
+		sut.onWaitDelay(2_500_000L);
+		assertEquals(4, sut.getWaitDelayTime());
+	}
+
+}
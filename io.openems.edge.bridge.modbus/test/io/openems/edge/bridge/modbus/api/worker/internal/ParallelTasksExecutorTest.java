@@ -0,0 +1,76 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
+import io.openems.edge.bridge.modbus.api.worker.DummyWriteTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ParallelTasksExecutorTest {
+
+	@Test
+	public void testMaxConcurrentRequests() throws InterruptedException {
+		final var running = new AtomicInteger();
+		final var maxRunning = new AtomicInteger();
+		final var results = new AtomicInteger();
+		final var sut = new ParallelTasksExecutor("test", 3, 3, task -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			sleep(50);
+			running.decrementAndGet();
+			return ExecuteState.OK;
+		}, (task, result) -> results.incrementAndGet());
+
+		for (var i = 0; i < 9; i++) {
+			sut.execute(new DummyReadTask("RT" + i, 0, Priority.HIGH));
+		}
+		sut.awaitIdle();
+		sut.deactivate();
+
+		assertEquals(9, results.get());
+		assertEquals(3, maxRunning.get());
+	}
+
+	@Test
+	public void testReadWriteBarrier() throws InterruptedException {
+		final var readsRunning = new AtomicInteger();
+		final var writesRunning = new AtomicInteger();
+		final var overlap = new AtomicBoolean(false);
+		final var sut = new ParallelTasksExecutor("test", 4, 4, task -> {
+			var isWrite = task instanceof DummyWriteTask;
+			(isWrite ? writesRunning : readsRunning).incrementAndGet();
+			if ((isWrite ? readsRunning : writesRunning).get() > 0) {
+				overlap.set(true);
+			}
+			sleep(20);
+			(isWrite ? writesRunning : readsRunning).decrementAndGet();
+			return ExecuteState.OK;
+		}, (task, result) -> {
+		});
+
+		for (var i = 0; i < 3; i++) {
+			sut.execute(new DummyReadTask("RT" + i, 0, Priority.HIGH));
+			sut.execute(new DummyWriteTask("WT" + i, 0));
+			sut.execute(new DummyWriteTask("WT" + i + "b", 0));
+		}
+		sut.awaitIdle();
+		sut.deactivate();
+
+		assertFalse(overlap.get());
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -85,6 +86,58 @@ public class TasksSupplierImplTest {
 		sut.removeProtocol(component.id());
 	}
 
+	@Test
+	public void testAdaptiveLowPriority() throws OpenemsException {
+		var defectiveComponents = new DefectiveComponents(new TimeLeapClock());
+		var sut = new TasksSupplierImpl();
+
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(RT_H_1, RT_L_1, RT_L_2);
+		sut.addProtocol(component.id(), protocol);
+
+		// No spare time -> one LOW priority Task
+		sut.onBeforeProcessImage(false, 0);
+		assertEquals(2, sut.getCycleTasks(defectiveComponents).reads().size());
+
+		// Execution time of next LOW priority Task is unknown -> one LOW priority Task
+		sut.onBeforeProcessImage(false, 100);
+		assertEquals(2, sut.getCycleTasks(defectiveComponents).reads().size());
+
+		sut.onExecuted(RT_L_1, MILLISECONDS.toNanos(20));
+		sut.onExecuted(RT_L_2, MILLISECONDS.toNanos(30));
+		sut.onExecuted(RT_H_1, MILLISECONDS.toNanos(1_000)); // ignored
+
+		// RT_L_2 [30ms] does not fit into spare time minus buffer [40ms - 20ms]
+		sut.onBeforeProcessImage(false, 40);
+		var tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+		assertEquals(RT_L_1, tasks.reads().get(0));
+
+		// RT_L_1 [20ms] fits into spare time minus buffer [50ms - 20ms]
+		sut.onBeforeProcessImage(false, 50);
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(3, tasks.reads().size());
+		assertEquals(RT_L_2, tasks.reads().get(0));
+		assertEquals(RT_L_1, tasks.reads().get(1));
+		assertEquals(RT_H_1, tasks.reads().get(2));
+
+		// Limited by number of LOW priority Tasks
+		sut.onBeforeProcessImage(false, 1_000);
+		assertEquals(3, sut.getCycleTasks(defectiveComponents).reads().size());
+
+		// Cycle time is too short -> back to one
+		sut.onBeforeProcessImage(true, 0);
+		assertEquals(2, sut.getCycleTasks(defectiveComponents).reads().size());
+
+		// Changed protocol is applied
+		protocol.removeTask(RT_L_1);
+		sut.onBeforeProcessImage(false, 100);
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+		assertFalse(tasks.reads().contains(RT_L_1));
+	}
+
 	@Test
 	public void testHighOnly() throws OpenemsException {
 		var clock = new TimeLeapClock();
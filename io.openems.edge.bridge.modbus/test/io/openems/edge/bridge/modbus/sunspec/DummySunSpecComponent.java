@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.sunspec;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
@@ -7,6 +9,7 @@ import java.util.stream.Stream;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
+import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.taskmanager.Priority;
@@ -26,6 +29,35 @@ public class DummySunSpecComponent extends AbstractOpenemsSunSpecComponent {
 		this.addBlocks();
 	}
 
+	/**
+	 * Adds the given Models one after the other, like on a real SunSpec device.
+	 *
+	 * @param startAddress the start address of the first Model header
+	 * @param models       the {@link SunSpecModel}s
+	 * @throws OpenemsException on error
+	 */
+	public DummySunSpecComponent(int startAddress, SunSpecModel... models) throws OpenemsException {
+		super(ACTIVE_MODELS, //
+				OpenemsComponent.ChannelId.values(), //
+				ModbusComponent.ChannelId.values()); //
+		for (var model : models) {
+			this.addBlock(startAddress, model, ACTIVE_MODELS.get(model));
+			startAddress += 2 + getLength(model);
+		}
+	}
+
+	/**
+	 * Gets the number of registers of the Points of a {@link SunSpecModel}.
+	 *
+	 * @param model the {@link SunSpecModel}
+	 * @return the length without the Model header
+	 */
+	public static int getLength(SunSpecModel model) {
+		return Stream.of(model.points()) //
+				.mapToInt(point -> point.get().generateModbusElement(0).length) //
+				.sum();
+	}
+
 	private void addBlocks() throws OpenemsException {
 		var startAddress = 40000;
 		for (var entry : ACTIVE_MODELS.keySet()) {
@@ -45,13 +77,25 @@ public class DummySunSpecComponent extends AbstractOpenemsSunSpecComponent {
 	 * @throws OpenemsException on error
 	 */
 	public int maximumTaskLenghth() throws OpenemsException {
-		return this.getModbusProtocol() //
-				.getTaskManager() //
-				.getTasks() //
+		return this.getTasks() //
 				.stream() //
 				.mapToInt(Task::getLength) //
 				.max().orElse(0);
+	}
 
+	/**
+	 * Gets the Tasks of the {@link ModbusProtocol}, ordered by start address.
+	 *
+	 * @return the {@link Task}s
+	 * @throws OpenemsException on error
+	 */
+	public List<Task> getTasks() throws OpenemsException {
+		return this.getModbusProtocol() //
+				.getTaskManager() //
+				.getTasks() //
+				.stream() //
+				.sorted(Comparator.comparingInt(Task::getStartAddress)) //
+				.toList();
 	}
 
 }
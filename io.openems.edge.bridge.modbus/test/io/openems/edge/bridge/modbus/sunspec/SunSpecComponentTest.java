@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.sunspec;
 
+import static io.openems.edge.bridge.modbus.sunspec.DummySunSpecComponent.getLength;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -14,4 +16,25 @@ public class SunSpecComponentTest {
 		assertTrue(component.maximumTaskLenghth() <= 126);
 	}
 
+	@Test
+	public void testMergeConsecutiveModels() throws OpenemsException {
+		var s1 = DefaultSunSpecModel.S_1;
+		var s101 = DefaultSunSpecModel.S_101;
+		var s120 = DefaultSunSpecModel.S_120;
+		// Common + Inverter fit in one request; Nameplate does not
+		assertTrue(getLength(s1) + 2 + getLength(s101) <= 125);
+		assertTrue(getLength(s1) + 2 + getLength(s101) + 2 + getLength(s120) > 125);
+
+		var component = new DummySunSpecComponent(40_002, s1, s101, s120);
+		var tasks = component.getTasks();
+		assertEquals(2, tasks.size());
+
+		// Merged across the Model header of S_101
+		assertEquals(40_004, tasks.get(0).getStartAddress());
+		assertEquals(getLength(s1) + 2 + getLength(s101), tasks.get(0).getLength());
+
+		assertEquals(40_004 + getLength(s1) + 2 + getLength(s101) + 2, tasks.get(1).getStartAddress());
+		assertEquals(getLength(s120), tasks.get(1).getLength());
+	}
+
 }
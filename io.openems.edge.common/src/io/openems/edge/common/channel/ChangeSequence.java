@@ -0,0 +1,41 @@
+package io.openems.edge.common.channel;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global, monotonically increasing sequence number for changes of Channel
+ * values.
+ *
+ * <p>
+ * Every time the 'active' value of a Channel changes in
+ * {@link Channel#switchProcessImage()}, the Channel takes the next sequence
+ * number (see {@link Channel#getChangeSequence()}). Exporters remember
+ * {@link #current()} when collecting values; on the next run, all Channels
+ * with a higher {@link Channel#getChangeSequence()} have changed since.
+ */
+public final class ChangeSequence {
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private ChangeSequence() {
+	}
+
+	/**
+	 * Gets the current sequence number, i.e. the number of the last change.
+	 *
+	 * @return the sequence number
+	 */
+	public static long current() {
+		return SEQUENCE.get();
+	}
+
+	/**
+	 * Gets the next sequence number. Internal method. Do not call directly.
+	 *
+	 * @return the sequence number
+	 */
+	public static long next() {
+		return SEQUENCE.incrementAndGet();
+	}
+
+}
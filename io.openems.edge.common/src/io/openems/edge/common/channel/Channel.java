@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
@@ -88,9 +89,46 @@ public interface Channel<T> {
 	/**
 	 * Switches to the next process image, i.e. copies the "next"-value into
 	 * "current"-value.
+	 *
+	 * <p>
+	 * This is the same as calling {@link #switchProcessImage()} followed by
+	 * {@link #triggerProcessImageCallbacks()}.
 	 */
 	public void nextProcessImage();
 
+	/**
+	 * Switches to the next process image without calling any callbacks. Internal
+	 * method. Do not call directly.
+	 *
+	 * <p>
+	 * This method only modifies the state of this Channel and can be called for
+	 * different Channels in parallel. It must always be followed by
+	 * {@link #triggerProcessImageCallbacks()}.
+	 */
+	public default void switchProcessImage() {
+		this.nextProcessImage();
+	}
+
+	/**
+	 * Calls the 'onUpdate' and 'onChange' callbacks for the last
+	 * {@link #switchProcessImage()}. Internal method. Do not call directly.
+	 */
+	public default void triggerProcessImageCallbacks() {
+	}
+
+	/**
+	 * Gets the {@link ChangeSequence} number of the last change of the 'active'
+	 * value of this Channel.
+	 *
+	 * <p>
+	 * Exporters can use this to find Channels that changed since their last run:
+	 * the value changed if this is greater than the {@link ChangeSequence#current()}
+	 * at the time of that run.
+	 *
+	 * @return the sequence number; 0 if the value never changed
+	 */
+	public long getChangeSequence();
+
 	/**
 	 * Gets the type of this Channel, e.g. INTEGER, BOOLEAN,..
 	 *
@@ -169,11 +207,22 @@ public interface Channel<T> {
 	/**
 	 * Gets the past values for this Channel.
 	 *
+	 * <p>
+	 * This creates a new {@link TreeMap} on every call. Prefer
+	 * {@link #pastValues()} for range-queries on hot paths.
+	 *
 	 * @return a map of recording time and historic value at that time
 	 */
 	// TODO this should be a ZonedDateTime
 	public TreeMap<LocalDateTime, Value<T>> getPastValues();
 
+	/**
+	 * Gets the past values for this Channel as time-indexed ring buffer.
+	 *
+	 * @return the {@link PastValues}
+	 */
+	public PastValues<T> pastValues();
+
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
 	 * nextProcessImage().
@@ -16,9 +16,11 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.function.ThrowingConsumer;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.ChangeSequence;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.ChannelId;
 import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
@@ -34,7 +36,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	private final PastValues<T> pastValues;
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
@@ -45,12 +47,22 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 * The 'active' value of the Channel. Never null.
 	 */
 	private volatile Value<T> activeValue = new Value<>(this, null);
+	/**
+	 * The 'active' value before the last {@link #switchProcessImage()}. Used for
+	 * 'onChange' callbacks. Never null.
+	 */
+	private volatile Value<T> previousValue = this.activeValue;
+	/**
+	 * The {@link ChangeSequence} number of the last change of the 'active' value.
+	 */
+	private volatile long changeSequence = 0;
 
 	protected AbstractReadChannel(OpenemsType type, OpenemsComponent parent, ChannelId channelId, D channelDoc) {
 		this.type = type;
 		this.parent = parent;
 		this.channelId = channelId;
 		this.channelDoc = channelDoc;
+		this.pastValues = PastValues.of(type, Channel.MAX_AGE_OF_PAST_VALUES);
 
 		// validate Type
 		if (!this.validateType(channelDoc.getType(), type)) {
@@ -109,13 +121,41 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 	@Override
 	public void nextProcessImage() {
-		var oldValue = this.activeValue;
+		this.switchProcessImage();
+		this.triggerProcessImageCallbacks();
+	}
+
+	@Override
+	public void switchProcessImage() {
 		var newValue = this.nextValue;
 		try {
 
+			// Keep 'active' value for 'onChange' callbacks
+			this.previousValue = this.activeValue;
+
 			// Copy 'next' value to 'active' value
 			this.activeValue = newValue;
 
+			// Track changes for exporters
+			if (!Objects.equals(this.previousValue.get(), newValue.get())) {
+				this.changeSequence = ChangeSequence.next();
+			}
+
+			// Additionally append to 'pastValues'; deletes entries that are elder than
+			// MAX_AGE_OF_PAST_VALUES
+			this.pastValues.add(newValue);
+
+		} catch (RuntimeException e) {
+			this.logProcessImageError(e);
+		}
+	}
+
+	@Override
+	public void triggerProcessImageCallbacks() {
+		var oldValue = this.previousValue;
+		var newValue = this.activeValue;
+		try {
+
 			// Always -> call 'onUpdate' callbacks
 			this.onUpdateCallbacks.forEach(callback -> callback.accept(newValue));
 
@@ -124,28 +164,21 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 				this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, newValue));
 			}
 
-			// Additionally append to 'pastValues'
-			this.appendPastValue(newValue);
-
 		} catch (RuntimeException e) {
-			var component = this.parent != null ? this.parent.id() : "";
-			this.log.error("Error while updating process image for [" + component + "/" + this.channelId().id() + "]: "
-					+ e.getMessage());
-			e.printStackTrace();
+			this.logProcessImageError(e);
 		}
 	}
 
-	/**
-	 * Appends a value to `pastValues` and deletes entries that are elder than
-	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
-	 * 
-	 * @param value a new {@link Value}
-	 */
-	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
+	private void logProcessImageError(RuntimeException e) {
+		var component = this.parent != null ? this.parent.id() : "";
+		this.log.error("Error while updating process image for [" + component + "/" + this.channelId().id() + "]: "
+				+ e.getMessage());
+		e.printStackTrace();
+	}
+
+	@Override
+	public long getChangeSequence() {
+		return this.changeSequence;
 	}
 
 	@Override
@@ -305,6 +338,11 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 */
 	@Override
 	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
+		return this.pastValues.toTreeMap(this);
+	}
+
+	@Override
+	public PastValues<T> pastValues() {
 		return this.pastValues;
 	}
 
@@ -0,0 +1,579 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAmount;
+import java.util.TreeMap;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+
+/**
+ * Holds the past values of a {@link Channel} in a time-indexed ring buffer.
+ *
+ * <p>
+ * Values are stored in primitive arrays specialized by {@link OpenemsType}, so
+ * appending a value does not allocate any objects on the hot path. The buffer
+ * grows on demand up to {@link #MAX_CAPACITY}; afterwards the eldest values
+ * are overwritten. Values that are older than the configured maximum age
+ * (relative to the latest value) are pruned on every {@link #add(Value)}.
+ *
+ * <p>
+ * Timestamps are expected to be monotonically increasing. Adding a value with
+ * the same timestamp as the latest value replaces it; adding a value with an
+ * elder timestamp (e.g. because the system clock was set back) resets the
+ * buffer.
+ *
+ * <p>
+ * This class is not thread-safe. It is written by the Cycle during the
+ * 'Process Image Switch' and should only be read synchronously with the Cycle.
+ *
+ * @param <T> the type of the Channel
+ */
+public abstract class PastValues<T> {
+
+	/**
+	 * The initial capacity of the buffer.
+	 */
+	public static final int INITIAL_CAPACITY = 8;
+
+	/**
+	 * The maximum capacity of the buffer. Enough for
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES} with a Cycle-Time of 100 ms.
+	 */
+	public static final int MAX_CAPACITY = 4096;
+
+	/**
+	 * Creates a {@link PastValues} buffer for the given {@link OpenemsType}.
+	 *
+	 * @param <T>    the type of the Channel
+	 * @param type   the {@link OpenemsType}
+	 * @param maxAge the maximum age of values relative to the latest value
+	 * @return the {@link PastValues}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PastValues<T> of(OpenemsType type, TemporalAmount maxAge) {
+		final var maxAgeNanos = Duration.from(maxAge).toNanos();
+		return (PastValues<T>) switch (type) {
+		case BOOLEAN -> new OfBoolean(maxAgeNanos, MAX_CAPACITY);
+		case SHORT, INTEGER -> new OfInt(type, maxAgeNanos, MAX_CAPACITY);
+		case LONG -> new OfLong(maxAgeNanos, MAX_CAPACITY);
+		case FLOAT, DOUBLE -> new OfDouble(type, maxAgeNanos, MAX_CAPACITY);
+		case STRING -> new OfObject(maxAgeNanos, MAX_CAPACITY);
+		};
+	}
+
+	private final long maxAgeNanos;
+	private final int maxCapacity;
+
+	private long[] timestamps;
+	private boolean[] defined;
+	private int head = 0;
+	private int size = 0;
+
+	protected PastValues(long maxAgeNanos, int maxCapacity) {
+		this.maxAgeNanos = maxAgeNanos;
+		this.maxCapacity = maxCapacity;
+		final var capacity = Math.min(INITIAL_CAPACITY, maxCapacity);
+		this.timestamps = new long[capacity];
+		this.defined = new boolean[capacity];
+		this.allocate(capacity);
+	}
+
+	/**
+	 * Allocates the value array with the given capacity.
+	 *
+	 * @param capacity the capacity
+	 */
+	protected abstract void allocate(int capacity);
+
+	/**
+	 * Replaces the value array with a new one of the given capacity, keeping the
+	 * existing values in logical order.
+	 *
+	 * @param capacity the new capacity
+	 * @param head     the physical index of the eldest value
+	 * @param size     the number of values
+	 */
+	protected abstract void reallocate(int capacity, int head, int size);
+
+	/**
+	 * Stores a (not-null) value at the given physical index.
+	 *
+	 * @param index the physical index
+	 * @param value the value
+	 */
+	protected abstract void store(int index, T value);
+
+	/**
+	 * Loads the (defined) value at the given physical index.
+	 *
+	 * @param index the physical index
+	 * @return the value
+	 */
+	protected abstract T load(int index);
+
+	/**
+	 * Loads the (defined) value at the given physical index as double.
+	 *
+	 * @param index the physical index
+	 * @return the value as double
+	 * @throws UnsupportedOperationException if the type is not numeric
+	 */
+	protected abstract double loadAsDouble(int index) throws UnsupportedOperationException;
+
+	/**
+	 * Appends a {@link Value}. Internal method. Do not call directly.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public void add(Value<T> value) {
+		final var timestamp = toEpochNanos(value.getTimestamp());
+		if (this.size > 0) {
+			final var latest = this.timestamps[this.physical(this.size - 1)];
+			if (timestamp == latest) {
+				// Same timestamp -> replace latest value
+				this.size--;
+			} else if (timestamp < latest) {
+				// Clock was set back -> reset
+				this.clear();
+			}
+		}
+
+		// Prune values that are too old
+		final var compareTime = timestamp - this.maxAgeNanos;
+		while (this.size > 0 && this.timestamps[this.head] < compareTime) {
+			this.removeEldest();
+		}
+
+		if (this.size == this.timestamps.length) {
+			if (this.size < this.maxCapacity) {
+				this.grow();
+			} else {
+				this.removeEldest();
+			}
+		}
+
+		final var index = this.physical(this.size);
+		this.timestamps[index] = timestamp;
+		final var v = value.get();
+		if (v == null) {
+			this.defined[index] = false;
+		} else {
+			this.defined[index] = true;
+			this.store(index, v);
+		}
+		this.size++;
+	}
+
+	/**
+	 * Removes all values.
+	 */
+	public void clear() {
+		this.head = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Gets the number of values.
+	 *
+	 * @return the number of values
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns true if there are no values.
+	 *
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Gets a {@link Stream} of the defined values in the given time range, in
+	 * chronological order.
+	 *
+	 * <p>
+	 * The range starts with the value that was active at 'from', i.e. the latest
+	 * value with a timestamp at or before 'from' (if it exists), and ends
+	 * before 'to' (exclusive).
+	 *
+	 * @param from the start time
+	 * @param to   the end time (exclusive)
+	 * @return a {@link Stream} of values; never null
+	 */
+	public Stream<T> stream(LocalDateTime from, LocalDateTime to) {
+		return this.indices(from, to) //
+				.mapToObj(this::load);
+	}
+
+	/**
+	 * Gets a {@link DoubleStream} of the defined values in the given time range,
+	 * in chronological order. See {@link #stream(LocalDateTime, LocalDateTime)}.
+	 *
+	 * <p>
+	 * Booleans are mapped to 1 (true) and 0 (false).
+	 *
+	 * @param from the start time
+	 * @param to   the end time (exclusive)
+	 * @return a {@link DoubleStream} of values; never null
+	 * @throws UnsupportedOperationException if the type is not numeric or boolean
+	 */
+	public DoubleStream doubleStream(LocalDateTime from, LocalDateTime to) throws UnsupportedOperationException {
+		return this.indices(from, to) //
+				.mapToDouble(this::loadAsDouble);
+	}
+
+	/**
+	 * Gets a {@link Stream} of all defined values, in chronological order.
+	 *
+	 * @return a {@link Stream} of values; never null
+	 */
+	public Stream<T> stream() {
+		return this.indices(0, this.size) //
+				.mapToObj(this::load);
+	}
+
+	/**
+	 * Gets a {@link Stream} of the defined values with a timestamp at or after
+	 * 'from', in chronological order.
+	 *
+	 * @param from the start time (inclusive)
+	 * @return a {@link Stream} of values; never null
+	 */
+	public Stream<T> tailStream(LocalDateTime from) {
+		return this.indices(this.lowerIndex(toEpochNanos(from)) + 1, this.size) //
+				.mapToObj(this::load);
+	}
+
+	/**
+	 * Gets a {@link DoubleStream} of the defined values with a timestamp at or
+	 * after 'from', in chronological order. See {@link #tailStream(LocalDateTime)}.
+	 *
+	 * <p>
+	 * Booleans are mapped to 1 (true) and 0 (false).
+	 *
+	 * @param from the start time (inclusive)
+	 * @return a {@link DoubleStream} of values; never null
+	 * @throws UnsupportedOperationException if the type is not numeric or boolean
+	 */
+	public DoubleStream tailDoubleStream(LocalDateTime from) throws UnsupportedOperationException {
+		return this.indices(this.lowerIndex(toEpochNanos(from)) + 1, this.size) //
+				.mapToDouble(this::loadAsDouble);
+	}
+
+	/**
+	 * Gets a {@link Stream} of all defined values, latest first.
+	 *
+	 * @return a {@link Stream} of values; never null
+	 */
+	public Stream<T> descendingStream() {
+		final var size = this.size;
+		return IntStream.range(0, size) //
+				.map(i -> this.physical(size - 1 - i)) //
+				.filter(i -> this.defined[i]) //
+				.mapToObj(this::load);
+	}
+
+	/**
+	 * Creates a {@link TreeMap} of recording time and {@link Value}.
+	 *
+	 * <p>
+	 * This creates a new {@link Value} object per entry. Prefer the range-query
+	 * methods of this class on hot paths.
+	 *
+	 * @param channel the parent {@link Channel}
+	 * @return a new {@link TreeMap}
+	 */
+	public TreeMap<LocalDateTime, Value<T>> toTreeMap(Channel<T> channel) {
+		final var result = new TreeMap<LocalDateTime, Value<T>>();
+		for (var i = 0; i < this.size; i++) {
+			final var index = this.physical(i);
+			final var timestamp = toLocalDateTime(this.timestamps[index]);
+			final var value = this.defined[index] ? this.load(index) : null;
+			result.put(timestamp, new Value<>(channel, value, timestamp));
+		}
+		return result;
+	}
+
+	private IntStream indices(LocalDateTime from, LocalDateTime to) {
+		return this.indices(Math.max(0, this.floorIndex(toEpochNanos(from))), this.lowerIndex(toEpochNanos(to)) + 1);
+	}
+
+	private IntStream indices(int start, int end) {
+		return IntStream.range(start, Math.max(start, end)) //
+				.map(this::physical) //
+				.filter(i -> this.defined[i]);
+	}
+
+	/**
+	 * Finds the logical index of the latest value with a timestamp less than or
+	 * equal to the given timestamp.
+	 *
+	 * @param timestamp the timestamp in epoch nanos
+	 * @return the logical index or -1
+	 */
+	private int floorIndex(long timestamp) {
+		var low = 0;
+		var high = this.size - 1;
+		var result = -1;
+		while (low <= high) {
+			final var mid = (low + high) >>> 1;
+			if (this.timestamps[this.physical(mid)] <= timestamp) {
+				result = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Finds the logical index of the latest value with a timestamp strictly less
+	 * than the given timestamp.
+	 *
+	 * @param timestamp the timestamp in epoch nanos
+	 * @return the logical index or -1
+	 */
+	private int lowerIndex(long timestamp) {
+		return timestamp == Long.MIN_VALUE ? -1 : this.floorIndex(timestamp - 1);
+	}
+
+	private int physical(int logicalIndex) {
+		final var index = this.head + logicalIndex;
+		final var capacity = this.timestamps.length;
+		return index < capacity ? index : index - capacity;
+	}
+
+	private void removeEldest() {
+		this.head = this.physical(1);
+		this.size--;
+	}
+
+	private void grow() {
+		final var oldCapacity = this.timestamps.length;
+		final var capacity = Math.min(this.maxCapacity, Math.max(oldCapacity + (oldCapacity >> 1), oldCapacity + 1));
+		this.timestamps = copyRing(this.timestamps, new long[capacity], this.head, this.size);
+		this.defined = copyRing(this.defined, new boolean[capacity], this.head, this.size);
+		this.reallocate(capacity, this.head, this.size);
+		this.head = 0;
+	}
+
+	/**
+	 * Copies the logically ordered content of a ring buffer array to the start of
+	 * a new array.
+	 *
+	 * @param <A>  the type of the array
+	 * @param src  the source array
+	 * @param dst  the destination array
+	 * @param head the physical index of the eldest value in source
+	 * @param size the number of values
+	 * @return the destination array
+	 */
+	protected static <A> A copyRing(A src, A dst, int head, int size) {
+		final var capacity = java.lang.reflect.Array.getLength(src);
+		final var firstPart = Math.min(size, capacity - head);
+		System.arraycopy(src, head, dst, 0, firstPart);
+		System.arraycopy(src, 0, dst, firstPart, size - firstPart);
+		return dst;
+	}
+
+	private static long toEpochNanos(LocalDateTime timestamp) {
+		return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNano();
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochNanos) {
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+				(int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+	}
+
+	private static final class OfBoolean extends PastValues<Boolean> {
+
+		private boolean[] values;
+
+		private OfBoolean(long maxAgeNanos, int maxCapacity) {
+			super(maxAgeNanos, maxCapacity);
+		}
+
+		@Override
+		protected void allocate(int capacity) {
+			this.values = new boolean[capacity];
+		}
+
+		@Override
+		protected void reallocate(int capacity, int head, int size) {
+			this.values = copyRing(this.values, new boolean[capacity], head, size);
+		}
+
+		@Override
+		protected void store(int index, Boolean value) {
+			this.values[index] = value;
+		}
+
+		@Override
+		protected Boolean load(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected double loadAsDouble(int index) {
+			return this.values[index] ? 1d : 0d;
+		}
+	}
+
+	private static final class OfInt extends PastValues<Object> {
+
+		private final OpenemsType type;
+		private int[] values;
+
+		private OfInt(OpenemsType type, long maxAgeNanos, int maxCapacity) {
+			super(maxAgeNanos, maxCapacity);
+			this.type = type;
+		}
+
+		@Override
+		protected void allocate(int capacity) {
+			this.values = new int[capacity];
+		}
+
+		@Override
+		protected void reallocate(int capacity, int head, int size) {
+			this.values = copyRing(this.values, new int[capacity], head, size);
+		}
+
+		@Override
+		protected void store(int index, Object value) {
+			this.values[index] = ((Number) value).intValue();
+		}
+
+		@Override
+		protected Object load(int index) {
+			final var value = this.values[index];
+			if (this.type == OpenemsType.SHORT) {
+				return Short.valueOf((short) value);
+			}
+			return Integer.valueOf(value);
+		}
+
+		@Override
+		protected double loadAsDouble(int index) {
+			return this.values[index];
+		}
+	}
+
+	private static final class OfLong extends PastValues<Long> {
+
+		private long[] values;
+
+		private OfLong(long maxAgeNanos, int maxCapacity) {
+			super(maxAgeNanos, maxCapacity);
+		}
+
+		@Override
+		protected void allocate(int capacity) {
+			this.values = new long[capacity];
+		}
+
+		@Override
+		protected void reallocate(int capacity, int head, int size) {
+			this.values = copyRing(this.values, new long[capacity], head, size);
+		}
+
+		@Override
+		protected void store(int index, Long value) {
+			this.values[index] = value;
+		}
+
+		@Override
+		protected Long load(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected double loadAsDouble(int index) {
+			return this.values[index];
+		}
+	}
+
+	private static final class OfDouble extends PastValues<Object> {
+
+		private final OpenemsType type;
+		private double[] values;
+
+		private OfDouble(OpenemsType type, long maxAgeNanos, int maxCapacity) {
+			super(maxAgeNanos, maxCapacity);
+			this.type = type;
+		}
+
+		@Override
+		protected void allocate(int capacity) {
+			this.values = new double[capacity];
+		}
+
+		@Override
+		protected void reallocate(int capacity, int head, int size) {
+			this.values = copyRing(this.values, new double[capacity], head, size);
+		}
+
+		@Override
+		protected void store(int index, Object value) {
+			this.values[index] = ((Number) value).doubleValue();
+		}
+
+		@Override
+		protected Object load(int index) {
+			final var value = this.values[index];
+			if (this.type == OpenemsType.FLOAT) {
+				return Float.valueOf((float) value);
+			}
+			return Double.valueOf(value);
+		}
+
+		@Override
+		protected double loadAsDouble(int index) {
+			return this.values[index];
+		}
+	}
+
+	private static final class OfObject extends PastValues<Object> {
+
+		private Object[] values;
+
+		private OfObject(long maxAgeNanos, int maxCapacity) {
+			super(maxAgeNanos, maxCapacity);
+		}
+
+		@Override
+		protected void allocate(int capacity) {
+			this.values = new Object[capacity];
+		}
+
+		@Override
+		protected void reallocate(int capacity, int head, int size) {
+			this.values = copyRing(this.values, new Object[capacity], head, size);
+		}
+
+		@Override
+		protected void store(int index, Object value) {
+			this.values[index] = value;
+		}
+
+		@Override
+		protected Object load(int index) {
+			return this.values[index];
+		}
+
+		@Override
+		protected double loadAsDouble(int index) throws UnsupportedOperationException {
+			throw new UnsupportedOperationException("Values of type [" + OpenemsType.STRING + "] are not numeric");
+		}
+	}
+}
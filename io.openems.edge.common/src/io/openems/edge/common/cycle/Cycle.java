@@ -6,6 +6,7 @@ import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
+import io.openems.edge.common.channel.StringReadChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
@@ -27,6 +28,100 @@ public interface Cycle extends OpenemsComponent {
 		 */
 		MEASURED_CYCLE_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the BEFORE_PROCESS_IMAGE event handlers in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_BEFORE_PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the process image switch of all Channels in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the AFTER_PROCESS_IMAGE and BEFORE_CONTROLLERS event
+		 * handlers in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_AFTER_PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the execution of all Controllers in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_CONTROLLERS_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the AFTER_CONTROLLERS, BEFORE_WRITE, EXECUTE_WRITE and
+		 * AFTER_WRITE event handlers in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_WRITE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * ID of the Controller with the longest run-time in the last Cycle; only if the
+		 * profiler is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: String
+		 * </ul>
+		 */
+		PROFILER_SLOWEST_CONTROLLER(Doc.of(OpenemsType.STRING)),
+		/**
+		 * Run-time of the Controller with the longest run-time in the last Cycle in [ms];
+		 * only if the profiler is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PROFILER_SLOWEST_CONTROLLER_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * ID of the synchronous Cycle EventHandler with the longest run-time in the last
+		 * Cycle; only if the profiler is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: String
+		 * </ul>
+		 */
+		PROFILER_SLOWEST_EVENT_HANDLER(Doc.of(OpenemsType.STRING)),
+		/**
+		 * Run-time of the synchronous Cycle EventHandler with the longest run-time in
+		 * the last Cycle in [ms]; only if the profiler is enabled.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PROFILER_SLOWEST_EVENT_HANDLER_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
 		/**
 		 * A configured Controller is not executed because it is disabled.
 		 *
@@ -88,6 +183,287 @@ public interface Cycle extends OpenemsComponent {
 		this.getMeasuredCycleTimeChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_BEFORE_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredBeforeProcessImageTimeChannel() {
+		return this.channel(ChannelId.MEASURED_BEFORE_PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the Measured BeforeProcessImage Time in [ms]. See
+	 * {@link ChannelId#MEASURED_BEFORE_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredBeforeProcessImageTime() {
+		return this.getMeasuredBeforeProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_BEFORE_PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredBeforeProcessImageTime(long value) {
+		this.getMeasuredBeforeProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredProcessImageTimeChannel() {
+		return this.channel(ChannelId.MEASURED_PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the Measured ProcessImage Time in [ms]. See
+	 * {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredProcessImageTime() {
+		return this.getMeasuredProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredProcessImageTime(long value) {
+		this.getMeasuredProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_AFTER_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredAfterProcessImageTimeChannel() {
+		return this.channel(ChannelId.MEASURED_AFTER_PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the Measured AfterProcessImage Time in [ms]. See
+	 * {@link ChannelId#MEASURED_AFTER_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredAfterProcessImageTime() {
+		return this.getMeasuredAfterProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_AFTER_PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredAfterProcessImageTime(long value) {
+		this.getMeasuredAfterProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredControllersTimeChannel() {
+		return this.channel(ChannelId.MEASURED_CONTROLLERS_TIME);
+	}
+
+	/**
+	 * Gets the Measured Controllers Time in [ms]. See
+	 * {@link ChannelId#MEASURED_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredControllersTime() {
+		return this.getMeasuredControllersTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_CONTROLLERS_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredControllersTime(long value) {
+		this.getMeasuredControllersTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_WRITE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredWriteTimeChannel() {
+		return this.channel(ChannelId.MEASURED_WRITE_TIME);
+	}
+
+	/**
+	 * Gets the Measured Write Time in [ms]. See
+	 * {@link ChannelId#MEASURED_WRITE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredWriteTime() {
+		return this.getMeasuredWriteTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_WRITE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredWriteTime(long value) {
+		this.getMeasuredWriteTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PROFILER_SLOWEST_CONTROLLER}.
+	 *
+	 * @return the Channel
+	 */
+	public default StringReadChannel getProfilerSlowestControllerChannel() {
+		return this.channel(ChannelId.PROFILER_SLOWEST_CONTROLLER);
+	}
+
+	/**
+	 * Gets the Profiler Slowest Controller. See
+	 * {@link ChannelId#PROFILER_SLOWEST_CONTROLLER}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<String> getProfilerSlowestController() {
+		return this.getProfilerSlowestControllerChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROFILER_SLOWEST_CONTROLLER} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProfilerSlowestController(String value) {
+		this.getProfilerSlowestControllerChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PROFILER_SLOWEST_CONTROLLER_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getProfilerSlowestControllerTimeChannel() {
+		return this.channel(ChannelId.PROFILER_SLOWEST_CONTROLLER_TIME);
+	}
+
+	/**
+	 * Gets the Profiler Slowest Controller Time. See
+	 * {@link ChannelId#PROFILER_SLOWEST_CONTROLLER_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getProfilerSlowestControllerTime() {
+		return this.getProfilerSlowestControllerTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROFILER_SLOWEST_CONTROLLER_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProfilerSlowestControllerTime(Long value) {
+		this.getProfilerSlowestControllerTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROFILER_SLOWEST_CONTROLLER_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProfilerSlowestControllerTime(long value) {
+		this.getProfilerSlowestControllerTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PROFILER_SLOWEST_EVENT_HANDLER}.
+	 *
+	 * @return the Channel
+	 */
+	public default StringReadChannel getProfilerSlowestEventHandlerChannel() {
+		return this.channel(ChannelId.PROFILER_SLOWEST_EVENT_HANDLER);
+	}
+
+	/**
+	 * Gets the Profiler Slowest Event Handler. See
+	 * {@link ChannelId#PROFILER_SLOWEST_EVENT_HANDLER}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<String> getProfilerSlowestEventHandler() {
+		return this.getProfilerSlowestEventHandlerChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROFILER_SLOWEST_EVENT_HANDLER} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProfilerSlowestEventHandler(String value) {
+		this.getProfilerSlowestEventHandlerChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PROFILER_SLOWEST_EVENT_HANDLER_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getProfilerSlowestEventHandlerTimeChannel() {
+		return this.channel(ChannelId.PROFILER_SLOWEST_EVENT_HANDLER_TIME);
+	}
+
+	/**
+	 * Gets the Profiler Slowest Event Handler Time. See
+	 * {@link ChannelId#PROFILER_SLOWEST_EVENT_HANDLER_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getProfilerSlowestEventHandlerTime() {
+		return this.getProfilerSlowestEventHandlerTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROFILER_SLOWEST_EVENT_HANDLER_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProfilerSlowestEventHandlerTime(Long value) {
+		this.getProfilerSlowestEventHandlerTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROFILER_SLOWEST_EVENT_HANDLER_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProfilerSlowestEventHandlerTime(long value) {
+		this.getProfilerSlowestEventHandlerTimeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#IGNORE_DISABLED_CONTROLLER}.
 	 *
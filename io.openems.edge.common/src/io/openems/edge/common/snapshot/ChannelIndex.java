@@ -0,0 +1,220 @@
+package io.openems.edge.common.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+
+/**
+ * Assigns a stable position to every Channel of a {@link ChannelSnapshot}.
+ *
+ * <p>
+ * A position always refers to the same {@link ChannelAddress}: when Channels
+ * are added, they get new positions; when Channels are removed, their position
+ * stays empty. This allows exporters to keep per-position state between
+ * Cycles.
+ *
+ * <p>
+ * This class is immutable.
+ */
+public final class ChannelIndex {
+
+	/** Marks a Channel that is known, but not indexed, e.g. a duplicate. */
+	private static final int IGNORED = -1;
+
+	/** Marks an unknown Channel. */
+	private static final int UNKNOWN = -2;
+
+	protected static final ChannelIndex EMPTY = new ChannelIndex(new Channel<?>[0], new ChannelAddress[0],
+			new IdentityHashMap<>(), new HashMap<>(), 0);
+
+	private final Channel<?>[] channels;
+	private final ChannelAddress[] addresses;
+	private final String[] addressStrings;
+	private final OpenemsType[] types;
+	private final Map<Channel<?>, Integer> positionByChannel;
+	private final Map<ChannelAddress, Integer> positionByAddress;
+	private final int knownChannels;
+	private final boolean hasStrings;
+
+	/**
+	 * Readable Channels per {@link PersistencePriority#ordinal()} with at least
+	 * this priority.
+	 */
+	private final int[][] readableByPriority;
+
+	private ChannelIndex(Channel<?>[] channels, ChannelAddress[] addresses,
+			Map<Channel<?>, Integer> positionByChannel, Map<ChannelAddress, Integer> positionByAddress,
+			int knownChannels) {
+		this.channels = channels;
+		this.addresses = addresses;
+		this.positionByChannel = positionByChannel;
+		this.positionByAddress = positionByAddress;
+		this.knownChannels = knownChannels;
+		this.addressStrings = new String[channels.length];
+		this.types = new OpenemsType[channels.length];
+
+		var hasStrings = false;
+		var priorities = PersistencePriority.values();
+		var readable = new ArrayList<List<Integer>>();
+		for (var i = 0; i < priorities.length; i++) {
+			readable.add(new ArrayList<>());
+		}
+		for (var p = 0; p < channels.length; p++) {
+			this.addressStrings[p] = addresses[p].toString();
+			var channel = channels[p];
+			if (channel == null) {
+				continue;
+			}
+			this.types[p] = channel.getType();
+			hasStrings |= this.types[p] == OpenemsType.STRING;
+			var doc = channel.channelDoc();
+			if (doc.getAccessMode() == AccessMode.WRITE_ONLY) {
+				continue;
+			}
+			for (var priority : priorities) {
+				if (doc.getPersistencePriority().isAtLeast(priority)) {
+					readable.get(priority.ordinal()).add(p);
+				}
+			}
+		}
+		this.hasStrings = hasStrings;
+		this.readableByPriority = readable.stream() //
+				.map(l -> l.stream().mapToInt(Integer::intValue).toArray()) //
+				.toArray(int[][]::new);
+	}
+
+	/**
+	 * Gets the positions of the given Channels.
+	 *
+	 * @param channels the Channels
+	 * @return the positions, {@link #IGNORED} for ignored Channels; null if this
+	 *         index does not match the Channels
+	 */
+	protected int[] positionsOf(List<Channel<?>> channels) {
+		if (channels.size() != this.knownChannels) {
+			return null;
+		}
+		var result = new int[channels.size()];
+		for (var i = 0; i < result.length; i++) {
+			var position = this.positionByChannel.getOrDefault(channels.get(i), UNKNOWN);
+			if (position == UNKNOWN) {
+				return null;
+			}
+			result[i] = position;
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a new {@link ChannelIndex} for the given Channels, keeping the
+	 * positions of this index.
+	 *
+	 * @param channels the Channels
+	 * @return the new {@link ChannelIndex}
+	 */
+	protected ChannelIndex update(List<Channel<?>> channels) {
+		var positionByAddress = new HashMap<>(this.positionByAddress);
+		var positionByChannel = new IdentityHashMap<Channel<?>, Integer>(channels.size());
+		var newChannels = new ArrayList<Channel<?>>(Arrays.asList(new Channel<?>[this.channels.length]));
+		var newAddresses = new ArrayList<ChannelAddress>(Arrays.asList(this.addresses));
+		for (var channel : channels) {
+			if (positionByChannel.containsKey(channel)) {
+				continue;
+			}
+			var address = channel.address();
+			var position = positionByAddress.get(address);
+			if (position == null) {
+				// New Channel-Address
+				position = newAddresses.size();
+				positionByAddress.put(address, position);
+				newChannels.add(channel);
+				newAddresses.add(address);
+
+			} else if (newChannels.get(position) != null) {
+				// Duplicated Channel-Address
+				positionByChannel.put(channel, IGNORED);
+				continue;
+
+			} else {
+				newChannels.set(position, channel);
+			}
+			positionByChannel.put(channel, position);
+		}
+		return new ChannelIndex(newChannels.toArray(Channel<?>[]::new),
+				newAddresses.toArray(ChannelAddress[]::new), positionByChannel, positionByAddress, channels.size());
+	}
+
+	/**
+	 * Gets the number of positions, including empty ones.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return this.channels.length;
+	}
+
+	/**
+	 * Gets the Channel at the given position.
+	 *
+	 * @param position the position
+	 * @return the {@link Channel}; null if the Channel does not exist anymore
+	 */
+	public Channel<?> getChannel(int position) {
+		return this.channels[position];
+	}
+
+	/**
+	 * Gets the {@link ChannelAddress} at the given position.
+	 *
+	 * @param position the position
+	 * @return the {@link ChannelAddress}
+	 */
+	public ChannelAddress getAddress(int position) {
+		return this.addresses[position];
+	}
+
+	/**
+	 * Gets the {@link ChannelAddress} at the given position as String.
+	 *
+	 * @param position the position
+	 * @return the Channel-Address, e.g. 'ess0/Soc'
+	 */
+	public String getAddressString(int position) {
+		return this.addressStrings[position];
+	}
+
+	/**
+	 * Gets the {@link OpenemsType} of the Channel at the given position.
+	 *
+	 * @param position the position
+	 * @return the {@link OpenemsType}; null if the Channel does not exist anymore
+	 */
+	public OpenemsType getType(int position) {
+		return this.types[position];
+	}
+
+	/**
+	 * Gets the positions of all existing, not WRITE_ONLY Channels with at least
+	 * the given {@link PersistencePriority}.
+	 *
+	 * @param priority the minimum {@link PersistencePriority}
+	 * @return the positions; must not be modified
+	 */
+	protected int[] getReadable(PersistencePriority priority) {
+		return this.readableByPriority[priority.ordinal()];
+	}
+
+	protected boolean hasStrings() {
+		return this.hasStrings;
+	}
+
+}
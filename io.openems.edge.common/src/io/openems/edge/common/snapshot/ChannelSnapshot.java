@@ -0,0 +1,285 @@
+package io.openems.edge.common.snapshot;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.type.TypeUtils;
+
+/**
+ * Holds the values of all Channels of all enabled Components at one point in
+ * time, in columnar form.
+ *
+ * <p>
+ * Values are stored in primitive arrays at the positions of the
+ * {@link ChannelIndex}: integer types (including BOOLEAN as 0/1) as long,
+ * FLOAT and DOUBLE as double bits, STRING separately. A bitmap marks the
+ * positions whose value differs from the previous snapshot.
+ *
+ * <p>
+ * This class is immutable and can be handed to asynchronous tasks.
+ */
+public final class ChannelSnapshot {
+
+	private final ChannelIndex index;
+	private final long timestamp;
+	private final long[] values;
+	private final String[] strings;
+	private final BitSet defined;
+	private final BitSet changed;
+
+	private ChannelSnapshot(ChannelIndex index, long timestamp) {
+		this.index = index;
+		this.timestamp = timestamp;
+		this.values = new long[index.size()];
+		this.strings = index.hasStrings() ? new String[index.size()] : null;
+		this.defined = new BitSet(index.size());
+		this.changed = new BitSet(index.size());
+	}
+
+	/**
+	 * Takes a snapshot of the current values of all Channels.
+	 *
+	 * @param components the enabled {@link OpenemsComponent}s
+	 * @param previous   the previous {@link ChannelSnapshot}; or null
+	 * @param timestamp  the timestamp in [ms]
+	 * @return a new {@link ChannelSnapshot}
+	 */
+	public static ChannelSnapshot take(Collection<? extends OpenemsComponent> components, ChannelSnapshot previous,
+			long timestamp) {
+		var index = previous != null ? previous.index : ChannelIndex.EMPTY;
+		var channels = new ArrayList<Channel<?>>(index.size());
+		for (var component : components) {
+			channels.addAll(component.channels());
+		}
+		var positions = index.positionsOf(channels);
+		if (positions == null) {
+			// Channels were added or removed
+			index = index.update(channels);
+			positions = index.positionsOf(channels);
+		}
+
+		var result = new ChannelSnapshot(index, timestamp);
+		for (var i = 0; i < positions.length; i++) {
+			var position = positions[i];
+			if (position >= 0) {
+				result.read(position, channels.get(i));
+			}
+		}
+
+		// Mark changes
+		for (var position = 0; position < index.size(); position++) {
+			if (previous == null || !result.equalsAt(position, previous)) {
+				result.changed.set(position);
+			}
+		}
+		return result;
+	}
+
+	private void read(int position, Channel<?> channel) {
+		var type = this.index.getType(position);
+		var value = channel.value().get();
+		if (value == null) {
+			return;
+		}
+		try {
+			switch (type) {
+			case BOOLEAN -> this.values[position] = TypeUtils.<Boolean>getAsType(type, value) ? 1 : 0;
+			case SHORT, INTEGER, LONG -> this.values[position] = TypeUtils.<Number>getAsType(type, value).longValue();
+			case FLOAT, DOUBLE -> this.values[position] = Double
+					.doubleToRawLongBits(TypeUtils.<Number>getAsType(type, value).doubleValue());
+			case STRING -> this.strings[position] = TypeUtils.<String>getAsType(type, value);
+			}
+			this.defined.set(position);
+		} catch (IllegalArgumentException e) {
+			// Value does not match the type of the Channel; handle as undefined
+		}
+	}
+
+	private boolean equalsAt(int position, ChannelSnapshot other) {
+		if (position >= other.index.size()) {
+			return false;
+		}
+		var isDefined = this.defined.get(position);
+		if (isDefined != other.defined.get(position)) {
+			return false;
+		}
+		if (!isDefined) {
+			return true;
+		}
+		if (this.strings != null && this.strings[position] != null) {
+			return other.strings != null && Objects.equals(this.strings[position], other.strings[position]);
+		}
+		return this.values[position] == other.values[position];
+	}
+
+	/**
+	 * Gets the timestamp of this snapshot.
+	 *
+	 * @return the timestamp in [ms]
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * Gets the {@link ChannelIndex}.
+	 *
+	 * @return the {@link ChannelIndex}
+	 */
+	public ChannelIndex getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * Calls the action for the position of every existing, not WRITE_ONLY Channel
+	 * with at least the given {@link PersistencePriority}.
+	 *
+	 * @param priority the minimum {@link PersistencePriority}
+	 * @param action   the action, called with the position
+	 */
+	public void forEach(PersistencePriority priority, IntConsumer action) {
+		for (var position : this.index.getReadable(priority)) {
+			action.accept(position);
+		}
+	}
+
+	/**
+	 * Gets the Channel at the given position.
+	 *
+	 * @param position the position
+	 * @return the {@link Channel}; null if the Channel does not exist anymore
+	 */
+	public Channel<?> getChannel(int position) {
+		return this.index.getChannel(position);
+	}
+
+	/**
+	 * Gets the {@link ChannelAddress} at the given position.
+	 *
+	 * @param position the position
+	 * @return the {@link ChannelAddress}
+	 */
+	public ChannelAddress getAddress(int position) {
+		return this.index.getAddress(position);
+	}
+
+	/**
+	 * Gets the Channel-Address at the given position as String.
+	 *
+	 * @param position the position
+	 * @return the Channel-Address, e.g. 'ess0/Soc'
+	 */
+	public String getAddressString(int position) {
+		return this.index.getAddressString(position);
+	}
+
+	/**
+	 * Gets the {@link OpenemsType} of the Channel at the given position.
+	 *
+	 * @param position the position
+	 * @return the {@link OpenemsType}; null if the Channel does not exist anymore
+	 */
+	public OpenemsType getType(int position) {
+		return this.index.getType(position);
+	}
+
+	/**
+	 * Is the value at the given position defined, i.e. not null?.
+	 *
+	 * @param position the position
+	 * @return true if defined
+	 */
+	public boolean isDefined(int position) {
+		return this.defined.get(position);
+	}
+
+	/**
+	 * Did the value at the given position change since the previous snapshot?.
+	 *
+	 * @param position the position
+	 * @return true if changed
+	 */
+	public boolean isChanged(int position) {
+		return this.changed.get(position);
+	}
+
+	/**
+	 * Gets the value at the given position as long. FLOAT and DOUBLE values are
+	 * truncated.
+	 *
+	 * @param position the position
+	 * @return the value; 0 if not defined
+	 */
+	public long getLong(int position) {
+		return switch (this.getNumberType(position)) {
+		case FLOAT, DOUBLE -> (long) Double.longBitsToDouble(this.values[position]);
+		default -> this.values[position];
+		};
+	}
+
+	/**
+	 * Gets the value at the given position as double.
+	 *
+	 * @param position the position
+	 * @return the value; NaN if not defined
+	 */
+	public double getDouble(int position) {
+		if (!this.defined.get(position)) {
+			return Double.NaN;
+		}
+		return switch (this.getNumberType(position)) {
+		case FLOAT, DOUBLE -> Double.longBitsToDouble(this.values[position]);
+		default -> this.values[position];
+		};
+	}
+
+	/**
+	 * Gets the value of a STRING Channel at the given position.
+	 *
+	 * @param position the position
+	 * @return the value; null if not defined or not a STRING Channel
+	 */
+	public String getString(int position) {
+		return this.strings != null ? this.strings[position] : null;
+	}
+
+	/**
+	 * Gets the value at the given position as {@link JsonElement}, like
+	 * {@link TypeUtils#getAsJson(OpenemsType, Object)}.
+	 *
+	 * @param position the position
+	 * @return the value; {@link JsonNull} if not defined
+	 */
+	public JsonElement getAsJson(int position) {
+		if (!this.defined.get(position)) {
+			return JsonNull.INSTANCE;
+		}
+		var value = this.values[position];
+		return switch (this.index.getType(position)) {
+		case BOOLEAN, INTEGER -> new JsonPrimitive((int) value);
+		case SHORT -> new JsonPrimitive((short) value);
+		case LONG -> new JsonPrimitive(value);
+		case FLOAT -> new JsonPrimitive((float) Double.longBitsToDouble(value));
+		case DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(value));
+		case STRING -> new JsonPrimitive(this.strings[position]);
+		};
+	}
+
+	private OpenemsType getNumberType(int position) {
+		var type = this.index.getType(position);
+		return type != null ? type : OpenemsType.LONG;
+	}
+
+}
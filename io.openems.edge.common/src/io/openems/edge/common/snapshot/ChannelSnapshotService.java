@@ -0,0 +1,30 @@
+package io.openems.edge.common.snapshot;
+
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * Provides one {@link ChannelSnapshot} of the Channel values of all enabled
+ * Components per Cycle.
+ *
+ * <p>
+ * Exporters (Controller.Api.Backend, Controller.Api.MQTT, Timedata services)
+ * use this service instead of walking and converting all Channels on their
+ * own.
+ */
+public interface ChannelSnapshotService {
+
+	/**
+	 * Gets the {@link ChannelSnapshot} of the current Cycle.
+	 *
+	 * <p>
+	 * The snapshot is taken on the first call after
+	 * {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_PROCESS_IMAGE}, so calling this
+	 * method in {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_PROCESS_IMAGE}
+	 * returns the values of the current process image. All later calls within
+	 * the same Cycle return the same instance.
+	 *
+	 * @return the {@link ChannelSnapshot}
+	 */
+	public ChannelSnapshot getSnapshot();
+
+}
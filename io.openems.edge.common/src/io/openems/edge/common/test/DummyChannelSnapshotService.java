@@ -0,0 +1,29 @@
+package io.openems.edge.common.test;
+
+import java.time.Instant;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.snapshot.ChannelSnapshot;
+import io.openems.edge.common.snapshot.ChannelSnapshotService;
+
+/**
+ * Simulates a {@link ChannelSnapshotService} for the OpenEMS Component test
+ * framework. Takes a new {@link ChannelSnapshot} on every call.
+ */
+public class DummyChannelSnapshotService implements ChannelSnapshotService {
+
+	private final ComponentManager componentManager;
+	private ChannelSnapshot snapshot = null;
+
+	public DummyChannelSnapshotService(ComponentManager componentManager) {
+		this.componentManager = componentManager;
+	}
+
+	@Override
+	public synchronized ChannelSnapshot getSnapshot() {
+		this.snapshot = ChannelSnapshot.take(this.componentManager.getEnabledComponents(), this.snapshot,
+				Instant.now(this.componentManager.getClock()).toEpochMilli());
+		return this.snapshot;
+	}
+
+}
@@ -0,0 +1,103 @@
+package io.openems.edge.common.channel.value;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+
+public class PastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+	@Test
+	public void testPrune() {
+		final PastValues<Integer> sut = PastValues.of(OpenemsType.INTEGER, Duration.ofSeconds(100));
+		for (var i = 0; i < 300; i++) {
+			sut.add(new Value<>(null, i, START.plusSeconds(i)));
+		}
+		assertEquals(101, sut.size());
+		assertEquals(List.of(299, 298), sut.descendingStream().limit(2).collect(toList()));
+		assertEquals(START.plusSeconds(199), sut.toTreeMap(null).firstKey());
+	}
+
+	@Test
+	public void testRange() {
+		final PastValues<Integer> sut = PastValues.of(OpenemsType.INTEGER, Duration.ofMinutes(5));
+		for (var i = 0; i < 10; i++) {
+			sut.add(new Value<>(null, i == 6 ? null : i, START.plusSeconds(i * 10)));
+		}
+
+		// includes the value that was active at 'from'; excludes 'to'; skips undefined
+		assertEquals(List.of(4, 5, 7), sut.stream(START.plusSeconds(45), START.plusSeconds(80)).collect(toList()));
+		assertEquals(List.of(0, 1), sut.stream(START.minusSeconds(10), START.plusSeconds(20)).collect(toList()));
+		assertEquals(16d, sut.doubleStream(START.plusSeconds(40), START.plusSeconds(80)).sum(), 0.001);
+		assertTrue(sut.stream(START.minusSeconds(20), START.minusSeconds(10)).findAny().isEmpty());
+	}
+
+	@Test
+	public void testTail() {
+		final PastValues<Integer> sut = PastValues.of(OpenemsType.INTEGER, Duration.ofMinutes(5));
+		for (var i = 0; i < 10; i++) {
+			sut.add(new Value<>(null, i == 6 ? null : i, START.plusSeconds(i * 10)));
+		}
+
+		// starts at 'from' (inclusive); skips undefined
+		assertEquals(List.of(0, 1, 2, 3, 4, 5, 7, 8, 9), sut.stream().collect(toList()));
+		assertEquals(List.of(5, 7, 8, 9), sut.tailStream(START.plusSeconds(50)).collect(toList()));
+		assertEquals(List.of(7, 8, 9), sut.tailStream(START.plusSeconds(51)).collect(toList()));
+		assertEquals(17d, sut.tailDoubleStream(START.plusSeconds(80)).sum(), 0.001);
+		assertTrue(sut.tailStream(START.plusSeconds(91)).findAny().isEmpty());
+		assertEquals(9, sut.tailStream(START.minusSeconds(10)).count());
+	}
+
+	@Test
+	public void testSameTimestampAndClockReset() {
+		final PastValues<Integer> sut = PastValues.of(OpenemsType.INTEGER, Duration.ofMinutes(5));
+		sut.add(new Value<>(null, 1, START));
+		sut.add(new Value<>(null, 2, START));
+		assertEquals(1, sut.size());
+		assertEquals(2, sut.descendingStream().findFirst().get().intValue());
+
+		sut.add(new Value<>(null, 3, START.minusSeconds(1)));
+		assertEquals(1, sut.size());
+		assertEquals(3, sut.descendingStream().findFirst().get().intValue());
+	}
+
+	@Test
+	public void testMaxCapacity() {
+		final PastValues<Object> sut = PastValues.of(OpenemsType.SHORT, Duration.ofDays(1));
+		for (var i = 0; i < PastValues.MAX_CAPACITY + 10; i++) {
+			sut.add(new Value<>(null, (short) i, START.plusSeconds(i)));
+		}
+		assertEquals(PastValues.MAX_CAPACITY, sut.size());
+		assertEquals(Short.valueOf((short) 10), sut.stream(START, START.plusSeconds(11)).findFirst().get());
+	}
+
+	@Test
+	public void testTypes() {
+		final PastValues<Boolean> booleans = PastValues.of(OpenemsType.BOOLEAN, Duration.ofMinutes(5));
+		booleans.add(new Value<>(null, true, START));
+		booleans.add(new Value<>(null, false, START.plusSeconds(1)));
+		assertEquals(1d, booleans.doubleStream(START, START.plusSeconds(2)).sum(), 0.001);
+
+		final PastValues<Object> floats = PastValues.of(OpenemsType.FLOAT, Duration.ofMinutes(5));
+		floats.add(new Value<>(null, 1.5F, START));
+		assertEquals(Float.valueOf(1.5F), floats.descendingStream().findFirst().get());
+
+		final PastValues<Long> longs = PastValues.of(OpenemsType.LONG, Duration.ofMinutes(5));
+		longs.add(new Value<>(null, Long.MAX_VALUE, START));
+		assertEquals(Long.valueOf(Long.MAX_VALUE), longs.descendingStream().findFirst().get());
+
+		final PastValues<String> strings = PastValues.of(OpenemsType.STRING, Duration.ofMinutes(5));
+		strings.add(new Value<>(null, "foo", START));
+		assertEquals("foo", strings.stream(START, START.plusSeconds(1)).findFirst().get());
+	}
+
+}
@@ -0,0 +1,140 @@
+package io.openems.edge.common.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+
+public class ChannelSnapshotTest {
+
+	private static class DummyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
+
+		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			BOOLEAN(Doc.of(OpenemsType.BOOLEAN).persistencePriority(PersistencePriority.HIGH)), //
+			INTEGER(Doc.of(OpenemsType.INTEGER).persistencePriority(PersistencePriority.HIGH)), //
+			FLOAT(Doc.of(OpenemsType.FLOAT)), //
+			STRING(Doc.of(OpenemsType.STRING)), //
+			WRITE_ONLY(Doc.of(OpenemsType.INTEGER).accessMode(AccessMode.WRITE_ONLY)), //
+			;
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		public DummyComponent(String id) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					ChannelId.values() //
+			);
+			super.activate(null, id, "", true);
+		}
+
+		private void setValue(ChannelId channelId, Object value) {
+			var channel = this.channel(channelId);
+			channel.setNextValue(value);
+			channel.nextProcessImage();
+		}
+	}
+
+	private static int positionOf(ChannelSnapshot snapshot, String address) {
+		for (var i = 0; i < snapshot.getIndex().size(); i++) {
+			if (snapshot.getAddressString(i).equals(address)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static List<String> readable(ChannelSnapshot snapshot, PersistencePriority priority) {
+		var result = new ArrayList<String>();
+		snapshot.forEach(priority, i -> result.add(snapshot.getAddressString(i)));
+		return result;
+	}
+
+	@Test
+	public void testTake() {
+		var component0 = new DummyComponent("component0");
+		component0.setValue(DummyComponent.ChannelId.BOOLEAN, true);
+		component0.setValue(DummyComponent.ChannelId.INTEGER, 42);
+		component0.setValue(DummyComponent.ChannelId.FLOAT, 0.1F);
+		component0.setValue(DummyComponent.ChannelId.STRING, "foo");
+
+		var snapshot1 = ChannelSnapshot.take(List.of(component0), null, 1000L);
+		assertEquals(1000L, snapshot1.getTimestamp());
+
+		var bool = positionOf(snapshot1, "component0/Boolean");
+		var integer = positionOf(snapshot1, "component0/Integer");
+		var flt = positionOf(snapshot1, "component0/Float");
+		var string = positionOf(snapshot1, "component0/String");
+		var writeOnly = positionOf(snapshot1, "component0/WriteOnly");
+
+		assertEquals(1L, snapshot1.getLong(bool));
+		assertEquals(new JsonPrimitive(1), snapshot1.getAsJson(bool));
+		assertEquals(42L, snapshot1.getLong(integer));
+		assertEquals(42., snapshot1.getDouble(integer), 0.);
+		assertEquals(new JsonPrimitive(0.1F), snapshot1.getAsJson(flt));
+		assertEquals("foo", snapshot1.getString(string));
+		assertFalse(snapshot1.isDefined(writeOnly));
+		assertEquals(JsonNull.INSTANCE, snapshot1.getAsJson(writeOnly));
+		assertTrue(snapshot1.isChanged(integer));
+
+		// Filter by PersistencePriority; ignore WRITE_ONLY
+		var high = readable(snapshot1, PersistencePriority.HIGH);
+		assertEquals(List.of("component0/Boolean", "component0/Integer"), high.stream().sorted().toList());
+		var all = readable(snapshot1, PersistencePriority.VERY_LOW);
+		assertTrue(all.contains("component0/String"));
+		assertFalse(all.contains("component0/WriteOnly"));
+
+		// Next Cycle: same index, only changed values are marked
+		component0.setValue(DummyComponent.ChannelId.INTEGER, 43);
+		var snapshot2 = ChannelSnapshot.take(List.of(component0), snapshot1, 2000L);
+		assertSame(snapshot1.getIndex(), snapshot2.getIndex());
+		assertTrue(snapshot2.isChanged(integer));
+		assertFalse(snapshot2.isChanged(bool));
+		assertFalse(snapshot2.isChanged(flt));
+		assertFalse(snapshot2.isChanged(string));
+		assertEquals(42L, snapshot1.getLong(integer));
+		assertEquals(43L, snapshot2.getLong(integer));
+
+		// Add a Component: positions stay stable
+		var component1 = new DummyComponent("component1");
+		var snapshot3 = ChannelSnapshot.take(List.of(component0, component1), snapshot2, 3000L);
+		assertEquals(integer, positionOf(snapshot3, "component0/Integer"));
+		assertEquals(43L, snapshot3.getLong(integer));
+		var integer1 = positionOf(snapshot3, "component1/Integer");
+		assertTrue(integer1 >= snapshot2.getIndex().size());
+		assertTrue(snapshot3.isChanged(integer1));
+
+		// Remove a Component: position is kept, but empty
+		var snapshot4 = ChannelSnapshot.take(List.of(component1), snapshot3, 4000L);
+		assertNull(snapshot4.getChannel(integer));
+		assertFalse(snapshot4.isDefined(integer));
+		assertTrue(snapshot4.isChanged(integer));
+		assertFalse(readable(snapshot4, PersistencePriority.VERY_LOW).contains("component0/Integer"));
+	}
+
+}
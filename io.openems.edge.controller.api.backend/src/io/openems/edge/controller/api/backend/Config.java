@@ -7,6 +7,7 @@ import org.osgi.service.metatype.annotations.AttributeType;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.common.channel.PersistencePriority;
+import io.openems.common.websocket.WebsocketCompression;
 
 @ObjectClassDefinition(//
 		name = "Controller Api Backend", //
@@ -49,6 +50,18 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Resend values Persistence Priority", description = "Resend only Channels with a Persistence Priority greater-or-equals this. Should match with the persistence priority configured in your timedata.")
 	PersistencePriority resendPriority() default PersistencePriority.HIGH;
 
+	@AttributeDefinition(name = "Binary data", description = "Send Channel values in a compact binary format, if supported by OpenEMS Backend.")
+	boolean binaryData() default false;
+
+	@AttributeDefinition(name = "Compression", description = "Offer permessage-deflate compression to OpenEMS Backend. Holds a Deflater and Inflater with about 300 KiB of native memory.")
+	boolean compression() default false;
+
+	@AttributeDefinition(name = "Compression Threshold", description = "Messages smaller than this number of bytes are sent uncompressed.")
+	int compressionThreshold() default WebsocketCompression.DEFAULT_THRESHOLD;
+
+	@AttributeDefinition(name = "Compression Context Takeover", description = "Keep the 32 KiB compression window across messages. Compresses better, but requires more memory.")
+	boolean compressionContextTakeover() default true;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
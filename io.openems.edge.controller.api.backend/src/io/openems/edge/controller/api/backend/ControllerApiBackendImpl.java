@@ -42,12 +42,15 @@ import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataCodec;
+import io.openems.common.websocket.WebsocketCompression;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.jsonapi.JsonApi;
+import io.openems.edge.common.snapshot.ChannelSnapshotService;
 import io.openems.edge.common.user.User;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.controller.api.common.ApiWorker;
@@ -84,6 +87,9 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 	@Reference
 	protected ComponentManager componentManager;
 
+	@Reference
+	protected ChannelSnapshotService channelSnapshotService;
+
 	@Reference
 	protected Cycle cycle;
 
@@ -145,9 +151,14 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		if (config.binaryData()) {
+			httpHeaders.put(BinaryDataCodec.HANDSHAKE_HEADER, BinaryDataCodec.PROTOCOL_VERSION);
+		}
 
 		// Create Websocket instance
-		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
+		var compression = new WebsocketCompression(config.compression(), config.compressionThreshold(),
+				config.compressionContextTakeover());
+		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy, compression);
 		this.websocket.start();
 
 		this.resendHistoricDataWorker.setConfig(new ResendHistoricDataWorker.Config(//
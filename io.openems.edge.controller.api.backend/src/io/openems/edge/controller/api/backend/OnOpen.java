@@ -7,6 +7,8 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.JsonObject;
 
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryDataCodec;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -26,6 +28,12 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 		var message = new EdgeConfigNotification(config);
 		this.parent.websocket.sendMessage(message);
 
+		// Use binary data notifications if confirmed by the Backend
+		var useBinaryData = this.parent.config.binaryData() && BinaryDataCodec.PROTOCOL_VERSION
+				.equals(JsonUtils.getAsStringOrElse(handshake, BinaryDataCodec.HANDSHAKE_HEADER, null));
+		this.parent.sendChannelValuesWorker
+				.setBinaryDataEncoder(useBinaryData ? new BinaryDataCodec.Encoder() : null);
+
 		// Send all Channel values
 		this.parent.sendChannelValuesWorker.sendValuesOfAllChannelsOnce();
 
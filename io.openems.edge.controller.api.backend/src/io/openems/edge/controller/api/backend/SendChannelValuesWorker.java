@@ -10,36 +10,35 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collector;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.TreeBasedTable;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
-import io.openems.common.channel.AccessMode;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.common.websocket.BinaryDataCodec;
+import io.openems.edge.common.channel.ChangeSequence;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
-import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.snapshot.ChannelSnapshot;
 import io.openems.edge.common.type.TypeUtils;
 
 /**
@@ -49,7 +48,10 @@ import io.openems.edge.common.type.TypeUtils;
  *
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
- * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}. Changed values are
+ * detected via {@link Channel#getChangeSequence()}: a Channel has changed if
+ * its sequence number is greater than the {@link ChangeSequence} of the last
+ * successful send.
  */
 public class SendChannelValuesWorker {
 
@@ -66,23 +68,37 @@ public class SendChannelValuesWorker {
 			new ThreadPoolExecutor.DiscardOldestPolicy());
 
 	/**
-	 * If true: next 'send' sends all channel values.
+	 * Counts requests to send all channel values. If greater than
+	 * {@link #sentValuesOfAllChannelsRequest}: next 'send' sends all channel
+	 * values.
 	 */
-	private final AtomicBoolean sendValuesOfAllChannels = new AtomicBoolean(true);
+	private final AtomicLong sendValuesOfAllChannelsRequest = new AtomicLong(1);
 	private final AtomicBoolean sendValuesOfAllChannelsAggregated = new AtomicBoolean(true);
 
+	/**
+	 * Keeps the {@link #sendValuesOfAllChannelsRequest} of the last successful
+	 * send of all channel values.
+	 */
+	private volatile long sentValuesOfAllChannelsRequest = 0;
+
 	/**
 	 * Keeps the last timestamp when all channel values were sent.
 	 */
-	private Instant lastSendValuesOfAllChannels = Instant.MIN;
+	private volatile Instant lastSendValuesOfAllChannels = Instant.MIN;
 
 	/**
-	 * Keeps the values of last successful send.
+	 * Keeps the {@link ChangeSequence} of the last successful send.
 	 */
-	private Map<String, JsonElement> lastAllValues = ImmutableMap.of();
+	private volatile long lastSentChangeSequence = 0;
 
 	private Instant lastSendAggregatedDataTimestamp;
 
+	/**
+	 * Encodes the values in the compact binary format, if negotiated with the
+	 * Backend; otherwise null.
+	 */
+	private final AtomicReference<BinaryDataCodec.Encoder> binaryDataEncoder = new AtomicReference<>();
+
 	protected SendChannelValuesWorker(ControllerApiBackendImpl parent) {
 		this.parent = parent;
 	}
@@ -91,10 +107,20 @@ public class SendChannelValuesWorker {
 	 * Triggers sending all Channel values once.
 	 */
 	public synchronized void sendValuesOfAllChannelsOnce() {
-		this.sendValuesOfAllChannels.set(true);
+		this.sendValuesOfAllChannelsRequest.incrementAndGet();
 		this.sendValuesOfAllChannelsAggregated.set(true);
 	}
 
+	/**
+	 * Sets the {@link BinaryDataCodec.Encoder} for the current connection.
+	 *
+	 * @param binaryDataEncoder the {@link BinaryDataCodec.Encoder}; null to send
+	 *                          JSON-RPC notifications
+	 */
+	public void setBinaryDataEncoder(BinaryDataCodec.Encoder binaryDataEncoder) {
+		this.binaryDataEncoder.set(binaryDataEncoder);
+	}
+
 	/**
 	 * Stops the {@link SendChannelValuesWorker}.
 	 */
@@ -111,12 +137,12 @@ public class SendChannelValuesWorker {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
 		// Update the values of all channels
-		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
-		final var aggregatedValues = this.collectAggregatedData(enabledComponents);
+		final var snapshot = this.parent.channelSnapshotService.getSnapshot();
+		final var sendTask = this.collectData(snapshot, now);
+		final var aggregatedValues = this.collectAggregatedData(snapshot);
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		this.executor.execute(sendTask);
 		if (aggregatedValues != null && !aggregatedValues.isEmpty()) {
 			aggregatedValues.rowMap().forEach((timestamp, data) -> {
 				this.executor.execute(new SendAggregatedDataTask(this, Instant.ofEpochMilli(timestamp), data));
@@ -125,39 +151,43 @@ public class SendChannelValuesWorker {
 	}
 
 	/**
-	 * Cycles through all Channels and collects the value.
+	 * Collects the values of changed Channels - or of all Channels once in a
+	 * while - from the {@link ChannelSnapshot}.
 	 *
-	 * @param enabledComponents the enabled components
-	 * @return collected data
+	 * @param snapshot the {@link ChannelSnapshot} of the current Cycle
+	 * @param now      the current timestamp
+	 * @return the {@link SendTask} with the collected data
 	 */
-	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
-		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(//
-							ImmutableMap.toImmutableMap(//
-									c -> c.address().toString(), //
-									c -> c.value().asJson(), //
-									// simple/stupid merge function to avoid
-									// 'java.lang.IllegalArgumentException Duplicate Key'
-									(t, u) -> {
-										this.parent.logWarn(this.log, "Duplicate Key [" + t.toString() + "]");
-										return t;
-									}));
-		} catch (Exception e) {
-			// ConcurrentModificationException can happen if Channels are dynamically added
-			// or removed
-			this.parent.logWarn(this.log, "Unable to collect date: " + e.getMessage());
-			return ImmutableMap.of();
+	protected SendTask collectData(ChannelSnapshot snapshot, Instant now) {
+		// Any change after this point is sent with the next run
+		final var changeSequence = ChangeSequence.current();
+		final var sendAllRequest = this.sendValuesOfAllChannelsRequest.get();
+
+		final boolean sendAll;
+		if (sendAllRequest > this.sentValuesOfAllChannelsRequest) {
+			// Send values of all Channels if explicitly asked for
+			sendAll = true;
+
+		} else if (Duration.between(this.lastSendValuesOfAllChannels, now)
+				.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
+			// Send values of all Channels once in a while
+			sendAll = true;
+
+		} else {
+			sendAll = false;
 		}
+
+		final var lastSentChangeSequence = this.lastSentChangeSequence;
+		final var values = new HashMap<String, JsonElement>();
+		snapshot.forEach(this.parent.config.persistencePriority(), i -> {
+			if (sendAll || snapshot.getChannel(i).getChangeSequence() > lastSentChangeSequence) {
+				values.put(snapshot.getAddressString(i), snapshot.getAsJson(i));
+			}
+		});
+		return new SendTask(this, now, values, changeSequence, sendAll ? sendAllRequest : 0);
 	}
 
-	private TreeBasedTable<Long, String, JsonElement> collectAggregatedData(List<OpenemsComponent> enabledComponents) {
+	private TreeBasedTable<Long, String, JsonElement> collectAggregatedData(ChannelSnapshot snapshot) {
 		final var now = LocalDateTime.now(this.parent.componentManager.getClock());
 		final var endTime = now.truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES));
 		final var startTime = endTime.minusMinutes(AGGREGATION_MINUTES);
@@ -177,65 +207,49 @@ public class SendChannelValuesWorker {
 		final var sendAllChannels = this.sendValuesOfAllChannelsAggregated.getAndSet(false);
 
 		final var table = TreeBasedTable.<Long, String, JsonElement>create();
-		enabledComponents.stream() //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> // Ignore WRITE_ONLY Channels
-				channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-						// Ignore Low-Priority Channels
-						&& channel.channelDoc().getPersistencePriority()
-								.isAtLeast(this.parent.config.aggregationPriority()))
-				.forEach(channel -> {
-					try {
-						// This is the highest timestamp before `startTime`. If existing it is used for
-						// the tailMap to make sure we get a Value even for Channels where the value has
-						// not changed within the last 5 minutes.
-						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(startTime))
-								.orElse(startTime);
-
-						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
-								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime)) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
-								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
-										channel.getType()));
-
-						// TODO aggregation should be modifiable in Doc e. g. not every EnumDoc may want
-						// this behaviour
-						if (channel.channelDoc() instanceof EnumDoc) {
-							value = aggregateEnumChannel(channel, channelStartTime, endTime);
-						}
-
-						if (!sendAllChannels && value.isJsonNull()) {
-							return;
-						}
-						table.put(timestampMillis, channel.address().toString(), value);
-					} catch (IllegalArgumentException e) {
-						// unable to collect data because types are not matching the expected one
-						e.printStackTrace();
-					}
-				});
+		// Ignores WRITE_ONLY and Low-Priority Channels
+		snapshot.forEach(this.parent.config.aggregationPriority(), i -> {
+			final var channel = snapshot.getChannel(i);
+			try {
+				// The range includes the value that was active at `startTime`, to make sure we
+				// get a Value even for Channels where the value has not changed within the last
+				// 5 minutes.
+				var value = channel.pastValues() //
+						.stream(startTime, endTime) //
+						.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
+								channel.getType()));
+
+				// TODO aggregation should be modifiable in Doc e. g. not every EnumDoc may want
+				// this behaviour
+				if (channel.channelDoc() instanceof EnumDoc) {
+					value = aggregateEnumChannel(channel, startTime, endTime);
+				}
+
+				if (!sendAllChannels && value.isJsonNull()) {
+					return;
+				}
+				table.put(timestampMillis, snapshot.getAddressString(i), value);
+			} catch (IllegalArgumentException e) {
+				// unable to collect data because types are not matching the expected one
+				e.printStackTrace();
+			}
+		});
 		return table;
 	}
 
 	// TODO aggregation should be moved to doc
 	protected static JsonElement aggregateEnumChannel(//
 			Channel<?> channel, //
-			LocalDateTime channelStartTime, //
+			LocalDateTime startTime, //
 			LocalDateTime endTime //
 	) {
 		final var doc = channel.channelDoc();
 		if (!(doc instanceof EnumDoc)) {
 			return JsonNull.INSTANCE;
 		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+		final var numberOfValuesPerOption = channel.pastValues() //
+				.stream(startTime, endTime) //
+				.map(value -> (Integer) value) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -258,18 +272,12 @@ public class SendChannelValuesWorker {
 		}
 
 		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
-			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
-					return new JsonPrimitive(optionValue);
-				}
-			}
-		}
-		return JsonNull.INSTANCE;
+		return channel.pastValues().descendingStream() //
+				.map(value -> (Integer) value) //
+				.filter(maxValues::contains) //
+				.findFirst() //
+				.<JsonElement>map(JsonPrimitive::new) //
+				.orElse(JsonNull.INSTANCE);
 	}
 
 	protected static Collector<Object, ?, JsonElement> aggregateCollector(//
@@ -333,74 +341,65 @@ public class SendChannelValuesWorker {
 	/*
 	 * From here things run asynchronously.
 	 */
-	private static class SendTask implements Runnable {
+	protected static class SendTask implements Runnable {
 
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
-		private final Map<String, JsonElement> allValues;
+		private final Map<String, JsonElement> values;
+		private final long changeSequence;
+		/** The fulfilled request to send all channel values; 0 if none. */
+		private final long sendAllRequest;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp, Map<String, JsonElement> allValues) {
+		public SendTask(SendChannelValuesWorker parent, Instant timestamp, Map<String, JsonElement> values,
+				long changeSequence, long sendAllRequest) {
 			this.parent = parent;
 			this.timestamp = timestamp;
-			this.allValues = allValues;
+			this.values = values;
+			this.changeSequence = changeSequence;
+			this.sendAllRequest = sendAllRequest;
 		}
 
 		@Override
 		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Map<String, JsonElement> lastAllValues;
-
-			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
-				// Send values of all Channels once in a while
-				lastAllValues = ImmutableMap.of();
-
-			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
-					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableMap.of();
-
-			} else {
-				// Actually use the kept 'lastSentValues'
-				// CHECKSTYLE:OFF
-				lastAllValues = this.parent.lastAllValues;
-				// CHECKSTYLE:ON
-			}
-
 			// Round timestamp to Global Cycle-Time
 			final var cycleTime = this.parent.parent.cycle.getCycleTime();
 			final var timestampMillis = this.timestamp.toEpochMilli() / cycleTime * cycleTime;
 
-			// Prepare message values
-			var sendValuesMap = new HashMap<String, JsonElement>();
-
-			// Collect Changed values
-			for (var entry : this.allValues.entrySet()) {
-				var channelAddress = entry.getKey();
-				var value = entry.getValue();
-				if (!Objects.equals(value, lastAllValues.get(channelAddress))) {
-					sendValuesMap.put(channelAddress, value);
-				}
-			}
-
-			// Create JSON-RPC notification
-			var message = new TimestampedDataNotification();
-			message.add(timestampMillis, sendValuesMap);
-
 			// Debug-Log
 			if (this.parent.parent.config.debugMode()) {
 				this.parent.parent.logInfo(this.parent.log,
-						"Sending [" + sendValuesMap.size() + " values]: " + sendValuesMap);
+						"Sending [" + this.values.size() + " values]: " + this.values);
 			}
 
 			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
+			final boolean wasSent;
+			final var encoder = this.parent.binaryDataEncoder.get();
+			if (encoder != null) {
+				// Send compact binary message
+				wasSent = this.parent.parent.websocket.sendBinary(encoder.encode(timestampMillis, this.values));
+				if (!wasSent) {
+					// Backend might have missed dictionary entries: stop using this Encoder and
+					// close the connection. Both sides start with an empty dictionary on
+					// reconnect (see OnOpen).
+					this.parent.binaryDataEncoder.compareAndSet(encoder, null);
+					this.parent.parent.websocket.closeConnection("Unable to send binary data");
+				}
+
+			} else {
+				// Create JSON-RPC notification
+				var message = new TimestampedDataNotification();
+				message.add(timestampMillis, this.values);
+				wasSent = this.parent.parent.websocket.sendMessage(message);
+			}
 
 			if (wasSent) {
 				// Successfully sent: update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
+				this.parent.lastSentChangeSequence = Math.max(this.parent.lastSentChangeSequence,
+						this.changeSequence);
+				if (this.sendAllRequest > 0) {
+					// All values were sent
+					this.parent.sentValuesOfAllChannelsRequest = Math.max(this.parent.sentValuesOfAllChannelsRequest,
+							this.sendAllRequest);
 					this.parent.lastSendValuesOfAllChannels = this.timestamp;
 				}
 			}
@@ -7,11 +7,13 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.java_websocket.framing.CloseFrame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.common.websocket.AbstractWebsocketClient;
 import io.openems.common.websocket.OnClose;
+import io.openems.common.websocket.WebsocketCompression;
 
 public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 
@@ -25,8 +27,8 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 	private final OnClose onClose;
 
 	protected WebsocketClient(ControllerApiBackendImpl parent, String name, URI serverUri,
-			Map<String, String> httpHeaders, Proxy proxy) {
-		super(name, serverUri, httpHeaders, proxy);
+			Map<String, String> httpHeaders, Proxy proxy, WebsocketCompression compression) {
+		super(name, serverUri, httpHeaders, proxy, compression);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -88,6 +90,18 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		return this.ws.isOpen();
 	}
 
+	/**
+	 * Closes the current connection, if it is open. The reconnector then opens a
+	 * new connection.
+	 *
+	 * @param reason the reason for closing
+	 */
+	public void closeConnection(String reason) {
+		if (this.ws.isOpen()) {
+			this.ws.close(CloseFrame.UNEXPECTED_CONDITION, reason);
+		}
+	}
+
 	@Override
 	protected void execute(Runnable command) {
 		this.parent.execute(command);
@@ -12,6 +12,7 @@ import io.openems.common.test.TimeLeapClock;
 import io.openems.common.websocket.DummyWebsocketServer;
 import io.openems.edge.common.sum.DummySum;
 import io.openems.edge.common.test.ComponentTest;
+import io.openems.edge.common.test.DummyChannelSnapshotService;
 import io.openems.edge.common.test.DummyComponentManager;
 import io.openems.edge.common.test.DummyCycle;
 
@@ -36,8 +37,10 @@ public class ControllerApiBackendImplTest {
 			final var clock = new TimeLeapClock(
 					Instant.ofEpochSecond(1577836800L) /* starts at 1. January 2020 00:00:00 */, ZoneOffset.UTC);
 			final var sut = new ControllerApiBackendImpl();
+			final var componentManager = new DummyComponentManager(clock);
 			new ComponentTest(sut) //
-					.addReference("componentManager", new DummyComponentManager(clock)) //
+					.addReference("componentManager", componentManager) //
+					.addReference("channelSnapshotService", new DummyChannelSnapshotService(componentManager)) //
 					.addReference("cycle", new DummyCycle(1000)) //
 					.addReference("resendHistoricDataWorker", new ResendHistoricDataWorker()) //
 					.addReference("oem", new DummyOpenemsEdgeOem()) //
@@ -19,6 +19,10 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private PersistencePriority aggregationPriority;
 		private PersistencePriority resendPriority;
+		private boolean binaryData;
+		private boolean compression;
+		private int compressionThreshold;
+		private boolean compressionContextTakeover;
 		private boolean debugMode;
 
 		private Builder() {
@@ -74,6 +78,26 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBinaryData(boolean binaryData) {
+			this.binaryData = binaryData;
+			return this;
+		}
+
+		public Builder setCompression(boolean compression) {
+			this.compression = compression;
+			return this;
+		}
+
+		public Builder setCompressionThreshold(int compressionThreshold) {
+			this.compressionThreshold = compressionThreshold;
+			return this;
+		}
+
+		public Builder setCompressionContextTakeover(boolean compressionContextTakeover) {
+			this.compressionContextTakeover = compressionContextTakeover;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -145,6 +169,26 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.resendPriority;
 	}
 
+	@Override
+	public boolean binaryData() {
+		return this.builder.binaryData;
+	}
+
+	@Override
+	public boolean compression() {
+		return this.builder.compression;
+	}
+
+	@Override
+	public int compressionThreshold() {
+		return this.builder.compressionThreshold;
+	}
+
+	@Override
+	public boolean compressionContextTakeover() {
+		return this.builder.compressionContextTakeover;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
@@ -3,23 +3,133 @@ package io.openems.edge.controller.api.backend;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.net.URI;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.TreeSet;
 
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
 
+import io.openems.common.channel.PersistencePriority;
 import io.openems.common.function.ThrowingFunction;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.test.TimeLeapClock;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.types.OptionsEnum;
+import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.WebsocketCompression;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyChannelSnapshotService;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.controller.api.backend.SendChannelValuesWorker.SendTask;
 import io.openems.edge.controller.api.backend.SendChannelValuesWorkerTest.DummyComponent.DummyEnum;
 
 public class SendChannelValuesWorkerTest {
 
+	private static final String STATE = "component0/State";
+	private static final String DUMMY_ENUM_CHANNEL = "component0/DummyEnumChannel";
+
+	private final TimeLeapClock clock = new TimeLeapClock(
+			Instant.ofEpochSecond(1577836800L) /* starts at 1. January 2020 00:00:00 */, ZoneOffset.UTC);
+	private final DummyComponent component = new DummyComponent("component0");
+	private final ControllerApiBackendImpl parent = new ControllerApiBackendImpl();
+	private final DummyWebsocketClient websocket = new DummyWebsocketClient(this.parent);
+
+	@Before
+	public void before() {
+		var componentManager = new DummyComponentManager(this.clock) //
+				.addComponent(this.component);
+		this.parent.componentManager = componentManager;
+		this.parent.channelSnapshotService = new DummyChannelSnapshotService(componentManager);
+		this.parent.cycle = new DummyCycle(1000);
+		this.parent.websocket = this.websocket;
+		this.parent.config = MyConfig.create() //
+				.setId("ctrl0") //
+				.setPersistencePriority(PersistencePriority.VERY_LOW) //
+				.build();
+	}
+
+	@After
+	public void after() {
+		this.parent.sendChannelValuesWorker.deactivate();
+	}
+
+	@Test
+	public void testSendChangedValues() {
+		// Initially all values are sent
+		assertEquals(Set.of(STATE, DUMMY_ENUM_CHANNEL), this.collectAndSend());
+		assertEquals(Set.of(), this.collectAndSend());
+
+		// Changed Channel is sent; unchanged Channel is not
+		this.setDummyEnumValue(DummyEnum.VALUE_1);
+		assertEquals(Set.of(DUMMY_ENUM_CHANNEL), this.collectAndSend());
+
+		// Same value again -> not sent
+		this.setDummyEnumValue(DummyEnum.VALUE_1);
+		assertEquals(Set.of(), this.collectAndSend());
+
+		// All values are sent once in a while
+		this.clock.leap(301, ChronoUnit.SECONDS);
+		assertEquals(Set.of(STATE, DUMMY_ENUM_CHANNEL), this.collectAndSend());
+		assertEquals(Set.of(), this.collectAndSend());
+	}
+
+	@Test
+	public void testFailedSend() {
+		this.collectAndSend();
+
+		// Send fails -> change is sent with the next run
+		this.setDummyEnumValue(DummyEnum.VALUE_2);
+		this.websocket.fail = true;
+		assertEquals(Set.of(DUMMY_ENUM_CHANNEL), this.collectAndSend());
+		this.websocket.fail = false;
+		assertEquals(Set.of(DUMMY_ENUM_CHANNEL), this.collectAndSend());
+		assertEquals(Set.of(), this.collectAndSend());
+	}
+
+	@Test
+	public void testDiscardedSend() {
+		this.collectAndSend();
+
+		// SendTask is discarded by the executor -> change is sent with the next run
+		this.setDummyEnumValue(DummyEnum.VALUE_3);
+		this.collect();
+		assertEquals(Set.of(DUMMY_ENUM_CHANNEL), this.collectAndSend());
+		assertEquals(Set.of(), this.collectAndSend());
+	}
+
+	@Test
+	public void testSendValuesOfAllChannelsOnceWhileSendingAll() {
+		// Request arrives after collecting, before the full send is finished
+		var task = this.collect();
+		this.parent.sendChannelValuesWorker.sendValuesOfAllChannelsOnce();
+		task.run();
+		assertEquals(Set.of(STATE, DUMMY_ENUM_CHANNEL), this.websocket.lastOffered);
+
+		// Request is not lost
+		assertEquals(Set.of(STATE, DUMMY_ENUM_CHANNEL), this.collectAndSend());
+		assertEquals(Set.of(), this.collectAndSend());
+
+		// Failed full send is repeated
+		this.parent.sendChannelValuesWorker.sendValuesOfAllChannelsOnce();
+		this.websocket.fail = true;
+		this.collectAndSend();
+		this.websocket.fail = false;
+		assertEquals(Set.of(STATE, DUMMY_ENUM_CHANNEL), this.collectAndSend());
+	}
+
 	@Test
 	public void testAggregateNaturalCumulated() {
 		final var value = SendChannelValuesWorker.aggregate(true, OpenemsType.LONG, //
@@ -119,6 +229,45 @@ public class SendChannelValuesWorkerTest {
 		});
 	}
 
+	private SendTask collect() {
+		return this.parent.sendChannelValuesWorker.collectData(this.parent.channelSnapshotService.getSnapshot(),
+				Instant.now(this.clock));
+	}
+
+	/**
+	 * Collects the data and runs the {@link SendTask} synchronously.
+	 *
+	 * @return the Channel-Addresses that were offered to the websocket
+	 */
+	private Set<String> collectAndSend() {
+		this.collect().run();
+		return this.websocket.lastOffered;
+	}
+
+	private void setDummyEnumValue(DummyEnum value) {
+		final var channel = this.component.<Channel<DummyEnum>>channel(DummyComponent.ChannelId.DUMMY_ENUM_CHANNEL);
+		channel.setNextValue(value);
+		channel.nextProcessImage();
+	}
+
+	private static class DummyWebsocketClient extends WebsocketClient {
+
+		private Set<String> lastOffered = null;
+		private boolean fail = false;
+
+		private DummyWebsocketClient(ControllerApiBackendImpl parent) {
+			super(parent, "test", URI.create("ws://localhost:8081"), AbstractWebsocketClient.NO_HTTP_HEADERS,
+					AbstractWebsocketClient.NO_PROXY, WebsocketCompression.DISABLED);
+		}
+
+		@Override
+		public boolean sendMessage(JsonrpcMessage message) {
+			this.lastOffered = new TreeSet<>(((TimestampedDataNotification) message).getData().columnKeySet());
+			return !this.fail;
+		}
+
+	}
+
 	private static void testAggregateEnumChannel(int numberOfValues,
 			ThrowingFunction<Channel<?>, DummyEnum, Exception> test) throws Exception {
 		final var component = new DummyComponent("component0");
@@ -21,10 +21,9 @@ import com.google.common.collect.Table;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 
-import io.openems.common.channel.AccessMode;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.ThreadPoolUtils;
-import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.snapshot.ChannelSnapshot;
 
 /**
  * Method {@link #collectData()} is called Synchronously with the Core.Cycle to
@@ -98,47 +97,26 @@ public class SendChannelValuesWorker {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
 		// Update the values of all channels
-		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		final var allValues = this.collectData(this.parent.channelSnapshotService.getSnapshot());
 
 		// Add to send Queue
 		this.executor.execute(new SendTask(this, now, allValues));
 	}
 
 	/**
-	 * Cycles through all Channels and collects the value.
+	 * Collects the values of all Channels from the {@link ChannelSnapshot}.
 	 *
-	 * @param enabledComponents the enabled components
+	 * @param snapshot the {@link ChannelSnapshot} of the current Cycle
 	 * @return collected data
 	 */
-	private ImmutableTable<String, String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
-		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(ImmutableTable.toImmutableTable(c -> c.address().getComponentId(),
-							c -> c.address().getChannelId(), c -> c.value().asJson()));
-			// TODO remove values for disappeared components
-//			final Set<String> enabledComponentIds = enabledComponents.stream() //
-//					.map(c -> c.id()) //
-//					.collect(Collectors.toSet());
-//			this.lastValues.rowMap().entrySet().stream() //
-//					.filter(row -> !enabledComponentIds.contains(row.getKey())) //
-//					.forEach(row -> {
-//						row.getValue().entrySet().parallelStream() //
-//								.forEach(column -> {
-//									this.publish(row.getKey() + "/" + column.getKey(), JsonNull.INSTANCE.toString());
-//								});
-//					});
-		} catch (Exception e) {
-			// ConcurrentModificationException can happen if Channels are dynamically added
-			// or removed
-			return ImmutableTable.of();
-		}
+	private ImmutableTable<String, String, JsonElement> collectData(ChannelSnapshot snapshot) {
+		final var result = ImmutableTable.<String, String, JsonElement>builder();
+		snapshot.forEach(this.parent.config.persistencePriority(), i -> {
+			final var address = snapshot.getAddress(i);
+			result.put(address.getComponentId(), address.getChannelId(), snapshot.getAsJson(i));
+		});
+		// TODO remove values for disappeared components
+		return result.build();
 	}
 
 	/*
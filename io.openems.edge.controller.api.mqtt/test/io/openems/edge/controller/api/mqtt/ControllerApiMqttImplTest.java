@@ -9,6 +9,7 @@ import io.openems.common.channel.PersistencePriority;
 import io.openems.common.test.TimeLeapClock;
 import io.openems.edge.common.sum.DummySum;
 import io.openems.edge.common.test.ComponentTest;
+import io.openems.edge.common.test.DummyChannelSnapshotService;
 import io.openems.edge.common.test.DummyComponentManager;
 
 public class ControllerApiMqttImplTest {
@@ -19,8 +20,10 @@ public class ControllerApiMqttImplTest {
 	public void test() throws Exception {
 		final var clock = new TimeLeapClock(Instant.ofEpochSecond(1577836800L) /* starts at 1. January 2020 00:00:00 */,
 				ZoneOffset.UTC);
+		final var componentManager = new DummyComponentManager(clock);
 		new ComponentTest(new ControllerApiMqttImpl()) //
-				.addReference("componentManager", new DummyComponentManager(clock)) //
+				.addReference("componentManager", componentManager) //
+				.addReference("channelSnapshotService", new DummyChannelSnapshotService(componentManager)) //
 				.addComponent(new DummySum()) //
 				.activate(MyConfig.create() //
 						.setId(CTRL_ID) //
@@ -19,9 +19,9 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.DateUtils;
+import io.openems.edge.common.channel.EnumReadChannel;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.StateChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.type.TypeUtils;
 import io.openems.edge.ess.power.api.Phase;
 import io.openems.edge.ess.power.api.Pwr;
@@ -305,11 +305,11 @@ public class DelayCharge {
 		// active, to avoid standby of the inverter directly after it.
 		var minimumPowerFactor = MINIMUM_POWER_FACTOR;
 
-		boolean delayChargeMinimumReached = this.parent.getDelayChargeStateChannel().getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).with(ChronoField.MINUTE_OF_DAY, 5),
-						true)
-				.values().stream().filter(Value::isDefined)
-				.filter(channel -> channel.asEnum() == DelayChargeState.ACTIVE_LIMIT).findAny().isPresent();
+		EnumReadChannel delayChargeStateChannel = this.parent
+				.channel(ControllerEssGridOptimizedCharge.ChannelId.DELAY_CHARGE_STATE);
+		var from = LocalDateTime.now(this.parent.componentManager.getClock()).with(ChronoField.MINUTE_OF_DAY, 5);
+		boolean delayChargeMinimumReached = delayChargeStateChannel.pastValues().tailStream(from) //
+				.anyMatch(state -> state == DelayChargeState.ACTIVE_LIMIT.getValue());
 
 		minimumPowerFactor = delayChargeMinimumReached ? minimumPowerFactor * 0.5F : minimumPowerFactor;
 		var minimumPower = Math.round(capacity * minimumPowerFactor);
@@ -355,9 +355,9 @@ public class DelayCharge {
 		IntegerReadChannel delayChargeLimitRawChannel = this.parent.getRawDelayChargeLimitChannel();
 		this.parent._setRawDelayChargeLimit(calculatedPower);
 
-		var pastLimits = delayChargeLimitRawChannel.getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900), true) //
-				.values().stream().filter(Value::isDefined).mapToInt(Value::get);
+		var pastLimits = delayChargeLimitRawChannel.pastValues()
+				.tailStream(LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900)) //
+				.mapToInt(Integer::intValue);
 
 		var currentLimit = IntStream.of(calculatedPower);
 
@@ -0,0 +1,107 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Benchmarks the evaluation of one Schedule: {@link CostKernel} against
+ * {@link Simulator#calculateCost(Params, StateMachine[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CostBenchmark {
+
+	private CostKernel kernel;
+
+	/**
+	 * Creates the {@link CostKernel}.
+	 *
+	 * @param scenario the {@link ScheduleScenario}
+	 */
+	@Setup(Level.Trial)
+	public void setup(ScheduleScenario scenario) {
+		this.kernel = new CostKernel(scenario.params);
+	}
+
+	/**
+	 * The former evaluation function of the optimizer: maps the Genotype to a
+	 * Schedule and simulates it.
+	 *
+	 * @param scenario the {@link ScheduleScenario}
+	 * @return the cost
+	 */
+	@Benchmark
+	public double referenceGenotype(ScheduleScenario scenario) {
+		var p = scenario.params;
+		var gt = scenario.genotypes[scenario.nextIndex()];
+		var modes = new StateMachine[p.numberOfPeriods()];
+		for (var i = 0; i < modes.length; i++) {
+			modes[i] = p.states()[gt.get(i).get(0).intValue()];
+		}
+		return Simulator.calculateCost(p, modes);
+	}
+
+	/**
+	 * {@link Simulator#calculateCost(Params, StateMachine[])}.
+	 *
+	 * @param scenario the {@link ScheduleScenario}
+	 * @return the cost
+	 */
+	@Benchmark
+	public double referenceSchedule(ScheduleScenario scenario) {
+		return Simulator.calculateCost(scenario.params, scenario.schedules[scenario.nextIndex()]);
+	}
+
+	/**
+	 * {@link CostKernel#calculateCost(io.jenetics.Genotype)}.
+	 *
+	 * @param scenario the {@link ScheduleScenario}
+	 * @return the cost
+	 */
+	@Benchmark
+	public double kernelGenotype(ScheduleScenario scenario) {
+		return this.kernel.calculateCost(scenario.genotypes[scenario.nextIndex()]);
+	}
+
+	/**
+	 * {@link CostKernel#calculateCost(StateMachine[])}.
+	 *
+	 * @param scenario the {@link ScheduleScenario}
+	 * @return the cost
+	 */
+	@Benchmark
+	public double kernelSchedule(ScheduleScenario scenario) {
+		return this.kernel.calculateCost(scenario.schedules[scenario.nextIndex()]);
+	}
+
+	/**
+	 * Re-simulation of the final Schedule, creating {@link Period}s.
+	 *
+	 * @param scenario the {@link ScheduleScenario}
+	 * @param bh       the {@link Blackhole}
+	 * @return the cost
+	 */
+	@Benchmark
+	public double resimulate(ScheduleScenario scenario, Blackhole bh) {
+		return Simulator.calculateCost(scenario.params, scenario.schedules[scenario.nextIndex()], bh::consume);
+	}
+
+}
@@ -0,0 +1,107 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.toEnergy;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.util.ISeq;
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * {@link Params} with synthetic predictions and prices, and a set of random
+ * Schedules, shared by the benchmarks.
+ *
+ * <p>
+ * Lives in the package of {@link Params} to be able to use its
+ * {@link Params.Builder}.
+ */
+@State(Scope.Thread)
+public class ScheduleScenario {
+
+	private static final int SCHEDULES = 64;
+
+	// CHECKSTYLE:OFF
+	@Param({ "96", "192" })
+	public int periods;
+
+	@Param({ "CHARGE_CONSUMPTION", "DELAY_DISCHARGE" })
+	public ControlMode controlMode;
+	// CHECKSTYLE:ON
+
+	protected Params params;
+	protected StateMachine[][] schedules;
+	protected Genotype<IntegerGene>[] genotypes;
+
+	private int next = 0;
+
+	/**
+	 * Builds the {@link Params} and the Schedules.
+	 */
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void setup() {
+		var random = new Random(123);
+		var productions = new int[this.periods];
+		var consumptions = new int[this.periods];
+		var prices = new float[this.periods];
+		for (var i = 0; i < this.periods; i++) {
+			var hour = (i / 4) % 24;
+			productions[i] = toEnergy(hour >= 7 && hour <= 19 //
+					? (int) (8000 * Math.sin(Math.PI * (hour - 7) / 12.)) //
+					: 0);
+			consumptions[i] = toEnergy(500 + random.nextInt(2500));
+			prices[i] = 200F + 150F * (float) Math.cos(Math.PI * hour / 12.) + random.nextFloat() * 20F;
+		}
+		var states = this.controlMode.states;
+		this.params = Params.create() //
+				.time(ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"))) //
+				.essTotalEnergy(22000) //
+				.essMinSocEnergy(0) //
+				.essMaxSocEnergy(22000) //
+				.essInitialEnergy(11000) //
+				.essMaxEnergyPerPeriod(toEnergy(10000)) //
+				.maxBuyFromGrid(toEnergy(24_000)) //
+				.productions(productions) //
+				.consumptions(consumptions) //
+				.prices(prices) //
+				.states(states) //
+				.build();
+
+		this.schedules = new StateMachine[SCHEDULES][];
+		this.genotypes = new Genotype[SCHEDULES];
+		for (var s = 0; s < SCHEDULES; s++) {
+			var schedule = new StateMachine[this.periods];
+			var chromosomes = new IntegerChromosome[this.periods];
+			for (var i = 0; i < this.periods; i++) {
+				var index = random.nextInt(states.length);
+				schedule[i] = states[index];
+				chromosomes[i] = IntegerChromosome.of(IntegerGene.of(index, 0, states.length));
+			}
+			this.schedules[s] = schedule;
+			this.genotypes[s] = Genotype.of(ISeq.of(chromosomes));
+		}
+	}
+
+	/**
+	 * Gets the index of the next Schedule, round-robin.
+	 *
+	 * @return the index
+	 */
+	public int nextIndex() {
+		this.next = (this.next + 1) % SCHEDULES;
+		return this.next;
+	}
+
+}
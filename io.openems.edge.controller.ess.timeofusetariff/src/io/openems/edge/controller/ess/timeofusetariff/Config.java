@@ -36,6 +36,9 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Max Charge Power from the grid [W]", description = "Maximum charge power from the grid")
 	int maxChargePowerFromGrid() default 24_000;
 
+	@AttributeDefinition(name = "Optimizer threads", description = "Number of threads that search for the best schedule; each evolves its own population. '0' for the number of available processors.")
+	int optimizerThreads() default 2;
+
 	@AttributeDefinition(name = "Ess target filter", description = "This is auto-generated by 'Ess-ID'.")
 	String ess_target() default "(enabled=true)";
 
@@ -124,6 +124,7 @@ public class TimeOfUseTariffControllerImpl extends AbstractOpenemsComponent
 				.ctrlLimitTotalDischarges(this.ctrlLimitTotalDischarges) //
 				.controlMode(this.config.controlMode()) //
 				.maxChargePowerFromGrid(this.config.maxChargePowerFromGrid()) //
+				.optimizerThreads(this.config.optimizerThreads()) //
 				.build());
 	}
 
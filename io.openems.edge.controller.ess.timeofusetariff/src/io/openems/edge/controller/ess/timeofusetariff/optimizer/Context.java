@@ -18,7 +18,8 @@ public record Context(//
 		List<ControllerEssEmergencyCapacityReserve> ctrlEmergencyCapacityReserves, //
 		List<ControllerEssLimitTotalDischarge> ctrlLimitTotalDischarges, //
 		ControlMode controlMode, //
-		int maxChargePowerFromGrid) {
+		int maxChargePowerFromGrid, //
+		int optimizerThreads) {
 
 	public static class Builder {
 		private Clock clock;
@@ -29,6 +30,7 @@ public record Context(//
 		private List<ControllerEssLimitTotalDischarge> ctrlLimitTotalDischarges;
 		private ControlMode controlMode;
 		private int maxChargePowerFromGrid;
+		private int optimizerThreads = 1;
 
 		/**
 		 * The {@link Clock}.
@@ -121,6 +123,18 @@ public record Context(//
 			return this;
 		}
 
+		/**
+		 * The number of Optimizer threads; '0' for the number of available
+		 * processors.
+		 * 
+		 * @param optimizerThreads the optimizerThreads
+		 * @return myself
+		 */
+		public Builder optimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
 		/**
 		 * Builds the {@link Context}.
 		 * 
@@ -129,7 +143,7 @@ public record Context(//
 		public Context build() {
 			return new Context(this.clock, this.predictorManager, this.timeOfUseTariff, this.ess,
 					this.ctrlEmergencyCapacityReserves, this.ctrlLimitTotalDischarges, this.controlMode,
-					this.maxChargePowerFromGrid);
+					this.maxChargePowerFromGrid, this.optimizerThreads);
 		}
 	}
 
@@ -0,0 +1,128 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.EFFICIENCY_FACTOR;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateBalancingChargeDischarge;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateEssMaxCharge;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateEssMaxDischarge;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Calculates the cost of a Schedule exactly like
+ * {@link Simulator#calculateCost(Params, StateMachine[], Consumer)}, but on
+ * primitive arrays that are prepared once per {@link Params}.
+ *
+ * <p>
+ * Evaluating a Schedule does not allocate. {@link Period}s are only created
+ * by {@link Simulator#calculateCost(Params, StateMachine[], Consumer)} for
+ * the final re-simulation.
+ *
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public class CostKernel {
+
+	private final int numberOfPeriods;
+	private final int essInitialEnergy;
+	private final int essMinSocEnergy;
+	private final int essMaxSocEnergy;
+	private final int essMaxEnergyPerPeriod;
+	private final StateMachine[] states;
+
+	/** Consumption minus Production per Period [Wh]. */
+	private final int[] netConsumptions;
+	/** Prices for one [MWh] per Period. */
+	private final float[] prices;
+	/**
+	 * ESS charge energy in {@link StateMachine#CHARGE} per Period, before
+	 * limiting to the max ESS charge energy [Wh].
+	 */
+	private final int[] chargeFromGrid;
+
+	public CostKernel(Params p) {
+		this.numberOfPeriods = p.numberOfPeriods();
+		this.essInitialEnergy = p.essInitialEnergy();
+		this.essMinSocEnergy = p.essMinSocEnergy();
+		this.essMaxSocEnergy = p.essMaxSocEnergy();
+		this.essMaxEnergyPerPeriod = p.essMaxEnergyPerPeriod();
+		this.states = p.states().clone();
+		this.prices = Arrays.copyOf(p.prices(), this.numberOfPeriods);
+		this.netConsumptions = new int[this.numberOfPeriods];
+		this.chargeFromGrid = new int[this.numberOfPeriods];
+		for (var i = 0; i < this.numberOfPeriods; i++) {
+			var netConsumption = p.consumptions()[i] - p.productions()[i];
+			this.netConsumptions[i] = netConsumption;
+			// see Utils.calculateStateChargeEnergy()
+			this.chargeFromGrid[i] = max(min(-p.maxBuyFromGrid() + netConsumption, -1),
+					-p.essMaxChargePerPeriod());
+		}
+	}
+
+	/**
+	 * Calculates the cost of a Schedule given as {@link Genotype} of indexes
+	 * into {@link Params#states()}.
+	 *
+	 * @param gt the {@link Genotype}
+	 * @return the cost
+	 */
+	public double calculateCost(Genotype<IntegerGene> gt) {
+		var essInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.numberOfPeriods; i++) {
+			var essChargeDischarge = this.calculateEssChargeDischarge(i, this.states[gt.get(i).get(0).intValue()],
+					essInitial);
+			sum += this.calculatePeriodCost(i, essChargeDischarge);
+			essInitial -= essChargeDischarge;
+		}
+		return sum;
+	}
+
+	/**
+	 * Calculates the cost of a Schedule.
+	 *
+	 * @param schedule the Schedule
+	 * @return the cost
+	 */
+	public double calculateCost(StateMachine[] schedule) {
+		var essInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.numberOfPeriods; i++) {
+			var essChargeDischarge = this.calculateEssChargeDischarge(i, schedule[i], essInitial);
+			sum += this.calculatePeriodCost(i, essChargeDischarge);
+			essInitial -= essChargeDischarge;
+		}
+		return sum;
+	}
+
+	private int calculateEssChargeDischarge(int i, StateMachine state, int essInitial) {
+		return switch (state) {
+		case BALANCING -> calculateBalancingChargeDischarge(//
+				calculateEssMaxCharge(this.essMaxSocEnergy, this.essMaxEnergyPerPeriod, essInitial), //
+				calculateEssMaxDischarge(this.essMinSocEnergy, this.essMaxEnergyPerPeriod, essInitial), //
+				/* production */ 0, /* consumption */ this.netConsumptions[i]);
+		case DELAY_DISCHARGE -> 0;
+		case CHARGE -> max(this.chargeFromGrid[i],
+				calculateEssMaxCharge(this.essMaxSocEnergy, this.essMaxEnergyPerPeriod, essInitial));
+		};
+	}
+
+	private double calculatePeriodCost(int i, int essChargeDischarge) {
+		var grid = this.netConsumptions[i] - essChargeDischarge;
+		if (grid <= 0) {
+			// Sell-to-Grid
+			return 0.;
+		}
+		var price = this.prices[i];
+		var gridConsumption = this.netConsumptions[i] - max(essChargeDischarge, 0);
+		var gridEssCharge = grid - gridConsumption;
+		return gridConsumption * price + gridEssCharge * price * EFFICIENCY_FACTOR;
+	}
+
+}
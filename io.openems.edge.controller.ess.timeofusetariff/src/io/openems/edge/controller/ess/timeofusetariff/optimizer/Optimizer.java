@@ -10,6 +10,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.random.RandomGeneratorFactory;
 
@@ -21,6 +22,7 @@ import com.google.common.collect.ImmutableList;
 import io.jenetics.util.RandomRegistry;
 import io.openems.common.exceptions.InvalidValueException;
 import io.openems.common.test.TimeLeapClock;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
 
 /**
@@ -35,6 +37,7 @@ public class Optimizer extends AbstractImmediateWorker {
 	private final TreeMap<ZonedDateTime, Period> periods = new TreeMap<>();
 
 	private Params params = null;
+	private ForkJoinPool executor = null;
 
 	public Optimizer(Supplier<Context> context) {
 		this.context = context;
@@ -47,7 +50,8 @@ public class Optimizer extends AbstractImmediateWorker {
 				.filter(RandomGeneratorFactory::isStatistical) //
 				.sorted((f, g) -> Integer.compare(g.stateBits(), f.stateBits())).findFirst()
 				.orElse(RandomGeneratorFactory.of("Random"));
-		RandomRegistry.random(rgf.create());
+		// Islands run concurrently: every thread gets its own RandomGenerator
+		RandomRegistry.random(rgf);
 	}
 
 	@Override
@@ -64,8 +68,10 @@ public class Optimizer extends AbstractImmediateWorker {
 			// Calculate max execution time till next quarter (with buffer)
 			executionLimitSeconds = calculateExecutionLimitSeconds(context.clock());
 
-			// Find best Schedule
-			var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds);
+			// Find best Schedule; one island per thread
+			var executor = this.getExecutor(context.optimizerThreads());
+			var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds, executor,
+					executor.getParallelism(), null, null);
 
 			// Re-Simulate and keep best Schedule
 			var periods = new TreeMap<ZonedDateTime, Period>();
@@ -107,6 +113,29 @@ public class Optimizer extends AbstractImmediateWorker {
 		}
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		synchronized (this) {
+			if (this.executor != null) {
+				ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+				this.executor = null;
+			}
+		}
+	}
+
+	private synchronized ForkJoinPool getExecutor(int threads) {
+		var parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		if (this.executor != null && this.executor.getParallelism() != parallelism) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+			this.executor = null;
+		}
+		if (this.executor == null) {
+			this.executor = new ForkJoinPool(parallelism);
+		}
+		return this.executor;
+	}
+
 	// On first run, we allow multiple retries, till all data is available (e.g. ESS
 	// Capacity)
 	private int allowRetries = 10;
@@ -1,6 +1,5 @@
 package io.openems.edge.controller.ess.timeofusetariff.optimizer;
 
-import static io.jenetics.engine.EvolutionResult.toBestGenotype;
 import static io.jenetics.engine.Limits.byExecutionTime;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.buildInitialPopulation;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateBalancingChargeDischarge;
@@ -10,19 +9,25 @@ import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.cal
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.paramsAreValid;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.postprocessSimulatorState;
 import static java.lang.Math.max;
-import static java.time.Duration.ofSeconds;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
 import io.jenetics.engine.Engine;
 import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 
 public class Simulator {
@@ -30,6 +35,15 @@ public class Simulator {
 	/** Used to incorporate charge/discharge efficiency. */
 	public static final double EFFICIENCY_FACTOR = 1.2;
 
+	/** Number of generations between two migrations. */
+	protected static final int EPOCH_GENERATIONS = 20;
+
+	/** Stop after this number of epochs without improvement. */
+	protected static final int STEADY_EPOCHS = 10;
+
+	/** Minimum improvement of the cost to reset the convergence counter. */
+	private static final double CONVERGENCE_EPSILON = 0.0001;
+
 	protected static double calculateCost(Params p, StateMachine[] states) {
 		return calculateCost(p, states, null);
 	}
@@ -109,6 +123,35 @@ public class Simulator {
 
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
 			Integer limit) {
+		return getBestSchedule(p, executionLimitSeconds, Runnable::run /* current thread */, 1, populationSize,
+				limit);
+	}
+
+	/**
+	 * Gets the best Schedule.
+	 * 
+	 * <p>
+	 * Evolves one population per island for {@value #EPOCH_GENERATIONS}
+	 * generations ('epoch'); islands run concurrently on the given
+	 * {@link Executor}. After every epoch the best {@link Phenotype} of each
+	 * island replaces the worst {@link Phenotype} of the next island. All islands
+	 * are seeded with the existing Schedule of the previous run.
+	 * 
+	 * <p>
+	 * Stops at the execution limit or after {@value #STEADY_EPOCHS} epochs
+	 * without improvement of the best cost.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds the execution limit in [s]
+	 * @param executor              the {@link Executor}; with only one island the
+	 *                              population is evaluated on it
+	 * @param islands               the number of islands
+	 * @param populationSize        the optional population size of each island
+	 * @param limit                 the optional limit of generations
+	 * @return the best Schedule
+	 */
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Executor executor,
+			int islands, Integer populationSize, Integer limit) {
 		// Return pure BALANCING Schedule if no predictions are available
 		if (!paramsAreValid(p)) {
 			return IntStream.range(0, p.numberOfPeriods()) //
@@ -117,30 +160,134 @@ public class Simulator {
 		}
 
 		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.numberOfPeriods()); //
-		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
-			var modes = new StateMachine[p.numberOfPeriods()];
-			for (var i = 0; i < modes.length; i++) {
-				modes[i] = p.states()[gt.get(i).get(0).intValue()];
-			}
-			return calculateCost(p, modes);
-		};
-		var engine = Engine //
+		var kernel = new CostKernel(p);
+		var eval = (Function<Genotype<IntegerGene>, Double>) kernel::calculateCost;
+		final var noOfIslands = max(1, islands);
+		var engineBuilder = Engine //
 				.builder(eval, gtf) //
-				.executor(Runnable::run) // current thread
+				// Parallelize either the islands or the evaluation of one population
+				.executor(noOfIslands > 1 ? Runnable::run : executor) //
 				.minimizing();
 		if (populationSize != null) {
-			engine.populationSize(populationSize); //
+			engineBuilder.populationSize(populationSize); //
+		}
+		final var engine = engineBuilder.build();
+		final var initialPopulation = buildInitialPopulation(p);
+		final var deadline = Instant.now().plusSeconds(executionLimitSeconds);
+
+		var epochs = new ArrayList<Epoch>(noOfIslands);
+		for (var i = 0; i < noOfIslands; i++) {
+			epochs.add(null);
 		}
-		Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
-				.stream(buildInitialPopulation(p)) //
-				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
-		if (limit != null) {
-			stream = stream.limit(limit); // apply optional limit
+		Phenotype<IntegerGene, Double> best = null;
+		var generations = 0L;
+		var steadyEpochs = 0;
+		while (true) {
+			final var remaining = Duration.between(Instant.now(), deadline);
+			final var epochGenerations = limit == null //
+					? EPOCH_GENERATIONS //
+					: Math.min(EPOCH_GENERATIONS, limit - generations);
+			if (remaining.isNegative() || remaining.isZero() || epochGenerations <= 0) {
+				break;
+			}
+
+			// Evolve all islands
+			var starts = new ArrayList<EvolutionStart<IntegerGene, Double>>(noOfIslands);
+			for (var i = 0; i < noOfIslands; i++) {
+				starts.add(migrate(epochs.get(i), epochs.get((i + noOfIslands - 1) % noOfIslands)));
+			}
+			if (noOfIslands == 1) {
+				epochs.set(0, evolve(engine, starts.get(0), initialPopulation, remaining, epochGenerations));
+			} else {
+				var futures = starts.stream() //
+						.map(start -> CompletableFuture.supplyAsync(
+								() -> evolve(engine, start, initialPopulation, remaining, epochGenerations), executor)) //
+						.toList();
+				for (var i = 0; i < noOfIslands; i++) {
+					epochs.set(i, futures.get(i).join());
+				}
+			}
+			generations += epochGenerations;
+
+			// Check convergence
+			var epochBest = epochs.stream() //
+					.filter(e -> e != null && e.best != null) //
+					.map(Epoch::best) //
+					.min((a, b) -> Double.compare(a.fitness(), b.fitness())) //
+					.orElse(null);
+			if (epochBest == null) {
+				break; // no generation within the execution limit
+			}
+			if (best == null || epochBest.fitness() < best.fitness() - CONVERGENCE_EPSILON) {
+				best = epochBest;
+				steadyEpochs = 0;
+			} else if (++steadyEpochs >= STEADY_EPOCHS) {
+				break;
+			}
 		}
-		var bestGt = stream //
-				.collect(toBestGenotype());
+
+		final var bestGt = best != null //
+				? best.genotype() //
+				: initialPopulation.get(0);
 		return IntStream.range(0, p.numberOfPeriods()) //
 				.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
 				.toArray(StateMachine[]::new);
 	}
+
+	/**
+	 * The result of one epoch of one island.
+	 * 
+	 * @param last the last {@link EvolutionResult}; null if none
+	 * @param best the best {@link Phenotype} of the epoch; null if none
+	 */
+	private static record Epoch(EvolutionResult<IntegerGene, Double> last, Phenotype<IntegerGene, Double> best) {
+	}
+
+	private static Epoch evolve(Engine<IntegerGene, Double> engine, EvolutionStart<IntegerGene, Double> start,
+			List<Genotype<IntegerGene>> initialPopulation, Duration remaining, long generations) {
+		var stream = start != null //
+				? engine.stream(start) //
+				: engine.stream(initialPopulation);
+		EvolutionResult<IntegerGene, Double> last = null;
+		Phenotype<IntegerGene, Double> best = null;
+		for (var it = stream //
+				.limit(byExecutionTime(remaining)) //
+				.limit(generations) //
+				.iterator(); it.hasNext();) {
+			last = it.next();
+			var phenotype = last.bestPhenotype();
+			if (best == null || phenotype.fitness() < best.fitness()) {
+				best = phenotype;
+			}
+		}
+		return new Epoch(last, best);
+	}
+
+	/**
+	 * Builds the {@link EvolutionStart} of the next epoch of an island, replacing
+	 * its worst {@link Phenotype} with the best {@link Phenotype} of its
+	 * neighbour.
+	 * 
+	 * @param island    the previous {@link Epoch} of the island
+	 * @param neighbour the previous {@link Epoch} of the neighbour island
+	 * @return the {@link EvolutionStart}; null for the initial population
+	 */
+	private static EvolutionStart<IntegerGene, Double> migrate(Epoch island, Epoch neighbour) {
+		if (island == null || island.last == null) {
+			return null;
+		}
+		var population = island.last.population();
+		if (neighbour != null && neighbour != island && neighbour.best != null && !population.isEmpty()) {
+			var worst = 0;
+			for (var i = 1; i < population.size(); i++) {
+				if (population.get(i).fitness() > population.get(worst).fitness()) {
+					worst = i;
+				}
+			}
+			var migrated = population.copy();
+			migrated.set(worst, neighbour.best);
+			population = migrated.toISeq();
+		}
+		return EvolutionStart.of(population, island.last.generation());
+	}
 }
@@ -15,6 +15,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int essMaxChargePower;
 		private int maxChargePowerFromGrid;
 		private RiskLevel riskLevel;
+		private int optimizerThreads = 1;
 
 		private Builder() {
 		}
@@ -59,6 +60,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setOptimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -110,6 +116,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.riskLevel;
 	}
 
+	@Override
+	public int optimizerThreads() {
+		return this.builder.optimizerThreads;
+	}
+
 	@Override
 	public String ess_target() {
 		return ConfigUtils.generateReferenceTargetFilter(this.id(), this.ess_id());
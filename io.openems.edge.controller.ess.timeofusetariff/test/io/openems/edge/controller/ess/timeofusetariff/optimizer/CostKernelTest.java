@@ -0,0 +1,42 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.calculateCost;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.SimulatorTest.createParams888d20231106;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.util.ISeq;
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+public class CostKernelTest {
+
+	@Test
+	public void testCalculateCost() {
+		var p = createParams888d20231106(ControlMode.CHARGE_CONSUMPTION.states);
+		var sut = new CostKernel(p);
+		var random = new Random(123);
+
+		for (var run = 0; run < 100; run++) {
+			var indexes = random.ints(p.numberOfPeriods(), 0, p.states().length).toArray();
+			var schedule = new StateMachine[p.numberOfPeriods()];
+			var chromosomes = new IntegerChromosome[p.numberOfPeriods()];
+			for (var i = 0; i < indexes.length; i++) {
+				schedule[i] = p.states()[indexes[i]];
+				chromosomes[i] = IntegerChromosome.of(IntegerGene.of(indexes[i], 0, p.states().length));
+			}
+			var gt = Genotype.of(ISeq.of(chromosomes));
+
+			var expected = calculateCost(p, schedule);
+			assertEquals(expected, sut.calculateCost(schedule), 0.);
+			assertEquals(expected, sut.calculateCost(gt), 0.);
+		}
+	}
+
+}
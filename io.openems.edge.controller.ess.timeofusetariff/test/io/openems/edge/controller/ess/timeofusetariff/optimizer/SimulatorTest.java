@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
@@ -82,6 +83,24 @@ public class SimulatorTest {
 		assertArrayEquals(existingSchedule, Arrays.copyOfRange(s, 0, existingSchedule.length));
 	}
 
+	@Test
+	public void testGetBestScheduleIslands() {
+		var p = createParams888d20231106(ControlMode.CHARGE_CONSUMPTION.states);
+		var pool = new ForkJoinPool(2);
+		try {
+			var schedule = getBestSchedule(p, //
+					/* executionLimitSeconds */ 30, //
+					/* executor */ pool, //
+					/* islands */ 2, //
+					/* populationSize */ 10, //
+					/* limit */ 50);
+
+			assertEquals(p.numberOfPeriods(), schedule.length);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
 	@Test
 	@Ignore
 	public void testOnlyBalancing888d20231106() {
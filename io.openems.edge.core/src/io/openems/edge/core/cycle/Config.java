@@ -13,6 +13,19 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Parallel Process Image", description = "Switch the process image of Components in parallel. "
+			+ "'onUpdate' and 'onChange' callbacks are called afterwards in the same order as before, "
+			+ "but only after all Channels have switched; i.e. a callback already sees the new values of all Channels.")
+	boolean parallelProcessImage() default false;
+
+	@AttributeDefinition(name = "Process Image Threads", description = "Maximum number of threads for the parallel process image switch. "
+			+ "Zero to use the number of available processors.")
+	int processImageThreads() default 0;
+
+	@AttributeDefinition(name = "Profiler", description = "Measure the run-time of each Controller and each synchronous Cycle EventHandler. "
+			+ "Results are available via JSON-RPC 'getCycleProfile'.")
+	boolean profilerEnabled() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package io.openems.edge.core.cycle;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -15,16 +18,24 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
 import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.user.User;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,7 +46,7 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, JsonApi {
 
 	private final CycleWorker worker = new CycleWorker(this);
 
@@ -59,6 +70,35 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 
 	private Config config = null;
 
+	/**
+	 * The {@link ForkJoinPool} for the parallel process image switch; null if
+	 * disabled.
+	 */
+	protected volatile ForkJoinPool processImagePool = null;
+
+	/**
+	 * The {@link CycleProfiler}; it keeps track of the Cycle EventHandlers even if
+	 * profiling is disabled.
+	 */
+	protected final CycleProfiler profiler = new CycleProfiler();
+
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE, //
+			target = "(|" //
+					+ "(" + EventConstants.EVENT_TOPIC + "=" + EdgeEventConstants.TOPIC_CYCLE + "*)" //
+					+ "(" + EventConstants.EVENT_TOPIC + "=" + EdgeEventConstants.TOPIC_BASE + "\\*)" //
+					+ "(" + EventConstants.EVENT_TOPIC + "=\\*)" //
+					+ ")")
+	protected void addEventHandler(EventHandler eventHandler, Map<String, Object> properties) {
+		this.profiler.addEventHandler(eventHandler, properties);
+	}
+
+	protected void removeEventHandler(EventHandler eventHandler) {
+		this.profiler.removeEventHandler(eventHandler);
+	}
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
@@ -87,6 +127,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.updateProcessImagePool(config);
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +139,10 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.updateProcessImagePool(config);
+		if (!config.profilerEnabled()) {
+			this.resetProfilerChannels();
+		}
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +155,35 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.updateProcessImagePool(null);
+	}
+
+	/**
+	 * Creates, replaces or shuts down the {@link ForkJoinPool} for the parallel
+	 * process image switch.
+	 *
+	 * @param config the {@link Config}; null to shut down
+	 */
+	private synchronized void updateProcessImagePool(Config config) {
+		var oldPool = this.processImagePool;
+		if (config != null && config.parallelProcessImage()) {
+			var parallelism = config.processImageThreads() > 0 //
+					? config.processImageThreads() //
+					: Runtime.getRuntime().availableProcessors();
+			if (oldPool != null && oldPool.getParallelism() == parallelism) {
+				return;
+			}
+			this.processImagePool = new ForkJoinPool(parallelism, pool -> {
+				var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName(SINGLETON_SERVICE_PID + ":ProcessImage-" + thread.getPoolIndex());
+				return thread;
+			}, null, false);
+		} else {
+			this.processImagePool = null;
+		}
+		if (oldPool != null) {
+			oldPool.shutdown();
+		}
 	}
 
 	@Override
@@ -122,6 +196,40 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		super.logWarn(log, message);
 	}
 
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		switch (request.getMethod()) {
+		case GetCycleProfileRequest.METHOD:
+			return this.handleGetCycleProfileRequest(user, GetCycleProfileRequest.from(request));
+		}
+		return null;
+	}
+
+	private CompletableFuture<? extends JsonrpcResponseSuccess> handleGetCycleProfileRequest(User user,
+			GetCycleProfileRequest request) throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("getCycleProfile", Role.ADMIN);
+		return CompletableFuture.completedFuture(
+				new GetCycleProfileResponse(request.getId(), this.isProfilerEnabled(), this.profiler.toJson()));
+	}
+
+	/**
+	 * Is the {@link CycleProfiler} enabled?.
+	 *
+	 * @return true if enabled
+	 */
+	protected boolean isProfilerEnabled() {
+		var config = this.config;
+		return config != null && config.profilerEnabled();
+	}
+
+	private void resetProfilerChannels() {
+		this._setProfilerSlowestController(null);
+		this._setProfilerSlowestControllerTime(null);
+		this._setProfilerSlowestEventHandler(null);
+		this._setProfilerSlowestEventHandlerTime(null);
+	}
+
 	@Override
 	public int getCycleTime() {
 		var config = this.config;
@@ -0,0 +1,288 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Measures the run-time of each Controller and each synchronous
+ * {@link EventHandler} for the Cycle events.
+ *
+ * <p>
+ * To measure the {@link EventHandler}s, the Cycle events are not sent via
+ * EventAdmin but dispatched directly by {@link #sendEvent(String)} to the
+ * {@link EventHandler}s that were registered via
+ * {@link #addEventHandler(EventHandler, Map)}.
+ */
+public class CycleProfiler {
+
+	private final Logger log = LoggerFactory.getLogger(CycleProfiler.class);
+
+	private final List<ProfiledEventHandler> eventHandlers = new CopyOnWriteArrayList<>();
+	private final Map<String, Histogram> controllerHistograms = new ConcurrentHashMap<>();
+	private final Map<String, Histogram> eventHandlerHistograms = new ConcurrentHashMap<>();
+
+	private String slowestController = null;
+	private long slowestControllerNanos = 0;
+
+	/**
+	 * Holds an {@link EventHandler} together with its subscription.
+	 */
+	private static class ProfiledEventHandler {
+
+		private final EventHandler handler;
+		private final String[] topics;
+		private final Filter filter;
+
+		/** The accumulated run-time within the current Cycle. */
+		private long cycleNanos = 0;
+
+		private ProfiledEventHandler(EventHandler handler, String[] topics, Filter filter) {
+			this.handler = handler;
+			this.topics = topics;
+			this.filter = filter;
+		}
+
+		private String id() {
+			if (this.handler instanceof OpenemsComponent) {
+				return ((OpenemsComponent) this.handler).id();
+			}
+			return this.handler.getClass().getName();
+		}
+
+		private boolean matches(Event event) {
+			if (this.filter != null && !event.matches(this.filter)) {
+				return false;
+			}
+			var topic = event.getTopic();
+			for (var subscription : this.topics) {
+				if (subscription.equals("*") || subscription.equals(topic)) {
+					return true;
+				}
+				if (subscription.endsWith("/*")
+						&& topic.startsWith(subscription.substring(0, subscription.length() - 1))) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Registers an {@link EventHandler}.
+	 *
+	 * @param handler    the {@link EventHandler}
+	 * @param properties the service properties
+	 */
+	public void addEventHandler(EventHandler handler, Map<String, Object> properties) {
+		var topics = toStringArray(properties.get(EventConstants.EVENT_TOPIC));
+		Filter filter = null;
+		var filterString = properties.get(EventConstants.EVENT_FILTER);
+		if (filterString != null) {
+			try {
+				filter = FrameworkUtil.createFilter(filterString.toString());
+			} catch (InvalidSyntaxException e) {
+				this.log.warn("Invalid event filter [" + filterString + "]: " + e.getMessage());
+			}
+		}
+		this.eventHandlers.add(new ProfiledEventHandler(handler, topics, filter));
+	}
+
+	/**
+	 * Unregisters an {@link EventHandler}.
+	 *
+	 * @param handler the {@link EventHandler}
+	 */
+	public void removeEventHandler(EventHandler handler) {
+		this.eventHandlers.removeIf(h -> h.handler == handler);
+	}
+
+	/**
+	 * Synchronously dispatches a Cycle event to all matching {@link EventHandler}s
+	 * and measures their run-time.
+	 *
+	 * @param topic the event topic
+	 */
+	public void sendEvent(String topic) {
+		var event = new Event(topic, Map.of());
+		for (var handler : this.eventHandlers) {
+			if (!handler.matches(event)) {
+				continue;
+			}
+			var start = System.nanoTime();
+			try {
+				handler.handler.handleEvent(event);
+			} catch (RuntimeException e) {
+				this.log.warn("Error in EventHandler [" + handler.id() + "] for [" + topic + "]. "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			}
+			handler.cycleNanos += System.nanoTime() - start;
+		}
+	}
+
+	/**
+	 * Records the run-time of a Controller.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @param nanos        the run-time in [ns]
+	 */
+	public void recordController(String controllerId, long nanos) {
+		this.controllerHistograms.computeIfAbsent(controllerId, id -> new Histogram()).record(nanos);
+		if (nanos > this.slowestControllerNanos) {
+			this.slowestController = controllerId;
+			this.slowestControllerNanos = nanos;
+		}
+	}
+
+	/**
+	 * Finishes the current Cycle: records the accumulated run-time of each
+	 * {@link EventHandler} and updates the Channels of the {@link CycleImpl}.
+	 *
+	 * @param parent the {@link CycleImpl}
+	 */
+	public void finishCycle(CycleImpl parent) {
+		String slowestEventHandler = null;
+		var slowestEventHandlerNanos = 0L;
+		for (var handler : this.eventHandlers) {
+			var nanos = handler.cycleNanos;
+			handler.cycleNanos = 0;
+			var id = handler.id();
+			this.eventHandlerHistograms.computeIfAbsent(id, i -> new Histogram()).record(nanos);
+			if (nanos > slowestEventHandlerNanos) {
+				slowestEventHandler = id;
+				slowestEventHandlerNanos = nanos;
+			}
+		}
+
+		parent._setProfilerSlowestController(this.slowestController);
+		parent._setProfilerSlowestControllerTime(TimeUnit.NANOSECONDS.toMillis(this.slowestControllerNanos));
+		parent._setProfilerSlowestEventHandler(slowestEventHandler);
+		parent._setProfilerSlowestEventHandlerTime(TimeUnit.NANOSECONDS.toMillis(slowestEventHandlerNanos));
+		this.slowestController = null;
+		this.slowestControllerNanos = 0;
+	}
+
+	/**
+	 * Gets the profile as {@link JsonObject}. See
+	 * {@link GetCycleProfileResponse} for the format.
+	 *
+	 * @return the profile
+	 */
+	public JsonObject toJson() {
+		return JsonUtils.buildJsonObject() //
+				.add("controllers", toJson(this.controllerHistograms)) //
+				.add("eventHandlers", toJson(this.eventHandlerHistograms)) //
+				.build();
+	}
+
+	private static JsonObject toJson(Map<String, Histogram> histograms) {
+		var result = new JsonObject();
+		new TreeMap<>(histograms).forEach((id, histogram) -> {
+			result.add(id, histogram.toJson());
+		});
+		return result;
+	}
+
+	private static String[] toStringArray(Object value) {
+		if (value instanceof String) {
+			return new String[] { (String) value };
+		}
+		if (value instanceof String[]) {
+			return (String[]) value;
+		}
+		if (value instanceof Collection<?>) {
+			return ((Collection<?>) value).stream() //
+					.map(Object::toString) //
+					.toArray(String[]::new);
+		}
+		return new String[0];
+	}
+
+	/**
+	 * A fixed-bucket histogram of run-times.
+	 */
+	protected static class Histogram {
+
+		/**
+		 * Upper bounds of the buckets in [ns]; the last bucket is unbounded.
+		 */
+		protected static final long[] BOUNDS = Arrays.stream(new long[] { //
+				50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000 }) //
+				.map(TimeUnit.MICROSECONDS::toNanos) //
+				.toArray();
+
+		private final long[] buckets = new long[BOUNDS.length + 1];
+		private long count = 0;
+		private long sum = 0;
+		private long max = 0;
+		private long last = 0;
+
+		protected synchronized void record(long nanos) {
+			var bucket = 0;
+			while (bucket < BOUNDS.length && nanos > BOUNDS[bucket]) {
+				bucket++;
+			}
+			this.buckets[bucket]++;
+			this.count++;
+			this.sum += nanos;
+			this.max = Math.max(this.max, nanos);
+			this.last = nanos;
+		}
+
+		/**
+		 * Gets the upper bound of the bucket that contains the given percentile.
+		 *
+		 * @param percentile the percentile [0-100]
+		 * @return the upper bound in [ns], capped at the maximum value
+		 */
+		protected synchronized long getPercentile(int percentile) {
+			if (this.count == 0) {
+				return 0;
+			}
+			var threshold = (long) Math.ceil(this.count * percentile / 100.);
+			var cumulated = 0L;
+			for (var i = 0; i < BOUNDS.length; i++) {
+				cumulated += this.buckets[i];
+				if (cumulated >= threshold) {
+					return Math.min(BOUNDS[i], this.max);
+				}
+			}
+			return this.max;
+		}
+
+		protected synchronized JsonObject toJson() {
+			return JsonUtils.buildJsonObject() //
+					.addProperty("count", this.count) //
+					.addProperty("mean", toMillis(this.count == 0 ? 0 : this.sum / this.count)) //
+					.addProperty("p50", toMillis(this.getPercentile(50))) //
+					.addProperty("p95", toMillis(this.getPercentile(95))) //
+					.addProperty("max", toMillis(this.max)) //
+					.addProperty("last", toMillis(this.last)) //
+					.build();
+		}
+
+		private static double toMillis(long nanos) {
+			return Math.round(nanos / 1_000.) / 1_000.;
+		}
+	}
+
+}
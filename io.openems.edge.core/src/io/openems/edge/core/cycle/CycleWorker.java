@@ -1,5 +1,8 @@
 package io.openems.edge.core.cycle;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -11,6 +14,7 @@ import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
+import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
@@ -34,6 +38,7 @@ public class CycleWorker extends AbstractWorker {
 	protected void forever() {
 		// Prepare Cycle-Time measurement
 		var stopwatch = Stopwatch.createStarted();
+		var phaseStopwatch = Stopwatch.createStarted();
 
 		// Kick Operating System Watchdog
 		var socketName = System.getenv().get("NOTIFY_SOCKET");
@@ -43,22 +48,22 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		var profilerEnabled = this.parent.isProfilerEnabled();
+
 		try {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.parent._setMeasuredBeforeProcessImageTime(lap(phaseStopwatch));
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
+			var components = this.parent.componentManager.getEnabledComponents().stream() //
 					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
+					.toList();
+			nextProcessImage(components, this.parent.processImagePool);
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
@@ -70,16 +75,18 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.sumComponent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			this.parent._setMeasuredProcessImageTime(lap(phaseStopwatch));
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.parent._setMeasuredAfterProcessImageTime(lap(phaseStopwatch));
 
 			var hasDisabledController = false;
 
@@ -109,6 +116,7 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
+						var start = System.nanoTime();
 						try {
 							// Execute Controller logic
 							controller.run();
@@ -133,6 +141,9 @@ public class CycleWorker extends AbstractWorker {
 							// announce running failed
 							controller._setRunFailed(true);
 						}
+						if (profilerEnabled) {
+							this.parent.profiler.recordController(controller.id(), System.nanoTime() - start);
+						}
 					}
 
 					// announce Scheduler Controller is missing
@@ -142,26 +153,28 @@ public class CycleWorker extends AbstractWorker {
 
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
+			this.parent._setMeasuredControllersTime(lap(phaseStopwatch));
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.parent._setMeasuredWriteTime(lap(phaseStopwatch));
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -171,8 +184,109 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		if (profilerEnabled) {
+			this.parent.profiler.finishCycle(this.parent);
+		}
+
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
 	}
 
+	/**
+	 * Sends a Cycle event synchronously; either via EventAdmin or - if the
+	 * profiler is enabled - via {@link CycleProfiler}.
+	 *
+	 * @param topic the event topic
+	 */
+	private void sendEvent(String topic) {
+		if (this.parent.isProfilerEnabled()) {
+			this.parent.profiler.sendEvent(topic);
+		} else {
+			EventBuilder.send(this.parent.eventAdmin, topic);
+		}
+	}
+
+	/**
+	 * Gets the elapsed time of the {@link Stopwatch} in [ms] and restarts it.
+	 *
+	 * @param stopwatch the {@link Stopwatch}
+	 * @return the elapsed time in [ms]
+	 */
+	private static long lap(Stopwatch stopwatch) {
+		var result = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+		stopwatch.reset().start();
+		return result;
+	}
+
+	/**
+	 * Switches to the next process image for each Channel of the given
+	 * Components.
+	 *
+	 * <p>
+	 * With a {@link ForkJoinPool} the process images are first switched in
+	 * parallel; the 'onUpdate' and 'onChange' callbacks are called afterwards in
+	 * the same order as without a pool. Callbacks then already see the new
+	 * values of all Channels, while without a pool they only see the new values
+	 * of the Channels that were switched before.
+	 *
+	 * @param components the {@link OpenemsComponent}s
+	 * @param pool       the {@link ForkJoinPool}; null to switch sequentially
+	 */
+	protected static void nextProcessImage(List<OpenemsComponent> components, ForkJoinPool pool) {
+		if (pool != null && !pool.isShutdown()) {
+			// Switch in parallel, partitioned by Component
+			pool.invoke(new SwitchProcessImageTask(components, 0, components.size()));
+
+			// Call callbacks sequentially in a deterministic order
+			components.forEach(component -> {
+				component.channels().forEach(channel -> {
+					channel.triggerProcessImageCallbacks();
+				});
+			});
+		} else {
+			components.forEach(component -> {
+				component.channels().forEach(channel -> {
+					channel.nextProcessImage();
+				});
+			});
+		}
+	}
+
+	/**
+	 * Switches the process image of a range of Components without calling
+	 * callbacks. Splits the range until it is small enough to be handled by one
+	 * thread.
+	 */
+	private static class SwitchProcessImageTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		private static final int THRESHOLD = 4;
+
+		private final transient List<OpenemsComponent> components;
+		private final int from;
+		private final int to;
+
+		public SwitchProcessImageTask(List<OpenemsComponent> components, int from, int to) {
+			this.components = components;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= THRESHOLD) {
+				for (var i = this.from; i < this.to; i++) {
+					this.components.get(i).channels().forEach(channel -> {
+						channel.switchProcessImage();
+					});
+				}
+				return;
+			}
+			var mid = (this.from + this.to) >>> 1;
+			invokeAll(//
+					new SwitchProcessImageTask(this.components, this.from, mid), //
+					new SwitchProcessImageTask(this.components, mid, this.to));
+		}
+	}
+
 }
@@ -0,0 +1,50 @@
+package io.openems.edge.core.cycle;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Wraps a JSON-RPC Request to query the run-time profile of Controllers and
+ * Cycle EventHandlers.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getCycleProfile",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class GetCycleProfileRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getCycleProfile";
+
+	/**
+	 * Create {@link GetCycleProfileRequest} from a template
+	 * {@link JsonrpcRequest}.
+	 *
+	 * @param r the template {@link JsonrpcRequest}
+	 * @return the {@link GetCycleProfileRequest}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static GetCycleProfileRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		return new GetCycleProfileRequest(r);
+	}
+
+	public GetCycleProfileRequest() {
+		super(METHOD);
+	}
+
+	private GetCycleProfileRequest(JsonrpcRequest request) {
+		super(request, METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
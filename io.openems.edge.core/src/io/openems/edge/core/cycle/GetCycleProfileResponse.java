@@ -0,0 +1,51 @@
+package io.openems.edge.core.cycle;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+
+/**
+ * Wraps a JSON-RPC Response to "getCycleProfile" Request.
+ *
+ * <p>
+ * All times are in [ms].
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "enabled": boolean,
+ *     "controllers": {
+ *       [id: string]: {
+ *         "count": number, "mean": number, "p50": number, "p95": number, "max": number, "last": number
+ *       }
+ *     },
+ *     "eventHandlers": {
+ *       [id: string]: { ... }
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class GetCycleProfileResponse extends JsonrpcResponseSuccess {
+
+	private final boolean enabled;
+	private final JsonObject profile;
+
+	public GetCycleProfileResponse(UUID id, boolean enabled, JsonObject profile) {
+		super(id);
+		this.enabled = enabled;
+		this.profile = profile;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		var result = this.profile.deepCopy();
+		result.addProperty("enabled", this.enabled);
+		return result;
+	}
+
+}
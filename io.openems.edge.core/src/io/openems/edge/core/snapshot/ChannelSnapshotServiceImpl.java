@@ -0,0 +1,50 @@
+package io.openems.edge.core.snapshot;
+
+import java.time.Instant;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+import org.osgi.service.event.propertytypes.EventTopics;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.snapshot.ChannelSnapshot;
+import io.openems.edge.common.snapshot.ChannelSnapshotService;
+
+@Component(//
+		immediate = true, //
+		service = { ChannelSnapshotService.class, EventHandler.class } //
+)
+@EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE //
+})
+public class ChannelSnapshotServiceImpl implements ChannelSnapshotService, EventHandler {
+
+	@Reference
+	private ComponentManager componentManager;
+
+	private ChannelSnapshot snapshot = null;
+	private boolean isStale = true;
+
+	@Override
+	public synchronized void handleEvent(Event event) {
+		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
+			this.isStale = true;
+			break;
+		}
+	}
+
+	@Override
+	public synchronized ChannelSnapshot getSnapshot() {
+		if (this.isStale || this.snapshot == null) {
+			this.snapshot = ChannelSnapshot.take(this.componentManager.getEnabledComponents(), this.snapshot,
+					Instant.now(this.componentManager.getClock()).toEpochMilli());
+			this.isStale = false;
+		}
+		return this.snapshot;
+	}
+
+}
@@ -0,0 +1,55 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.osgi.service.event.EventConstants;
+
+import io.openems.edge.common.event.EdgeEventConstants;
+
+public class CycleProfilerTest {
+
+	@Test
+	public void testSendEvent() {
+		final var sut = new CycleProfiler();
+		final List<String> received = new ArrayList<>();
+		sut.addEventHandler(event -> received.add("all:" + event.getTopic()), Map.of(//
+				EventConstants.EVENT_TOPIC, EdgeEventConstants.TOPIC_CYCLE + "*"));
+		sut.addEventHandler(event -> received.add("one:" + event.getTopic()), Map.of(//
+				EventConstants.EVENT_TOPIC, new String[] { //
+						EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE, //
+						EdgeEventConstants.TOPIC_CONFIG_UPDATE }));
+		sut.addEventHandler(event -> {
+			throw new IllegalStateException("fail");
+		}, Map.of(EventConstants.EVENT_TOPIC, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE));
+
+		sut.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+		sut.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+
+		assertEquals(List.of(//
+				"all:" + EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
+				"all:" + EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE, //
+				"one:" + EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE), received);
+	}
+
+	@Test
+	public void testControllerHistogram() {
+		final var sut = new CycleProfiler();
+		for (var i = 1; i <= 100; i++) {
+			sut.recordController("ctrl0", TimeUnit.MILLISECONDS.toNanos(i <= 90 ? 1 : 40));
+		}
+		final var ctrl0 = sut.toJson().getAsJsonObject("controllers").getAsJsonObject("ctrl0");
+		assertEquals(100, ctrl0.get("count").getAsInt());
+		assertEquals(1., ctrl0.get("p50").getAsDouble(), 0.001);
+		assertEquals(40., ctrl0.get("p95").getAsDouble(), 0.001);
+		assertEquals(40., ctrl0.get("max").getAsDouble(), 0.001);
+		assertEquals(4.9, ctrl0.get("mean").getAsDouble(), 0.001);
+		assertEquals(0, sut.toJson().getAsJsonObject("eventHandlers").size());
+	}
+
+}
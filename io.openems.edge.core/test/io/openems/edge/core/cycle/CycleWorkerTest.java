@@ -0,0 +1,149 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+
+public class CycleWorkerTest {
+
+	private static enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		FOO(Doc.of(OpenemsType.INTEGER)), //
+		BAR(Doc.of(OpenemsType.INTEGER)); //
+
+		private final Doc doc;
+
+		private ChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private static class DummyComponent extends AbstractDummyOpenemsComponent<DummyComponent> {
+
+		private DummyComponent(String id) {
+			super(id, ChannelId.values());
+		}
+
+		@Override
+		protected DummyComponent self() {
+			return this;
+		}
+	}
+
+	private static record Result(Map<String, Object> values, List<String> callbacks) {
+	}
+
+	/**
+	 * Switches the process image of some {@link DummyComponent}s once. Every
+	 * callback records its Channel, its value and the value of the first Channel
+	 * of the last Component at that time.
+	 *
+	 * @param pool the {@link ForkJoinPool}; null to switch sequentially
+	 * @return the {@link Result}
+	 */
+	private static Result runCycle(ForkJoinPool pool) {
+		// More Components than SwitchProcessImageTask handles in one thread
+		var components = new ArrayList<OpenemsComponent>();
+		for (var i = 0; i < 10; i++) {
+			components.add(new DummyComponent("dummy" + i));
+		}
+		IntegerReadChannel last = components.get(components.size() - 1).channel(ChannelId.FOO);
+
+		var callbacks = new ArrayList<String>();
+		for (var i = 0; i < components.size(); i++) {
+			for (var channelId : ChannelId.values()) {
+				IntegerReadChannel channel = components.get(i).channel(channelId);
+				channel.onUpdate(value -> callbacks.add(channel.address() + ":onUpdate:" + value.get() //
+						+ ";last:" + last.value().get()));
+				channel.onChange((oldValue, newValue) -> callbacks.add(channel.address() + ":onChange:" //
+						+ oldValue.get() + "->" + newValue.get()));
+				channel.setNextValue(i * 10 + channelId.ordinal());
+			}
+		}
+
+		CycleWorker.nextProcessImage(components, pool);
+
+		var values = new TreeMap<String, Object>();
+		for (var component : components) {
+			for (var channel : component.channels()) {
+				values.put(channel.address().toString(), channel.value().get());
+			}
+		}
+		return new Result(values, callbacks);
+	}
+
+	/**
+	 * Removes the value of the last Channel seen by a callback; it depends on the
+	 * mode.
+	 *
+	 * @param callbacks the recorded callbacks
+	 * @return the callbacks without the seen value
+	 */
+	private static List<String> withoutLast(List<String> callbacks) {
+		return callbacks.stream() //
+				.map(c -> c.replaceAll(";last:.*$", "")) //
+				.toList();
+	}
+
+	@Test
+	public void testParallelEqualsSequential() {
+		var sequential = runCycle(null);
+		var pool = new ForkJoinPool(4);
+		try {
+			var parallel = runCycle(pool);
+
+			assertEquals(sequential.values(), parallel.values());
+			assertEquals(10 * ChannelId.values().length * 2, sequential.callbacks().size());
+			assertEquals(withoutLast(sequential.callbacks()), withoutLast(parallel.callbacks()));
+
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testCallbacksRunAfterAllChannelsSwitched() {
+		// Sequential: the first callback runs before the last Channel switched
+		assertEquals("null", getLastSeenByFirstCallback(null));
+
+		// Parallel: all Channels switched before the first callback
+		var pool = new ForkJoinPool(4);
+		try {
+			assertEquals("90", getLastSeenByFirstCallback(pool));
+
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testShutdownPool() {
+		var pool = new ForkJoinPool(1);
+		pool.shutdown();
+
+		// Falls back to sequential
+		assertEquals("null", getLastSeenByFirstCallback(pool));
+	}
+
+	private static String getLastSeenByFirstCallback(ForkJoinPool pool) {
+		var callback = runCycle(pool).callbacks().get(0);
+		return callback.substring(callback.indexOf(";last:") + ";last:".length());
+	}
+
+}
@@ -0,0 +1,65 @@
+package io.openems.edge.ess.core.power;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.core.power.solver.IncrementalSolver;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+
+/**
+ * Benchmarks {@link CalculatePowerExtrema}, i.e. 'getMaxPower()' and
+ * 'getMinPower()' of every ESS, as called by Controllers during a Cycle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculatePowerExtremaBenchmark {
+
+	/**
+	 * Calculates the extrema from scratch.
+	 *
+	 * @param scenario  the {@link PowerScenario}
+	 * @param blackhole the {@link Blackhole}
+	 */
+	@Benchmark
+	public void fromScratch(PowerScenario scenario, Blackhole blackhole) {
+		for (var ess : scenario.data.getEsss()) {
+			for (var goal : GoalType.values()) {
+				blackhole.consume(CalculatePowerExtrema.from(scenario.data.getCoefficients(),
+						scenario.allConstraints, ess.id(), Phase.ALL, Pwr.ACTIVE, goal));
+			}
+		}
+	}
+
+	/**
+	 * Calculates the extrema with a new {@link IncrementalSolver}, i.e. like the
+	 * first Cycle after a change of the Constraints.
+	 *
+	 * @param scenario  the {@link PowerScenario}
+	 * @param blackhole the {@link Blackhole}
+	 */
+	@Benchmark
+	public void incremental(PowerScenario scenario, Blackhole blackhole) {
+		var solver = new IncrementalSolver();
+		for (var ess : scenario.data.getEsss()) {
+			for (var goal : GoalType.values()) {
+				blackhole.consume(CalculatePowerExtrema.from(solver, scenario.data.getCoefficients(),
+						scenario.allConstraints, ess.id(), Phase.ALL, Pwr.ACTIVE, goal));
+			}
+		}
+	}
+
+}
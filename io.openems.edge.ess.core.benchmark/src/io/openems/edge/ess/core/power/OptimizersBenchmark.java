@@ -0,0 +1,70 @@
+package io.openems.edge.ess.core.power;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.optimizers.KeepAllEqual;
+import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
+import io.openems.edge.ess.core.power.optimizers.ReduceNumberOfUsedInverters;
+import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.power.api.Inverter;
+
+/**
+ * Benchmarks the single optimizers that are used by the {@link Solver}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptimizersBenchmark {
+
+	/**
+	 * Benchmarks {@link KeepAllEqual}.
+	 *
+	 * @param scenario the {@link PowerScenario}
+	 * @return the solution
+	 */
+	@Benchmark
+	public PointValuePair keepAllEqual(PowerScenario scenario) {
+		return KeepAllEqual.apply(scenario.data.getCoefficients(), scenario.allInverters,
+				scenario.copyOfAllConstraints());
+	}
+
+	/**
+	 * Benchmarks {@link MoveTowardsTarget} with all Inverters as target.
+	 *
+	 * @param scenario the {@link PowerScenario}
+	 * @return the solution
+	 * @throws OpenemsException on error
+	 */
+	@Benchmark
+	public PointValuePair moveTowardsTarget(PowerScenario scenario) throws OpenemsException {
+		return MoveTowardsTarget.apply(scenario.data.getCoefficients(), scenario.targetDirection,
+				scenario.allInverters, scenario.allInverters, scenario.copyOfAllConstraints());
+	}
+
+	/**
+	 * Benchmarks {@link ReduceNumberOfUsedInverters}.
+	 *
+	 * @param scenario the {@link PowerScenario}
+	 * @return the target Inverters
+	 */
+	@Benchmark
+	public List<Inverter> reduceNumberOfUsedInverters(PowerScenario scenario) {
+		return new ReduceNumberOfUsedInverters().apply(scenario.allInverters, scenario.targetDirection,
+				disabledInverters -> ConstraintSolver.solve(scenario.data.getCoefficients(),
+						scenario.data.getConstraintsWithoutDisabledInverters(disabledInverters)));
+	}
+
+}
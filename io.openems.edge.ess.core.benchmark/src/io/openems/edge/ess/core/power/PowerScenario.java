@@ -0,0 +1,151 @@
+package io.openems.edge.ess.core.power;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.core.power.data.TargetDirection;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Inverter;
+import io.openems.edge.ess.power.api.LinearCoefficient;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.power.api.SinglePhaseInverter;
+import io.openems.edge.ess.power.api.ThreePhaseInverter;
+import io.openems.edge.ess.test.DummyManagedAsymmetricEss;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+/**
+ * A {@link Data} object with a number of ESS and Constraints, shared by the
+ * benchmarks.
+ *
+ * <p>
+ * Lives in the package of {@link Data} to be able to add ESS without an OSGi
+ * framework.
+ */
+@State(Scope.Thread)
+public class PowerScenario {
+
+	public static enum InverterType {
+		/**
+		 * Symmetric-Mode with one {@link ThreePhaseInverter} per ESS.
+		 */
+		THREE_PHASE,
+		/**
+		 * Asymmetric-Mode with three {@link SinglePhaseInverter}s per ESS.
+		 */
+		SINGLE_PHASE;
+	}
+
+	public static enum ConstraintMix {
+		/**
+		 * Only the Constraints that are generated from the ESS Channels.
+		 */
+		NONE,
+		/**
+		 * An ActivePower setpoint for every ESS.
+		 */
+		SETPOINTS,
+		/**
+		 * A sum of ActivePower for all ESS, plus limits for every ESS.
+		 */
+		MIXED;
+	}
+
+	// CHECKSTYLE:OFF
+	@Param({ "1", "4", "16", "64" })
+	public int inverters;
+
+	@Param({ "THREE_PHASE", "SINGLE_PHASE" })
+	public InverterType inverterType;
+
+	@Param({ "NONE", "SETPOINTS", "MIXED" })
+	public ConstraintMix constraintMix;
+	// CHECKSTYLE:ON
+
+	protected Data data;
+	protected List<Inverter> allInverters;
+	protected List<Constraint> allConstraints;
+	protected TargetDirection targetDirection;
+
+	/**
+	 * Builds the {@link Data} object.
+	 *
+	 * @throws OpenemsException on error
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws OpenemsException {
+		this.data = new Data();
+		this.data.setSymmetricMode(this.inverterType == InverterType.THREE_PHASE);
+
+		var esss = new ArrayList<ManagedSymmetricEss>();
+		for (var i = 0; i < this.inverters; i++) {
+			var essId = "ess" + i;
+			var soc = 10 + i * 80 / Math.max(1, this.inverters - 1);
+			final ManagedSymmetricEss ess = switch (this.inverterType) {
+			case THREE_PHASE -> new DummyManagedSymmetricEss(essId) //
+					.withAllowedChargePower(-10000) //
+					.withAllowedDischargePower(10000) //
+					.withMaxApparentPower(12000) //
+					.withSoc(soc);
+			case SINGLE_PHASE -> new DummyManagedAsymmetricEss(essId) //
+					.withAllowedChargePower(-10000) //
+					.withAllowedDischargePower(10000) //
+					.withMaxApparentPower(12000) //
+					.withSoc(soc);
+			};
+			esss.add(ess);
+			this.data.addEss(ess);
+		}
+		this.data.initializeCycle();
+
+		switch (this.constraintMix) {
+		case NONE:
+			break;
+
+		case SETPOINTS:
+			for (var i = 0; i < esss.size(); i++) {
+				this.data.addSimpleConstraint("Setpoint", esss.get(i).id(), Phase.ALL, Pwr.ACTIVE,
+						Relationship.EQUALS, i % 2 == 0 ? 3000 : -2000);
+			}
+			break;
+
+		case MIXED:
+			var coefficients = new ArrayList<LinearCoefficient>();
+			for (var ess : esss) {
+				this.data.addSimpleConstraint("Max", ess.id(), Phase.ALL, Pwr.ACTIVE, Relationship.LESS_OR_EQUALS,
+						8000);
+				this.data.addSimpleConstraint("Min", ess.id(), Phase.ALL, Pwr.ACTIVE,
+						Relationship.GREATER_OR_EQUALS, -8000);
+				this.data.addSimpleConstraint("Reactive", ess.id(), Phase.ALL, Pwr.REACTIVE, Relationship.EQUALS,
+						0);
+				coefficients.add(new LinearCoefficient(this.data.getCoefficient(ess.id(), Phase.ALL, Pwr.ACTIVE), 1));
+			}
+			this.data.addConstraint(new Constraint("Sum", coefficients, Relationship.EQUALS, 2500 * esss.size()));
+			break;
+		}
+
+		this.allInverters = this.data.getInverters();
+		this.allConstraints = this.data.getConstraintsForAllInverters();
+		this.targetDirection = TargetDirection.from(this.allInverters, this.data.getCoefficients(),
+				this.data.getConstraintsForAllInverters());
+	}
+
+	/**
+	 * Gets a copy of all Constraints; some optimizers modify the list.
+	 *
+	 * @return a new list of {@link Constraint}s
+	 */
+	public List<Constraint> copyOfAllConstraints() {
+		return new ArrayList<>(this.allConstraints);
+	}
+
+}
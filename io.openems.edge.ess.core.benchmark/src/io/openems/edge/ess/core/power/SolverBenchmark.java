@@ -0,0 +1,60 @@
+package io.openems.edge.ess.core.power;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.openems.edge.ess.core.power.solver.IncrementalSolver;
+import io.openems.edge.ess.power.api.SolverStrategy;
+
+/**
+ * Benchmarks a complete {@link Solver#solve(SolverStrategy)} per Cycle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SolverBenchmark {
+
+	// CHECKSTYLE:OFF
+	@Param({ "ALL_CONSTRAINTS", "OPTIMIZE_BY_MOVING_TOWARDS_TARGET",
+			"OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER", "OPTIMIZE_BY_KEEPING_ALL_EQUAL" })
+	public SolverStrategy strategy;
+	// CHECKSTYLE:ON
+
+	private Solver solver;
+
+	/**
+	 * Creates the {@link Solver}.
+	 *
+	 * @param scenario the {@link PowerScenario}
+	 */
+	@Setup(Level.Trial)
+	public void setup(PowerScenario scenario) {
+		this.solver = new Solver(scenario.data, new IncrementalSolver());
+	}
+
+	/**
+	 * Solves the problem of the {@link PowerScenario}.
+	 *
+	 * @param scenario the {@link PowerScenario}
+	 */
+	@Benchmark
+	public void solve(PowerScenario scenario) {
+		this.solver.solve(this.strategy);
+	}
+
+}
@@ -32,6 +32,7 @@ import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.LogUtil;
 import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.core.power.solver.IncrementalSolver;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Phase;
@@ -60,6 +61,7 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	private ConfigurationAdmin cm;
 
 	private final Data data;
+	private final IncrementalSolver incrementalSolver = new IncrementalSolver();
 	private final Solver solver;
 
 	private boolean debugMode = EssPowerImpl.DEFAULT_DEBUG_MODE;
@@ -75,7 +77,7 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 		this.data = new Data();
 		this.data.onStaticConstraintsFailed(this::_setStaticConstraintsFailed);
 
-		this.solver = new Solver(this.data);
+		this.solver = new Solver(this.data, this.incrementalSolver);
 		this.solver.onSolved((isSolved, duration, strategy) -> {
 			this._setNotSolved(!isSolved);
 			this._setSolveDuration(duration);
@@ -202,7 +204,8 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 			this.logError(this.log, "Unable to get Constraints " + e.getMessage());
 			return 0;
 		}
-		var power = CalculatePowerExtrema.from(this.data.getCoefficients(), allConstraints, ess.id(), phase, pwr, goal);
+		var power = CalculatePowerExtrema.from(this.incrementalSolver, this.data.getCoefficients(), allConstraints,
+				ess.id(), phase, pwr, goal);
 		if (power <= Integer.MIN_VALUE || power >= Integer.MAX_VALUE) {
 			this.logError(this.log, goal.name() + " Power for [" + ess.toString() + "," + phase.toString() + ","
 					+ pwr.toString() + "=" + power + "] is out of bounds. Returning '0'");
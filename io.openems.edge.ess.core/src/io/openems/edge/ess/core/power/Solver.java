@@ -28,6 +28,7 @@ import io.openems.edge.ess.core.power.optimizers.KeepTargetDirectionAndMaximizeI
 import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
 import io.openems.edge.ess.core.power.optimizers.Optimizers;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.IncrementalSolver;
 import io.openems.edge.ess.core.power.solver.PowerTuple;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -42,6 +43,7 @@ public class Solver {
 
 	private final Logger log = LoggerFactory.getLogger(Solver.class);
 	private final Data data;
+	private final IncrementalSolver incrementalSolver;
 	private final Optimizers optimizers = new Optimizers();
 
 	private boolean debugMode = EssPower.DEFAULT_DEBUG_MODE;
@@ -50,8 +52,9 @@ public class Solver {
 
 	private final ThrowingFunction<List<Inverter>, PointValuePair, Exception> solveWithDisabledInverters;
 
-	public Solver(Data data) {
+	public Solver(Data data, IncrementalSolver incrementalSolver) {
 		this.data = data;
+		this.incrementalSolver = incrementalSolver;
 
 		/**
 		 * Solves the problem, while setting all DisabledInverters to EQUALS zero.
@@ -84,7 +87,7 @@ public class Solver {
 	 */
 	public void isSolvableOrError() throws OpenemsException {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			this.incrementalSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
 		} catch (NoFeasibleSolutionException e) {
 			throw new PowerException(Type.NO_FEASIBLE_SOLUTION);
 		} catch (UnboundedSolutionException e) {
@@ -99,7 +102,7 @@ public class Solver {
 	 */
 	public boolean isSolvable() {
 		try {
-			ConstraintSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
+			this.incrementalSolver.solve(this.data.getCoefficients(), this.data.getConstraintsForAllInverters());
 			return true;
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException | OpenemsException e) {
 			return false;
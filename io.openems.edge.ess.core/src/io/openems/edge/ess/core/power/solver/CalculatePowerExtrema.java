@@ -2,11 +2,7 @@ package io.openems.edge.ess.core.power.solver;
 
 import java.util.List;
 
-import org.apache.commons.math3.optim.linear.LinearConstraintSet;
-import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
-import org.apache.commons.math3.optim.linear.PivotSelectionRule;
-import org.apache.commons.math3.optim.linear.SimplexSolver;
 import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.slf4j.Logger;
@@ -14,7 +10,6 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
-import io.openems.edge.ess.core.power.data.LinearSolverUtil;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Phase;
@@ -38,6 +33,25 @@ public class CalculatePowerExtrema {
 	 */
 	public static double from(Coefficients coefficients, List<Constraint> allConstraints, String essId, Phase phase,
 			Pwr pwr, GoalType goal) {
+		return from(new IncrementalSolver(), coefficients, allConstraints, essId, phase, pwr, goal);
+	}
+
+	/**
+	 * Calculates the extrema under the current constraints for the given
+	 * parameters, reusing the results of previous calls on the same
+	 * {@link IncrementalSolver}.
+	 *
+	 * @param solver         the {@link IncrementalSolver}
+	 * @param coefficients   the {@link Coefficients}
+	 * @param allConstraints all active {@link Constraint}s
+	 * @param essId          the ID of the {@link ManagedSymmetricEss}
+	 * @param phase          the {@link Phase}
+	 * @param pwr            the {@link Pwr}
+	 * @param goal           the {@link GoalType}
+	 * @return the extrema value; or 0 on error
+	 */
+	public static double from(IncrementalSolver solver, Coefficients coefficients, List<Constraint> allConstraints,
+			String essId, Phase phase, Pwr pwr, GoalType goal) {
 		// prepare objective function
 		int index;
 		try {
@@ -46,21 +60,9 @@ public class CalculatePowerExtrema {
 			LOG.error(e.getMessage());
 			return 0d;
 		}
-		var cos = LinearSolverUtil.generateEmptyCoefficientsArray(coefficients.getNoOfCoefficients());
-		cos[index] = 1;
-		var objectiveFunction = new LinearObjectiveFunction(cos, 0);
-
-		var constraints = new LinearConstraintSet(
-				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
 
-		var solver = new SimplexSolver();
 		try {
-			var solution = solver.optimize(//
-					objectiveFunction, //
-					constraints, //
-					goal, //
-					PivotSelectionRule.BLAND);
-			return solution.getPoint()[index];
+			return solver.getExtremum(coefficients, allConstraints, index, goal);
 
 		} catch (UnboundedSolutionException e) {
 			LOG.warn("No Constraints for " + goal.name() + " [" + essId + "] phase [" + phase + "] pwr [" + pwr + "].");
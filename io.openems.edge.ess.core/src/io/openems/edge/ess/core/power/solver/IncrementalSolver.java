@@ -0,0 +1,257 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.LinearConstraintSet;
+import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.PivotSelectionRule;
+import org.apache.commons.math3.optim.linear.Relationship;
+import org.apache.commons.math3.optim.linear.SimplexSolver;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+
+/**
+ * Solves linear problems with the same objective functions as
+ * {@link ConstraintSolver} and {@link CalculatePowerExtrema}, but keeps the
+ * constraint matrix and the results between calls.
+ *
+ * <p>
+ * On every call the given {@link Constraint}s are compared row by row with
+ * the previous matrix: unchanged rows are kept, changed rows are replaced and
+ * rows are added or removed at the end. A result is reused without solving
+ * if it was computed on a prefix of the current rows and - for a feasible
+ * result - its point still satisfies all rows that were added afterwards.
+ * This is exact, because adding rows only shrinks the feasible region:
+ * <ul>
+ * <li>an optimal point that is still feasible stays optimal
+ * <li>an infeasible problem stays infeasible
+ * </ul>
+ * Typically {@link Constraint}s are appended during a Cycle, so most calls to
+ * 'addConstraintAndValidate()', 'getMaxPower()' and 'getMinPower()' are
+ * answered without running the {@link SimplexSolver}.
+ */
+public class IncrementalSolver {
+
+	/** Tolerance for checking a memoized point against added rows. */
+	private static final double EPSILON = 1e-6;
+
+	/** Objective index for the default objective function. */
+	private static final int DEFAULT_OBJECTIVE = -1;
+
+	private static record Row(double[] coefficients, Relationship relationship, double value,
+			LinearConstraint constraint, long generation) {
+
+		private boolean isSatisfiedBy(double[] point) {
+			var lhs = 0d;
+			for (var i = 0; i < this.coefficients.length; i++) {
+				lhs += this.coefficients[i] * point[i];
+			}
+			return switch (this.relationship) {
+			case EQ -> Math.abs(lhs - this.value) <= EPSILON;
+			case GEQ -> lhs >= this.value - EPSILON;
+			case LEQ -> lhs <= this.value + EPSILON;
+			};
+		}
+	}
+
+	private static record Key(int index, GoalType goal) {
+	}
+
+	/**
+	 * A memoized result.
+	 *
+	 * @param rows       the number of rows the result was computed on
+	 * @param generation the generation of the last of these rows
+	 * @param solution   the solution; null if there is none
+	 * @param unbounded  true for {@link UnboundedSolutionException}; false for
+	 *                   {@link NoFeasibleSolutionException}
+	 */
+	private static record Result(int rows, long generation, PointValuePair solution, boolean unbounded) {
+	}
+
+	private final List<Row> rows = new ArrayList<>();
+	private final Map<Key, Result> results = new HashMap<>();
+
+	private int noOfCoefficients = -1;
+	private long nextGeneration = 0;
+	private double[] scratch = new double[0];
+
+	/**
+	 * Solves the problem with the given list of Constraints, minimizing the sum
+	 * of all Coefficients.
+	 *
+	 * <p>
+	 * In contrast to {@link ConstraintSolver#solve(Coefficients, List)} the
+	 * returned point might be a different - equally optimal - point, if the
+	 * problem has more than one optimum. Use this method to check for
+	 * solvability.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of Constraints
+	 * @return a solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public synchronized PointValuePair solve(Coefficients coefficients, List<Constraint> constraints)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		this.update(coefficients, constraints);
+		return this.solve(new Key(DEFAULT_OBJECTIVE, GoalType.MINIMIZE));
+	}
+
+	/**
+	 * Calculates the extremum of one Coefficient.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of Constraints
+	 * @param index        the index of the Coefficient
+	 * @param goal         the {@link GoalType}
+	 * @return the extremum value
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public synchronized double getExtremum(Coefficients coefficients, List<Constraint> constraints, int index,
+			GoalType goal) throws NoFeasibleSolutionException, UnboundedSolutionException {
+		this.update(coefficients, constraints);
+		return this.solve(new Key(index, goal)).getPoint()[index];
+	}
+
+	private PointValuePair solve(Key key) {
+		var result = this.results.get(key);
+		if (result == null || !this.isValid(result)) {
+			result = this.compute(key);
+			this.results.put(key, result);
+		}
+		if (result.solution != null) {
+			return result.solution;
+		}
+		if (result.unbounded) {
+			throw new UnboundedSolutionException();
+		}
+		throw new NoFeasibleSolutionException();
+	}
+
+	private boolean isValid(Result result) {
+		var size = this.rows.size();
+		if (result.rows > size //
+				|| result.rows > 0 && this.rows.get(result.rows - 1).generation != result.generation) {
+			// Rows of the result were removed or changed
+			return false;
+		}
+		if (result.solution == null) {
+			// Infeasible stays infeasible; unbounded might become bounded
+			return !result.unbounded || result.rows == size;
+		}
+		var point = result.solution.getPointRef();
+		for (var i = result.rows; i < size; i++) {
+			if (!this.rows.get(i).isSatisfiedBy(point)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Result compute(Key key) {
+		var size = this.rows.size();
+		var generation = size > 0 ? this.rows.get(size - 1).generation : -1;
+		final LinearObjectiveFunction objectiveFunction;
+		if (key.index == DEFAULT_OBJECTIVE) {
+			objectiveFunction = LinearSolverUtil.getDefaultObjectiveFunction(this.noOfCoefficients);
+		} else {
+			var cos = LinearSolverUtil.generateEmptyCoefficientsArray(this.noOfCoefficients);
+			cos[key.index] = 1;
+			objectiveFunction = new LinearObjectiveFunction(cos, 0);
+		}
+		var constraints = new ArrayList<LinearConstraint>(size);
+		for (var row : this.rows) {
+			constraints.add(row.constraint);
+		}
+		try {
+			var solution = new SimplexSolver().optimize(//
+					objectiveFunction, //
+					new LinearConstraintSet(constraints), //
+					key.goal, //
+					PivotSelectionRule.BLAND);
+			return new Result(size, generation, solution, false);
+
+		} catch (UnboundedSolutionException e) {
+			return new Result(size, generation, null, true);
+
+		} catch (NoFeasibleSolutionException e) {
+			return new Result(size, generation, null, false);
+		}
+	}
+
+	/**
+	 * Applies the given Constraints to the constraint matrix.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of Constraints
+	 */
+	private void update(Coefficients coefficients, List<Constraint> constraints) {
+		var noOfCoefficients = coefficients.getNoOfCoefficients();
+		if (noOfCoefficients != this.noOfCoefficients) {
+			this.noOfCoefficients = noOfCoefficients;
+			this.scratch = LinearSolverUtil.generateEmptyCoefficientsArray(noOfCoefficients);
+			this.rows.clear();
+			this.results.clear();
+		}
+
+		var index = 0;
+		var isChanged = false;
+		for (var c : constraints) {
+			if (c.getValue().isEmpty()) {
+				continue;
+			}
+			var cos = this.scratch;
+			Arrays.fill(cos, 0);
+			for (var co : c.getCoefficients()) {
+				cos[co.getCoefficient().getIndex()] = co.getValue();
+			}
+			var relationship = toRelationship(c.getRelationship());
+			double value = c.getValue().get();
+
+			if (!isChanged && index < this.rows.size()) {
+				var row = this.rows.get(index);
+				if (row.relationship == relationship && Double.compare(row.value, value) == 0
+						&& Arrays.equals(row.coefficients, cos)) {
+					// Keep unchanged row
+					index++;
+					continue;
+				}
+			}
+			if (!isChanged) {
+				// Remove changed rows
+				this.rows.subList(index, this.rows.size()).clear();
+				isChanged = true;
+			}
+			var copy = cos.clone();
+			this.rows.add(new Row(copy, relationship, value, new LinearConstraint(copy, relationship, value),
+					this.nextGeneration++));
+			index++;
+		}
+		if (!isChanged) {
+			// Remove rows at the end
+			this.rows.subList(index, this.rows.size()).clear();
+		}
+	}
+
+	private static Relationship toRelationship(io.openems.edge.ess.power.api.Relationship relationship) {
+		return switch (relationship) {
+		case EQUALS -> Relationship.EQ;
+		case GREATER_OR_EQUALS -> Relationship.GEQ;
+		case LESS_OR_EQUALS -> Relationship.LEQ;
+		};
+	}
+
+}
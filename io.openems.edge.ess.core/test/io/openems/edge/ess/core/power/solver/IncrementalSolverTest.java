@@ -0,0 +1,111 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.ConstraintUtil;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+
+public class IncrementalSolverTest {
+
+	private static final String ESS0 = "ess0";
+	private static final String ESS1 = "ess1";
+
+	private final Coefficients coefficients = new Coefficients();
+	private final List<Constraint> constraints = new ArrayList<>();
+
+	@Before
+	public void before() throws OpenemsException {
+		this.coefficients.initialize(true, Set.of(ESS0, ESS1));
+		this.constraints.clear();
+		for (var essId : List.of(ESS0, ESS1)) {
+			this.add(essId, Pwr.ACTIVE, Relationship.LESS_OR_EQUALS, 5000);
+			this.add(essId, Pwr.ACTIVE, Relationship.GREATER_OR_EQUALS, -5000);
+			this.add(essId, Pwr.REACTIVE, Relationship.EQUALS, 0);
+		}
+	}
+
+	private Constraint add(String essId, Pwr pwr, Relationship relationship, double value) throws OpenemsException {
+		var constraint = ConstraintUtil.createSimpleConstraint(this.coefficients, "", essId, Phase.ALL, pwr,
+				relationship, value);
+		this.constraints.add(constraint);
+		return constraint;
+	}
+
+	private void assertExtrema(IncrementalSolver sut) {
+		for (var essId : List.of(ESS0, ESS1)) {
+			for (var goal : GoalType.values()) {
+				assertEquals(//
+						CalculatePowerExtrema.from(this.coefficients, this.constraints, essId, Phase.ALL, Pwr.ACTIVE,
+								goal), //
+						CalculatePowerExtrema.from(sut, this.coefficients, this.constraints, essId, Phase.ALL,
+								Pwr.ACTIVE, goal), //
+						0.001);
+			}
+		}
+	}
+
+	@Test
+	public void testExtrema() throws OpenemsException {
+		var sut = new IncrementalSolver();
+		this.assertExtrema(sut);
+		assertEquals(5000, CalculatePowerExtrema.from(sut, this.coefficients, this.constraints, ESS0, Phase.ALL,
+				Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+
+		// Appended row that cuts off the memoized optimum
+		var c1 = this.add(ESS0, Pwr.ACTIVE, Relationship.LESS_OR_EQUALS, 4000);
+		this.assertExtrema(sut);
+		assertEquals(4000, CalculatePowerExtrema.from(sut, this.coefficients, this.constraints, ESS0, Phase.ALL,
+				Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+
+		// Appended row for another ESS
+		var c2 = this.add(ESS1, Pwr.ACTIVE, Relationship.GREATER_OR_EQUALS, 1000);
+		this.assertExtrema(sut);
+
+		// Removed rows
+		this.constraints.remove(c2);
+		this.assertExtrema(sut);
+		this.constraints.remove(c1);
+		this.assertExtrema(sut);
+
+		// Changed row
+		this.constraints.get(0).setValue(2000);
+		this.assertExtrema(sut);
+		assertEquals(2000, CalculatePowerExtrema.from(sut, this.coefficients, this.constraints, ESS0, Phase.ALL,
+				Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+	}
+
+	@Test
+	public void testSolve() throws OpenemsException {
+		var sut = new IncrementalSolver();
+		assertEquals(ConstraintSolver.solve(this.coefficients, this.constraints).getValue(),
+				sut.solve(this.coefficients, this.constraints).getValue(), 0.001);
+
+		var c1 = this.add(ESS0, Pwr.ACTIVE, Relationship.EQUALS, 6000);
+		assertThrows(NoFeasibleSolutionException.class, () -> sut.solve(this.coefficients, this.constraints));
+
+		// Still infeasible with an additional row
+		var c2 = this.add(ESS1, Pwr.ACTIVE, Relationship.EQUALS, 0);
+		assertThrows(NoFeasibleSolutionException.class, () -> sut.solve(this.coefficients, this.constraints));
+
+		this.constraints.remove(c2);
+		this.constraints.remove(c1);
+		assertEquals(ConstraintSolver.solve(this.coefficients, this.constraints).getValue(),
+				sut.solve(this.coefficients, this.constraints).getValue(), 0.001);
+	}
+
+}
@@ -27,15 +27,16 @@ import com.google.gson.JsonElement;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 
+import io.openems.common.channel.PersistencePriority;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
-import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.snapshot.ChannelSnapshotService;
 import io.openems.edge.timedata.api.Timedata;
 import io.openems.edge.timedata.api.Timeranges;
 import io.openems.shared.influxdb.InfluxConnector;
@@ -61,7 +62,7 @@ public class TimedataInfluxDbImpl extends AbstractOpenemsComponent
 	private Cycle cycle;
 
 	@Reference
-	private ComponentManager componentManager;
+	private ChannelSnapshotService channelSnapshotService;
 
 	@Reference
 	private OpenemsEdgeOem oem;
@@ -125,59 +126,38 @@ public class TimedataInfluxDbImpl extends AbstractOpenemsComponent
 		if (++this.cycleCount >= this.config.noOfCycles()) {
 			this.cycleCount = 0;
 			final var point = Point.measurement(this.config.measurement()).time(timestamp, WritePrecision.MS);
+			final var snapshot = this.channelSnapshotService.getSnapshot();
 			final var addedAtLeastOneChannelValue = new AtomicBoolean(false);
 
-			this.componentManager.getEnabledComponents().stream().filter(OpenemsComponent::isEnabled)
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							switch (channel.channelDoc().getAccessMode()) {
-							case WRITE_ONLY:
-								// ignore Write-Only-Channels
-								return;
-							case READ_ONLY:
-							case READ_WRITE:
-								break;
-							}
-
-							Optional<?> valueOpt = channel.value().asOptional();
-							if (!valueOpt.isPresent()) {
-								// ignore not available channels
-								return;
-							}
-							Object value = valueOpt.get();
-							var address = channel.address().toString();
-							try {
-								switch (channel.getType()) {
-								case BOOLEAN:
-									point.addField(address, (Boolean) value ? 1 : 0);
-									break;
-								case SHORT:
-									point.addField(address, (Short) value);
-									break;
-								case INTEGER:
-									point.addField(address, (Integer) value);
-									break;
-								case LONG:
-									point.addField(address, (Long) value);
-									break;
-								case FLOAT:
-									point.addField(address, (Float) value);
-									break;
-								case DOUBLE:
-									point.addField(address, (Double) value);
-									break;
-								case STRING:
-									point.addField(address, (String) value);
-									break;
-								}
-							} catch (IllegalArgumentException e) {
-								this.log.warn("Unable to add Channel [" + address + "] value [" + value + "]: "
-										+ e.getMessage());
-								return;
-							}
-							addedAtLeastOneChannelValue.set(true);
-						});
-					});
+			// ignore Write-Only-Channels
+			snapshot.forEach(PersistencePriority.VERY_LOW, i -> {
+				if (!snapshot.isDefined(i)) {
+					// ignore not available channels
+					return;
+				}
+				var address = snapshot.getAddressString(i);
+				try {
+					switch (snapshot.getType(i)) {
+					case BOOLEAN, SHORT, INTEGER, LONG:
+						point.addField(address, snapshot.getLong(i));
+						break;
+					case FLOAT:
+						point.addField(address, Float.valueOf((float) snapshot.getDouble(i)));
+						break;
+					case DOUBLE:
+						point.addField(address, snapshot.getDouble(i));
+						break;
+					case STRING:
+						point.addField(address, snapshot.getString(i));
+						break;
+					}
+				} catch (IllegalArgumentException e) {
+					this.log.warn("Unable to add Channel [" + address + "] value [" + snapshot.getAsJson(i) + "]: "
+							+ e.getMessage());
+					return;
+				}
+				addedAtLeastOneChannelValue.set(true);
+			});
 
 			if (addedAtLeastOneChannelValue.get()) {
 				this.influxConnector.write(point);
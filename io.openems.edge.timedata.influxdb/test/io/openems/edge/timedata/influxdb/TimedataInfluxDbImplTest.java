@@ -5,6 +5,7 @@ import org.junit.Test;
 import io.openems.common.oem.DummyOpenemsEdgeOem;
 import io.openems.edge.common.test.AbstractComponentTest.TestCase;
 import io.openems.edge.common.test.ComponentTest;
+import io.openems.edge.common.test.DummyChannelSnapshotService;
 import io.openems.edge.common.test.DummyComponentManager;
 import io.openems.edge.common.test.DummyCycle;
 import io.openems.shared.influxdb.QueryLanguageConfig;
@@ -16,7 +17,8 @@ public class TimedataInfluxDbImplTest {
 	@Test
 	public void test() throws Exception {
 		new ComponentTest(new TimedataInfluxDbImpl()) //
-				.addReference("componentManager", new DummyComponentManager()) //
+				.addReference("channelSnapshotService",
+						new DummyChannelSnapshotService(new DummyComponentManager())) //
 				.addReference("cycle", new DummyCycle(1000)) //
 				.addReference("oem", new DummyOpenemsEdgeOem()) //
 				.activate(MyConfig.create() //
@@ -0,0 +1,273 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.OptionalDouble;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.DoubleStream;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
+import io.openems.common.timedata.DurationUnit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.snapshot.ChannelSnapshotService;
+
+@Component(//
+		scope = ServiceScope.PROTOTYPE, //
+		service = RecordWorker.class //
+)
+public class RecordWorker extends AbstractImmediateWorker {
+
+	public record Config(//
+			String rrdDbId, //
+			boolean readOnly, //
+			boolean debugMode, //
+			PersistencePriority persistencePriority, //
+			Consumer<? super Boolean> onQueueFull, //
+			Consumer<? super Boolean> onUnableToInsert //
+	) {
+
+	}
+
+	private static record DataRecord(//
+			long timestamp, //
+			ChannelAddress address, //
+			Unit unit, //
+			double value //
+	) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(RecordWorker.class);
+
+	@Reference
+	private Rrd4jSupplier rrd4jSupplier;
+
+	@Reference
+	private ComponentManager componentManager;
+
+	@Reference
+	private ChannelSnapshotService channelSnapshotService;
+
+	private Config config;
+
+	public void setConfig(Config config) {
+		this.config = config;
+	}
+
+	// Record queue
+	private final BlockingQueue<DataRecord> records = new LinkedBlockingQueue<>();
+
+	// keeps the last recorded timestamp
+	private Instant lastTimestamp = Instant.MIN;
+
+	@Activate
+	public RecordWorker() {
+	}
+
+	@Override
+	@Deactivate
+	public void deactivate() {
+		super.deactivate();
+	}
+
+	/**
+	 * Collects the data from Channels. This is called synchronously by the main
+	 * OpenEMS cycle. On finish it triggers a next async task to write the data to
+	 * RRD4J.
+	 * 
+	 * <p>
+	 * Cumulated Channels are collected with a timestamp rounded to the current
+	 * hour. e.g.
+	 * 
+	 * <pre>
+	 * 08:00     08:35 09:00
+	 *   |---------|-----|
+	 * 08:00 -> timestamp of the data
+	 * 08:35 -> timestamp the data gets collected
+	 * </pre>
+	 */
+	public void collectData() {
+		final var timestamp = Instant.now(this.componentManager.getClock()) //
+				.truncatedTo(DurationUnit.ofSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS)) //
+				.minusSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
+
+		final var now = LocalDateTime.now(this.componentManager.getClock());
+
+		// Same second as last run? -> RRD4j can only handle one sample per second per
+		// database. Timestamps are all stored "truncated to seconds".
+		if (timestamp.equals(this.lastTimestamp)) {
+			return;
+		}
+
+		final var to = now.truncatedTo(DurationUnit.ofSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS));
+		final var from = to.minusSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
+
+		// RRD4j requires us to write one value per DEFAULT_HEARTBEAT_SECONDS
+		if (this.lastTimestamp.equals(timestamp)) {
+			return;
+		}
+
+		this.lastTimestamp = timestamp;
+
+		// Ignores WRITE_ONLY and Low-Priority Channels
+		final var snapshot = this.channelSnapshotService.getSnapshot();
+		final var recordedChannels = new AtomicInteger();
+		snapshot.forEach(this.config.persistencePriority, i -> {
+			recordedChannels.incrementAndGet();
+			final var channel = snapshot.getChannel(i);
+			final var channelAggregateFunction = channel.channelDoc().getUnit().getChannelAggregateFunction();
+
+			final long writeSeconds;
+			if (channel.channelDoc().getUnit().isCumulated()) {
+				// Write every 1h
+				writeSeconds = timestamp.truncatedTo(ChronoUnit.HOURS).getEpochSecond();
+			} else {
+				writeSeconds = timestamp.getEpochSecond();
+			}
+
+			// The range includes the value that was active at `from`, to make sure we get
+			// a Value even for Channels where the value has not changed within the last 5
+			// minutes.
+			var value = channelAggregateFunction.apply(//
+					getDoubleStream(channel, from, to) // convert to double
+			);
+
+			if (channel.channelDoc() instanceof EnumDoc) {
+				final var enumChannelValue = aggregateEnumChannel(channel, from, to);
+				if (!enumChannelValue.isJsonNull()) {
+					value = OptionalDouble.of(enumChannelValue.getAsDouble());
+				}
+			}
+
+			if (!value.isPresent()) {
+				// only available channels
+				return;
+			}
+
+			final var dataRecord = new DataRecord(//
+					writeSeconds, //
+					snapshot.getAddress(i), //
+					channel.channelDoc().getUnit(), //
+					value.getAsDouble() //
+			);
+			this.config.onUnableToInsert.accept(!this.records.offer(dataRecord));
+		});
+
+		// Keep the databases of all recorded Channels open
+		this.rrd4jSupplier.setRecordedChannels(this.config.rrdDbId, recordedChannels.get());
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		final var record = this.records.take();
+
+		if (this.config.readOnly() && this.config.debugMode()) {
+			this.log.info("Read-Only-Mode is activated. Not writing record: " + record.toString());
+			return;
+		}
+
+		try (var handle = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
+				record.timestamp - 1)) {
+			final var database = handle.getRrdDb();
+			if (database.getLastUpdateTime() == record.timestamp()) {
+				// overwrite last value if same time stamp
+				final var robin = database.getArchive(0).getRobin(0);
+				robin.setValue(robin.getSize() - 1, record.value());
+			} else if (database.getLastUpdateTime() < record.timestamp()) {
+				// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
+				// YYY. Last update time was ZZZ, at least one second step is required".
+
+				// Add Sample to RRD4J
+				database.createSample(record.timestamp()) //
+						.setValue(0, record.value) //
+						.update();
+			}
+
+			this.config.onQueueFull.accept(false);
+		} catch (Throwable e) {
+			this.config.onQueueFull.accept(true);
+			if (this.config.debugMode()) {
+				this.log.error("Unable to insert Sample [%s] %s: %s".formatted(record.address,
+						e.getClass().getSimpleName(), e.getMessage()), e);
+			}
+		}
+	}
+
+	private static DoubleStream getDoubleStream(Channel<?> channel, LocalDateTime from, LocalDateTime to) {
+		final var pastValues = channel.pastValues();
+		if (channel.getType() == OpenemsType.STRING) {
+			// Strings are not supported by RRD4J
+			return pastValues.stream(from, to).mapToDouble(value -> 0d);
+		}
+		return pastValues.doubleStream(from, to);
+	}
+
+	protected static JsonElement aggregateEnumChannel(//
+			Channel<?> channel, //
+			LocalDateTime startTime, //
+			LocalDateTime endTime //
+	) {
+		final var doc = channel.channelDoc();
+		if (!(doc instanceof EnumDoc)) {
+			return JsonNull.INSTANCE;
+		}
+		final var numberOfValuesPerOption = channel.pastValues() //
+				.stream(startTime, endTime) //
+				.map(value -> (Integer) value) //
+				.collect(groupingBy(Function.identity(), counting()));
+
+		final var values = numberOfValuesPerOption.entrySet().stream() //
+				.sorted((o1, o2) -> Long.compare(o2.getValue(), o1.getValue())) //
+				.toList();
+
+		final var maxValues = new ArrayList<Integer>();
+		var maxCount = -1L;
+		for (var entry : values) {
+			if (entry.getValue() < maxCount) {
+				break;
+			}
+			if (entry.getValue() == maxCount) {
+				maxValues.add(entry.getKey());
+				continue;
+			}
+			maxCount = entry.getValue();
+			maxValues.clear();
+			maxValues.add(entry.getKey());
+		}
+
+		// pick first value with most appearances
+		return channel.pastValues().descendingStream() //
+				.map(value -> (Integer) value) //
+				.filter(maxValues::contains) //
+				.findFirst() //
+				.<JsonElement>map(JsonPrimitive::new) //
+				.orElse(JsonNull.INSTANCE);
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.openems.edge.timedata.rrd4j;
+
+/**
+ * The storage backend for the RRD4j database files. All backends use the same
+ * file format, so the backend of existing databases can be changed at any time.
+ */
+public enum Rrd4jBackend {
+	/**
+	 * Reads and writes via {@link java.io.RandomAccessFile}; every sample update
+	 * is written to the file immediately.
+	 */
+	RANDOM_ACCESS_FILE,
+	/**
+	 * Memory-mapped files; sample updates are written to memory and synced to the
+	 * file periodically and on shutdown. This reduces syscalls and flash wear, but
+	 * data of up to one sync period may be lost on power loss.
+	 */
+	MEMORY_MAPPED;
+}
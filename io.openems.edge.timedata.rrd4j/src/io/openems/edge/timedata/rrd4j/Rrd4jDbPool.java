@@ -0,0 +1,261 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.function.ThrowingSupplier;
+
+/**
+ * A bounded pool of open {@link RrdDb} handles, shared by the write path
+ * ({@link RecordWorker}) and the read path ({@link Rrd4jReadHandler}).
+ *
+ * <p>
+ * Handles are reference counted: {@link #acquire(String, ThrowingSupplier)}
+ * returns a {@link Handle} that has to be closed after use, but the underlying
+ * {@link RrdDb} stays open until it gets evicted - either because the pool
+ * exceeds its capacity (least-recently-used first) or because it was not used
+ * for longer than the idle timeout. Handles that are in use are never evicted.
+ *
+ * <p>
+ * The pool does not synchronize the opening of an {@link RrdDb} per key; this
+ * is the responsibility of the caller (see {@link Rrd4jSupplier}).
+ * {@link org.rrd4j.core.RrdDbPool} is not used, because it closes an
+ * {@link RrdDb} as soon as it is not referenced anymore.
+ *
+ * <p>
+ * The capacity has to cover the working set: writes visit every recorded
+ * Channel in a fixed order, so a pool smaller than the number of recorded
+ * Channels would evict every handle before it is used again (see
+ * {@link #setCapacity(int)}).
+ */
+public class Rrd4jDbPool {
+
+	/** The capacity without recorded Channels, i.e. for reads only. */
+	public static final int DEFAULT_CAPACITY = 256;
+	public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(15);
+
+	/**
+	 * Idle handles are searched for at most once per this interval.
+	 */
+	private static final long SWEEP_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+	public static record Statistics(long hits, long misses, long evictions, int openHandles) {
+	}
+
+	private static class Entry {
+
+		private final String key;
+		private final RrdDb rrdDb;
+
+		private int refCount = 0;
+		private long lastUsed;
+		/** Removed from the pool; closed on the last release. */
+		private boolean closing = false;
+
+		private Entry(String key, RrdDb rrdDb, long now) {
+			this.key = key;
+			this.rrdDb = rrdDb;
+			this.lastUsed = now;
+		}
+	}
+
+	/**
+	 * A reference to a pooled {@link RrdDb}. Closing the {@link Handle} releases
+	 * the reference; it does not close the {@link RrdDb}.
+	 */
+	public final class Handle implements AutoCloseable {
+
+		private final Entry entry;
+		private boolean released = false;
+
+		private Handle(Entry entry) {
+			this.entry = entry;
+		}
+
+		/**
+		 * Gets the {@link RrdDb}. Do not close it directly.
+		 *
+		 * @return the {@link RrdDb}
+		 */
+		public RrdDb getRrdDb() {
+			return this.entry.rrdDb;
+		}
+
+		@Override
+		public void close() {
+			synchronized (Rrd4jDbPool.this) {
+				if (this.released) {
+					return;
+				}
+				this.released = true;
+				Rrd4jDbPool.this.release(this.entry);
+			}
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(Rrd4jDbPool.class);
+
+	private int capacity;
+	private final long idleTimeoutMillis;
+	private final Clock clock;
+
+	/** Access-ordered: the first entry is the least recently used one. */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+	private long lastSweep;
+
+	public Rrd4jDbPool(int capacity, Duration idleTimeout, Clock clock) {
+		this.capacity = capacity;
+		this.idleTimeoutMillis = idleTimeout.toMillis();
+		this.clock = clock;
+		this.lastSweep = clock.millis();
+	}
+
+	public Rrd4jDbPool() {
+		this(DEFAULT_CAPACITY, DEFAULT_IDLE_TIMEOUT, Clock.systemUTC());
+	}
+
+	/**
+	 * Sets the capacity. Unused handles that exceed the new capacity are closed
+	 * immediately.
+	 *
+	 * @param capacity the maximum number of open handles that are not in use
+	 */
+	public synchronized void setCapacity(int capacity) {
+		if (capacity == this.capacity) {
+			return;
+		}
+		this.capacity = capacity;
+		this.evict();
+	}
+
+	/**
+	 * Acquires a {@link Handle} for the given key. If no {@link RrdDb} is pooled
+	 * for the key, it is opened using the given supplier.
+	 *
+	 * @param <E>    the exception type of the supplier
+	 * @param key    the unique key of the {@link RrdDb}
+	 * @param opener opens the {@link RrdDb}; may return null
+	 * @return the {@link Handle}; null if the supplier returned null
+	 * @throws E on error
+	 */
+	public <E extends Exception> Handle acquire(String key, ThrowingSupplier<RrdDb, E> opener) throws E {
+		synchronized (this) {
+			var entry = this.entries.get(key);
+			if (entry != null) {
+				this.hits++;
+				entry.refCount++;
+				return new Handle(entry);
+			}
+			this.misses++;
+		}
+
+		var rrdDb = opener.get();
+		if (rrdDb == null) {
+			return null;
+		}
+
+		synchronized (this) {
+			var entry = new Entry(key, rrdDb, this.clock.millis());
+			entry.refCount++;
+			this.entries.put(key, entry);
+			this.evict();
+			return new Handle(entry);
+		}
+	}
+
+	private void release(Entry entry) {
+		entry.refCount--;
+		if (entry.closing) {
+			if (entry.refCount == 0) {
+				this.close(entry);
+			}
+			return;
+		}
+		final var now = this.clock.millis();
+		entry.lastUsed = now;
+		if (now - this.lastSweep >= SWEEP_INTERVAL_MILLIS) {
+			this.evict();
+		}
+	}
+
+	/**
+	 * Closes unused {@link RrdDb}s that exceed the capacity or the idle timeout.
+	 */
+	private void evict() {
+		final var now = this.clock.millis();
+		this.lastSweep = now;
+		final var iterator = this.entries.values().iterator();
+		while (iterator.hasNext()) {
+			var entry = iterator.next();
+			if (entry.refCount > 0) {
+				continue;
+			}
+			if (this.entries.size() > this.capacity || now - entry.lastUsed >= this.idleTimeoutMillis) {
+				iterator.remove();
+				this.evictions++;
+				this.close(entry);
+			}
+		}
+	}
+
+	/**
+	 * Removes all {@link RrdDb}s from the pool. Unused ones are closed
+	 * immediately; those that are still in use are closed on their last
+	 * {@link Handle#close()}.
+	 */
+	public synchronized void closeAll() {
+		this.closeAll("");
+	}
+
+	/**
+	 * Removes all {@link RrdDb}s whose key starts with the given prefix from the
+	 * pool. Unused ones are closed immediately; those that are still in use are
+	 * closed on their last {@link Handle#close()}.
+	 *
+	 * @param keyPrefix the key prefix
+	 */
+	public synchronized void closeAll(String keyPrefix) {
+		final var iterator = this.entries.values().iterator();
+		while (iterator.hasNext()) {
+			var entry = iterator.next();
+			if (entry.key.startsWith(keyPrefix)) {
+				iterator.remove();
+				if (entry.refCount > 0) {
+					entry.closing = true;
+				} else {
+					this.close(entry);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the {@link Statistics} of this pool.
+	 *
+	 * @return the {@link Statistics}
+	 */
+	public synchronized Statistics getStatistics() {
+		return new Statistics(this.hits, this.misses, this.evictions, this.entries.size());
+	}
+
+	private void close(Entry entry) {
+		try {
+			if (!entry.rrdDb.isClosed()) {
+				entry.rrdDb.close();
+			}
+		} catch (IOException e) {
+			this.log.warn("Unable to close RrdDb [" + entry.key + "]: " + e.getMessage());
+		}
+	}
+
+}
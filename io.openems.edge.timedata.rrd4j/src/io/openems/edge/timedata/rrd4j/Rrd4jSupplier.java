@@ -0,0 +1,496 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ServiceScope;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.DsDef;
+import org.rrd4j.core.FetchData;
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.OpenemsConstants;
+import io.openems.common.channel.Unit;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.timedata.CommonTimedataService;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.type.TypeUtils;
+import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
+import io.openems.edge.timedata.rrd4j.version.VersionHandler;
+
+@Component(//
+		scope = ServiceScope.SINGLETON, //
+		service = Rrd4jSupplier.class //
+)
+public class Rrd4jSupplier {
+
+	private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+	@Reference
+	private VersionHandler versionHandler;
+
+	private final KeyLock keyLock = new KeyLock();
+	private final Map<String, RrdBackendFactory> factories = new ConcurrentHashMap<>();
+	private final Map<String, Integer> recordedChannels = new ConcurrentHashMap<>();
+	private final RrdBackendFactory defaultFactory;
+	private final Rrd4jDbPool pool;
+
+	protected Rrd4jSupplier(//
+			final RrdBackendFactory defaultFactory, //
+			final Rrd4jDbPool pool //
+	) {
+		this.defaultFactory = defaultFactory;
+		this.pool = pool;
+	}
+
+	@Activate
+	public Rrd4jSupplier() {
+		this(new RrdRandomAccessFileBackendFactory(), new Rrd4jDbPool());
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		this.pool.closeAll();
+		this.factories.forEach(this::closeFactory);
+		this.factories.clear();
+	}
+
+	/**
+	 * Sets the storage backend for the RRD4j databases with the given id.
+	 * 
+	 * <p>
+	 * Open handles of these databases are closed - and thereby flushed to disk -
+	 * so that they get reopened with the new backend. All backends use the same
+	 * file format, i.e. existing databases are used without migration.
+	 * 
+	 * @param rrdDbId    the id of the rrd4j databases
+	 * @param backend    the {@link Rrd4jBackend}
+	 * @param syncPeriod the sync period in [s] for
+	 *                   {@link Rrd4jBackend#MEMORY_MAPPED}
+	 */
+	public void setBackend(String rrdDbId, Rrd4jBackend backend, int syncPeriod) {
+		final var oldFactory = this.factories.put(rrdDbId, createFactory(backend, syncPeriod));
+		this.pool.closeAll(toKey(rrdDbId, ""));
+		if (oldFactory != null) {
+			this.closeFactory(rrdDbId, oldFactory);
+		}
+	}
+
+	/**
+	 * Removes the storage backend for the RRD4j databases with the given id and
+	 * flushes and closes all open handles of these databases.
+	 * 
+	 * @param rrdDbId the id of the rrd4j databases
+	 */
+	public void removeBackend(String rrdDbId) {
+		final var oldFactory = this.factories.remove(rrdDbId);
+		if (this.recordedChannels.remove(rrdDbId) != null) {
+			this.updatePoolCapacity();
+		}
+		this.pool.closeAll(toKey(rrdDbId, ""));
+		if (oldFactory != null) {
+			this.closeFactory(rrdDbId, oldFactory);
+		}
+	}
+
+	/**
+	 * Sets the number of Channels that are recorded to the RRD4j databases with
+	 * the given id.
+	 * 
+	 * <p>
+	 * The capacity of the shared {@link Rrd4jDbPool} is sized to hold the
+	 * databases of all recorded Channels plus
+	 * {@link Rrd4jDbPool#DEFAULT_CAPACITY} for reads.
+	 * 
+	 * @param rrdDbId          the id of the rrd4j databases
+	 * @param recordedChannels the number of recorded Channels
+	 */
+	public void setRecordedChannels(String rrdDbId, int recordedChannels) {
+		final var previous = this.recordedChannels.put(rrdDbId, recordedChannels);
+		if (previous == null || previous != recordedChannels) {
+			this.updatePoolCapacity();
+		}
+	}
+
+	private synchronized void updatePoolCapacity() {
+		final var recordedChannels = this.recordedChannels.values().stream() //
+				.mapToInt(Integer::intValue) //
+				.sum();
+		this.pool.setCapacity(Rrd4jDbPool.DEFAULT_CAPACITY + recordedChannels);
+	}
+
+	private static RrdBackendFactory createFactory(Rrd4jBackend backend, int syncPeriod) {
+		return switch (backend) {
+		case RANDOM_ACCESS_FILE -> new RrdRandomAccessFileBackendFactory();
+		case MEMORY_MAPPED -> new RrdNioBackendFactory(syncPeriod, 1 /* sync threads */);
+		};
+	}
+
+	private void closeFactory(String rrdDbId, RrdBackendFactory factory) {
+		try {
+			factory.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close RRD4j backend of [" + rrdDbId + "]: " + e.getMessage());
+		}
+	}
+
+	private RrdBackendFactory getFactory(String rrdDbId) {
+		return this.factories.getOrDefault(rrdDbId, this.defaultFactory);
+	}
+
+	private static String toKey(String rrdDbId, Object channelAddress) {
+		return rrdDbId + "/" + channelAddress;
+	}
+
+	/**
+	 * Gets the {@link Rrd4jDbPool.Statistics} of the shared {@link Rrd4jDbPool}.
+	 * 
+	 * @return the {@link Rrd4jDbPool.Statistics}
+	 */
+	public Rrd4jDbPool.Statistics getPoolStatistics() {
+		return this.pool.getStatistics();
+	}
+
+	/**
+	 * Gets a pooled handle to the RRD4j database for the given Channel-Address.
+	 * The handle has to be closed after use.
+	 * 
+	 * <p>
+	 * The predefined RRD4J archives match the requirements of
+	 * {@link CommonTimedataService#calculateResolution(ZonedDateTime, ZonedDateTime)}
+	 * 
+	 * @param channelAddress the Channel-Address
+	 * @param channelUnit    the {@link Unit}
+	 * @param startTime      the starttime for newly created RrdDbs
+	 * @param rrdDbId        the id of the rrd4j database
+	 * @return the {@link Rrd4jDbPool.Handle}
+	 * @throws IOException on error
+	 */
+	public Rrd4jDbPool.Handle getRrdDb(//
+			final String rrdDbId, //
+			final ChannelAddress channelAddress, //
+			final Unit channelUnit, //
+			final long startTime //
+	) throws IOException {
+		final var key = toKey(rrdDbId, channelAddress);
+		return this.keyLock.lock(key, () -> this.pool.acquire(key, () -> {
+			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
+			if (rrdDb != null) {
+				// Database exists
+				return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			}
+			// Create new database
+			return this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
+		}));
+	}
+
+	/**
+	 * Gets a pooled handle to an existing and updated {@link RrdDb}. If the found
+	 * {@link RrdDb} is not on the current version it gets updated. The handle has
+	 * to be closed after use.
+	 * 
+	 * @param rrdDbId        the id of the RrdDb
+	 * @param channelAddress the address of the {@link RrdDb}
+	 * @param channelUnit    the unit of the channel
+	 * @return the {@link Rrd4jDbPool.Handle} or null if not existing
+	 * @throws IOException on IO-Error
+	 */
+	public Rrd4jDbPool.Handle getExistingUpdatedRrdDb(//
+			final String rrdDbId, //
+			final ChannelAddress channelAddress, //
+			final Unit channelUnit //
+	) throws IOException {
+		final var key = toKey(rrdDbId, channelAddress);
+		return this.keyLock.lock(key, () -> this.pool.acquire(key, () -> {
+			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
+			if (rrdDb == null) {
+				return null;
+			}
+			return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+		}));
+	}
+
+	/**
+	 * Defines the datasource properties for a given Channel, i.e. min/max allowed
+	 * value and GAUGE vs. COUNTER type.
+	 * 
+	 * @param channelUnit the {@link Unit}
+	 * @return the {@link DsDef}
+	 */
+	public static ChannelDef getDsDefForChannel(final Unit channelUnit) {
+		return switch (channelUnit) {
+		case AMPERE, AMPERE_HOURS, DEGREE_CELSIUS, DEZIDEGREE_CELSIUS, EUROS_PER_MEGAWATT_HOUR, HERTZ, HOUR,
+				KILOAMPERE_HOURS, KILOOHM, KILOVOLT_AMPERE, KILOVOLT_AMPERE_REACTIVE, KILOWATT, MICROOHM, MICROAMPERE,
+				MICROVOLT, MILLIAMPERE_HOURS, MILLIAMPERE, MILLIHERTZ, MILLIOHM, MILLISECONDS, MILLIVOLT, MILLIWATT,
+				MINUTE, NONE, WATT, VOLT, VOLT_AMPERE, VOLT_AMPERE_REACTIVE, WATT_HOURS_BY_WATT_PEAK, OHM, SECONDS,
+				THOUSANDTH, WATT_HOURS, KILOWATT_HOURS, VOLT_AMPERE_HOURS, VOLT_AMPERE_REACTIVE_HOURS,
+				KILOVOLT_AMPERE_REACTIVE_HOURS, BAR ->
+			new ChannelDef(DsType.GAUGE, Double.NaN, Double.NaN, ConsolFun.AVERAGE);
+		case PERCENT -> new ChannelDef(DsType.GAUGE, 0, 100, ConsolFun.AVERAGE);
+		case ON_OFF -> new ChannelDef(DsType.GAUGE, 0, 1, ConsolFun.AVERAGE);
+		case CUMULATED_SECONDS, CUMULATED_WATT_HOURS ->
+			new ChannelDef(DsType.GAUGE, Double.NaN, Double.NaN, ConsolFun.MAX);
+		};
+	}
+
+	/**
+	 * Gets an existing RrdDb.
+	 * 
+	 * @param channelAddress the ChannelAddress
+	 * @param rrdDbId        the id of the rrdDb
+	 * @return the RrdDb or null
+	 */
+	private RrdDb getExistingRrdDb(//
+			final ChannelAddress channelAddress, //
+			final String rrdDbId //
+	) {
+		var file = getDbFile(channelAddress, rrdDbId);
+		if (!file.exists()) {
+			return null;
+		}
+		try {
+			return RrdDb.getBuilder() //
+					.setBackendFactory(this.getFactory(rrdDbId)) //
+					// RrdDbPool is not used because of caching problems when overwriting the old
+					// database file; handles are pooled by Rrd4jDbPool after migration instead
+					.setPath(file.toURI()) //
+					.build();
+		} catch (IOException e) {
+			this.log.error("Unable to open existing RrdDb", e);
+			return null;
+		}
+	}
+
+	private static File getDbFile(//
+			final ChannelAddress channelAddress, //
+			final String rrdDbId //
+	) {
+		return getDbFile(channelAddress, rrdDbId, false);
+	}
+
+	private static File getDbFile(//
+			final ChannelAddress channelAddress, //
+			final String rrdDbId, //
+			final boolean isTemp //
+	) {
+		final var file = Paths.get(//
+				OpenemsConstants.getOpenemsDataDir(), //
+				Rrd4jConstants.RRD4J_PATH, //
+				rrdDbId, //
+				channelAddress.getComponentId(), //
+				channelAddress.getChannelId() + (isTemp ? ".tmp" : "")) //
+				.toFile();
+		if (!file.getParentFile().exists()) {
+			file.getParentFile().mkdirs();
+		}
+		return file;
+	}
+
+	/**
+	 * Creates new DB.
+	 * 
+	 * @param rrdDbId        the id of the RrdDb
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param channelUnit    the {@link Unit} of the Channel
+	 * @param startTime      the timestamp of the newly added data
+	 * @return the {@link RrdDb}
+	 * @throws IOException on error
+	 */
+	private RrdDb createNewDb(//
+			final String rrdDbId, //
+			final ChannelAddress channelAddress, //
+			final Unit channelUnit, //
+			final long startTime //
+	) throws IOException {
+		return this.versionHandler.getLatestVersion() //
+				.createNewDb(new CreateDatabaseConfig(//
+						rrdDbId, //
+						channelUnit, //
+						getDbFile(channelAddress, rrdDbId).getCanonicalPath(), //
+						startTime, //
+						this.getFactory(rrdDbId), //
+						null //
+				// ^^ was "RrdDbPool.getInstance()" but is not used anymore because of caching
+				// problems when overwriting the old database file
+				));
+	}
+
+	/**
+	 * Migrates between different versions of the OpenEMS-RRD4j Definition.
+	 * 
+	 * @param rrdDbId        the id of the RrdDb
+	 * @param oldDb          the old {@link RrdDb} database
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param channelUnit    the {@link Unit} of the Channel
+	 * @return new {@link RrdDb}
+	 * @throws IOException on error
+	 */
+	private RrdDb updateRrdDbToLatestDefinition(//
+			final RrdDb oldDb, //
+			final String rrdDbId, //
+			final ChannelAddress channelAddress, //
+			final Unit channelUnit //
+	) throws IOException {
+		if (this.versionHandler.isUpToDate(oldDb)) {
+			// No Update required
+			return oldDb;
+		}
+		var currentVersion = VersionHandler.getVersion(oldDb);
+
+		this.log.info("Begin migrating channel '" + channelAddress + "' from version " + currentVersion + " to "
+				+ this.versionHandler.getLatestVersionNumber());
+		var lastCreatedDb = oldDb;
+		try {
+
+			for (var version : this.versionHandler.getVersions()) {
+				if (currentVersion >= version.getVersion()) {
+					continue;
+				}
+				this.log.info("Start migration for " + channelAddress + " from version " + currentVersion + " to "
+						+ version.getVersion());
+				currentVersion = version.getVersion();
+
+				// delete unfinished migration file if existing
+				final var tmpFile = getDbFile(channelAddress, rrdDbId, true);
+				if (tmpFile.exists() && tmpFile.delete()) {
+					this.log.warn("Deleted unfinished migration file for channel " + channelAddress + "!");
+				}
+
+				RrdDb newDb = null;
+				try {
+					newDb = version.migrate(lastCreatedDb, new CreateDatabaseConfig(rrdDbId, //
+							channelUnit, //
+							tmpFile.getAbsolutePath(), //
+							oldDb.getLastUpdateTime(), //
+							this.getFactory(rrdDbId), //
+							null //
+					// ^^ was "RrdDbPool.getInstance()" but is not used anymore because of caching
+					// problems when overwriting the old database file
+					));
+
+					if (newDb == lastCreatedDb) {
+						continue;
+					}
+
+					lastCreatedDb.close();
+					newDb.close();
+
+					var oldFile = getDbFile(channelAddress, rrdDbId);
+					Files.move(//
+							Path.of(tmpFile.toURI()), //
+							Path.of(oldFile.toURI()), //
+							StandardCopyOption.REPLACE_EXISTING, //
+							StandardCopyOption.ATOMIC_MOVE //
+					);
+
+					lastCreatedDb = this.getExistingRrdDb(channelAddress, rrdDbId);
+				} catch (RuntimeException | IOException e) {
+					if (newDb != null && !newDb.isClosed()) {
+						newDb.close();
+					}
+					throw e;
+				}
+			}
+		} catch (RuntimeException | IOException e) {
+			if (lastCreatedDb != null && !lastCreatedDb.isClosed()) {
+				lastCreatedDb.close();
+			}
+			throw e;
+		}
+
+		return lastCreatedDb;
+	}
+
+	/**
+	 * Post-Process the received data.
+	 * 
+	 * <p>
+	 * This mainly makes sure the data has the correct resolution.
+	 * 
+	 * @param data       the RRD4j {@link FetchData}
+	 * @param resolution the resolution in seconds
+	 * @return the result array
+	 * @throws IOException              on error
+	 * @throws IllegalArgumentException on error
+	 */
+	public static double[] postProcessData(FetchData data, long resolution)
+			throws IOException, IllegalArgumentException {
+		var step = data.getStep();
+		var input = data.getValues()[0];
+
+		// Initialize result array
+		final var result = new double[(int) ((data.getLastTimestamp() - data.getFirstTimestamp()) / resolution)];
+		Arrays.fill(result, Double.NaN);
+
+		if (step < resolution) {
+			// Merge multiple entries to resolution
+			if (resolution % step != 0) {
+				throw new IllegalArgumentException(
+						"Requested resolution [" + resolution + "] is not dividable by RRD4j Step [" + step + "]");
+			}
+			var merge = (int) (resolution / step);
+			var buffer = new double[merge];
+			for (var i = 1; i < input.length; i += merge) {
+				for (var j = 0; j < merge; j++) {
+					if (i + j < input.length) {
+						buffer[j] = input[i + j];
+					} else {
+						buffer[j] = Double.NaN;
+					}
+				}
+
+				// put in result; avoid index rounding error
+				var resultIndex = (i - 1) / merge;
+				if (resultIndex >= result.length) {
+					break;
+				}
+				result[resultIndex] = TypeUtils.average(buffer);
+			}
+
+		} else if (step > resolution) {
+			// Split each entry to multiple values
+			var resultTimestamp = 0;
+			for (int i = 0, inputIndex = 0; i < result.length; i++) {
+				inputIndex = Math.min(input.length - 1, (int) (resultTimestamp / step));
+				resultTimestamp += resolution;
+				result[i] = input[inputIndex];
+			}
+
+		} else {
+			// Data already matches resolution
+			System.arraycopy(input, 0, result, 0, Math.min(result.length, input.length));
+		}
+		return result;
+	}
+
+	private class KeyLock {
+
+		private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+		public <T, E extends Exception> T lock(String key, ThrowingSupplier<T, E> supplier) throws E {
+			synchronized (this.locks.computeIfAbsent(key, t -> new Object())) {
+				return supplier.get();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,179 @@
+package io.openems.edge.timedata.rrd4j;
+
+import io.openems.common.channel.Level;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.StateChannel;
+import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.timedata.api.Timedata;
+
+public interface TimedataRrd4j extends Timedata, OpenemsComponent {
+
+	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		QUEUE_IS_FULL(Doc.of(Level.WARNING)), //
+		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING)), //
+		RRD_DB_POOL_HITS(Doc.of(OpenemsType.LONG) //
+				.text("Number of RrdDb requests that were served by an open pooled handle")), //
+		RRD_DB_POOL_MISSES(Doc.of(OpenemsType.LONG) //
+				.text("Number of RrdDb requests that required opening the database file")), //
+		RRD_DB_POOL_OPEN_HANDLES(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of currently open pooled RrdDb handles"));
+
+		private final Doc doc;
+
+		private ChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#QUEUE_IS_FULL}.
+	 *
+	 * @return the Channel
+	 */
+	public default StateChannel getQueueIsFullChannel() {
+		return this.channel(ChannelId.QUEUE_IS_FULL);
+	}
+
+	/**
+	 * Gets the {@link StateChannel} for {@link ChannelId#QUEUE_IS_FULL}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Boolean> getQueueIsFull() {
+		return this.getQueueIsFullChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#QUEUE_IS_FULL}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setQueueIsFull(Boolean value) {
+		this.getQueueIsFullChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#UNABLE_TO_INSERT_SAMPLE}.
+	 *
+	 * @return the Channel
+	 */
+	public default StateChannel getUnableToInsertSampleChannel() {
+		return this.channel(ChannelId.UNABLE_TO_INSERT_SAMPLE);
+	}
+
+	/**
+	 * Gets the {@link StateChannel} for {@link ChannelId#UNABLE_TO_INSERT_SAMPLE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Boolean> getUnableToInsertSample() {
+		return this.getUnableToInsertSampleChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#UNABLE_TO_INSERT_SAMPLE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setUnableToInsertSample(Boolean value) {
+		this.getUnableToInsertSampleChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#RRD_DB_POOL_HITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRrdDbPoolHitsChannel() {
+		return this.channel(ChannelId.RRD_DB_POOL_HITS);
+	}
+
+	/**
+	 * Gets the Number of RrdDb requests that were served by an open pooled handle.
+	 * See {@link ChannelId#RRD_DB_POOL_HITS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRrdDbPoolHits() {
+		return this.getRrdDbPoolHitsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#RRD_DB_POOL_HITS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRrdDbPoolHits(long value) {
+		this.getRrdDbPoolHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#RRD_DB_POOL_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRrdDbPoolMissesChannel() {
+		return this.channel(ChannelId.RRD_DB_POOL_MISSES);
+	}
+
+	/**
+	 * Gets the Number of RrdDb requests that required opening the database file.
+	 * See {@link ChannelId#RRD_DB_POOL_MISSES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRrdDbPoolMisses() {
+		return this.getRrdDbPoolMissesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#RRD_DB_POOL_MISSES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRrdDbPoolMisses(long value) {
+		this.getRrdDbPoolMissesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#RRD_DB_POOL_OPEN_HANDLES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getRrdDbPoolOpenHandlesChannel() {
+		return this.channel(ChannelId.RRD_DB_POOL_OPEN_HANDLES);
+	}
+
+	/**
+	 * Gets the Number of currently open pooled RrdDb handles. See
+	 * {@link ChannelId#RRD_DB_POOL_OPEN_HANDLES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getRrdDbPoolOpenHandles() {
+		return this.getRrdDbPoolOpenHandlesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#RRD_DB_POOL_OPEN_HANDLES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRrdDbPoolOpenHandles(int value) {
+		this.getRrdDbPoolOpenHandlesChannel().setNextValue(value);
+	}
+}
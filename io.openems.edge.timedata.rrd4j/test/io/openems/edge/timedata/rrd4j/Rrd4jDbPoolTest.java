@@ -0,0 +1,141 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.DsDef;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.test.TimeLeapClock;
+
+public class Rrd4jDbPoolTest {
+
+	private static final Instant START = Instant.ofEpochSecond(1577836800L);
+
+	private static RrdDb createRrdDb(String path) throws IOException {
+		final var rrdDef = new RrdDef(path, START.getEpochSecond() - 1, Rrd4jConstants.DEFAULT_STEP_SECONDS);
+		rrdDef.addDatasource(new DsDef(Rrd4jConstants.DEFAULT_DATASOURCE_NAME, DsType.GAUGE,
+				Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS, Double.NaN, Double.NaN));
+		rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 12);
+		return RrdDb.getBuilder() //
+				.setBackendFactory(new RrdMemoryBackendFactory()) //
+				.setRrdDef(rrdDef) //
+				.build();
+	}
+
+	@Test
+	public void test() throws IOException {
+		final var clock = new TimeLeapClock(START);
+		final var sut = new Rrd4jDbPool(2, Duration.ofMinutes(10), clock);
+
+		final RrdDb a;
+		try (var handle = sut.acquire("a", () -> createRrdDb("a"))) {
+			a = handle.getRrdDb();
+		}
+		try (var handle = sut.acquire("a", () -> createRrdDb("a"))) {
+			assertSame(a, handle.getRrdDb());
+		}
+		assertFalse(a.isClosed());
+		assertNull(sut.acquire("missing", () -> null));
+
+		try (var b = sut.acquire("b", () -> createRrdDb("b"))) {
+			// Exceeds capacity -> least recently used idle handle is evicted
+			var c = sut.acquire("c", () -> createRrdDb("c"));
+			assertTrue(a.isClosed());
+			assertEquals(new Rrd4jDbPool.Statistics(1, 4, 1, 2), sut.getStatistics());
+
+			// Handles in use are never evicted
+			clock.leap(15, ChronoUnit.MINUTES);
+			c.close();
+			assertFalse(b.getRrdDb().isClosed());
+			assertFalse(c.getRrdDb().isClosed());
+		}
+
+		// Idle handles are evicted after the idle timeout
+		clock.leap(11, ChronoUnit.MINUTES);
+		final RrdDb c;
+		try (var handle = sut.acquire("c", () -> createRrdDb("c"))) {
+			c = handle.getRrdDb();
+			assertEquals(new Rrd4jDbPool.Statistics(2, 4, 1, 2), sut.getStatistics());
+		}
+		assertEquals(new Rrd4jDbPool.Statistics(2, 4, 2, 1), sut.getStatistics());
+
+		sut.closeAll();
+		assertTrue(c.isClosed());
+	}
+
+	@Test
+	public void testSetCapacity() throws IOException {
+		final var clock = new TimeLeapClock(START);
+		final var sut = new Rrd4jDbPool(1, Duration.ofMinutes(10), clock);
+
+		// Round-robin over more databases than the capacity never hits
+		for (var round = 0; round < 2; round++) {
+			for (var key : new String[] { "a", "b", "c" }) {
+				sut.acquire(key, () -> createRrdDb(key)).close();
+			}
+		}
+		assertEquals(new Rrd4jDbPool.Statistics(0, 6, 5, 1), sut.getStatistics());
+
+		// Capacity covers the working set
+		sut.setCapacity(3);
+		for (var round = 0; round < 2; round++) {
+			for (var key : new String[] { "a", "b", "c" }) {
+				sut.acquire(key, () -> createRrdDb(key)).close();
+			}
+		}
+		assertEquals(new Rrd4jDbPool.Statistics(4, 8, 5, 3), sut.getStatistics());
+
+		// Reducing the capacity closes unused handles immediately
+		sut.setCapacity(1);
+		assertEquals(new Rrd4jDbPool.Statistics(4, 8, 7, 1), sut.getStatistics());
+	}
+
+	@Test
+	public void testCloseAllWhileInUse() throws IOException {
+		final var clock = new TimeLeapClock(START);
+		final var sut = new Rrd4jDbPool(10, Duration.ofMinutes(10), clock);
+		final var idle = sut.acquire("x/idle", () -> createRrdDb("idle"));
+		idle.close();
+		final var used = sut.acquire("x/used", () -> createRrdDb("used"));
+		final var usedTwice = sut.acquire("x/used", () -> createRrdDb("used"));
+		final var other = sut.acquire("y/used", () -> createRrdDb("other"));
+
+		// Idle handles are closed immediately; handles in use on their last release
+		sut.closeAll("x/");
+		assertTrue(idle.getRrdDb().isClosed());
+		assertFalse(used.getRrdDb().isClosed());
+		assertEquals(1, sut.getStatistics().openHandles());
+
+		// Removed from the pool -> reopened
+		try (var handle = sut.acquire("x/used", () -> createRrdDb("used"))) {
+			assertNotSame(used.getRrdDb(), handle.getRrdDb());
+		}
+
+		used.close();
+		used.close(); // closing twice does not release twice
+		assertFalse(usedTwice.getRrdDb().isClosed());
+		usedTwice.close();
+		assertTrue(used.getRrdDb().isClosed());
+
+		sut.closeAll();
+		assertFalse(other.getRrdDb().isClosed());
+		other.close();
+		assertTrue(other.getRrdDb().isClosed());
+	}
+
+}
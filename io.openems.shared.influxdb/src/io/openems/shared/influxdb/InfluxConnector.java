@@ -62,6 +62,7 @@ public class InfluxConnector {
 
 	private final WriteParameters defaultWriteParameters;
 	private final Map<WriteParameters, MergePointsWorker> mergePointsWorkerByWriteParameters = new HashMap<>();
+	private final LineProtocolWorker lineProtocolWorker;
 	private final AtomicInteger rejectedExecutionCount = new AtomicInteger();
 
 	/**
@@ -102,6 +103,10 @@ public class InfluxConnector {
 				(r, executor) -> {
 					// Custom RejectedExecutionHandler; avoid throwing a RejectedExecutionException
 					this.rejectedExecutionCount.incrementAndGet();
+					if (r instanceof LineProtocolWorker.WriteTask task) {
+						// Release the pending lines of the dropped batch
+						task.onRejected();
+					}
 				});
 
 		BiFunction<String, WriteParameters, MergePointsWorker> mergePointsWorkerFactory;
@@ -120,6 +125,11 @@ public class InfluxConnector {
 		defaultMergePointsWorker.activate();
 		this.mergePointsWorkerByWriteParameters.put(this.defaultWriteParameters, defaultMergePointsWorker);
 
+		// initialize worker for line protocol written with millisecond precision
+		this.lineProtocolWorker = new LineProtocolWorker(this, "Default",
+				new WriteParameters(this.bucket, this.org, WritePrecision.MS, WriteConsistency.ALL), onWriteError);
+		this.lineProtocolWorker.activate();
+
 		final var defaultOptions = InfluxDBClientOptions.builder() //
 				.url(this.url.toString()) //
 				.org(this.org) //
@@ -162,6 +172,8 @@ public class InfluxConnector {
 				.append(", MergePointsWorker[") //
 				.append(this.mergePointsWorkerByWriteParameters.values().stream().map(MergePointsWorker::debugLog)
 						.collect(Collectors.joining(", ")))
+				.append("], LineProtocolWorker[") //
+				.append(this.lineProtocolWorker.debugLog()) //
 				.append("], Limit:") //
 				.append(this.queryProxy.queryLimit) //
 				.append(", RejectedExecutions:") //
@@ -218,6 +230,7 @@ public class InfluxConnector {
 		}
 		this.mergePointsWorkerByWriteParameters.values() //
 				.forEach(MergePointsWorker::deactivate);
+		this.lineProtocolWorker.deactivate();
 	}
 
 	/**
@@ -441,6 +454,25 @@ public class InfluxConnector {
 		mergePointsWorker.offer(point);
 	}
 
+	/**
+	 * Actually write the lines of a {@link LineProtocolEncoder} to InfluxDB.
+	 *
+	 * <p>
+	 * Timestamps must be in milliseconds. The lines are copied; the encoder can
+	 * be reset afterwards.
+	 *
+	 * @param encoder the {@link LineProtocolEncoder}
+	 */
+	public void write(LineProtocolEncoder encoder) {
+		if (encoder.getLines() == 0) {
+			return;
+		}
+		if (this.isReadOnly) {
+			return;
+		}
+		this.lineProtocolWorker.append(encoder.getBuffer(), encoder.getLines());
+	}
+
 	/**
 	 * Gets the edges which already have the available since field set. Mapped from
 	 * edgeId to timestamp of availableSince. The timestamp should be in epoch
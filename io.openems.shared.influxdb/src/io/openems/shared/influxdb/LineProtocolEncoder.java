@@ -0,0 +1,203 @@
+package io.openems.shared.influxdb;
+
+/**
+ * Encodes InfluxDB line protocol directly into a reusable buffer.
+ *
+ * <p>
+ * Replaces building one {@link com.influxdb.client.write.Point} per timestamp
+ * on hot write paths: fields are appended in place, the measurement and tags
+ * are written as a prefix that can be cached per series (see
+ * {@link #linePrefix(String, String, String)}).
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * encoder.reset();
+ * encoder.beginLine(prefix);
+ * encoder.addField("ess0/Soc", 50L);
+ * encoder.endLine(timestamp);
+ * </pre>
+ *
+ * <p>
+ * This class is not thread-safe; use one instance per thread.
+ */
+public class LineProtocolEncoder {
+
+	private static final int INITIAL_CAPACITY = 16 * 1024;
+
+	private final StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+	private int lines = 0;
+	private int lineStart = 0;
+	private int fields = 0;
+
+	/**
+	 * Builds the escaped 'measurement,tag=value ' prefix of a line.
+	 *
+	 * @param measurement the measurement
+	 * @param tagKey      the tag key
+	 * @param tagValue    the tag value
+	 * @return the prefix, including the trailing space
+	 */
+	public static String linePrefix(String measurement, String tagKey, String tagValue) {
+		var sb = new StringBuilder();
+		escape(sb, measurement, false);
+		sb.append(',');
+		escape(sb, tagKey, true);
+		sb.append('=');
+		escape(sb, tagValue, true);
+		sb.append(' ');
+		return sb.toString();
+	}
+
+	/**
+	 * Clears the buffer.
+	 */
+	public void reset() {
+		this.buffer.setLength(0);
+		this.lines = 0;
+		this.lineStart = 0;
+		this.fields = 0;
+	}
+
+	/**
+	 * Starts a new line.
+	 *
+	 * @param prefix the line prefix from
+	 *               {@link #linePrefix(String, String, String)}
+	 */
+	public void beginLine(String prefix) {
+		this.lineStart = this.buffer.length();
+		this.fields = 0;
+		this.buffer.append(prefix);
+	}
+
+	/**
+	 * Finishes the current line. A line without fields is discarded.
+	 *
+	 * @param timestamp the timestamp in [ms]
+	 */
+	public void endLine(long timestamp) {
+		if (this.fields == 0) {
+			this.buffer.setLength(this.lineStart);
+			return;
+		}
+		this.buffer.append(' ').append(timestamp).append('\n');
+		this.lines++;
+	}
+
+	/**
+	 * Adds an integer field.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 */
+	public void addField(String field, long value) {
+		this.appendFieldKey(field);
+		this.buffer.append(value).append('i');
+	}
+
+	/**
+	 * Adds a float field. Non-finite values are ignored.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 */
+	public void addField(String field, double value) {
+		if (!Double.isFinite(value)) {
+			return;
+		}
+		this.appendFieldKey(field);
+		this.buffer.append(value);
+	}
+
+	/**
+	 * Adds a boolean field.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 */
+	public void addField(String field, boolean value) {
+		this.appendFieldKey(field);
+		this.buffer.append(value);
+	}
+
+	/**
+	 * Adds a number field; integral types are written as integer, all others as
+	 * float.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 */
+	public void addField(String field, Number value) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			this.addField(field, value.longValue());
+		} else {
+			this.addField(field, value.doubleValue());
+		}
+	}
+
+	/**
+	 * Adds a string field.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 */
+	public void addField(String field, String value) {
+		this.appendFieldKey(field);
+		this.buffer.append('"');
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				this.buffer.append('\\');
+			}
+			this.buffer.append(c);
+		}
+		this.buffer.append('"');
+	}
+
+	/**
+	 * Gets the encoded lines.
+	 *
+	 * @return the buffer; valid until the next modification
+	 */
+	public CharSequence getBuffer() {
+		return this.buffer;
+	}
+
+	/**
+	 * Gets the number of complete lines in the buffer.
+	 *
+	 * @return the number of lines
+	 */
+	public int getLines() {
+		return this.lines;
+	}
+
+	private void appendFieldKey(String field) {
+		if (this.fields++ > 0) {
+			this.buffer.append(',');
+		}
+		escape(this.buffer, field, true);
+		this.buffer.append('=');
+	}
+
+	/**
+	 * Escapes a measurement, tag or field key. Commas and spaces are always
+	 * escaped, equal signs only for tags and fields.
+	 *
+	 * @param sb          the target
+	 * @param value       the value
+	 * @param escapeEqual escape equal signs
+	 */
+	private static void escape(StringBuilder sb, String value, boolean escapeEqual) {
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c == ',' || c == ' ' || (escapeEqual && c == '=')) {
+				sb.append('\\');
+			}
+			sb.append(c);
+		}
+	}
+
+}
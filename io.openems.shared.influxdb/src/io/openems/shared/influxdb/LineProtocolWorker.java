@@ -0,0 +1,199 @@
+package io.openems.shared.influxdb;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.influxdb.client.write.WriteParameters;
+import com.influxdb.exceptions.BadRequestException;
+
+import io.openems.common.worker.AbstractImmediateWorker;
+
+/**
+ * Merges line protocol from {@link LineProtocolEncoder}s into batches and
+ * writes them as one record.
+ *
+ * <p>
+ * Lines are copied into a pooled buffer; no intermediate objects are created
+ * per line. Buffers are returned to the pool after the write.
+ */
+public class LineProtocolWorker extends AbstractImmediateWorker {
+
+	private static final int MAX_LINES_PER_WRITE = 1_000;
+	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
+	private static final int MAX_PENDING_LINES = 1_000_000;
+	private static final int BUFFER_POOL_SIZE = 16;
+	private static final int INITIAL_BUFFER_CAPACITY = 256 * 1024;
+
+	private final Logger log = LoggerFactory.getLogger(LineProtocolWorker.class);
+
+	private final String name;
+	private final InfluxConnector parent;
+	private final WriteParameters writeParameters;
+	private final Consumer<BadRequestException> onWriteError;
+
+	private final BlockingQueue<StringBuilder> bufferPool = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+	private final Object lock = new Object();
+
+	// Guarded by 'lock'
+	private StringBuilder batch = null;
+	private int batchLines = 0;
+	private int pendingLines = 0;
+	private long droppedLines = 0;
+
+	public LineProtocolWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
+			Consumer<BadRequestException> onWriteError) {
+		this.parent = parent;
+		this.name = name;
+		this.writeParameters = writeParameters;
+		this.onWriteError = onWriteError;
+	}
+
+	/**
+	 * Activates the worker.
+	 */
+	public void activate() {
+		this.activate("InfluxDB-LineProtocol" + this.name);
+	}
+
+	/**
+	 * Appends complete lines to the current batch.
+	 *
+	 * @param lines the lines, each terminated by a newline
+	 * @param count the number of lines
+	 * @return true if the lines were added; false if too many lines are pending
+	 */
+	public boolean append(CharSequence lines, int count) {
+		synchronized (this.lock) {
+			if (this.pendingLines + count > MAX_PENDING_LINES) {
+				this.droppedLines += count;
+				return false;
+			}
+			if (this.batch == null) {
+				this.batch = this.takeBuffer();
+			}
+			this.batch.append(lines);
+			this.batchLines += count;
+			this.pendingLines += count;
+			if (this.batchLines >= MAX_LINES_PER_WRITE) {
+				this.lock.notifyAll();
+			}
+			return true;
+		}
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		final StringBuilder batch;
+		final int lines;
+		synchronized (this.lock) {
+			final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(MAX_AGGREGATE_WAIT);
+			var remaining = deadline - System.nanoTime();
+			while (this.batchLines < MAX_LINES_PER_WRITE && remaining > 0) {
+				TimeUnit.NANOSECONDS.timedWait(this.lock, remaining);
+				remaining = deadline - System.nanoTime();
+			}
+			batch = this.batch;
+			lines = this.batchLines;
+			this.batch = null;
+			this.batchLines = 0;
+		}
+
+		if (batch == null) {
+			return;
+		}
+
+		/*
+		 * Write batch async.
+		 */
+		this.parent.executor.execute(new WriteTask(batch, lines));
+	}
+
+	/**
+	 * Writes one batch. The buffer is returned to the pool after the write, or
+	 * when the executor rejects the task (see {@link #onRejected()}).
+	 */
+	protected final class WriteTask implements Runnable {
+
+		private final StringBuilder batch;
+		private final int lines;
+
+		private WriteTask(StringBuilder batch, int lines) {
+			this.batch = batch;
+			this.lines = lines;
+		}
+
+		@Override
+		public void run() {
+			final var parent = LineProtocolWorker.this.parent;
+			try {
+				if (parent.queryProxy.isLimitReached()) {
+					return;
+				}
+				try {
+					parent.getInfluxConnection().writeApi.writeRecord(this.batch.toString(),
+							LineProtocolWorker.this.writeParameters);
+					parent.queryProxy.queryLimit.decrease();
+				} catch (Throwable t) {
+					parent.queryProxy.queryLimit.increase();
+					LineProtocolWorker.this.log.warn(
+							"Unable to write to InfluxDB. " + t.getClass().getSimpleName() + ": " + t.getMessage());
+					if (t instanceof BadRequestException e) {
+						LineProtocolWorker.this.onWriteError.accept(e);
+					}
+				}
+			} finally {
+				LineProtocolWorker.this.releaseBuffer(this.batch, this.lines);
+			}
+		}
+
+		/**
+		 * Drops the batch; called by the RejectedExecutionHandler of the executor.
+		 */
+		protected void onRejected() {
+			synchronized (LineProtocolWorker.this.lock) {
+				LineProtocolWorker.this.droppedLines += this.lines;
+			}
+			LineProtocolWorker.this.releaseBuffer(this.batch, this.lines);
+		}
+	}
+
+	private StringBuilder takeBuffer() {
+		var buffer = this.bufferPool.poll();
+		if (buffer == null) {
+			buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+		}
+		return buffer;
+	}
+
+	private void releaseBuffer(StringBuilder buffer, int lines) {
+		synchronized (this.lock) {
+			this.pendingLines -= lines;
+		}
+		buffer.setLength(0);
+		this.bufferPool.offer(buffer);
+	}
+
+	/**
+	 * Simple debug log string.
+	 *
+	 * @return the debug string
+	 */
+	public String debugLog() {
+		synchronized (this.lock) {
+			return new StringBuilder() //
+					.append(this.name) //
+					.append(": ") //
+					.append(this.pendingLines) //
+					.append("/") //
+					.append(MAX_PENDING_LINES) //
+					.append(this.droppedLines > 0 ? " Dropped:" + this.droppedLines : "") //
+					.toString();
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class LineProtocolEncoderTest {
+
+	@Test
+	public void testLinePrefix() {
+		assertEquals("data,edge=888 ", LineProtocolEncoder.linePrefix("data", "edge", "888"));
+		assertEquals("my\\ data,a\\=b=c\\,d ", LineProtocolEncoder.linePrefix("my data", "a=b", "c,d"));
+	}
+
+	@Test
+	public void testEncode() {
+		var sut = new LineProtocolEncoder();
+		var prefix = LineProtocolEncoder.linePrefix("data", "edge", "888");
+
+		sut.beginLine(prefix);
+		sut.addField("ess0/Soc", 50L);
+		sut.addField("ess0/Power", 1.5);
+		sut.addField("ess0/Nan", Double.NaN);
+		sut.addField("ess0/On", true);
+		sut.addField("ess0/State", "a \"b\" \\c");
+		sut.addField("ess0/Float", Float.valueOf(2.5F));
+		sut.addField("ess0/Int", Integer.valueOf(3));
+		sut.endLine(1000L);
+
+		// Lines without fields are discarded
+		sut.beginLine(prefix);
+		sut.endLine(2000L);
+
+		sut.beginLine(prefix);
+		sut.addField("_sum/Grid Power", -7L);
+		sut.endLine(3000L);
+
+		assertEquals(2, sut.getLines());
+		assertEquals("""
+				data,edge=888 ess0/Soc=50i,ess0/Power=1.5,ess0/On=true,ess0/State="a \\"b\\" \\\\c",\
+				ess0/Float=2.5,ess0/Int=3i 1000
+				data,edge=888 _sum/Grid\\ Power=-7i 3000
+				""", sut.getBuffer().toString());
+
+		sut.reset();
+		assertEquals(0, sut.getLines());
+		assertEquals("", sut.getBuffer().toString());
+	}
+
+}
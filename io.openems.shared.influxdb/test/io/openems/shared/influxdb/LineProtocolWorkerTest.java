@@ -0,0 +1,53 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class LineProtocolWorkerTest {
+
+	@Test
+	public void testRejectedBatchReleasesPendingLines() throws Exception {
+		var sut = new InfluxConnector("influx0", QueryLanguageConfig.FLUX, URI.create("http://localhost:8086"), "-",
+				"", "db/default", "edge", false, 1 /* poolSize */, 1 /* maxQueueSize */, e -> {
+				});
+		var release = new CountDownLatch(1);
+		try {
+			// Occupy the only thread and the only queue slot
+			for (var i = 0; i < 2; i++) {
+				sut.executor.execute(() -> {
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+
+			// A full batch triggers an immediate write, which gets rejected
+			var encoder = new LineProtocolEncoder();
+			var prefix = LineProtocolEncoder.linePrefix("data", "edge", "0");
+			for (var i = 0; i < 1_000; i++) {
+				encoder.beginLine(prefix);
+				encoder.addField("ess0/Soc", 50L);
+				encoder.endLine(i);
+			}
+			sut.write(encoder);
+
+			var expected = "Default: 0/1000000 Dropped:1000";
+			for (var i = 0; i < 500 && !sut.debugLog().contains(expected); i++) {
+				Thread.sleep(10);
+			}
+			assertTrue(sut.debugLog(), sut.debugLog().contains(expected));
+			assertTrue(sut.debugLog(), sut.debugLog().contains("RejectedExecutions:1"));
+
+		} finally {
+			release.countDown();
+			sut.deactivate();
+		}
+	}
+
+}